@@ -250,11 +250,15 @@ CREATE TABLE cms_news (
     author_id VARCHAR(255) REFERENCES administrators(id),
     published_at TIMESTAMP,
     is_published BOOLEAN DEFAULT FALSE,
+    publish_at TIMESTAMP,                           -- Scheduled publication (cleared once applied)
+    unpublish_at TIMESTAMP,                         -- Scheduled withdrawal (cleared once applied)
     created_at TIMESTAMP
 );
 
 COMMENT ON TABLE cms_news IS 'News articles for the platform';
 COMMENT ON COLUMN cms_news.slug IS 'URL-friendly identifier';
+COMMENT ON COLUMN cms_news.publish_at IS 'Published by the CMS scheduler at this time';
+COMMENT ON COLUMN cms_news.unpublish_at IS 'Unpublished by the CMS scheduler at this time';
 
 CREATE TABLE cms_news_translations (
     id VARCHAR(255) PRIMARY KEY,
@@ -276,12 +280,18 @@ CREATE TABLE cms_banners (
     target_url VARCHAR(512),
     display_position VARCHAR(50),                   -- Banner placement location
     priority INT DEFAULT 0,                         -- Display order priority
-    is_active BOOLEAN DEFAULT TRUE
+    is_active BOOLEAN DEFAULT TRUE,
+    start_at TIMESTAMP,                             -- Display window start (NULL = immediately)
+    end_at TIMESTAMP,                               -- Display window end (NULL = no end)
+    created_at TIMESTAMP,
+    CHECK (end_at IS NULL OR start_at IS NULL OR end_at > start_at)
 );
 
 COMMENT ON TABLE cms_banners IS 'Marketing banners for homepage and promotions';
 COMMENT ON COLUMN cms_banners.display_position IS 'Banner placement location';
 COMMENT ON COLUMN cms_banners.priority IS 'Display order priority';
+COMMENT ON COLUMN cms_banners.start_at IS 'Banner is shown from this time; NULL shows it immediately';
+COMMENT ON COLUMN cms_banners.end_at IS 'Banner is hidden from this time; NULL shows it indefinitely';
 
 -- Coupon/Voucher system
 CREATE TABLE coupons (
@@ -330,11 +340,63 @@ COMMENT ON TABLE notifications IS 'User notifications';
 COMMENT ON COLUMN notifications.type IS 'SYSTEM, ORDER, PROMO, SECURITY';
 COMMENT ON COLUMN notifications.reference_id IS 'Optional reference to related entity (order_id, etc)';
 
+-- Archived read notifications (moved out of notifications by the retention job)
+CREATE TABLE notifications_archive (
+    id VARCHAR(255) PRIMARY KEY,
+    user_id VARCHAR(255) NOT NULL REFERENCES users(id) ON DELETE CASCADE,
+    title VARCHAR(255) NOT NULL,
+    message TEXT,
+    type VARCHAR(50),
+    reference_id VARCHAR(255),
+    created_at TIMESTAMP,
+    archived_at TIMESTAMP NOT NULL
+);
+
+COMMENT ON TABLE notifications_archive IS 'Read notifications past retention; all rows were read';
+
+-- Bulk notification fan-out jobs (resumable broadcast to all active users)
+CREATE TABLE notification_fanout_jobs (
+    id VARCHAR(255) PRIMARY KEY,
+    title VARCHAR(255) NOT NULL,
+    message TEXT,
+    type VARCHAR(50) NOT NULL,
+    reference_id VARCHAR(255),
+    status VARCHAR(20) NOT NULL DEFAULT 'RUNNING' CHECK (status IN ('RUNNING', 'DONE')),
+    last_user_id VARCHAR(255) NOT NULL DEFAULT '',  -- Keyset cursor: last user already notified
+    sent_count BIGINT NOT NULL DEFAULT 0,
+    created_at TIMESTAMP NOT NULL,
+    heartbeat_at TIMESTAMP NOT NULL,                -- Advanced with every chunk
+    finished_at TIMESTAMP
+);
+
+COMMENT ON TABLE notification_fanout_jobs IS 'Progress of bulk notification broadcasts';
+COMMENT ON COLUMN notification_fanout_jobs.last_user_id IS 'Users up to this ID have been notified; resume point after a crash';
+COMMENT ON COLUMN notification_fanout_jobs.heartbeat_at IS 'Jobs whose heartbeat is stale are resumed by another node';
+
+-- Materialised unread notification counts (row missing = not yet computed)
+CREATE TABLE notification_unread_counters (
+    user_id VARCHAR(255) PRIMARY KEY REFERENCES users(id) ON DELETE CASCADE,
+    unread_count INT NOT NULL DEFAULT 0 CHECK (unread_count >= 0),
+    updated_at TIMESTAMP NOT NULL
+);
+
+COMMENT ON TABLE notification_unread_counters IS 'Per-user unread notification count maintained with every notification change';
+COMMENT ON COLUMN notification_unread_counters.unread_count IS 'Corrected by the periodic reconciliation job if it drifts';
+
 -- CMS Indexes
 CREATE INDEX idx_cms_news_slug ON cms_news(slug);
 CREATE INDEX idx_cms_news_author ON cms_news(author_id);
+CREATE INDEX idx_cms_news_published ON cms_news(published_at DESC, id DESC) WHERE is_published = TRUE;
+CREATE INDEX idx_cms_news_scheduled ON cms_news(id) WHERE publish_at IS NOT NULL OR unpublish_at IS NOT NULL;
 CREATE INDEX idx_notifications_user_id ON notifications(user_id);
+CREATE INDEX idx_notifications_user_keyset ON notifications(user_id, created_at DESC, id DESC);
+CREATE INDEX idx_cms_news_keyset ON cms_news(created_at DESC, id DESC);
+CREATE INDEX idx_cms_banners_keyset ON cms_banners(created_at DESC, id DESC);
+CREATE INDEX idx_cms_banners_window ON cms_banners(id) WHERE is_active = TRUE AND (start_at IS NOT NULL OR end_at IS NOT NULL);
 CREATE INDEX idx_notifications_user_unread ON notifications(user_id, is_read) WHERE is_read = FALSE;
+CREATE INDEX idx_notifications_read_created ON notifications(created_at) WHERE is_read = TRUE;
+CREATE INDEX idx_notifications_archive_user ON notifications_archive(user_id, created_at DESC);
+CREATE INDEX idx_notification_fanout_running ON notification_fanout_jobs(heartbeat_at) WHERE status = 'RUNNING';
 
 
 -- ============================================================================
@@ -562,6 +624,7 @@ COMMENT ON COLUMN inventory_transactions.reference_id IS 'Reference to order_id,
 
 -- Inventory Indexes
 CREATE INDEX idx_inv_stocks_location_variant ON inventory_stocks(location_id, variant_id);
+CREATE INDEX idx_inv_stocks_variant ON inventory_stocks(variant_id);
 CREATE INDEX idx_inv_transactions_variant ON inventory_transactions(variant_id);
 CREATE INDEX idx_inv_transactions_created_at ON inventory_transactions(created_at);
 
@@ -709,6 +772,11 @@ COMMENT ON TABLE orders IS 'Order aggregate root';
 COMMENT ON COLUMN orders.order_number IS 'Human-readable order ID';
 COMMENT ON COLUMN orders.status IS 'PENDING, CONFIRMED, PROCESSING, SHIPPED, DELIVERED, CANCELLED, REFUNDED';
 
+-- Order number blocks: each nextval reserves INCREMENT BY values for one app node
+CREATE SEQUENCE order_number_seq START WITH 1 INCREMENT BY 100;
+
+COMMENT ON SEQUENCE order_number_seq IS 'Order number blocks; increment must equal ordering.order-number.block-size';
+
 CREATE TABLE order_items (
     order_id VARCHAR(255) NOT NULL REFERENCES orders(id) ON DELETE CASCADE,
     item_snapshot_id VARCHAR(255) NOT NULL REFERENCES item_snapshots(id),
@@ -855,7 +923,7 @@ CREATE INDEX idx_payment_trans_gateway_id ON payment_transactions(gateway_transa
 -- ============================================================================
 
 CREATE TABLE audit_logs (
-    id VARCHAR(255) PRIMARY KEY,
+    id VARCHAR(255) NOT NULL,
     table_name VARCHAR(50) NOT NULL,
     record_id VARCHAR(255) NOT NULL,
     action VARCHAR(20) NOT NULL CHECK (action IN ('CREATE', 'UPDATE', 'DELETE')),
@@ -864,10 +932,11 @@ CREATE TABLE audit_logs (
     old_data_text TEXT,                             -- Serialized old data
     new_data_text TEXT,                             -- Serialized new data
     ip_address VARCHAR(45),
-    created_at TIMESTAMP
-);
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (id, created_at)                    -- Partition key must be part of the key
+) PARTITION BY RANGE (created_at);
 
-COMMENT ON TABLE audit_logs IS 'System-wide audit trail for all changes';
+COMMENT ON TABLE audit_logs IS 'System-wide audit trail for all changes, partitioned by month';
 COMMENT ON COLUMN audit_logs.action IS 'CREATE, UPDATE, DELETE';
 COMMENT ON COLUMN audit_logs.actor_type IS 'USER, ADMIN, SYSTEM';
 COMMENT ON COLUMN audit_logs.old_data_text IS 'Serialized old record data';
@@ -875,11 +944,58 @@ COMMENT ON COLUMN audit_logs.new_data_text IS 'Serialized new record data';
 
 CREATE INDEX idx_audit_logs_table_record ON audit_logs(table_name, record_id);
 CREATE INDEX idx_audit_logs_created_at ON audit_logs(created_at);
-CREATE INDEX idx_audit_logs_actor ON audit_logs(actor_id, actor_type);
+CREATE INDEX idx_audit_logs_actor ON audit_logs(actor_id, actor_type, created_at DESC, id DESC);
+CREATE INDEX idx_audit_logs_action ON audit_logs(action, created_at DESC, id DESC);
+
+-- Monthly partitions (audit_logs_yYYYYmMM) for the current and next 3 months;
+-- the application scheduler keeps creating them ahead of time.
+-- The default partition only catches rows outside every monthly range.
+DO $$
+DECLARE
+    month_start DATE := date_trunc('month', CURRENT_DATE);
+BEGIN
+    FOR i IN 0..3 LOOP
+        EXECUTE format(
+            'CREATE TABLE IF NOT EXISTS %I PARTITION OF audit_logs FOR VALUES FROM (%L) TO (%L)',
+            'audit_logs_y' || to_char(month_start + (i || ' month')::interval, 'YYYY') ||
+                'm' || to_char(month_start + (i || ' month')::interval, 'MM'),
+            month_start + (i || ' month')::interval,
+            month_start + ((i + 1) || ' month')::interval);
+    END LOOP;
+END $$;
+
+CREATE TABLE audit_logs_default PARTITION OF audit_logs DEFAULT;
+
+
+-- ============================================================================
+-- SECTION 11: EVENT OUTBOX TABLE
+-- Domain events written with the aggregate, dispatched asynchronously
+-- ============================================================================
+
+CREATE TABLE event_outbox (
+    id VARCHAR(255) PRIMARY KEY,                    -- Domain event ID
+    event_type VARCHAR(100) NOT NULL,
+    event_class VARCHAR(255) NOT NULL,              -- Class used to read the payload
+    payload TEXT NOT NULL,                          -- Serialized event (JSON)
+    status VARCHAR(20) NOT NULL DEFAULT 'PENDING' CHECK (status IN ('PENDING', 'PROCESSING', 'DONE', 'FAILED')),
+    attempts INT NOT NULL DEFAULT 0,
+    last_error TEXT,
+    occurred_at TIMESTAMP NOT NULL,
+    available_at TIMESTAMP NOT NULL,                -- Earliest next dispatch
+    claimed_at TIMESTAMP,
+    processed_at TIMESTAMP
+);
+
+COMMENT ON TABLE event_outbox IS 'Transactional outbox for domain events';
+COMMENT ON COLUMN event_outbox.status IS 'PENDING, PROCESSING, DONE, FAILED';
+COMMENT ON COLUMN event_outbox.available_at IS 'Earliest time of the next dispatch attempt';
+
+CREATE INDEX idx_event_outbox_pending ON event_outbox(available_at) WHERE status = 'PENDING';
+CREATE INDEX idx_event_outbox_processing ON event_outbox(claimed_at) WHERE status = 'PROCESSING';
 
 
 -- ============================================================================
--- SECTION 11: SEED DATA
+-- SECTION 12: SEED DATA
 -- Initial data for roles, permissions, admin, and reference data
 -- ============================================================================
 
@@ -0,0 +1,60 @@
+/**
+ * KATMALL Application
+ * tai.buivan@outlook.com Copyright (c) 2025 All rights reserved
+ */
+package com.en.katmall.co.audit.application.scheduler;
+
+import com.en.katmall.co.audit.application.usecase.CleanupAuditLogsUseCase;
+import com.en.katmall.co.audit.infrastructure.persistence.partition.AuditLogPartitionManager;
+import com.en.katmall.co.shared.infrastructure.config.properties.AppProperties;
+import com.en.katmall.co.shared.infrastructure.config.properties.AuditProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.YearMonth;
+
+/**
+ * Scheduler for audit log partition maintenance.
+ * Creates monthly partitions ahead of time and applies retention by
+ * dropping expired partitions.
+ * 
+ * @author tai.buivan
+ * @version 1.0
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class AuditPartitionScheduler {
+
+    private final AuditLogPartitionManager partitionManager;
+    private final CleanupAuditLogsUseCase cleanupAuditLogsUseCase;
+    private final AuditProperties auditProperties;
+    private final AppProperties appProperties;
+
+    /**
+     * Pre-creates upcoming partitions and drops expired ones.
+     * Runs at startup and then daily.
+     */
+    @Scheduled(initialDelay = 0, fixedRate = 86400000) // Daily
+    public void maintainPartitions() {
+        AuditProperties.Partitions config = auditProperties.getPartitions();
+        if (!config.isEnabled()) {
+            return;
+        }
+        try {
+            if (!partitionManager.isPartitioned()) {
+                log.warn("audit_logs is not partitioned; skipping partition maintenance");
+                return;
+            }
+            partitionManager.ensurePartitions(YearMonth.now(appProperties.getDatabaseTimeZone()), config.getMonthsAhead());
+            if (config.getRetentionDays() > 0) {
+                cleanupAuditLogsUseCase.execute(config.getRetentionDays());
+            }
+        } catch (DataAccessException e) {
+            log.error("Audit partition maintenance failed: {}", e.getMessage());
+        }
+    }
+}
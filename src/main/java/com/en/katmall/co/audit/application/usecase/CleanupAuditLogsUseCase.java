@@ -5,6 +5,7 @@
 package com.en.katmall.co.audit.application.usecase;
 
 import com.en.katmall.co.audit.domain.repository.AuditLogRepository;
+import com.en.katmall.co.audit.infrastructure.persistence.partition.AuditLogPartitionManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -15,6 +16,9 @@ import java.time.Instant;
 /**
  * Use Case: Cleanup Old Audit Logs
  * Removes audit logs older than a specified retention period.
+ * On a partitioned audit_logs table whole monthly partitions are dropped, so
+ * retention is month-granular and its cost does not grow with log volume;
+ * otherwise rows are deleted.
  * 
  * @author tai.buivan
  * @version 1.0
@@ -26,15 +30,21 @@ import java.time.Instant;
 public class CleanupAuditLogsUseCase {
 
     private final AuditLogRepository auditLogRepository;
+    private final AuditLogPartitionManager partitionManager;
 
     /**
      * Cleans up old audit logs.
      * 
      * @param retentionDays Number of days to keep logs
-     * @return Number of deleted records
+     * @return Number of dropped partitions, or of deleted records if the table is not partitioned
      */
     public int execute(int retentionDays) {
         Instant threshold = Instant.now().minusSeconds(retentionDays * 24L * 60 * 60);
+        if (partitionManager.isPartitioned()) {
+            int dropped = partitionManager.dropPartitionsBefore(threshold);
+            log.info("Dropped {} audit log partitions older than {} days", dropped, retentionDays);
+            return dropped;
+        }
         int deleted = auditLogRepository.deleteOlderThan(threshold);
         log.info("Cleaned up {} audit logs older than {} days", deleted, retentionDays);
         return deleted;
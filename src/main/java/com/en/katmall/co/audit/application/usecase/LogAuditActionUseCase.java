@@ -5,34 +5,34 @@
 package com.en.katmall.co.audit.application.usecase;
 
 import com.en.katmall.co.audit.domain.model.AuditLog;
-import com.en.katmall.co.audit.domain.repository.AuditLogRepository;
+import com.en.katmall.co.audit.infrastructure.buffer.AuditLogBuffer;
 import com.en.katmall.co.shared.enums.KTypeActorType;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 /**
  * Use Case: Log Audit Action
- * Creates audit logs for CRUD actions asynchronously.
+ * Creates audit logs for CRUD actions.
+ * Entity state is serialized on the calling thread so later changes cannot
+ * leak into the log; the entry is then handed to {@link AuditLogBuffer},
+ * which writes entries in batches in the background.
  * 
  * @author tai.buivan
  * @version 1.0
  */
 @Service
 @RequiredArgsConstructor
-@Transactional
 @Slf4j
 public class LogAuditActionUseCase {
 
-    private final AuditLogRepository auditLogRepository;
+    private final AuditLogBuffer auditLogBuffer;
     private final ObjectMapper objectMapper;
 
     /**
-     * Logs a CREATE action asynchronously.
+     * Logs a CREATE action to the audit buffer.
      * 
      * @param tableName Table name
      * @param recordId  Record ID
@@ -41,13 +41,12 @@ public class LogAuditActionUseCase {
      * @param actorType Actor type
      * @param ipAddress IP address
      */
-    @Async
     public void logCreate(String tableName, String recordId, Object newEntity,
             String actorId, KTypeActorType actorType, String ipAddress) {
         try {
             String newData = serializeEntity(newEntity);
             AuditLog auditLog = AuditLog.create(tableName, recordId, newData, actorId, actorType, ipAddress);
-            auditLogRepository.save(auditLog);
+            auditLogBuffer.offer(auditLog);
             log.debug("Logged CREATE action for {}/{}", tableName, recordId);
         } catch (Exception e) {
             log.error("Failed to log CREATE action for {}/{}: {}", tableName, recordId, e.getMessage());
@@ -55,7 +54,7 @@ public class LogAuditActionUseCase {
     }
 
     /**
-     * Logs an UPDATE action asynchronously.
+     * Logs an UPDATE action to the audit buffer.
      * 
      * @param tableName Table name
      * @param recordId  Record ID
@@ -65,14 +64,13 @@ public class LogAuditActionUseCase {
      * @param actorType Actor type
      * @param ipAddress IP address
      */
-    @Async
     public void logUpdate(String tableName, String recordId, Object oldEntity, Object newEntity,
             String actorId, KTypeActorType actorType, String ipAddress) {
         try {
             String oldData = serializeEntity(oldEntity);
             String newData = serializeEntity(newEntity);
             AuditLog auditLog = AuditLog.update(tableName, recordId, oldData, newData, actorId, actorType, ipAddress);
-            auditLogRepository.save(auditLog);
+            auditLogBuffer.offer(auditLog);
             log.debug("Logged UPDATE action for {}/{}", tableName, recordId);
         } catch (Exception e) {
             log.error("Failed to log UPDATE action for {}/{}: {}", tableName, recordId, e.getMessage());
@@ -80,7 +78,7 @@ public class LogAuditActionUseCase {
     }
 
     /**
-     * Logs a DELETE action asynchronously.
+     * Logs a DELETE action to the audit buffer.
      * 
      * @param tableName Table name
      * @param recordId  Record ID
@@ -89,13 +87,12 @@ public class LogAuditActionUseCase {
      * @param actorType Actor type
      * @param ipAddress IP address
      */
-    @Async
     public void logDelete(String tableName, String recordId, Object oldEntity,
             String actorId, KTypeActorType actorType, String ipAddress) {
         try {
             String oldData = serializeEntity(oldEntity);
             AuditLog auditLog = AuditLog.delete(tableName, recordId, oldData, actorId, actorType, ipAddress);
-            auditLogRepository.save(auditLog);
+            auditLogBuffer.offer(auditLog);
             log.debug("Logged DELETE action for {}/{}", tableName, recordId);
         } catch (Exception e) {
             log.error("Failed to log DELETE action for {}/{}: {}", tableName, recordId, e.getMessage());
@@ -6,7 +6,11 @@ package com.en.katmall.co.audit.application.usecase;
 
 import com.en.katmall.co.audit.domain.model.AuditLog;
 import com.en.katmall.co.audit.domain.repository.AuditLogRepository;
+import com.en.katmall.co.shared.dto.CursorPageResponse;
+import com.en.katmall.co.shared.dto.PageCursor;
 import com.en.katmall.co.shared.enums.KTypeAuditAction;
+import com.en.katmall.co.shared.exception.ValidationException;
+import com.en.katmall.co.shared.infrastructure.config.properties.AuditProperties;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -27,6 +31,7 @@ import java.util.List;
 public class QueryAuditLogsUseCase {
 
     private final AuditLogRepository auditLogRepository;
+    private final AuditProperties auditProperties;
 
     /**
      * Finds audit history for a specific record.
@@ -77,6 +82,56 @@ public class QueryAuditLogsUseCase {
         return auditLogRepository.findByDateRange(startDate, endDate, page, size);
     }
 
+    /**
+     * Finds audit logs by actor using cursor pagination.
+     * 
+     * @param actorId   Actor ID
+     * @param actorType Actor type
+     * @param cursor    Cursor from the previous page, null for the first page
+     * @param size      Page size, capped at the configured maximum
+     * @return Page of audit logs
+     * @throws ValidationException if the size is less than 1 or the cursor is malformed
+     */
+    public CursorPageResponse<AuditLog> findByActor(String actorId, String actorType, String cursor, int size) {
+        int pageSize = pageSize(size);
+        return CursorPageResponse.of(
+                auditLogRepository.findByActorAfter(actorId, actorType, PageCursor.decode(cursor), pageSize + 1),
+                pageSize, this::cursorOf);
+    }
+
+    /**
+     * Finds audit logs by action type using cursor pagination.
+     * 
+     * @param action Action type
+     * @param cursor Cursor from the previous page, null for the first page
+     * @param size   Page size, capped at the configured maximum
+     * @return Page of audit logs
+     * @throws ValidationException if the size is less than 1 or the cursor is malformed
+     */
+    public CursorPageResponse<AuditLog> findByAction(KTypeAuditAction action, String cursor, int size) {
+        int pageSize = pageSize(size);
+        return CursorPageResponse.of(
+                auditLogRepository.findByActionAfter(action, PageCursor.decode(cursor), pageSize + 1),
+                pageSize, this::cursorOf);
+    }
+
+    /**
+     * Finds audit logs within a date range using cursor pagination.
+     * 
+     * @param startDate Start date
+     * @param endDate   End date
+     * @param cursor    Cursor from the previous page, null for the first page
+     * @param size      Page size, capped at the configured maximum
+     * @return Page of audit logs
+     * @throws ValidationException if the size is less than 1 or the cursor is malformed
+     */
+    public CursorPageResponse<AuditLog> findByDateRange(Instant startDate, Instant endDate, String cursor, int size) {
+        int pageSize = pageSize(size);
+        return CursorPageResponse.of(
+                auditLogRepository.findByDateRangeAfter(startDate, endDate, PageCursor.decode(cursor), pageSize + 1),
+                pageSize, this::cursorOf);
+    }
+
     /**
      * Finds recent audit logs.
      * 
@@ -86,4 +141,28 @@ public class QueryAuditLogsUseCase {
     public List<AuditLog> findRecent(int limit) {
         return auditLogRepository.findRecent(limit);
     }
+
+    /**
+     * Validates a requested cursor page size and caps it at the configured maximum.
+     * 
+     * @param size Requested page size
+     * @return Page size to query
+     * @throws ValidationException if the size is less than 1
+     */
+    private int pageSize(int size) {
+        if (size < 1) {
+            throw new ValidationException("size", "Size must be at least 1");
+        }
+        return Math.min(size, auditProperties.getQuery().getMaxPageSize());
+    }
+
+    /**
+     * Gets the keyset position of an audit log.
+     * 
+     * @param auditLog The audit log
+     * @return Cursor positioned at the log
+     */
+    private PageCursor cursorOf(AuditLog auditLog) {
+        return PageCursor.of(auditLog.getCreatedAt(), auditLog.getId());
+    }
 }
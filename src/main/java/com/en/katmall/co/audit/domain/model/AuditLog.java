@@ -12,6 +12,7 @@ import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
 
+import java.time.Instant;
 import java.util.Objects;
 
 /**
@@ -44,6 +45,9 @@ public class AuditLog extends BaseEntity<String> {
      */
     private AuditLog(Builder builder) {
         super(builder.id != null ? builder.id : IdGenerator.generate());
+        if (builder.createdAt != null) {
+            this.createdAt = builder.createdAt;
+        }
         this.tableName = Objects.requireNonNull(builder.tableName, "tableName must not be null");
         this.recordId = Objects.requireNonNull(builder.recordId, "recordId must not be null");
         this.action = Objects.requireNonNull(builder.action, "action must not be null");
@@ -142,6 +146,7 @@ public class AuditLog extends BaseEntity<String> {
      */
     public static class Builder {
         private String id;
+        private Instant createdAt;
         private String tableName;
         private String recordId;
         private KTypeAuditAction action;
@@ -156,6 +161,11 @@ public class AuditLog extends BaseEntity<String> {
             return this;
         }
 
+        public Builder createdAt(Instant createdAt) {
+            this.createdAt = createdAt;
+            return this;
+        }
+
         public Builder tableName(String tableName) {
             this.tableName = tableName;
             return this;
@@ -5,6 +5,7 @@
 package com.en.katmall.co.audit.domain.repository;
 
 import com.en.katmall.co.audit.domain.model.AuditLog;
+import com.en.katmall.co.shared.dto.PageCursor;
 import com.en.katmall.co.shared.enums.KTypeAuditAction;
 
 import java.time.Instant;
@@ -28,6 +29,13 @@ public interface AuditLogRepository {
      */
     AuditLog save(AuditLog auditLog);
 
+    /**
+     * Inserts audit log entries in one batch
+     * 
+     * @param auditLogs The audit logs to insert
+     */
+    void saveAll(List<AuditLog> auditLogs);
+
     /**
      * Finds audit log by ID
      * 
@@ -77,6 +85,38 @@ public interface AuditLogRepository {
      */
     List<AuditLog> findByDateRange(Instant startDate, Instant endDate, int page, int size);
 
+    /**
+     * Finds audit logs by actor after a cursor, newest first
+     * 
+     * @param actorId   Actor ID
+     * @param actorType Actor type
+     * @param cursor    Position of the last row already read, null for the first page
+     * @param limit     Maximum number of logs
+     * @return List of audit logs ordered by createdAt and ID, descending
+     */
+    List<AuditLog> findByActorAfter(String actorId, String actorType, PageCursor cursor, int limit);
+
+    /**
+     * Finds audit logs by action type after a cursor, newest first
+     * 
+     * @param action Action type
+     * @param cursor Position of the last row already read, null for the first page
+     * @param limit  Maximum number of logs
+     * @return List of audit logs ordered by createdAt and ID, descending
+     */
+    List<AuditLog> findByActionAfter(KTypeAuditAction action, PageCursor cursor, int limit);
+
+    /**
+     * Finds audit logs within a date range after a cursor, newest first
+     * 
+     * @param startDate Start date
+     * @param endDate   End date
+     * @param cursor    Position of the last row already read, null for the first page
+     * @param limit     Maximum number of logs
+     * @return List of audit logs ordered by createdAt and ID, descending
+     */
+    List<AuditLog> findByDateRangeAfter(Instant startDate, Instant endDate, PageCursor cursor, int limit);
+
     /**
      * Finds recent audit logs
      * 
@@ -0,0 +1,206 @@
+/**
+ * KATMALL Application
+ * tai.buivan@outlook.com Copyright (c) 2025 All rights reserved
+ */
+package com.en.katmall.co.audit.infrastructure.buffer;
+
+import com.en.katmall.co.audit.domain.model.AuditLog;
+import com.en.katmall.co.audit.domain.repository.AuditLogRepository;
+import com.en.katmall.co.shared.infrastructure.config.properties.AuditProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Bounded in-memory buffer for audit log entries with a single flusher thread.
+ *
+ * <p>
+ * Callers enqueue entries; the flusher writes them with one JDBC batch insert
+ * whenever a full batch is available or the flush interval has passed. When
+ * the buffer is full a caller waits up to the offer timeout and the entry is
+ * then dropped and counted, so auditing can slow requests down but never
+ * block them indefinitely. Pending entries are written on shutdown: offers
+ * check and enqueue under a shared lock that stop takes exclusively, so no
+ * entry can be enqueued after the flusher has seen the stop and drained.
+ *
+ * <p>
+ * Metrics: {@code audit.buffer.size}, {@code audit.buffer.written},
+ * {@code audit.buffer.dropped} and {@code audit.buffer.failed}.
+ *
+ * @author tai.buivan
+ * @version 1.0
+ */
+@Component
+@Slf4j
+public class AuditLogBuffer {
+
+    /** Longest single wait of the flusher, so a stop is noticed promptly */
+    private static final long STOP_CHECK_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+    private final AuditLogRepository auditLogRepository;
+    private final AuditProperties.Buffer config;
+    private final BlockingQueue<AuditLog> queue;
+    private final Counter writtenCounter;
+    private final Counter droppedCounter;
+    private final Counter failedCounter;
+
+    /** Held shared while offering and exclusively while stopping */
+    private final ReadWriteLock stopLock = new ReentrantReadWriteLock();
+
+    private Thread flusher;
+    private volatile boolean running;
+
+    /**
+     * Creates the buffer and registers its metrics
+     *
+     * @param auditLogRepository Repository used for batch inserts
+     * @param auditProperties    Audit configuration
+     * @param meterRegistry      Metrics registry
+     */
+    public AuditLogBuffer(AuditLogRepository auditLogRepository, AuditProperties auditProperties,
+            MeterRegistry meterRegistry) {
+        this.auditLogRepository = auditLogRepository;
+        this.config = auditProperties.getBuffer();
+        this.queue = new ArrayBlockingQueue<>(config.getCapacity());
+        this.writtenCounter = Counter.builder("audit.buffer.written")
+                .description("Audit entries written to the database")
+                .register(meterRegistry);
+        this.droppedCounter = Counter.builder("audit.buffer.dropped")
+                .description("Audit entries dropped because the buffer was full")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("audit.buffer.failed")
+                .description("Audit entries lost because a batch insert failed")
+                .register(meterRegistry);
+        Gauge.builder("audit.buffer.size", queue, BlockingQueue::size)
+                .description("Audit entries waiting to be written")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Starts the flusher thread
+     */
+    @PostConstruct
+    public void start() {
+        running = true;
+        flusher = new Thread(this::runFlusher, "audit-flusher");
+        flusher.setDaemon(true);
+        flusher.start();
+    }
+
+    /**
+     * Stops accepting entries and writes everything still buffered
+     */
+    @PreDestroy
+    public void stop() {
+        // Waits for offers in progress, so every accepted entry is queued
+        // before the flusher can see the stop and start its final drain
+        stopLock.writeLock().lock();
+        try {
+            running = false;
+        } finally {
+            stopLock.writeLock().unlock();
+        }
+        // The flusher notices within its stop check; no interrupt, so an
+        // in-flight batch insert is never cut short
+        try {
+            flusher.join(config.getShutdownTimeout().toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (!queue.isEmpty()) {
+            log.warn("Audit flusher did not drain in time, {} entries left unwritten", queue.size());
+        }
+    }
+
+    /**
+     * Enqueues an audit entry, waiting briefly for space if the buffer is full
+     *
+     * @param auditLog The audit entry
+     * @return true if buffered, false if dropped
+     */
+    public boolean offer(AuditLog auditLog) {
+        stopLock.readLock().lock();
+        try {
+            if (!running) {
+                droppedCounter.increment();
+                return false;
+            }
+            if (queue.offer(auditLog, config.getOfferTimeout().toMillis(), TimeUnit.MILLISECONDS)) {
+                return true;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            stopLock.readLock().unlock();
+        }
+        droppedCounter.increment();
+        log.warn("Audit buffer full, dropped {} entry for {}/{}",
+                auditLog.getAction(), auditLog.getTableName(), auditLog.getRecordId());
+        return false;
+    }
+
+    /**
+     * Flusher loop: collects up to one batch, waiting at most the flush
+     * interval for the first entry, and writes it. Drains the queue on stop.
+     */
+    private void runFlusher() {
+        int batchSize = config.getBatchSize();
+        long intervalNanos = config.getFlushInterval().toNanos();
+        List<AuditLog> batch = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                long deadline = System.nanoTime() + intervalNanos;
+                while (running && batch.size() < batchSize) {
+                    long remaining = deadline - System.nanoTime();
+                    if (remaining <= 0) {
+                        break;
+                    }
+                    AuditLog next = queue.poll(Math.min(remaining, STOP_CHECK_NANOS), TimeUnit.NANOSECONDS);
+                    if (next != null) {
+                        batch.add(next);
+                        queue.drainTo(batch, batchSize - batch.size());
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                running = false;
+            }
+            write(batch);
+        }
+        while (queue.drainTo(batch, batchSize) > 0) {
+            write(batch);
+        }
+    }
+
+    /**
+     * Writes and clears a batch.
+     *
+     * @param batch Entries to write
+     */
+    private void write(List<AuditLog> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            auditLogRepository.saveAll(batch);
+            writtenCounter.increment(batch.size());
+        } catch (Exception e) {
+            failedCounter.increment(batch.size());
+            log.error("Failed to write {} audit entries: {}", batch.size(), e.getMessage());
+        } finally {
+            batch.clear();
+        }
+    }
+}
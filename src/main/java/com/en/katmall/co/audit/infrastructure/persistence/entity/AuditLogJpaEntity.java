@@ -23,7 +23,8 @@ import java.time.Instant;
 @Table(name = "audit_logs", indexes = {
         @Index(name = "idx_audit_logs_table_record", columnList = "table_name, record_id"),
         @Index(name = "idx_audit_logs_created_at", columnList = "created_at"),
-        @Index(name = "idx_audit_logs_actor", columnList = "actor_id, actor_type")
+        @Index(name = "idx_audit_logs_actor", columnList = "actor_id, actor_type, created_at DESC, id DESC"),
+        @Index(name = "idx_audit_logs_action", columnList = "action, created_at DESC, id DESC")
 })
 @Getter
 @Setter
@@ -51,10 +51,9 @@ public class AuditLogPersistenceMapper {
     public AuditLog toModel(AuditLogJpaEntity entity) {
         Objects.requireNonNull(entity, "AuditLogJpaEntity must not be null");
 
-        // Note: createdAt is set automatically in BaseEntity constructor
-        // and cannot be overridden from outside (no setter)
         return AuditLog.builder()
                 .id(entity.getId())
+                .createdAt(entity.getCreatedAt())
                 .tableName(entity.getTableName())
                 .recordId(entity.getRecordId())
                 .action(entity.getAction())
@@ -0,0 +1,117 @@
+/**
+ * KATMALL Application
+ * tai.buivan@outlook.com Copyright (c) 2025 All rights reserved
+ */
+package com.en.katmall.co.audit.infrastructure.persistence.partition;
+
+import com.en.katmall.co.shared.infrastructure.config.properties.AppProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Manages the monthly range partitions of the PostgreSQL audit_logs table.
+ * Partitions are named {@code audit_logs_yYYYYmMM} and cover one calendar
+ * month of created_at in the configured database zone, the zone Hibernate
+ * writes the column in.
+ *
+ * @author tai.buivan
+ * @version 1.0
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class AuditLogPartitionManager {
+
+    private static final String PARENT_TABLE = "audit_logs";
+    private static final DateTimeFormatter PARTITION_SUFFIX = DateTimeFormatter.ofPattern("'y'yyyy'm'MM");
+    private static final Pattern PARTITION_NAME = Pattern.compile("audit_logs_y(\\d{4})m(\\d{2})");
+
+    private static final String SQL_IS_PARTITIONED = """
+            SELECT COUNT(*) FROM pg_partitioned_table pt
+              JOIN pg_class c ON c.oid = pt.partrelid
+             WHERE c.relname = ?""";
+
+    private static final String SQL_LIST_PARTITIONS = """
+            SELECT c.relname FROM pg_inherits i
+              JOIN pg_class c ON c.oid = i.inhrelid
+              JOIN pg_class p ON p.oid = i.inhparent
+             WHERE p.relname = ?""";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final AppProperties appProperties;
+
+    /**
+     * Checks if audit_logs is a partitioned table
+     *
+     * @return true if partitioned
+     */
+    public boolean isPartitioned() {
+        Integer count = jdbcTemplate.queryForObject(SQL_IS_PARTITIONED, Integer.class, PARENT_TABLE);
+        return count != null && count > 0;
+    }
+
+    /**
+     * Creates the partitions for the given month and the following months if missing
+     *
+     * @param from        First month
+     * @param monthsAhead Number of following months
+     */
+    @Transactional
+    public void ensurePartitions(YearMonth from, int monthsAhead) {
+        for (int i = 0; i <= monthsAhead; i++) {
+            YearMonth month = from.plusMonths(i);
+            jdbcTemplate.execute(String.format(
+                    "CREATE TABLE IF NOT EXISTS %s PARTITION OF %s FOR VALUES FROM ('%s') TO ('%s')",
+                    partitionName(month), PARENT_TABLE, month.atDay(1), month.plusMonths(1).atDay(1)));
+        }
+    }
+
+    /**
+     * Detaches and drops every monthly partition whose range ends on or before the date.
+     * Cost depends on the number of partitions, not on the number of rows.
+     *
+     * @param before Retention threshold
+     * @return Number of partitions dropped
+     */
+    @Transactional
+    public int dropPartitionsBefore(Instant before) {
+        LocalDate threshold = LocalDate.ofInstant(before, appProperties.getDatabaseTimeZone());
+        List<String> partitions = jdbcTemplate.queryForList(SQL_LIST_PARTITIONS, String.class, PARENT_TABLE);
+        int dropped = 0;
+        for (String partition : partitions) {
+            Matcher matcher = PARTITION_NAME.matcher(partition);
+            if (!matcher.matches()) {
+                continue; // Default partition or foreign naming
+            }
+            YearMonth month = YearMonth.of(Integer.parseInt(matcher.group(1)), Integer.parseInt(matcher.group(2)));
+            if (!month.plusMonths(1).atDay(1).isAfter(threshold)) {
+                jdbcTemplate.execute("ALTER TABLE " + PARENT_TABLE + " DETACH PARTITION " + partition);
+                jdbcTemplate.execute("DROP TABLE " + partition);
+                log.info("Dropped audit log partition {}", partition);
+                dropped++;
+            }
+        }
+        return dropped;
+    }
+
+    /**
+     * Builds the partition name for a month.
+     *
+     * @param month The month
+     * @return Partition table name
+     */
+    private String partitionName(YearMonth month) {
+        return PARENT_TABLE + "_" + month.format(PARTITION_SUFFIX);
+    }
+}
@@ -5,6 +5,7 @@
 package com.en.katmall.co.audit.infrastructure.persistence.repository;
 
 import com.en.katmall.co.audit.infrastructure.persistence.entity.AuditLogJpaEntity;
+import com.en.katmall.co.shared.enums.KTypeActorType;
 import com.en.katmall.co.shared.enums.KTypeAuditAction;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -58,7 +59,9 @@ public interface AuditLogJpaRepository extends JpaRepository<AuditLogJpaEntity,
     List<AuditLogJpaEntity> findByActionOrderByCreatedAtDesc(KTypeAuditAction action, Pageable pageable);
 
     /**
-     * Finds audit logs within a date range
+     * Finds audit logs within a date range.
+     * The created_at bounds let PostgreSQL prune the scan to the monthly
+     * partitions overlapping the range.
      * 
      * @param startDate Start date
      * @param endDate   End date
@@ -70,6 +73,99 @@ public interface AuditLogJpaRepository extends JpaRepository<AuditLogJpaEntity,
             @Param("endDate") Instant endDate,
             Pageable pageable);
 
+    /**
+     * Finds the first keyset page of audit logs by actor
+     * 
+     * @param actorId   Actor ID
+     * @param actorType Actor type
+     * @param pageable  Limit only
+     * @return List of audit logs
+     */
+    @Query("SELECT a FROM AuditLogJpaEntity a WHERE a.actorId = :actorId AND a.actorType = :actorType "
+            + "ORDER BY a.createdAt DESC, a.id DESC")
+    List<AuditLogJpaEntity> findFirstByActor(@Param("actorId") String actorId,
+            @Param("actorType") KTypeActorType actorType,
+            Pageable pageable);
+
+    /**
+     * Finds audit logs by actor after a keyset cursor
+     * 
+     * @param actorId   Actor ID
+     * @param actorType Actor type
+     * @param createdAt Cursor creation time
+     * @param id        Cursor ID
+     * @param pageable  Limit only
+     * @return List of audit logs
+     */
+    @Query("SELECT a FROM AuditLogJpaEntity a WHERE a.actorId = :actorId AND a.actorType = :actorType "
+            + "AND (a.createdAt < :createdAt OR (a.createdAt = :createdAt AND a.id < :id)) "
+            + "ORDER BY a.createdAt DESC, a.id DESC")
+    List<AuditLogJpaEntity> findByActorAfter(@Param("actorId") String actorId,
+            @Param("actorType") KTypeActorType actorType,
+            @Param("createdAt") Instant createdAt,
+            @Param("id") String id,
+            Pageable pageable);
+
+    /**
+     * Finds the first keyset page of audit logs by action type
+     * 
+     * @param action   Action type
+     * @param pageable Limit only
+     * @return List of audit logs
+     */
+    @Query("SELECT a FROM AuditLogJpaEntity a WHERE a.action = :action ORDER BY a.createdAt DESC, a.id DESC")
+    List<AuditLogJpaEntity> findFirstByAction(@Param("action") KTypeAuditAction action, Pageable pageable);
+
+    /**
+     * Finds audit logs by action type after a keyset cursor
+     * 
+     * @param action    Action type
+     * @param createdAt Cursor creation time
+     * @param id        Cursor ID
+     * @param pageable  Limit only
+     * @return List of audit logs
+     */
+    @Query("SELECT a FROM AuditLogJpaEntity a WHERE a.action = :action "
+            + "AND (a.createdAt < :createdAt OR (a.createdAt = :createdAt AND a.id < :id)) "
+            + "ORDER BY a.createdAt DESC, a.id DESC")
+    List<AuditLogJpaEntity> findByActionAfter(@Param("action") KTypeAuditAction action,
+            @Param("createdAt") Instant createdAt,
+            @Param("id") String id,
+            Pageable pageable);
+
+    /**
+     * Finds the first keyset page of audit logs within a date range
+     * 
+     * @param startDate Start date
+     * @param endDate   End date
+     * @param pageable  Limit only
+     * @return List of audit logs
+     */
+    @Query("SELECT a FROM AuditLogJpaEntity a WHERE a.createdAt >= :startDate AND a.createdAt <= :endDate "
+            + "ORDER BY a.createdAt DESC, a.id DESC")
+    List<AuditLogJpaEntity> findFirstByDateRange(@Param("startDate") Instant startDate,
+            @Param("endDate") Instant endDate,
+            Pageable pageable);
+
+    /**
+     * Finds audit logs within a date range after a keyset cursor
+     * 
+     * @param startDate Start date
+     * @param endDate   End date
+     * @param createdAt Cursor creation time
+     * @param id        Cursor ID
+     * @param pageable  Limit only
+     * @return List of audit logs
+     */
+    @Query("SELECT a FROM AuditLogJpaEntity a WHERE a.createdAt >= :startDate AND a.createdAt <= :endDate "
+            + "AND (a.createdAt < :createdAt OR (a.createdAt = :createdAt AND a.id < :id)) "
+            + "ORDER BY a.createdAt DESC, a.id DESC")
+    List<AuditLogJpaEntity> findByDateRangeAfter(@Param("startDate") Instant startDate,
+            @Param("endDate") Instant endDate,
+            @Param("createdAt") Instant createdAt,
+            @Param("id") String id,
+            Pageable pageable);
+
     /**
      * Finds recent audit logs
      * 
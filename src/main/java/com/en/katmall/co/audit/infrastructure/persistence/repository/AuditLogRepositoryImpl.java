@@ -8,14 +8,21 @@ import com.en.katmall.co.audit.domain.model.AuditLog;
 import com.en.katmall.co.audit.domain.repository.AuditLogRepository;
 import com.en.katmall.co.audit.infrastructure.persistence.entity.AuditLogJpaEntity;
 import com.en.katmall.co.audit.infrastructure.persistence.mapper.AuditLogPersistenceMapper;
+import com.en.katmall.co.shared.dto.PageCursor;
+import com.en.katmall.co.shared.enums.KTypeActorType;
 import com.en.katmall.co.shared.enums.KTypeAuditAction;
+import com.en.katmall.co.shared.infrastructure.config.properties.AppProperties;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
@@ -31,8 +38,15 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class AuditLogRepositoryImpl implements AuditLogRepository {
 
+    private static final String SQL_INSERT = """
+            INSERT INTO audit_logs (id, table_name, record_id, action, actor_id, actor_type,
+                                    old_data_text, new_data_text, ip_address, created_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)""";
+
     private final AuditLogJpaRepository jpaRepository;
     private final AuditLogPersistenceMapper mapper;
+    private final JdbcTemplate jdbcTemplate;
+    private final AppProperties appProperties;
 
     /**
      * {@inheritDoc}
@@ -47,6 +61,38 @@ public class AuditLogRepositoryImpl implements AuditLogRepository {
         return mapper.toModel(saved);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional
+    public void saveAll(List<AuditLog> auditLogs) {
+        Objects.requireNonNull(auditLogs, "AuditLogs must not be null");
+        if (auditLogs.isEmpty()) {
+            return;
+        }
+
+        // created_at has no zone; write it in the zone Hibernate uses for the JPA reads
+        ZoneId zone = appProperties.getDatabaseTimeZone();
+        List<Object[]> args = new ArrayList<>(auditLogs.size());
+        for (AuditLog auditLog : auditLogs) {
+            args.add(new Object[] {
+                    auditLog.getId(),
+                    auditLog.getTableName(),
+                    auditLog.getRecordId(),
+                    auditLog.getAction().name(),
+                    auditLog.getActorId(),
+                    auditLog.getActorType() != null ? auditLog.getActorType().name() : null,
+                    auditLog.getOldDataText(),
+                    auditLog.getNewDataText(),
+                    auditLog.getIpAddress(),
+                    LocalDateTime.ofInstant(auditLog.getCreatedAt() != null ? auditLog.getCreatedAt() : Instant.now(),
+                            zone)
+            });
+        }
+        jdbcTemplate.batchUpdate(SQL_INSERT, args);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -121,6 +167,61 @@ public class AuditLogRepositoryImpl implements AuditLogRepository {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<AuditLog> findByActorAfter(String actorId, String actorType, PageCursor cursor, int limit) {
+        Objects.requireNonNull(actorId, "Actor ID must not be null");
+        Objects.requireNonNull(actorType, "Actor type must not be null");
+
+        KTypeActorType type = KTypeActorType.fromCode(actorType);
+        Pageable pageable = PageRequest.of(0, limit);
+        List<AuditLogJpaEntity> entities = cursor == null
+                ? jpaRepository.findFirstByActor(actorId, type, pageable)
+                : jpaRepository.findByActorAfter(actorId, type, cursor.getCreatedAt(), cursor.getId(), pageable);
+        return entities.stream()
+                .map(mapper::toModel)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<AuditLog> findByActionAfter(KTypeAuditAction action, PageCursor cursor, int limit) {
+        Objects.requireNonNull(action, "Action must not be null");
+
+        Pageable pageable = PageRequest.of(0, limit);
+        List<AuditLogJpaEntity> entities = cursor == null
+                ? jpaRepository.findFirstByAction(action, pageable)
+                : jpaRepository.findByActionAfter(action, cursor.getCreatedAt(), cursor.getId(), pageable);
+        return entities.stream()
+                .map(mapper::toModel)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<AuditLog> findByDateRangeAfter(Instant startDate, Instant endDate, PageCursor cursor, int limit) {
+        Objects.requireNonNull(startDate, "Start date must not be null");
+        Objects.requireNonNull(endDate, "End date must not be null");
+
+        Pageable pageable = PageRequest.of(0, limit);
+        List<AuditLogJpaEntity> entities = cursor == null
+                ? jpaRepository.findFirstByDateRange(startDate, endDate, pageable)
+                : jpaRepository.findByDateRangeAfter(startDate, endDate, cursor.getCreatedAt(), cursor.getId(),
+                        pageable);
+        return entities.stream()
+                .map(mapper::toModel)
+                .collect(Collectors.toList());
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -0,0 +1,64 @@
+/**
+ * KATMALL Application
+ * tai.buivan@outlook.com Copyright (c) 2025 All rights reserved
+ */
+package com.en.katmall.co.catalog.application.dto.response;
+
+import com.en.katmall.co.catalog.infrastructure.facet.ProductFacetIndex.FacetResult;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Response DTO for a filtered product listing with facet counts.
+ * 
+ * @author tai.buivan
+ * @version 1.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductFilterResponse {
+
+    /** Number of matching products */
+    private int total;
+
+    /** Page number, from 0 */
+    private int page;
+
+    /** Page size */
+    private int size;
+
+    /** Product IDs of the page, in listing order */
+    private List<String> productIds;
+
+    /** Matching products per brand ID, ignoring the brand selection */
+    private Map<String, Integer> brands;
+
+    /** Matching products per attribute value ID, by attribute ID, ignoring that attribute's selection */
+    private Map<String, Map<String, Integer>> attributes;
+
+    /**
+     * Creates a response from a facet index result
+     * 
+     * @param result The facet index result
+     * @param page   Page number
+     * @param size   Page size
+     * @return Filter response
+     */
+    public static ProductFilterResponse from(FacetResult result, int page, int size) {
+        return ProductFilterResponse.builder()
+                .total(result.total())
+                .page(page)
+                .size(size)
+                .productIds(result.productIds())
+                .brands(result.brandCounts())
+                .attributes(result.attributeCounts())
+                .build();
+    }
+}
@@ -0,0 +1,47 @@
+/**
+ * KATMALL Application
+ * tai.buivan@outlook.com Copyright (c) 2025 All rights reserved
+ */
+package com.en.katmall.co.catalog.application.dto.response;
+
+import com.en.katmall.co.catalog.infrastructure.search.ProductSearchIndex.SearchDocument;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Response DTO for a product search suggestion.
+ * 
+ * @author tai.buivan
+ * @version 1.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductSuggestionResponse {
+
+    /** Product unique identifier */
+    private String id;
+
+    /** Product slug for URL */
+    private String slug;
+
+    /** Product name in the default language */
+    private String name;
+
+    /**
+     * Creates a response from a search document
+     * 
+     * @param document The matched document
+     * @return Suggestion response
+     */
+    public static ProductSuggestionResponse from(SearchDocument document) {
+        return ProductSuggestionResponse.builder()
+                .id(document.id())
+                .slug(document.slug())
+                .name(document.name())
+                .build();
+    }
+}
@@ -0,0 +1,72 @@
+/**
+ * KATMALL Application
+ * tai.buivan@outlook.com Copyright (c) 2025 All rights reserved
+ */
+package com.en.katmall.co.catalog.application.usecase;
+
+import com.en.katmall.co.catalog.application.dto.response.ProductFilterResponse;
+import com.en.katmall.co.catalog.infrastructure.facet.ProductFacetIndex.FacetQuery;
+import com.en.katmall.co.catalog.infrastructure.facet.ProductFacetIndexer;
+import com.en.katmall.co.shared.exception.ValidationException;
+import com.en.katmall.co.shared.infrastructure.config.properties.CatalogProperties;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.util.Set;
+
+/**
+ * Use Case: Filter Products
+ * Lists products matching category, brand, attribute value, price and stock
+ * filters, with the counts of every facet, from the in-memory facet index.
+ * 
+ * @author tai.buivan
+ * @version 1.0
+ */
+@Service
+@RequiredArgsConstructor
+public class FilterProductsUseCase {
+
+    private final ProductFacetIndexer productFacetIndexer;
+    private final CatalogProperties catalogProperties;
+
+    /**
+     * Lists a page of matching products.
+     * Values of the same facet are alternatives; different facets all apply.
+     * 
+     * @param categoryId        Category, including subcategories; null for all
+     * @param brandIds          Accepted brands; empty for all
+     * @param attributeValueIds Accepted attribute values; empty for all
+     * @param minPrice          Lowest price, inclusive; may be null
+     * @param maxPrice          Highest price, inclusive; may be null
+     * @param inStockOnly       Whether to hide products without stock
+     * @param page              Page number, from 0
+     * @param size              Page size, capped by configuration
+     * @return Matching products and facet counts
+     * @throws ValidationException if the page or price range is invalid
+     */
+    public ProductFilterResponse execute(String categoryId, Set<String> brandIds, Set<String> attributeValueIds,
+            BigDecimal minPrice, BigDecimal maxPrice, boolean inStockOnly, int page, int size) {
+        if (page < 0) {
+            throw new ValidationException("page", "Page must not be negative");
+        }
+        if (size < 1) {
+            throw new ValidationException("size", "Size must be at least 1");
+        }
+        if (minPrice != null && maxPrice != null && minPrice.compareTo(maxPrice) > 0) {
+            throw new ValidationException("minPrice", "Minimum price must not exceed maximum price");
+        }
+        int pageSize = Math.min(size, catalogProperties.getFacets().getMaxPageSize());
+        FacetQuery query = FacetQuery.builder()
+                .categoryId(categoryId)
+                .brandIds(brandIds)
+                .attributeValueIds(attributeValueIds)
+                .minPrice(minPrice)
+                .maxPrice(maxPrice)
+                .inStockOnly(inStockOnly)
+                .offset(Math.multiplyExact(page, pageSize))
+                .limit(pageSize)
+                .build();
+        return ProductFilterResponse.from(productFacetIndexer.search(query), page, pageSize);
+    }
+}
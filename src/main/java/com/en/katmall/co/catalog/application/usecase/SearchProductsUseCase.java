@@ -0,0 +1,42 @@
+/**
+ * KATMALL Application
+ * tai.buivan@outlook.com Copyright (c) 2025 All rights reserved
+ */
+package com.en.katmall.co.catalog.application.usecase;
+
+import com.en.katmall.co.catalog.application.dto.response.ProductSuggestionResponse;
+import com.en.katmall.co.catalog.infrastructure.search.ProductSearchIndexer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Use Case: Search Products
+ * Suggests products as the user types, from the in-memory search index.
+ * 
+ * @author tai.buivan
+ * @version 1.0
+ */
+@Service
+@RequiredArgsConstructor
+public class SearchProductsUseCase {
+
+    private final ProductSearchIndexer productSearchIndexer;
+
+    /**
+     * Finds products whose name matches a query, with or without diacritics.
+     * The last word matches as a prefix.
+     * 
+     * @param query The query as typed
+     * @param limit Maximum number of suggestions
+     * @return Matching products, newest first
+     */
+    public List<ProductSuggestionResponse> execute(String query, int limit) {
+        Objects.requireNonNull(query, "Query must not be null");
+        return productSearchIndexer.search(query, limit).stream()
+                .map(ProductSuggestionResponse::from)
+                .toList();
+    }
+}
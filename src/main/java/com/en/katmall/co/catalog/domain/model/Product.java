@@ -152,6 +152,31 @@ public class Product extends AggregateRoot<String> {
         return Collections.unmodifiableList(variants);
     }
 
+    /**
+     * Creates a detached copy of this product and its variants.
+     * Changes to the copy do not affect this instance.
+     * Registered domain events are not copied.
+     *
+     * @return New Product instance with the same state
+     */
+    public Product copy() {
+        Product copy = new Product();
+        copy.id = id;
+        copy.createdAt = createdAt;
+        copy.updatedAt = updatedAt;
+        copy.categoryId = categoryId;
+        copy.brandId = brandId;
+        copy.slug = slug;
+        copy.basePrice = basePrice;
+        copy.weight = weight;
+        copy.active = active;
+        copy.deletedAt = deletedAt;
+        for (ProductVariant variant : variants) {
+            copy.variants.add(variant.copy());
+        }
+        return copy;
+    }
+
     /**
      * Builder class for Product
      */
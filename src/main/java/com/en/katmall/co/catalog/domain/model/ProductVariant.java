@@ -113,8 +113,26 @@ public class ProductVariant extends BaseEntity<String> {
      * @return true if discounted
      */
     public boolean hasDiscount() {
-        return compareAtPrice != null &&
-                compareAtPrice.getAmount().compareTo(price.getAmount()) > 0;
+        return compareAtPrice != null && compareAtPrice.isGreaterThan(price);
+    }
+
+    /**
+     * Creates a detached copy of this variant
+     *
+     * @return New ProductVariant instance with the same state
+     */
+    public ProductVariant copy() {
+        ProductVariant copy = new ProductVariant();
+        copy.id = id;
+        copy.createdAt = createdAt;
+        copy.updatedAt = updatedAt;
+        copy.productId = productId;
+        copy.sku = sku;
+        copy.price = price;
+        copy.compareAtPrice = compareAtPrice;
+        copy.imageUrl = imageUrl;
+        copy.active = active;
+        return copy;
     }
 
     /**
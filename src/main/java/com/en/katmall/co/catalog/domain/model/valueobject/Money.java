@@ -5,53 +5,70 @@
 package com.en.katmall.co.catalog.domain.model.valueobject;
 
 import com.en.katmall.co.shared.domain.ValueObject;
+import com.en.katmall.co.shared.exception.DomainException;
 import com.en.katmall.co.shared.exception.ValidationException;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
+import java.util.Currency;
 import java.util.Objects;
 
 /**
  * Value Object representing a monetary amount with currency.
- * Immutable with proper decimal handling for financial calculations.
- * 
+ * Immutable; the amount is held as a {@code long} count of the currency's
+ * minor unit (1 for VND, cents for USD), so arithmetic is exact and does not
+ * allocate intermediate decimals. The scale follows the ISO 4217 fraction
+ * digits of the currency. {@link BigDecimal} is only used at the edges:
+ * {@link #of(BigDecimal, String)} rounds into minor units and
+ * {@link #getAmount()} converts back for persistence and APIs.
+ *
  * @author tai.buivan
  * @version 1.0
  */
 public final class Money extends ValueObject {
 
-    private final BigDecimal amount;
+    // Error codes
+    private static final String ERR_MONEY_OVERFLOW = "MONEY_OVERFLOW";
+    private static final String ERR_CURRENCY_MISMATCH = "CURRENCY_MISMATCH";
+
+    private static final String DEFAULT_CURRENCY = "VND";
+
+    private final long minorUnits;
     private final String currency;
+    private final int scale;
 
     /**
      * Private constructor - use factory methods
-     * 
-     * @param amount   The monetary amount
-     * @param currency The currency code
+     *
+     * @param minorUnits The amount in minor units of the currency
+     * @param currency   The currency code
+     * @param scale      Fraction digits of the currency
      */
-    private Money(BigDecimal amount, String currency) {
-        this.amount = amount.setScale(2, RoundingMode.HALF_UP);
+    private Money(long minorUnits, String currency, int scale) {
+        this.minorUnits = minorUnits;
         this.currency = currency;
+        this.scale = scale;
     }
 
     /**
      * Creates Money with default currency (VND)
-     * 
+     *
      * @param amount The monetary amount
      * @return New Money instance
      * @throws ValidationException if amount is invalid
      */
     public static Money of(BigDecimal amount) {
-        return of(amount, "VND");
+        return of(amount, DEFAULT_CURRENCY);
     }
 
     /**
-     * Creates Money with specified currency
-     * 
+     * Creates Money with specified currency.
+     * The amount is rounded half-up to the fraction digits of the currency.
+     *
      * @param amount   The monetary amount
      * @param currency The currency code
      * @return New Money instance
-     * @throws ValidationException if amount is invalid
+     * @throws ValidationException if amount or currency is invalid
      */
     public static Money of(BigDecimal amount, String currency) {
         if (amount == null) {
@@ -60,66 +77,167 @@ public final class Money extends ValueObject {
         if (amount.compareTo(BigDecimal.ZERO) < 0) {
             throw new ValidationException("amount", "Amount cannot be negative");
         }
-        return new Money(amount, currency);
+        int scale = scaleOf(currency);
+        try {
+            return new Money(amount.setScale(scale, RoundingMode.HALF_UP).unscaledValue().longValueExact(),
+                    currency, scale);
+        } catch (ArithmeticException e) {
+            throw new ValidationException("amount", "Amount is too large");
+        }
+    }
+
+    /**
+     * Creates Money from an amount already expressed in minor units
+     *
+     * @param minorUnits The amount in minor units of the currency
+     * @param currency   The currency code
+     * @return New Money instance
+     * @throws ValidationException if amount or currency is invalid
+     */
+    public static Money ofMinor(long minorUnits, String currency) {
+        if (minorUnits < 0) {
+            throw new ValidationException("amount", "Amount cannot be negative");
+        }
+        return new Money(minorUnits, currency, scaleOf(currency));
     }
 
     /**
      * Creates zero Money with default currency
-     * 
+     *
      * @return Money with zero amount
      */
     public static Money zero() {
-        return new Money(BigDecimal.ZERO, "VND");
+        return zero(DEFAULT_CURRENCY);
+    }
+
+    /**
+     * Creates zero Money with specified currency
+     *
+     * @param currency The currency code
+     * @return Money with zero amount
+     */
+    public static Money zero(String currency) {
+        return new Money(0, currency, scaleOf(currency));
     }
 
     /**
      * Adds another Money to this one
-     * 
+     *
      * @param other The Money to add
      * @return New Money with summed amount
+     * @throws DomainException if currencies differ or the sum overflows
      */
     public Money add(Money other) {
-        return new Money(this.amount.add(other.amount), this.currency);
+        requireSameCurrency(other);
+        try {
+            return new Money(Math.addExact(minorUnits, other.minorUnits), currency, scale);
+        } catch (ArithmeticException e) {
+            throw new DomainException(ERR_MONEY_OVERFLOW, "Money amount overflow");
+        }
     }
 
     /**
      * Subtracts another Money from this one
-     * 
+     *
      * @param other The Money to subtract
      * @return New Money with difference
+     * @throws DomainException if currencies differ or the difference overflows
      */
     public Money subtract(Money other) {
-        return new Money(this.amount.subtract(other.amount), this.currency);
+        requireSameCurrency(other);
+        try {
+            return new Money(Math.subtractExact(minorUnits, other.minorUnits), currency, scale);
+        } catch (ArithmeticException e) {
+            throw new DomainException(ERR_MONEY_OVERFLOW, "Money amount overflow");
+        }
     }
 
     /**
      * Multiplies this Money by a quantity
-     * 
+     *
      * @param quantity The multiplier
      * @return New Money with multiplied amount
+     * @throws DomainException if the product overflows
      */
     public Money multiply(int quantity) {
-        return new Money(this.amount.multiply(BigDecimal.valueOf(quantity)), this.currency);
+        try {
+            return new Money(Math.multiplyExact(minorUnits, quantity), currency, scale);
+        } catch (ArithmeticException e) {
+            throw new DomainException(ERR_MONEY_OVERFLOW, "Money amount overflow");
+        }
+    }
+
+    /**
+     * Checks if this amount is greater than another
+     *
+     * @param other The Money to compare with
+     * @return true if this amount is greater
+     * @throws DomainException if currencies differ
+     */
+    public boolean isGreaterThan(Money other) {
+        requireSameCurrency(other);
+        return minorUnits > other.minorUnits;
     }
 
     /**
-     * Gets the amount
-     * 
+     * Gets the amount as a decimal with the currency's scale
+     *
      * @return The monetary amount
      */
     public BigDecimal getAmount() {
-        return amount;
+        return BigDecimal.valueOf(minorUnits, scale);
+    }
+
+    /**
+     * Gets the amount in minor units of the currency
+     *
+     * @return The amount in minor units
+     */
+    public long getMinorUnits() {
+        return minorUnits;
     }
 
     /**
      * Gets the currency code
-     * 
+     *
      * @return The currency code
      */
     public String getCurrency() {
         return currency;
     }
 
+    /**
+     * Ensures another Money has the same currency
+     *
+     * @param other The Money to check
+     * @throws DomainException if currencies differ
+     */
+    private void requireSameCurrency(Money other) {
+        Objects.requireNonNull(other, "Money must not be null");
+        if (!currency.equals(other.currency)) {
+            throw new DomainException(ERR_CURRENCY_MISMATCH,
+                    String.format("Cannot combine %s with %s", currency, other.currency));
+        }
+    }
+
+    /**
+     * Gets the number of fraction digits of a currency
+     *
+     * @param currency The ISO 4217 currency code
+     * @return Fraction digits, 0 for currencies without minor units
+     * @throws ValidationException if the currency is unknown
+     */
+    private static int scaleOf(String currency) {
+        if (currency == null) {
+            throw new ValidationException("currency", "Currency is required");
+        }
+        try {
+            return Math.max(0, Currency.getInstance(currency).getDefaultFractionDigits());
+        } catch (IllegalArgumentException e) {
+            throw new ValidationException("currency", "Unknown currency: " + currency);
+        }
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o)
@@ -127,16 +245,16 @@ public final class Money extends ValueObject {
         if (o == null || getClass() != o.getClass())
             return false;
         Money money = (Money) o;
-        return Objects.equals(amount, money.amount) && Objects.equals(currency, money.currency);
+        return minorUnits == money.minorUnits && Objects.equals(currency, money.currency);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(amount, currency);
+        return Objects.hash(minorUnits, currency);
     }
 
     @Override
     public String toString() {
-        return amount + " " + currency;
+        return getAmount() + " " + currency;
     }
 }
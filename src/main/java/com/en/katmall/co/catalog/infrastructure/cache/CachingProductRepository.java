@@ -0,0 +1,233 @@
+/**
+ * KATMALL Application
+ * tai.buivan@outlook.com Copyright (c) 2025 All rights reserved
+ */
+package com.en.katmall.co.catalog.infrastructure.cache;
+
+import com.en.katmall.co.catalog.domain.model.Product;
+import com.en.katmall.co.catalog.domain.model.valueobject.Slug;
+import com.en.katmall.co.catalog.domain.repository.ProductRepository;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Read-through caching decorator for {@link ProductRepository}.
+ * Caches products by ID, by slug and by category; every save or delete evicts
+ * the entries the product was (or is now) reachable under.
+ *
+ * <p>
+ * The cache holds detached copies and every read returns a fresh copy, so a
+ * caller mutating its product never changes what other callers read, even
+ * if it never saves or its transaction rolls back.
+ *
+ * <p>
+ * Entries are evicted on save or delete and again after the transaction
+ * commits: the first eviction keeps the writing transaction from reading its
+ * old state, the second drops an old row another reader cached before the
+ * commit made the change visible.
+ *
+ * @author tai.buivan
+ * @version 1.0
+ */
+public class CachingProductRepository implements ProductRepository {
+
+    /** Cache of products keyed by ID */
+    public static final String CACHE_BY_ID = "catalog-products";
+
+    /** Cache of products keyed by slug value */
+    public static final String CACHE_BY_SLUG = "catalog-products-by-slug";
+
+    /** Cache of product lists keyed by category ID */
+    public static final String CACHE_BY_CATEGORY = "catalog-products-by-category";
+
+    /** Underlying persistence repository */
+    private final ProductRepository delegate;
+
+    private final Cache byId;
+    private final Cache bySlug;
+    private final Cache byCategory;
+
+    /**
+     * Creates a caching decorator around a product repository
+     *
+     * @param delegate     The repository to decorate
+     * @param cacheManager Cache manager providing the catalog caches
+     */
+    public CachingProductRepository(ProductRepository delegate, CacheManager cacheManager) {
+        this.delegate = Objects.requireNonNull(delegate, "delegate must not be null");
+        this.byId = requireCache(cacheManager, CACHE_BY_ID);
+        this.bySlug = requireCache(cacheManager, CACHE_BY_SLUG);
+        this.byCategory = requireCache(cacheManager, CACHE_BY_CATEGORY);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * Evicts the previous and new slug/category entries of the product.
+     */
+    @Override
+    public Product save(Product product) {
+        Product saved = delegate.save(product);
+        evict(saved);
+        return saved;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<Product> findById(String id) {
+        Product cached = byId.get(id, Product.class);
+        if (cached != null) {
+            return Optional.of(cached.copy());
+        }
+        Optional<Product> loaded = delegate.findById(id);
+        loaded.ifPresent(this::put);
+        return loaded;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<Product> findBySlug(Slug slug) {
+        Product cached = bySlug.get(slug.getValue(), Product.class);
+        if (cached != null) {
+            return Optional.of(cached.copy());
+        }
+        Optional<Product> loaded = delegate.findBySlug(slug);
+        loaded.ifPresent(this::put);
+        return loaded;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<Product> findByCategoryId(String categoryId) {
+        List<Product> cached = byCategory.get(categoryId, List.class);
+        if (cached != null) {
+            return copies(cached);
+        }
+        List<Product> loaded = delegate.findByCategoryId(categoryId);
+        byCategory.put(categoryId, copies(loaded));
+        return loaded;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Product> findByBrandId(String brandId) {
+        return delegate.findByBrandId(brandId);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Product> findAllActive() {
+        return delegate.findAllActive();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean existsBySlug(Slug slug) {
+        return bySlug.get(slug.getValue()) != null || delegate.existsBySlug(slug);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * Evicts every cache entry the product was reachable under.
+     */
+    @Override
+    public void delete(Product product) {
+        delegate.delete(product);
+        evict(product);
+    }
+
+    /**
+     * Stores a copy of a loaded product under its ID and slug.
+     *
+     * @param product Loaded product
+     */
+    private void put(Product product) {
+        Product copy = product.copy();
+        byId.put(copy.getId(), copy);
+        bySlug.put(copy.getSlug().getValue(), copy);
+    }
+
+    /**
+     * Evicts all entries for a product now and after the transaction commits,
+     * including those of the previously cached version in case its slug or
+     * category changed.
+     *
+     * @param product The saved or deleted product
+     */
+    private void evict(Product product) {
+        Set<String> slugs = new HashSet<>();
+        Set<String> categoryIds = new HashSet<>();
+        slugs.add(product.getSlug().getValue());
+        categoryIds.add(product.getCategoryId());
+        Product previous = byId.get(product.getId(), Product.class);
+        if (previous != null) {
+            slugs.add(previous.getSlug().getValue());
+            categoryIds.add(previous.getCategoryId());
+        }
+        String id = product.getId();
+        Runnable eviction = () -> {
+            byId.evict(id);
+            slugs.forEach(bySlug::evict);
+            categoryIds.forEach(byCategory::evict);
+        };
+        eviction.run();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    eviction.run();
+                }
+            });
+        }
+    }
+
+    /**
+     * Copies a list of products
+     *
+     * @param products Products to copy
+     * @return Unmodifiable list of detached copies
+     */
+    private static List<Product> copies(List<Product> products) {
+        return products.stream().map(Product::copy).toList();
+    }
+
+    /**
+     * Looks up a cache that must be declared in configuration.
+     *
+     * @param cacheManager Cache manager
+     * @param name         Cache name
+     * @return The cache
+     * @throws IllegalStateException if the cache is not configured
+     */
+    private static Cache requireCache(CacheManager cacheManager, String name) {
+        Cache cache = cacheManager.getCache(name);
+        if (cache == null) {
+            throw new IllegalStateException("Cache '" + name + "' is not configured");
+        }
+        return cache;
+    }
+}
@@ -0,0 +1,61 @@
+/**
+ * KATMALL Application
+ * tai.buivan@outlook.com Copyright (c) 2025 All rights reserved
+ */
+package com.en.katmall.co.catalog.infrastructure.cache;
+
+import com.en.katmall.co.catalog.domain.repository.ProductRepository;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.cache.CacheManager;
+import org.springframework.core.Ordered;
+import org.springframework.stereotype.Component;
+
+/**
+ * Wraps the persistence {@link ProductRepository} bean in a
+ * {@link CachingProductRepository} so every consumer reads through the cache
+ * without knowing the implementation bean.
+ *
+ * @author tai.buivan
+ * @version 1.0
+ */
+@Component
+public class ProductRepositoryCachePostProcessor implements BeanPostProcessor, Ordered {
+
+    /** Resolved lazily so the cache manager is not created during post-processor registration */
+    private final ObjectProvider<CacheManager> cacheManager;
+
+    /**
+     * Creates the post processor
+     *
+     * @param cacheManager Lazy cache manager provider
+     */
+    public ProductRepositoryCachePostProcessor(ObjectProvider<CacheManager> cacheManager) {
+        this.cacheManager = cacheManager;
+    }
+
+    /**
+     * Decorates product repository beans after all other proxies are applied.
+     *
+     * @param bean     The initialized bean
+     * @param beanName The bean name
+     * @return The decorated repository, or the bean unchanged
+     */
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof ProductRepository repository && !(bean instanceof CachingProductRepository)) {
+            return new CachingProductRepository(repository, cacheManager.getObject());
+        }
+        return bean;
+    }
+
+    /**
+     * Runs last so the decorator wraps transactional proxies.
+     *
+     * @return Lowest precedence
+     */
+    @Override
+    public int getOrder() {
+        return Ordered.LOWEST_PRECEDENCE;
+    }
+}
@@ -0,0 +1,585 @@
+/**
+ * KATMALL Application
+ * tai.buivan@outlook.com Copyright (c) 2025 All rights reserved
+ */
+package com.en.katmall.co.catalog.infrastructure.facet;
+
+import java.util.Arrays;
+import java.util.function.IntPredicate;
+
+/**
+ * Compressed set of non-negative ints, laid out like a Roaring bitmap.
+ *
+ * <p>
+ * Values are split into chunks of 65536 by their high 16 bits. A chunk with
+ * at most 4096 values is a sorted {@code char[]}; a denser chunk is a
+ * 65536-bit word array. Sparse facets therefore cost two bytes per product
+ * and dense ones one bit, and intersections work chunk by chunk on words or
+ * sorted arrays.
+ *
+ * <p>
+ * Not thread-safe; {@link ProductFacetIndex} guards access.
+ *
+ * @author tai.buivan
+ * @version 1.0
+ */
+final class CompactBitmap {
+
+    /** Largest chunk kept as a sorted array */
+    private static final int ARRAY_LIMIT = 4096;
+
+    private static final int WORDS = 1024;
+
+    /** High 16 bits of each chunk, ascending */
+    private char[] keys = new char[0];
+    private Chunk[] chunks = new Chunk[0];
+    private int size;
+
+    /**
+     * Adds a value
+     *
+     * @param value Value, not negative
+     */
+    void add(int value) {
+        char key = (char) (value >>> 16);
+        int at = find(key);
+        if (at < 0) {
+            at = -at - 1;
+            insertChunk(at, key, new ArrayChunk(new char[4], 0));
+        }
+        chunks[at] = chunks[at].add((char) value);
+    }
+
+    /**
+     * Removes a value
+     *
+     * @param value Value
+     */
+    void remove(int value) {
+        int at = find((char) (value >>> 16));
+        if (at < 0) {
+            return;
+        }
+        Chunk chunk = chunks[at].remove((char) value);
+        if (chunk.cardinality() == 0) {
+            System.arraycopy(keys, at + 1, keys, at, size - at - 1);
+            System.arraycopy(chunks, at + 1, chunks, at, size - at - 1);
+            chunks[--size] = null;
+        } else {
+            chunks[at] = chunk;
+        }
+    }
+
+    /**
+     * Checks whether a value is present
+     *
+     * @param value Value
+     * @return true if present
+     */
+    boolean contains(int value) {
+        int at = find((char) (value >>> 16));
+        return at >= 0 && chunks[at].contains((char) value);
+    }
+
+    /**
+     * Gets the number of values
+     *
+     * @return Cardinality
+     */
+    int cardinality() {
+        int cardinality = 0;
+        for (int i = 0; i < size; i++) {
+            cardinality += chunks[i].cardinality();
+        }
+        return cardinality;
+    }
+
+    /**
+     * Checks whether the bitmap has no values
+     *
+     * @return true if empty
+     */
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Intersects two bitmaps
+     *
+     * @param other The other bitmap
+     * @return New bitmap of the values in both
+     */
+    CompactBitmap and(CompactBitmap other) {
+        CompactBitmap result = new CompactBitmap();
+        int i = 0;
+        int j = 0;
+        while (i < size && j < other.size) {
+            if (keys[i] < other.keys[j]) {
+                i++;
+            } else if (keys[i] > other.keys[j]) {
+                j++;
+            } else {
+                Chunk chunk = chunks[i].and(other.chunks[j]);
+                if (chunk.cardinality() > 0) {
+                    result.appendChunk(keys[i], chunk);
+                }
+                i++;
+                j++;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Counts the values two bitmaps share without building the intersection
+     *
+     * @param other The other bitmap
+     * @return Size of the intersection
+     */
+    int andCardinality(CompactBitmap other) {
+        int cardinality = 0;
+        int i = 0;
+        int j = 0;
+        while (i < size && j < other.size) {
+            if (keys[i] < other.keys[j]) {
+                i++;
+            } else if (keys[i] > other.keys[j]) {
+                j++;
+            } else {
+                cardinality += chunks[i].andCardinality(other.chunks[j]);
+                i++;
+                j++;
+            }
+        }
+        return cardinality;
+    }
+
+    /**
+     * Unites two bitmaps
+     *
+     * @param other The other bitmap
+     * @return New bitmap of the values in either
+     */
+    CompactBitmap or(CompactBitmap other) {
+        CompactBitmap result = new CompactBitmap();
+        int i = 0;
+        int j = 0;
+        while (i < size || j < other.size) {
+            if (j >= other.size || (i < size && keys[i] < other.keys[j])) {
+                result.appendChunk(keys[i], chunks[i].copy());
+                i++;
+            } else if (i >= size || keys[i] > other.keys[j]) {
+                result.appendChunk(other.keys[j], other.chunks[j].copy());
+                j++;
+            } else {
+                result.appendChunk(keys[i], chunks[i].or(other.chunks[j]));
+                i++;
+                j++;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Keeps the values accepted by a predicate
+     *
+     * @param predicate Test applied to every value
+     * @return New bitmap of the accepted values
+     */
+    CompactBitmap filter(IntPredicate predicate) {
+        CompactBitmap result = new CompactBitmap();
+        for (int i = 0; i < size; i++) {
+            int[] values = new int[chunks[i].cardinality()];
+            chunks[i].read(keys[i] << 16, 0, values);
+            for (int value : values) {
+                if (predicate.test(value)) {
+                    result.add(value);
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Gets a page of values in ascending order
+     *
+     * @param offset Values to skip
+     * @param limit  Maximum number of values
+     * @return The values
+     */
+    int[] page(int offset, int limit) {
+        int[] page = new int[Math.max(0, limit)];
+        int filled = 0;
+        int skip = Math.max(0, offset);
+        for (int i = 0; i < size && filled < page.length; i++) {
+            int cardinality = chunks[i].cardinality();
+            if (skip >= cardinality) {
+                skip -= cardinality;
+                continue;
+            }
+            int[] buffer = new int[page.length - filled];
+            int read = chunks[i].read(keys[i] << 16, skip, buffer);
+            System.arraycopy(buffer, 0, page, filled, read);
+            filled += read;
+            skip = 0;
+        }
+        return Arrays.copyOf(page, filled);
+    }
+
+    /**
+     * Copies the bitmap
+     *
+     * @return Independent copy
+     */
+    CompactBitmap copy() {
+        CompactBitmap copy = new CompactBitmap();
+        copy.keys = Arrays.copyOf(keys, size);
+        copy.chunks = new Chunk[size];
+        for (int i = 0; i < size; i++) {
+            copy.chunks[i] = chunks[i].copy();
+        }
+        copy.size = size;
+        return copy;
+    }
+
+    private int find(char key) {
+        return Arrays.binarySearch(keys, 0, size, key);
+    }
+
+    private void insertChunk(int at, char key, Chunk chunk) {
+        if (size == keys.length) {
+            int capacity = Math.max(4, size * 2);
+            keys = Arrays.copyOf(keys, capacity);
+            chunks = Arrays.copyOf(chunks, capacity);
+        }
+        System.arraycopy(keys, at, keys, at + 1, size - at);
+        System.arraycopy(chunks, at, chunks, at + 1, size - at);
+        keys[at] = key;
+        chunks[at] = chunk;
+        size++;
+    }
+
+    private void appendChunk(char key, Chunk chunk) {
+        insertChunk(size, key, chunk);
+    }
+
+    /**
+     * Values sharing the same high 16 bits. Mutations may return a different
+     * representation, which replaces the chunk.
+     */
+    private abstract static class Chunk {
+
+        abstract int cardinality();
+
+        abstract boolean contains(char value);
+
+        abstract Chunk add(char value);
+
+        abstract Chunk remove(char value);
+
+        abstract Chunk and(Chunk other);
+
+        abstract int andCardinality(Chunk other);
+
+        abstract Chunk or(Chunk other);
+
+        abstract Chunk copy();
+
+        /**
+         * Writes values, after skipping some, into a buffer
+         *
+         * @param high   High bits added to every value
+         * @param skip   Values to skip
+         * @param buffer Destination
+         * @return Number of values written
+         */
+        abstract int read(int high, int skip, int[] buffer);
+    }
+
+    /**
+     * Sparse chunk: sorted values.
+     */
+    private static final class ArrayChunk extends Chunk {
+
+        private char[] values;
+        private int cardinality;
+
+        ArrayChunk(char[] values, int cardinality) {
+            this.values = values;
+            this.cardinality = cardinality;
+        }
+
+        @Override
+        int cardinality() {
+            return cardinality;
+        }
+
+        @Override
+        boolean contains(char value) {
+            return Arrays.binarySearch(values, 0, cardinality, value) >= 0;
+        }
+
+        @Override
+        Chunk add(char value) {
+            int at = Arrays.binarySearch(values, 0, cardinality, value);
+            if (at >= 0) {
+                return this;
+            }
+            if (cardinality == ARRAY_LIMIT) {
+                return toBitmap().add(value);
+            }
+            at = -at - 1;
+            if (cardinality == values.length) {
+                values = Arrays.copyOf(values, Math.min(ARRAY_LIMIT, cardinality * 2));
+            }
+            System.arraycopy(values, at, values, at + 1, cardinality - at);
+            values[at] = value;
+            cardinality++;
+            return this;
+        }
+
+        @Override
+        Chunk remove(char value) {
+            int at = Arrays.binarySearch(values, 0, cardinality, value);
+            if (at >= 0) {
+                System.arraycopy(values, at + 1, values, at, cardinality - at - 1);
+                cardinality--;
+            }
+            return this;
+        }
+
+        @Override
+        Chunk and(Chunk other) {
+            char[] result = new char[Math.min(cardinality, other.cardinality())];
+            int count = 0;
+            if (other instanceof ArrayChunk array) {
+                int i = 0;
+                int j = 0;
+                while (i < cardinality && j < array.cardinality) {
+                    if (values[i] < array.values[j]) {
+                        i++;
+                    } else if (values[i] > array.values[j]) {
+                        j++;
+                    } else {
+                        result[count++] = values[i];
+                        i++;
+                        j++;
+                    }
+                }
+            } else {
+                for (int i = 0; i < cardinality; i++) {
+                    if (other.contains(values[i])) {
+                        result[count++] = values[i];
+                    }
+                }
+            }
+            return new ArrayChunk(result, count);
+        }
+
+        @Override
+        int andCardinality(Chunk other) {
+            int count = 0;
+            if (other instanceof ArrayChunk array) {
+                int i = 0;
+                int j = 0;
+                while (i < cardinality && j < array.cardinality) {
+                    if (values[i] < array.values[j]) {
+                        i++;
+                    } else if (values[i] > array.values[j]) {
+                        j++;
+                    } else {
+                        count++;
+                        i++;
+                        j++;
+                    }
+                }
+            } else {
+                for (int i = 0; i < cardinality; i++) {
+                    if (other.contains(values[i])) {
+                        count++;
+                    }
+                }
+            }
+            return count;
+        }
+
+        @Override
+        Chunk or(Chunk other) {
+            if (other instanceof BitmapChunk) {
+                return other.or(this);
+            }
+            ArrayChunk array = (ArrayChunk) other;
+            char[] merged = new char[cardinality + array.cardinality];
+            int count = 0;
+            int i = 0;
+            int j = 0;
+            while (i < cardinality || j < array.cardinality) {
+                if (j >= array.cardinality || (i < cardinality && values[i] < array.values[j])) {
+                    merged[count++] = values[i++];
+                } else if (i >= cardinality || values[i] > array.values[j]) {
+                    merged[count++] = array.values[j++];
+                } else {
+                    merged[count++] = values[i++];
+                    j++;
+                }
+            }
+            ArrayChunk result = new ArrayChunk(merged, count);
+            return count > ARRAY_LIMIT ? result.toBitmap() : result;
+        }
+
+        @Override
+        Chunk copy() {
+            return new ArrayChunk(Arrays.copyOf(values, Math.max(4, cardinality)), cardinality);
+        }
+
+        @Override
+        int read(int high, int skip, int[] buffer) {
+            int count = Math.max(0, Math.min(buffer.length, cardinality - skip));
+            for (int i = 0; i < count; i++) {
+                buffer[i] = high | values[skip + i];
+            }
+            return count;
+        }
+
+        private BitmapChunk toBitmap() {
+            long[] words = new long[WORDS];
+            for (int i = 0; i < cardinality; i++) {
+                words[values[i] >>> 6] |= 1L << values[i];
+            }
+            return new BitmapChunk(words, cardinality);
+        }
+    }
+
+    /**
+     * Dense chunk: one bit per possible value.
+     */
+    private static final class BitmapChunk extends Chunk {
+
+        private final long[] words;
+        private int cardinality;
+
+        BitmapChunk(long[] words, int cardinality) {
+            this.words = words;
+            this.cardinality = cardinality;
+        }
+
+        @Override
+        int cardinality() {
+            return cardinality;
+        }
+
+        @Override
+        boolean contains(char value) {
+            return (words[value >>> 6] & (1L << value)) != 0;
+        }
+
+        @Override
+        Chunk add(char value) {
+            long before = words[value >>> 6];
+            words[value >>> 6] = before | (1L << value);
+            if (before != words[value >>> 6]) {
+                cardinality++;
+            }
+            return this;
+        }
+
+        @Override
+        Chunk remove(char value) {
+            long before = words[value >>> 6];
+            words[value >>> 6] = before & ~(1L << value);
+            if (before != words[value >>> 6]) {
+                cardinality--;
+            }
+            return cardinality <= ARRAY_LIMIT ? toArray() : this;
+        }
+
+        @Override
+        Chunk and(Chunk other) {
+            if (other instanceof ArrayChunk) {
+                return other.and(this);
+            }
+            long[] otherWords = ((BitmapChunk) other).words;
+            long[] result = new long[WORDS];
+            int count = 0;
+            for (int i = 0; i < WORDS; i++) {
+                result[i] = words[i] & otherWords[i];
+                count += Long.bitCount(result[i]);
+            }
+            BitmapChunk chunk = new BitmapChunk(result, count);
+            return count <= ARRAY_LIMIT ? chunk.toArray() : chunk;
+        }
+
+        @Override
+        int andCardinality(Chunk other) {
+            if (other instanceof ArrayChunk) {
+                return other.andCardinality(this);
+            }
+            long[] otherWords = ((BitmapChunk) other).words;
+            int count = 0;
+            for (int i = 0; i < WORDS; i++) {
+                count += Long.bitCount(words[i] & otherWords[i]);
+            }
+            return count;
+        }
+
+        @Override
+        Chunk or(Chunk other) {
+            long[] result = words.clone();
+            if (other instanceof ArrayChunk array) {
+                for (int i = 0; i < array.cardinality; i++) {
+                    result[array.values[i] >>> 6] |= 1L << array.values[i];
+                }
+            } else {
+                long[] otherWords = ((BitmapChunk) other).words;
+                for (int i = 0; i < WORDS; i++) {
+                    result[i] |= otherWords[i];
+                }
+            }
+            int count = 0;
+            for (long word : result) {
+                count += Long.bitCount(word);
+            }
+            return new BitmapChunk(result, count);
+        }
+
+        @Override
+        Chunk copy() {
+            return new BitmapChunk(words.clone(), cardinality);
+        }
+
+        @Override
+        int read(int high, int skip, int[] buffer) {
+            int count = 0;
+            for (int i = 0; i < WORDS && count < buffer.length; i++) {
+                long word = words[i];
+                if (skip >= Long.bitCount(word)) {
+                    skip -= Long.bitCount(word);
+                    continue;
+                }
+                while (word != 0 && count < buffer.length) {
+                    int bit = Long.numberOfTrailingZeros(word);
+                    word &= word - 1;
+                    if (skip > 0) {
+                        skip--;
+                    } else {
+                        buffer[count++] = high | (i << 6) | bit;
+                    }
+                }
+            }
+            return count;
+        }
+
+        private ArrayChunk toArray() {
+            char[] values = new char[Math.max(4, cardinality)];
+            int count = 0;
+            for (int i = 0; i < WORDS; i++) {
+                long word = words[i];
+                while (word != 0) {
+                    values[count++] = (char) ((i << 6) | Long.numberOfTrailingZeros(word));
+                    word &= word - 1;
+                }
+            }
+            return new ArrayChunk(values, count);
+        }
+    }
+}
@@ -0,0 +1,432 @@
+/**
+ * KATMALL Application
+ * tai.buivan@outlook.com Copyright (c) 2025 All rights reserved
+ */
+package com.en.katmall.co.catalog.infrastructure.facet;
+
+import lombok.Builder;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * In-memory faceted index of active products for category listing filters.
+ *
+ * <p>
+ * Every product gets an ordinal, and every facet value (category, brand,
+ * attribute value) keeps a {@link CompactBitmap} of the products that have
+ * it, as do the products in stock. A listing is the intersection of the
+ * category, stock and selected facet bitmaps; a price range narrows it by
+ * checking each remaining product's price. Several values of the same facet
+ * are alternatives (OR), different facets all apply (AND).
+ *
+ * <p>
+ * Facet counts are disjunctive: the counts of a facet apply every filter
+ * except that facet's own selection, so a shopper sees how many products
+ * choosing another brand or colour would give. Each count is one bitmap
+ * intersection cardinality; no product is visited.
+ *
+ * <p>
+ * Queries share a read lock; changes take the write lock briefly. A rebuild
+ * loads and builds without the lock, then replays changes made meanwhile.
+ *
+ * @author tai.buivan
+ * @version 1.0
+ */
+public class ProductFacetIndex {
+
+    private static final CompactBitmap EMPTY = new CompactBitmap();
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /** Guarded by lock */
+    private State state = new State();
+
+    /** Changes made while a rebuild is loading; guarded by lock */
+    private List<Consumer<State>> journal;
+
+    /**
+     * Replaces the whole index. Changes made while the products are loaded
+     * are applied on top. Rebuilds must not run concurrently.
+     *
+     * @param loader Loads every active product, in listing order
+     */
+    public void rebuild(Supplier<Collection<ProductFacets>> loader) {
+        lock.writeLock().lock();
+        try {
+            journal = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        State fresh = new State();
+        try {
+            loader.get().forEach(fresh::put);
+        } catch (RuntimeException e) {
+            swap(null);
+            throw e;
+        }
+        swap(fresh);
+    }
+
+    /**
+     * Adds or replaces a product
+     *
+     * @param product The product's facets
+     */
+    public void put(ProductFacets product) {
+        Objects.requireNonNull(product, "product must not be null");
+        change(current -> current.put(product));
+    }
+
+    /**
+     * Removes a product
+     *
+     * @param productId The product ID
+     */
+    public void remove(String productId) {
+        Objects.requireNonNull(productId, "productId must not be null");
+        change(current -> current.remove(productId));
+    }
+
+    /**
+     * Replaces the set of products in stock
+     *
+     * @param productIds IDs of the products with sellable stock
+     */
+    public void updateStock(Collection<String> productIds) {
+        change(current -> {
+            CompactBitmap inStock = new CompactBitmap();
+            for (String productId : productIds) {
+                Integer ordinal = current.ordinals.get(productId);
+                if (ordinal != null) {
+                    inStock.add(ordinal);
+                }
+            }
+            current.inStock = inStock;
+        });
+    }
+
+    /**
+     * Gets the number of indexed products
+     *
+     * @return Product count
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return state.ordinals.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Finds a page of products matching the filters, with facet counts
+     *
+     * @param query The filters and page
+     * @return Matching products and facet counts
+     */
+    public FacetResult search(FacetQuery query) {
+        Objects.requireNonNull(query, "query must not be null");
+        lock.readLock().lock();
+        try {
+            return search(state, query);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static FacetResult search(State current, FacetQuery query) {
+        CompactBitmap base = current.live;
+        if (query.categoryId() != null) {
+            base = base.and(current.categories.getOrDefault(query.categoryId(), EMPTY));
+        }
+        if (query.inStockOnly()) {
+            base = base.and(current.inStock);
+        }
+        if (query.minPrice() != null || query.maxPrice() != null) {
+            long min = query.minPrice() != null ? toMinorUnits(query.minPrice()) : Long.MIN_VALUE;
+            long max = query.maxPrice() != null ? toMinorUnits(query.maxPrice()) : Long.MAX_VALUE;
+            base = base.filter(ordinal -> {
+                Long price = current.entries.get(ordinal).price();
+                return price != null && price >= min && price <= max;
+            });
+        }
+
+        CompactBitmap brandFilter = null;
+        if (query.brandIds() != null && !query.brandIds().isEmpty()) {
+            brandFilter = new CompactBitmap();
+            for (String brandId : query.brandIds()) {
+                brandFilter = brandFilter.or(current.brands.getOrDefault(brandId, EMPTY));
+            }
+        }
+        Map<String, CompactBitmap> valueFilters = new HashMap<>();
+        if (query.attributeValueIds() != null) {
+            for (String valueId : query.attributeValueIds()) {
+                // Unknown values form a filter of their own that matches nothing
+                String attributeId = current.attributeOfValue.getOrDefault(valueId, valueId);
+                CompactBitmap values = current.valuesByAttribute.getOrDefault(attributeId, Map.of())
+                        .getOrDefault(valueId, EMPTY);
+                valueFilters.merge(attributeId, values, CompactBitmap::or);
+            }
+        }
+
+        CompactBitmap withValues = base;
+        for (CompactBitmap filter : valueFilters.values()) {
+            withValues = withValues.and(filter);
+        }
+        CompactBitmap result = brandFilter != null ? withValues.and(brandFilter) : withValues;
+
+        Map<String, Integer> brandCounts = counts(withValues, current.brands);
+        Map<String, Map<String, Integer>> attributeCounts = new LinkedHashMap<>();
+        CompactBitmap withBrand = brandFilter != null ? base.and(brandFilter) : base;
+        current.valuesByAttribute.forEach((attributeId, values) -> {
+            CompactBitmap context = withBrand;
+            for (Map.Entry<String, CompactBitmap> filter : valueFilters.entrySet()) {
+                if (!filter.getKey().equals(attributeId)) {
+                    context = context.and(filter.getValue());
+                }
+            }
+            Map<String, Integer> counts = counts(context, values);
+            if (!counts.isEmpty()) {
+                attributeCounts.put(attributeId, counts);
+            }
+        });
+
+        List<String> productIds = new ArrayList<>();
+        for (int ordinal : result.page(query.offset(), query.limit())) {
+            productIds.add(current.entries.get(ordinal).facets().id());
+        }
+        return new FacetResult(result.cardinality(), productIds, brandCounts, attributeCounts);
+    }
+
+    /**
+     * Counts the products of a context that have each facet value
+     *
+     * @param context Products the counts apply to
+     * @param values  Bitmaps by facet value
+     * @return Non-zero counts, largest first
+     */
+    private static Map<String, Integer> counts(CompactBitmap context, Map<String, CompactBitmap> values) {
+        if (context.isEmpty()) {
+            return Map.of();
+        }
+        List<Map.Entry<String, Integer>> counts = new ArrayList<>();
+        values.forEach((value, bitmap) -> {
+            int count = context.andCardinality(bitmap);
+            if (count > 0) {
+                counts.add(Map.entry(value, count));
+            }
+        });
+        counts.sort(Map.Entry.<String, Integer>comparingByValue(Comparator.reverseOrder())
+                .thenComparing(Map.Entry.comparingByKey()));
+        Map<String, Integer> sorted = new LinkedHashMap<>();
+        counts.forEach(entry -> sorted.put(entry.getKey(), entry.getValue()));
+        return sorted;
+    }
+
+    /**
+     * Ends a rebuild, replaying journalled changes onto the new state.
+     *
+     * @param fresh New state, or null to keep the current one
+     */
+    private void swap(State fresh) {
+        lock.writeLock().lock();
+        try {
+            if (fresh != null) {
+                journal.forEach(change -> change.accept(fresh));
+                state = fresh;
+            }
+            journal = null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Applies a change, and journals it while a rebuild is loading.
+     *
+     * @param change The change
+     */
+    private void change(Consumer<State> change) {
+        lock.writeLock().lock();
+        try {
+            change.accept(state);
+            if (journal != null) {
+                journal.add(change);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private static long toMinorUnits(BigDecimal amount) {
+        return amount.movePointRight(2).setScale(0, RoundingMode.HALF_UP).longValue();
+    }
+
+    /**
+     * Facets of one product.
+     *
+     * @param id              Product ID
+     * @param categoryIds     The product's category and its ancestors
+     * @param brandId         Brand ID, may be null
+     * @param attributeValues Attribute value IDs of the active variants,
+     *                        mapped to their attribute ID
+     * @param price           Lowest active variant price, or the base price;
+     *                        may be null
+     * @param inStock         Whether any active variant has sellable stock
+     */
+    public record ProductFacets(String id, Set<String> categoryIds, String brandId,
+            Map<String, String> attributeValues, BigDecimal price, boolean inStock) {
+    }
+
+    /**
+     * Listing filters and page.
+     *
+     * @param categoryId        Category, including its subcategories; null for all
+     * @param brandIds          Accepted brands; empty for all
+     * @param attributeValueIds Accepted attribute values; values of the same
+     *                          attribute are alternatives
+     * @param minPrice          Lowest price, inclusive; may be null
+     * @param maxPrice          Highest price, inclusive; may be null
+     * @param inStockOnly       Whether to hide products without stock
+     * @param offset            Products to skip
+     * @param limit             Page size
+     */
+    @Builder
+    public record FacetQuery(String categoryId, Set<String> brandIds, Set<String> attributeValueIds,
+            BigDecimal minPrice, BigDecimal maxPrice, boolean inStockOnly, int offset, int limit) {
+    }
+
+    /**
+     * A page of matching products and the facet counts.
+     *
+     * @param total           Number of matching products
+     * @param productIds      Product IDs of the page, in listing order
+     * @param brandCounts     Products per brand ID
+     * @param attributeCounts Products per attribute value ID, by attribute ID
+     */
+    public record FacetResult(int total, List<String> productIds, Map<String, Integer> brandCounts,
+            Map<String, Map<String, Integer>> attributeCounts) {
+    }
+
+    /**
+     * Indexed product and its price in minor units.
+     */
+    private record Entry(ProductFacets facets, Long price) {
+    }
+
+    /**
+     * Ordinals, bitmaps and per-ordinal entries.
+     */
+    private static final class State {
+
+        private final Map<String, Integer> ordinals = new HashMap<>();
+
+        /** Entries by ordinal; null once removed */
+        private final List<Entry> entries = new ArrayList<>();
+
+        private final CompactBitmap live = new CompactBitmap();
+        private final Map<String, CompactBitmap> categories = new HashMap<>();
+        private final Map<String, CompactBitmap> brands = new HashMap<>();
+        private final Map<String, Map<String, CompactBitmap>> valuesByAttribute = new HashMap<>();
+        private final Map<String, String> attributeOfValue = new HashMap<>();
+        private CompactBitmap inStock = new CompactBitmap();
+
+        void put(ProductFacets product) {
+            Integer existing = ordinals.get(product.id());
+            int ordinal;
+            if (existing != null) {
+                ordinal = existing;
+                unlink(ordinal, entries.get(ordinal).facets());
+            } else {
+                ordinal = entries.size();
+                entries.add(null);
+                ordinals.put(product.id(), ordinal);
+            }
+            Long price = product.price() != null ? toMinorUnits(product.price()) : null;
+            entries.set(ordinal, new Entry(product, price));
+            live.add(ordinal);
+            if (product.categoryIds() != null) {
+                product.categoryIds().forEach(id -> bitmap(categories, id).add(ordinal));
+            }
+            if (product.brandId() != null) {
+                bitmap(brands, product.brandId()).add(ordinal);
+            }
+            if (product.attributeValues() != null) {
+                product.attributeValues().forEach((valueId, attributeId) -> {
+                    attributeOfValue.put(valueId, attributeId);
+                    bitmap(valuesByAttribute.computeIfAbsent(attributeId, id -> new HashMap<>()), valueId)
+                            .add(ordinal);
+                });
+            }
+            if (product.inStock()) {
+                inStock.add(ordinal);
+            } else {
+                inStock.remove(ordinal);
+            }
+        }
+
+        void remove(String productId) {
+            Integer ordinal = ordinals.remove(productId);
+            if (ordinal == null) {
+                return;
+            }
+            unlink(ordinal, entries.get(ordinal).facets());
+            entries.set(ordinal, null);
+            live.remove(ordinal);
+            inStock.remove(ordinal);
+        }
+
+        /**
+         * Clears an ordinal from the facet bitmaps of its previous version,
+         * dropping facet values no product has any more.
+         */
+        private void unlink(int ordinal, ProductFacets previous) {
+            if (previous.categoryIds() != null) {
+                previous.categoryIds().forEach(id -> clear(categories, id, ordinal));
+            }
+            if (previous.brandId() != null) {
+                clear(brands, previous.brandId(), ordinal);
+            }
+            if (previous.attributeValues() != null) {
+                previous.attributeValues().forEach((valueId, attributeId) -> {
+                    Map<String, CompactBitmap> values = valuesByAttribute.get(attributeId);
+                    if (values != null) {
+                        clear(values, valueId, ordinal);
+                        if (values.isEmpty()) {
+                            valuesByAttribute.remove(attributeId);
+                        }
+                    }
+                });
+            }
+        }
+
+        private static CompactBitmap bitmap(Map<String, CompactBitmap> bitmaps, String key) {
+            return bitmaps.computeIfAbsent(key, k -> new CompactBitmap());
+        }
+
+        private static void clear(Map<String, CompactBitmap> bitmaps, String key, int ordinal) {
+            CompactBitmap bitmap = bitmaps.get(key);
+            if (bitmap != null) {
+                bitmap.remove(ordinal);
+                if (bitmap.isEmpty()) {
+                    bitmaps.remove(key);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,282 @@
+/**
+ * KATMALL Application
+ * tai.buivan@outlook.com Copyright (c) 2025 All rights reserved
+ */
+package com.en.katmall.co.catalog.infrastructure.facet;
+
+import com.en.katmall.co.catalog.infrastructure.facet.ProductFacetIndex.FacetQuery;
+import com.en.katmall.co.catalog.infrastructure.facet.ProductFacetIndex.FacetResult;
+import com.en.katmall.co.catalog.infrastructure.facet.ProductFacetIndex.ProductFacets;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Keeps the {@link ProductFacetIndex} in step with the catalog tables.
+ *
+ * <p>
+ * The index is built at startup from {@code products}, the category tree
+ * path, the active variants' prices and {@code variant_attribute_values},
+ * and rebuilt at a slow interval so changes made on other nodes are picked
+ * up. A product saved or deleted on this node is re-read and applied once
+ * the surrounding transaction commits. Stock moves outside the catalog, so
+ * the in-stock set is refreshed on its own, shorter interval.
+ *
+ * <p>
+ * Metrics: {@code catalog.facets.products} (indexed products).
+ *
+ * @author tai.buivan
+ * @version 1.0
+ */
+@Component
+@Slf4j
+public class ProductFacetIndexer {
+
+    private static final String SQL_SELECT_PRODUCTS = """
+            SELECT p.id, p.category_id, c.tree_path, p.brand_id,
+                   COALESCE((SELECT MIN(v.price) FROM product_variants v
+                              WHERE v.product_id = p.id AND v.is_active = TRUE), p.base_price) AS price
+              FROM products p
+              LEFT JOIN categories c ON c.id = p.category_id
+             WHERE p.is_active = TRUE AND p.deleted_at IS NULL
+             ORDER BY p.created_at DESC, p.id""";
+
+    private static final String SQL_SELECT_ATTRIBUTE_VALUES = """
+            SELECT DISTINCT v.product_id, av.attribute_id, av.id AS value_id
+              FROM product_variants v
+              JOIN variant_attribute_values vav ON vav.variant_id = v.id
+              JOIN attribute_values av ON av.id = vav.attribute_value_id
+             WHERE v.is_active = TRUE""";
+
+    private static final String SQL_SELECT_IN_STOCK = """
+            SELECT v.product_id
+              FROM product_variants v
+              JOIN inventory_stocks s ON s.variant_id = v.id
+             WHERE v.is_active = TRUE
+             GROUP BY v.product_id
+            HAVING SUM(s.quantity_on_hand - s.quantity_reserved) > 0""";
+
+    private static final String SQL_SELECT_PRODUCT = """
+            SELECT p.id, p.category_id, c.tree_path, p.brand_id,
+                   COALESCE((SELECT MIN(v.price) FROM product_variants v
+                              WHERE v.product_id = p.id AND v.is_active = TRUE), p.base_price) AS price
+              FROM products p
+              LEFT JOIN categories c ON c.id = p.category_id
+             WHERE p.id = ? AND p.is_active = TRUE AND p.deleted_at IS NULL""";
+
+    private static final String SQL_SELECT_PRODUCT_ATTRIBUTE_VALUES = """
+            SELECT DISTINCT v.product_id, av.attribute_id, av.id AS value_id
+              FROM product_variants v
+              JOIN variant_attribute_values vav ON vav.variant_id = v.id
+              JOIN attribute_values av ON av.id = vav.attribute_value_id
+             WHERE v.product_id = ? AND v.is_active = TRUE""";
+
+    private static final String SQL_SELECT_PRODUCT_IN_STOCK = """
+            SELECT COALESCE(SUM(s.quantity_on_hand - s.quantity_reserved), 0)
+              FROM product_variants v
+              JOIN inventory_stocks s ON s.variant_id = v.id
+             WHERE v.product_id = ? AND v.is_active = TRUE""";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ProductFacetIndex index = new ProductFacetIndex();
+
+    /**
+     * Creates the indexer and an empty index
+     *
+     * @param jdbcTemplate  JDBC template
+     * @param meterRegistry Metrics registry
+     */
+    public ProductFacetIndexer(JdbcTemplate jdbcTemplate, MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        Gauge.builder("catalog.facets.products", index, ProductFacetIndex::size)
+                .description("Products in the faceted catalog index")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Rebuilds the index from the database.
+     * Runs at startup and then at the configured interval.
+     */
+    @Scheduled(initialDelay = 0, fixedDelayString = "${catalog.facets.refresh-interval-ms:3600000}")
+    public void reload() {
+        try {
+            long start = System.nanoTime();
+            index.rebuild(this::loadAll);
+            log.info("Built product facet index with {} products in {} ms", index.size(),
+                    (System.nanoTime() - start) / 1_000_000);
+        } catch (DataAccessException e) {
+            log.error("Could not build product facet index: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Refreshes which products have sellable stock.
+     */
+    @Scheduled(fixedDelayString = "${catalog.facets.stock-refresh-interval-ms:60000}")
+    public void refreshStock() {
+        try {
+            index.updateStock(jdbcTemplate.queryForList(SQL_SELECT_IN_STOCK, String.class));
+        } catch (DataAccessException e) {
+            log.error("Could not refresh product stock facet: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Re-reads a product once the current transaction commits and adds,
+     * replaces or removes it in the index.
+     *
+     * @param productId The saved product ID
+     */
+    public void reindex(String productId) {
+        Objects.requireNonNull(productId, "productId must not be null");
+        afterCommit(() -> {
+            Map<String, Set<String>> categoryIds = new HashMap<>();
+            Map<String, Map<String, String>> attributeValues = new HashMap<>();
+            Map<String, ProductRow> products = new LinkedHashMap<>();
+            jdbcTemplate.query(SQL_SELECT_PRODUCT, rs -> {
+                collectProduct(products, categoryIds, rs);
+            }, productId);
+            ProductRow product = products.get(productId);
+            if (product == null) {
+                index.remove(productId);
+                return;
+            }
+            jdbcTemplate.query(SQL_SELECT_PRODUCT_ATTRIBUTE_VALUES, rs -> {
+                collectAttributeValue(attributeValues, rs);
+            }, productId);
+            Long available = jdbcTemplate.queryForObject(SQL_SELECT_PRODUCT_IN_STOCK, Long.class, productId);
+            boolean inStock = available != null && available > 0;
+            index.put(product.toFacets(attributeValues, inStock));
+        });
+    }
+
+    /**
+     * Removes a deleted product once the current transaction commits.
+     *
+     * @param productId The product ID
+     */
+    public void remove(String productId) {
+        Objects.requireNonNull(productId, "productId must not be null");
+        afterCommit(() -> index.remove(productId));
+    }
+
+    /**
+     * Finds a page of products matching listing filters, with facet counts
+     *
+     * @param query The filters and page
+     * @return Matching products and facet counts
+     */
+    public FacetResult search(FacetQuery query) {
+        return index.search(query);
+    }
+
+    /**
+     * Loads every active product with its facets.
+     *
+     * @return Products in listing order
+     */
+    private List<ProductFacets> loadAll() {
+        Map<String, Set<String>> categoryIds = new HashMap<>();
+        Map<String, ProductRow> products = new LinkedHashMap<>();
+        jdbcTemplate.query(SQL_SELECT_PRODUCTS, rs -> {
+            collectProduct(products, categoryIds, rs);
+        });
+        Map<String, Map<String, String>> attributeValues = new HashMap<>();
+        jdbcTemplate.query(SQL_SELECT_ATTRIBUTE_VALUES, rs -> {
+            collectAttributeValue(attributeValues, rs);
+        });
+        Set<String> inStock = new HashSet<>(jdbcTemplate.queryForList(SQL_SELECT_IN_STOCK, String.class));
+        return products.values().stream()
+                .map(product -> product.toFacets(attributeValues, inStock.contains(product.id())))
+                .toList();
+    }
+
+    /**
+     * Reads a product row. The category and every ancestor on its tree path
+     * are listed, so a parent category's listing includes its subcategories.
+     *
+     * @param products    Products by ID, in row order
+     * @param categoryIds Shared category sets by category ID
+     * @param rs          Current row
+     * @throws SQLException if a column cannot be read
+     */
+    private static void collectProduct(Map<String, ProductRow> products, Map<String, Set<String>> categoryIds,
+            ResultSet rs) throws SQLException {
+        String categoryId = rs.getString("category_id");
+        String treePath = rs.getString("tree_path");
+        Set<String> categories = categoryId == null ? Set.of()
+                : categoryIds.computeIfAbsent(categoryId, id -> {
+                    Set<String> ids = new LinkedHashSet<>();
+                    if (treePath != null) {
+                        for (String ancestor : treePath.split("/")) {
+                            if (!ancestor.isBlank()) {
+                                ids.add(ancestor);
+                            }
+                        }
+                    }
+                    ids.add(id);
+                    return Set.copyOf(ids);
+                });
+        String id = rs.getString("id");
+        products.put(id, new ProductRow(id, categories, rs.getString("brand_id"), rs.getBigDecimal("price")));
+    }
+
+    private static void collectAttributeValue(Map<String, Map<String, String>> attributeValues, ResultSet rs)
+            throws SQLException {
+        attributeValues.computeIfAbsent(rs.getString("product_id"), id -> new HashMap<>())
+                .put(rs.getString("value_id"), rs.getString("attribute_id"));
+    }
+
+    /**
+     * Runs an index change after the current transaction commits,
+     * or immediately if no transaction is active.
+     *
+     * @param change The index change
+     */
+    private void afterCommit(Runnable change) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            change.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                try {
+                    change.run();
+                } catch (DataAccessException e) {
+                    log.warn("Could not update product facet index; fixed on the next rebuild: {}",
+                            e.getMessage());
+                }
+            }
+        });
+    }
+
+    /**
+     * Product columns read before its attribute values and stock.
+     */
+    private record ProductRow(String id, Set<String> categoryIds, String brandId, BigDecimal price) {
+
+        ProductFacets toFacets(Map<String, Map<String, String>> attributeValues, boolean inStock) {
+            return new ProductFacets(id, categoryIds, brandId, attributeValues.getOrDefault(id, Map.of()),
+                    price, inStock);
+        }
+    }
+}
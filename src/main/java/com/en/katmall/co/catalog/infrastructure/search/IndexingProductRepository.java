@@ -0,0 +1,123 @@
+/**
+ * KATMALL Application
+ * tai.buivan@outlook.com Copyright (c) 2025 All rights reserved
+ */
+package com.en.katmall.co.catalog.infrastructure.search;
+
+import com.en.katmall.co.catalog.domain.model.Product;
+import com.en.katmall.co.catalog.domain.model.valueobject.Slug;
+import com.en.katmall.co.catalog.domain.repository.ProductRepository;
+import com.en.katmall.co.catalog.infrastructure.facet.ProductFacetIndexer;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Decorator for {@link ProductRepository} that keeps the product search and
+ * facet indexes up to date. Every save or delete schedules the product for
+ * re-indexing once the surrounding transaction commits; reads pass through
+ * unchanged.
+ *
+ * @author tai.buivan
+ * @version 1.0
+ */
+public class IndexingProductRepository implements ProductRepository {
+
+    /** Underlying repository */
+    private final ProductRepository delegate;
+
+    private final ProductSearchIndexer searchIndexer;
+    private final ProductFacetIndexer facetIndexer;
+
+    /**
+     * Creates an indexing decorator around a product repository
+     *
+     * @param delegate      The repository to decorate
+     * @param searchIndexer Search indexer notified of changes
+     * @param facetIndexer  Facet indexer notified of changes
+     */
+    public IndexingProductRepository(ProductRepository delegate, ProductSearchIndexer searchIndexer,
+            ProductFacetIndexer facetIndexer) {
+        this.delegate = Objects.requireNonNull(delegate, "delegate must not be null");
+        this.searchIndexer = Objects.requireNonNull(searchIndexer, "searchIndexer must not be null");
+        this.facetIndexer = Objects.requireNonNull(facetIndexer, "facetIndexer must not be null");
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * Re-indexes the product after commit. Names, variants and attribute
+     * values live in tables saved alongside the product, so the indexers
+     * re-read them rather than using the aggregate.
+     */
+    @Override
+    public Product save(Product product) {
+        Product saved = delegate.save(product);
+        searchIndexer.reindex(saved.getId());
+        facetIndexer.reindex(saved.getId());
+        return saved;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<Product> findById(String id) {
+        return delegate.findById(id);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<Product> findBySlug(Slug slug) {
+        return delegate.findBySlug(slug);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Product> findByCategoryId(String categoryId) {
+        return delegate.findByCategoryId(categoryId);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Product> findByBrandId(String brandId) {
+        return delegate.findByBrandId(brandId);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Product> findAllActive() {
+        return delegate.findAllActive();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean existsBySlug(Slug slug) {
+        return delegate.existsBySlug(slug);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * Removes the product from the search and facet indexes after commit.
+     */
+    @Override
+    public void delete(Product product) {
+        delegate.delete(product);
+        searchIndexer.remove(product.getId());
+        facetIndexer.remove(product.getId());
+    }
+}
@@ -0,0 +1,65 @@
+/**
+ * KATMALL Application
+ * tai.buivan@outlook.com Copyright (c) 2025 All rights reserved
+ */
+package com.en.katmall.co.catalog.infrastructure.search;
+
+import com.en.katmall.co.catalog.domain.repository.ProductRepository;
+import com.en.katmall.co.catalog.infrastructure.facet.ProductFacetIndexer;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.core.Ordered;
+import org.springframework.stereotype.Component;
+
+/**
+ * Wraps the {@link ProductRepository} bean in an
+ * {@link IndexingProductRepository} so every save reaches the search and
+ * facet indexes, whichever use case makes it.
+ *
+ * @author tai.buivan
+ * @version 1.0
+ */
+@Component
+public class ProductRepositorySearchPostProcessor implements BeanPostProcessor, Ordered {
+
+    /** Resolved lazily so the indexers are not created during post-processor registration */
+    private final ObjectProvider<ProductSearchIndexer> searchIndexer;
+    private final ObjectProvider<ProductFacetIndexer> facetIndexer;
+
+    /**
+     * Creates the post processor
+     *
+     * @param searchIndexer Lazy search indexer provider
+     * @param facetIndexer  Lazy facet indexer provider
+     */
+    public ProductRepositorySearchPostProcessor(ObjectProvider<ProductSearchIndexer> searchIndexer,
+            ObjectProvider<ProductFacetIndexer> facetIndexer) {
+        this.searchIndexer = searchIndexer;
+        this.facetIndexer = facetIndexer;
+    }
+
+    /**
+     * Decorates product repository beans after all other proxies are applied.
+     *
+     * @param bean     The initialized bean
+     * @param beanName The bean name
+     * @return The decorated repository, or the bean unchanged
+     */
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof ProductRepository repository && !(bean instanceof IndexingProductRepository)) {
+            return new IndexingProductRepository(repository, searchIndexer.getObject(), facetIndexer.getObject());
+        }
+        return bean;
+    }
+
+    /**
+     * Runs last so the decorator wraps transactional proxies.
+     *
+     * @return Lowest precedence
+     */
+    @Override
+    public int getOrder() {
+        return Ordered.LOWEST_PRECEDENCE;
+    }
+}
@@ -0,0 +1,485 @@
+/**
+ * KATMALL Application
+ * tai.buivan@outlook.com Copyright (c) 2025 All rights reserved
+ */
+package com.en.katmall.co.catalog.infrastructure.search;
+
+import com.en.katmall.co.shared.utils.StringUtils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * In-process inverted index over product names for prefix and typeahead
+ * search.
+ *
+ * <p>
+ * Text is folded with {@link StringUtils#foldDiacritics(String)}, the folding
+ * behind product slugs, so "dien thoai", "Điện thoại" and "ĐIỆN THOẠI" find
+ * the same products. Every word of a query must match a whole term except
+ * the last, which matches any term starting with it.
+ *
+ * <p>
+ * The index is an immutable segment (sorted term dictionary and postings of
+ * document ordinals) plus a small delta of documents changed since the
+ * segment was built. Changes copy the delta and swap the state with one
+ * volatile write, so queries never lock. The delta is merged into a new
+ * segment by {@link #compact()}, which does not block changes while it
+ * builds. A rebuild replaces both: its delta holds only the changes made
+ * while its documents were loaded.
+ *
+ * <p>
+ * Results keep index order: changed documents first, then the segment in
+ * the order its documents were loaded by {@link #rebuild(Supplier)}.
+ *
+ * @author tai.buivan
+ * @version 1.0
+ */
+public class ProductSearchIndex {
+
+    private final int maxExpansions;
+
+    /** Current segment and delta; replaced as a whole */
+    private volatile State state = new State(Segment.build(List.of()), Map.of());
+
+    /** Changes made while a rebuild is loading, in order; guarded by this */
+    private Map<String, Change> journal;
+
+    /**
+     * Creates an empty index
+     *
+     * @param maxExpansions Maximum number of terms a query prefix expands to;
+     *                      the most frequent are kept
+     */
+    public ProductSearchIndex(int maxExpansions) {
+        this.maxExpansions = Math.max(1, maxExpansions);
+    }
+
+    /**
+     * Replaces the whole index. Changes made while the documents are loaded
+     * are kept on top of the new segment; older pending changes are dropped,
+     * since the loaded documents already include them. Rebuilds must not run
+     * concurrently.
+     *
+     * @param loader Loads every document, in result order
+     */
+    public void rebuild(Supplier<Collection<SearchDocument>> loader) {
+        synchronized (this) {
+            journal = new LinkedHashMap<>();
+        }
+        Segment segment;
+        try {
+            segment = Segment.build(loader.get());
+        } catch (RuntimeException e) {
+            synchronized (this) {
+                journal = null;
+            }
+            throw e;
+        }
+        synchronized (this) {
+            state = new State(segment, journal);
+            journal = null;
+        }
+    }
+
+    /**
+     * Adds or replaces a document
+     *
+     * @param document The document
+     */
+    public synchronized void put(SearchDocument document) {
+        Objects.requireNonNull(document, "document must not be null");
+        apply(document.id(), new Change(document, tokenize(document.text())));
+    }
+
+    /**
+     * Removes a document
+     *
+     * @param id The document ID
+     */
+    public synchronized void remove(String id) {
+        Objects.requireNonNull(id, "id must not be null");
+        apply(id, new Change(null, null));
+    }
+
+    /**
+     * Merges pending changes into a new segment. Changes made while the
+     * segment is built stay in the delta. The result is dropped if a rebuild
+     * replaced the segment in the meantime.
+     */
+    public void compact() {
+        State base = state;
+        if (base.delta().isEmpty()) {
+            return;
+        }
+        List<SearchDocument> documents = new ArrayList<>(base.segment().size() + base.delta().size());
+        List<Change> changes = new ArrayList<>(base.delta().values());
+        for (int i = changes.size() - 1; i >= 0; i--) {
+            if (changes.get(i).document() != null) {
+                documents.add(changes.get(i).document());
+            }
+        }
+        for (SearchDocument document : base.segment().documents()) {
+            if (!base.delta().containsKey(document.id())) {
+                documents.add(document);
+            }
+        }
+        Segment segment = Segment.build(documents);
+        synchronized (this) {
+            if (state.segment() != base.segment()) {
+                return;
+            }
+            Map<String, Change> delta = new LinkedHashMap<>(state.delta());
+            // Drop changes the new segment already has; later ones stay pending
+            base.delta().forEach((id, change) -> {
+                if (delta.get(id) == change) {
+                    delta.remove(id);
+                }
+            });
+            state = new State(segment, delta);
+        }
+    }
+
+    /**
+     * Gets the number of changes not yet merged into the segment
+     *
+     * @return Pending changes
+     */
+    public int getPendingChanges() {
+        return state.delta().size();
+    }
+
+    /**
+     * Gets the number of documents in the segment, as of the last rebuild or
+     * compaction
+     *
+     * @return Segment size
+     */
+    public int getSegmentSize() {
+        return state.segment().size();
+    }
+
+    /**
+     * Finds documents matching a query
+     *
+     * @param query The query as typed
+     * @param limit Maximum number of results
+     * @return Matching documents in index order
+     */
+    public List<SearchDocument> search(String query, int limit) {
+        String[] tokens = tokenizeQuery(query);
+        if (tokens.length == 0 || limit <= 0) {
+            return List.of();
+        }
+        String[] exact = Arrays.copyOf(tokens, tokens.length - 1);
+        String prefix = tokens[tokens.length - 1];
+        State current = state;
+
+        List<SearchDocument> results = new ArrayList<>(Math.min(limit, 64));
+        List<Change> changes = new ArrayList<>(current.delta().values());
+        for (int i = changes.size() - 1; i >= 0 && results.size() < limit; i--) {
+            Change change = changes.get(i);
+            if (change.document() != null && change.matches(exact, prefix)) {
+                results.add(change.document());
+            }
+        }
+        if (results.size() < limit) {
+            current.segment().search(exact, prefix, maxExpansions, limit, current.delta(), results);
+        }
+        return results;
+    }
+
+    /**
+     * Splits folded text into distinct terms
+     *
+     * @param text The text
+     * @return Sorted distinct terms
+     */
+    static String[] tokenize(String text) {
+        Set<String> terms = new LinkedHashSet<>(Arrays.asList(tokenizeQuery(text)));
+        String[] sorted = terms.toArray(new String[0]);
+        Arrays.sort(sorted);
+        return sorted;
+    }
+
+    /**
+     * Splits folded text into words, keeping their order
+     *
+     * @param text The text
+     * @return Words; empty if the text has none
+     */
+    private static String[] tokenizeQuery(String text) {
+        if (text == null || text.isBlank()) {
+            return new String[0];
+        }
+        String folded = StringUtils.foldDiacritics(text);
+        List<String> words = new ArrayList<>();
+        int start = -1;
+        for (int i = 0; i <= folded.length(); i++) {
+            boolean word = i < folded.length() && Character.isLetterOrDigit(folded.charAt(i));
+            if (word && start < 0) {
+                start = i;
+            } else if (!word && start >= 0) {
+                words.add(folded.substring(start, i));
+                start = -1;
+            }
+        }
+        return words.toArray(new String[0]);
+    }
+
+    /**
+     * Records a change at the end of a copy of the delta, and in the journal
+     * while a rebuild is loading. Must be called while holding the monitor.
+     *
+     * @param id     Document ID
+     * @param change The change
+     */
+    private void apply(String id, Change change) {
+        Map<String, Change> delta = new LinkedHashMap<>(state.delta());
+        delta.remove(id);
+        delta.put(id, change);
+        state = new State(state.segment(), delta);
+        if (journal != null) {
+            journal.remove(id);
+            journal.put(id, change);
+        }
+    }
+
+    /**
+     * A searchable product.
+     *
+     * @param id   Product ID
+     * @param slug Product slug
+     * @param name Display name
+     * @param text Indexed text: the name in every language
+     */
+    public record SearchDocument(String id, String slug, String name, String text) {
+    }
+
+    /**
+     * Segment and the changes made since it was built, in order.
+     */
+    private record State(Segment segment, Map<String, Change> delta) {
+    }
+
+    /**
+     * A changed document and its terms; a null document is a removal.
+     */
+    private record Change(SearchDocument document, String[] terms) {
+
+        boolean matches(String[] exact, String prefix) {
+            for (String term : exact) {
+                if (Arrays.binarySearch(terms, term) < 0) {
+                    return false;
+                }
+            }
+            int at = Arrays.binarySearch(terms, prefix);
+            return at >= 0 || (-at - 1 < terms.length && terms[-at - 1].startsWith(prefix));
+        }
+    }
+
+    /**
+     * Immutable term dictionary and postings.
+     */
+    private static final class Segment {
+
+        private final SearchDocument[] documents;
+        private final String[] terms;
+
+        /** Postings per term: ascending document ordinals */
+        private final int[][] postings;
+
+        private Segment(SearchDocument[] documents, String[] terms, int[][] postings) {
+            this.documents = documents;
+            this.terms = terms;
+            this.postings = postings;
+        }
+
+        static Segment build(Collection<SearchDocument> source) {
+            SearchDocument[] documents = source.toArray(new SearchDocument[0]);
+            Map<String, GrowingList> lists = new HashMap<>();
+            for (int ordinal = 0; ordinal < documents.length; ordinal++) {
+                for (String term : tokenize(documents[ordinal].text())) {
+                    lists.computeIfAbsent(term, t -> new GrowingList()).add(ordinal);
+                }
+            }
+            String[] terms = lists.keySet().toArray(new String[0]);
+            Arrays.sort(terms);
+            int[][] postings = new int[terms.length][];
+            for (int i = 0; i < terms.length; i++) {
+                postings[i] = lists.get(terms[i]).toArray();
+            }
+            return new Segment(documents, terms, postings);
+        }
+
+        int size() {
+            return documents.length;
+        }
+
+        List<SearchDocument> documents() {
+            return Arrays.asList(documents);
+        }
+
+        /**
+         * Adds segment matches to the results until the limit is reached,
+         * skipping documents that were changed since the segment was built.
+         */
+        void search(String[] exact, String prefix, int maxExpansions, int limit,
+                Map<String, Change> changed, List<SearchDocument> results) {
+            int[][] required = new int[exact.length][];
+            for (int i = 0; i < exact.length; i++) {
+                int at = Arrays.binarySearch(terms, exact[i]);
+                if (at < 0) {
+                    return;
+                }
+                required[i] = postings[at];
+            }
+            int[][] expanded = expand(prefix, maxExpansions);
+            if (expanded.length == 0) {
+                return;
+            }
+            Arrays.sort(required, (a, b) -> Integer.compare(a.length, b.length));
+
+            long expandedSize = 0;
+            for (int[] list : expanded) {
+                expandedSize += list.length;
+            }
+            if (required.length > 0 && required[0].length < expandedSize) {
+                driveByRequired(required, expanded, limit, changed, results);
+            } else {
+                driveByPrefix(required, expanded, limit, changed, results);
+            }
+        }
+
+        /**
+         * Walks the shortest exact-term list and checks the others.
+         */
+        private void driveByRequired(int[][] required, int[][] expanded, int limit,
+                Map<String, Change> changed, List<SearchDocument> results) {
+            int[] cursors = new int[required.length];
+            for (int ordinal : required[0]) {
+                if (results.size() >= limit) {
+                    return;
+                }
+                if (containsAll(required, cursors, 1, ordinal) && containsAny(expanded, ordinal)) {
+                    collect(ordinal, changed, results);
+                }
+            }
+        }
+
+        /**
+         * Merges the prefix lists in ordinal order and checks the exact terms.
+         */
+        private void driveByPrefix(int[][] required, int[][] expanded, int limit,
+                Map<String, Change> changed, List<SearchDocument> results) {
+            int[] positions = new int[expanded.length];
+            PriorityQueue<Integer> heads = new PriorityQueue<>(expanded.length,
+                    (a, b) -> Integer.compare(expanded[a][positions[a]], expanded[b][positions[b]]));
+            for (int i = 0; i < expanded.length; i++) {
+                heads.add(i);
+            }
+            int[] cursors = new int[required.length];
+            int last = -1;
+            while (!heads.isEmpty() && results.size() < limit) {
+                int list = heads.poll();
+                int ordinal = expanded[list][positions[list]];
+                if (++positions[list] < expanded[list].length) {
+                    heads.add(list);
+                }
+                if (ordinal != last && containsAll(required, cursors, 0, ordinal)) {
+                    collect(ordinal, changed, results);
+                }
+                last = ordinal;
+            }
+        }
+
+        private void collect(int ordinal, Map<String, Change> changed, List<SearchDocument> results) {
+            SearchDocument document = documents[ordinal];
+            if (changed.isEmpty() || !changed.containsKey(document.id())) {
+                results.add(document);
+            }
+        }
+
+        /**
+         * Gets the postings of the terms starting with a prefix, keeping the
+         * most frequent when there are too many.
+         */
+        private int[][] expand(String prefix, int maxExpansions) {
+            int from = Arrays.binarySearch(terms, prefix);
+            if (from < 0) {
+                from = -from - 1;
+            }
+            int to = from;
+            while (to < terms.length && terms[to].startsWith(prefix)) {
+                to++;
+            }
+            if (to - from <= maxExpansions) {
+                return Arrays.copyOfRange(postings, from, to);
+            }
+            PriorityQueue<int[]> largest = new PriorityQueue<>(maxExpansions + 1,
+                    (a, b) -> Integer.compare(a.length, b.length));
+            for (int i = from; i < to; i++) {
+                largest.add(postings[i]);
+                if (largest.size() > maxExpansions) {
+                    largest.poll();
+                }
+            }
+            return largest.toArray(new int[0][]);
+        }
+
+        /**
+         * Checks an ordinal against ascending lists, moving each list's cursor
+         * forward; ordinals must be checked in ascending order.
+         */
+        private static boolean containsAll(int[][] lists, int[] cursors, int from, int ordinal) {
+            for (int i = from; i < lists.length; i++) {
+                int at = Arrays.binarySearch(lists[i], cursors[i], lists[i].length, ordinal);
+                if (at < 0) {
+                    cursors[i] = -at - 1;
+                    return false;
+                }
+                cursors[i] = at;
+            }
+            return true;
+        }
+
+        private static boolean containsAny(int[][] lists, int ordinal) {
+            for (int[] list : lists) {
+                if (Arrays.binarySearch(list, ordinal) >= 0) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    /**
+     * Postings list while a segment is built.
+     */
+    private static final class GrowingList {
+
+        private int[] ordinals = new int[4];
+        private int length;
+
+        void add(int ordinal) {
+            if (length == ordinals.length) {
+                ordinals = Arrays.copyOf(ordinals, length * 2);
+            }
+            ordinals[length++] = ordinal;
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(ordinals, length);
+        }
+    }
+}
@@ -0,0 +1,230 @@
+/**
+ * KATMALL Application
+ * tai.buivan@outlook.com Copyright (c) 2025 All rights reserved
+ */
+package com.en.katmall.co.catalog.infrastructure.search;
+
+import com.en.katmall.co.catalog.infrastructure.search.ProductSearchIndex.SearchDocument;
+import com.en.katmall.co.shared.enums.KTypeLanguage;
+import com.en.katmall.co.shared.infrastructure.config.properties.CatalogProperties;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Keeps the {@link ProductSearchIndex} in step with {@code products} and
+ * {@code product_translations}.
+ *
+ * <p>
+ * The index is built at startup from every active product, newest first, and
+ * rebuilt at a slow interval so changes made on other nodes are picked up.
+ * A product saved or deleted on this node is re-read and applied once the
+ * surrounding transaction commits, so it is searchable right away. Pending
+ * changes are merged into the index in the background once there are enough
+ * of them.
+ *
+ * <p>
+ * Metrics: {@code catalog.search.pending} (changes not yet compacted).
+ *
+ * @author tai.buivan
+ * @version 1.0
+ */
+@Component
+@Slf4j
+public class ProductSearchIndexer {
+
+    private static final String SQL_SELECT_ALL = """
+            SELECT p.id, p.slug, t.language_code, t.name
+              FROM products p
+              LEFT JOIN product_translations t ON t.product_id = p.id
+             WHERE p.is_active = TRUE AND p.deleted_at IS NULL
+             ORDER BY p.created_at DESC, p.id""";
+
+    private static final String SQL_SELECT_ONE = """
+            SELECT p.id, p.slug, t.language_code, t.name
+              FROM products p
+              LEFT JOIN product_translations t ON t.product_id = p.id
+             WHERE p.id = ? AND p.is_active = TRUE AND p.deleted_at IS NULL""";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final CatalogProperties.Search properties;
+    private final ProductSearchIndex index;
+
+    /**
+     * Creates the indexer and an empty index
+     *
+     * @param jdbcTemplate      JDBC template
+     * @param catalogProperties Catalog configuration
+     * @param meterRegistry     Metrics registry
+     */
+    public ProductSearchIndexer(JdbcTemplate jdbcTemplate, CatalogProperties catalogProperties,
+            MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.properties = catalogProperties.getSearch();
+        this.index = new ProductSearchIndex(properties.getMaxExpansions());
+        Gauge.builder("catalog.search.pending", index, ProductSearchIndex::getPendingChanges)
+                .description("Product search changes not yet compacted")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Rebuilds the index from the database.
+     * Runs at startup and then at the configured interval.
+     */
+    @Scheduled(initialDelay = 0, fixedDelayString = "${catalog.search.refresh-interval-ms:3600000}")
+    public void reload() {
+        try {
+            long start = System.nanoTime();
+            index.rebuild(this::loadAll);
+            log.info("Built product search index with {} products in {} ms", index.getSegmentSize(),
+                    (System.nanoTime() - start) / 1_000_000);
+        } catch (DataAccessException e) {
+            log.error("Could not build product search index: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Loads every active product as a search document.
+     *
+     * @return Documents in listing order
+     */
+    private List<SearchDocument> loadAll() {
+        Map<String, DocumentBuilder> products = new LinkedHashMap<>();
+        jdbcTemplate.query(SQL_SELECT_ALL, rs -> {
+            collect(products, rs);
+        });
+        return products.values().stream().map(DocumentBuilder::build).toList();
+    }
+
+    /**
+     * Merges pending changes into the index once there are enough of them.
+     */
+    @Scheduled(fixedDelayString = "${catalog.search.compact-check-interval-ms:10000}")
+    public void compactIfNeeded() {
+        if (index.getPendingChanges() >= properties.getCompactThreshold()) {
+            index.compact();
+        }
+    }
+
+    /**
+     * Re-reads a product once the current transaction commits and adds,
+     * replaces or removes it in the index.
+     *
+     * @param productId The saved product ID
+     */
+    public void reindex(String productId) {
+        Objects.requireNonNull(productId, "productId must not be null");
+        afterCommit(() -> {
+            Map<String, DocumentBuilder> products = new LinkedHashMap<>();
+            jdbcTemplate.query(SQL_SELECT_ONE, rs -> {
+                collect(products, rs);
+            }, productId);
+            DocumentBuilder product = products.get(productId);
+            if (product != null) {
+                index.put(product.build());
+            } else {
+                index.remove(productId);
+            }
+        });
+    }
+
+    /**
+     * Removes a deleted product once the current transaction commits.
+     *
+     * @param productId The product ID
+     */
+    public void remove(String productId) {
+        Objects.requireNonNull(productId, "productId must not be null");
+        afterCommit(() -> index.remove(productId));
+    }
+
+    /**
+     * Finds products matching a typeahead query
+     *
+     * @param query The query as typed
+     * @param limit Maximum number of results, capped by configuration
+     * @return Matching products
+     */
+    public List<SearchDocument> search(String query, int limit) {
+        return index.search(query, Math.min(limit, properties.getMaxResults()));
+    }
+
+    /**
+     * Adds a joined row to the product it belongs to.
+     *
+     * @param products Products by ID, in row order
+     * @param rs       Current row
+     * @throws SQLException if a column cannot be read
+     */
+    private static void collect(Map<String, DocumentBuilder> products, ResultSet rs) throws SQLException {
+        String id = rs.getString("id");
+        DocumentBuilder product = products.computeIfAbsent(id, DocumentBuilder::new);
+        product.slug = rs.getString("slug");
+        String name = rs.getString("name");
+        if (name != null) {
+            product.names.put(rs.getString("language_code"), name);
+        }
+    }
+
+    /**
+     * Runs an index change after the current transaction commits,
+     * or immediately if no transaction is active.
+     *
+     * @param change The index change
+     */
+    private void afterCommit(Runnable change) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            change.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                try {
+                    change.run();
+                } catch (DataAccessException e) {
+                    log.warn("Could not update product search index; fixed on the next rebuild: {}",
+                            e.getMessage());
+                }
+            }
+        });
+    }
+
+    /**
+     * Product assembled from its translation rows.
+     */
+    private static final class DocumentBuilder {
+
+        private final String id;
+        private final Map<String, String> names = new LinkedHashMap<>();
+        private String slug;
+
+        private DocumentBuilder(String id) {
+            this.id = id;
+        }
+
+        /**
+         * Builds the document: displayed in the default language, or the slug
+         * without translations, and searchable in every language.
+         */
+        private SearchDocument build() {
+            String name = names.getOrDefault(KTypeLanguage.getDefault().getCode(),
+                    names.isEmpty() ? slug : names.values().iterator().next());
+            String text = String.join(" ", names.values()) + " " + slug;
+            return new SearchDocument(id, slug, name, text);
+        }
+    }
+}
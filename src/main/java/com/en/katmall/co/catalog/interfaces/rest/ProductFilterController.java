@@ -0,0 +1,60 @@
+/**
+ * KATMALL Application
+ * tai.buivan@outlook.com Copyright (c) 2025 All rights reserved
+ */
+package com.en.katmall.co.catalog.interfaces.rest;
+
+import com.en.katmall.co.catalog.application.dto.response.ProductFilterResponse;
+import com.en.katmall.co.catalog.application.usecase.FilterProductsUseCase;
+import com.en.katmall.co.shared.dto.ApiResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.math.BigDecimal;
+import java.util.Set;
+
+/**
+ * REST Controller for filtered product listings.
+ * 
+ * @author tai.buivan
+ * @version 1.0
+ */
+@RestController
+@RequestMapping("/api/v1/products")
+@RequiredArgsConstructor
+public class ProductFilterController {
+
+    private final FilterProductsUseCase filterProductsUseCase;
+
+    /**
+     * Lists products matching filters, with facet counts
+     * GET /api/v1/products/filter?category=phones&amp;brand=apple&amp;brand=samsung&amp;inStock=true
+     * 
+     * @param category       Category ID, including subcategories
+     * @param brand          Brand IDs; any of them matches
+     * @param attributeValue Attribute value IDs; any value of the same attribute matches
+     * @param minPrice       Lowest price, inclusive
+     * @param maxPrice       Highest price, inclusive
+     * @param inStock        Whether to hide products without stock
+     * @param page           Page number, from 0
+     * @param size           Page size
+     * @return Matching product IDs and facet counts
+     */
+    @GetMapping("/filter")
+    public ResponseEntity<ApiResponse<ProductFilterResponse>> filter(
+            @RequestParam(required = false) String category,
+            @RequestParam(required = false) Set<String> brand,
+            @RequestParam(required = false) Set<String> attributeValue,
+            @RequestParam(required = false) BigDecimal minPrice,
+            @RequestParam(required = false) BigDecimal maxPrice,
+            @RequestParam(defaultValue = "false") boolean inStock,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(ApiResponse.success(filterProductsUseCase.execute(category, brand,
+                attributeValue, minPrice, maxPrice, inStock, page, size)));
+    }
+}
@@ -0,0 +1,46 @@
+/**
+ * KATMALL Application
+ * tai.buivan@outlook.com Copyright (c) 2025 All rights reserved
+ */
+package com.en.katmall.co.catalog.interfaces.rest;
+
+import com.en.katmall.co.catalog.application.dto.response.ProductSuggestionResponse;
+import com.en.katmall.co.catalog.application.usecase.SearchProductsUseCase;
+import com.en.katmall.co.shared.dto.ApiResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * REST Controller for product search.
+ * 
+ * @author tai.buivan
+ * @version 1.0
+ */
+@RestController
+@RequestMapping("/api/v1/products")
+@RequiredArgsConstructor
+public class ProductSearchController {
+
+    private final SearchProductsUseCase searchProductsUseCase;
+
+    /**
+     * Suggests products for a typeahead query
+     * GET /api/v1/products/search?q=dien tho
+     * 
+     * @param query Query as typed; diacritics are optional
+     * @param limit Maximum number of suggestions
+     * @return Matching products
+     */
+    @GetMapping("/search")
+    public ResponseEntity<ApiResponse<List<ProductSuggestionResponse>>> search(
+            @RequestParam("q") String query,
+            @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(ApiResponse.success(searchProductsUseCase.execute(query, limit)));
+    }
+}
@@ -0,0 +1,60 @@
+/**
+ * KATMALL Application
+ * tai.buivan@outlook.com Copyright (c) 2025 All rights reserved
+ */
+package com.en.katmall.co.cms.application.dto.response;
+
+import com.en.katmall.co.cms.domain.model.Banner;
+import com.en.katmall.co.shared.enums.KTypeBannerPosition;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Response DTO for a banner shown in a page slot.
+ *
+ * @author tai.buivan
+ * @version 1.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BannerResponse {
+
+    /** Banner unique identifier */
+    private String id;
+
+    /** Banner name, used as alt text */
+    private String name;
+
+    /** Banner image URL */
+    private String imageUrl;
+
+    /** Link target URL */
+    private String targetUrl;
+
+    /** Display position */
+    private KTypeBannerPosition position;
+
+    /** Display priority (higher = shown first) */
+    private int priority;
+
+    /**
+     * Creates a response from a banner
+     *
+     * @param banner The banner
+     * @return Banner response
+     */
+    public static BannerResponse from(Banner banner) {
+        return BannerResponse.builder()
+                .id(banner.getId())
+                .name(banner.getName())
+                .imageUrl(banner.getImageUrl())
+                .targetUrl(banner.getTargetUrl())
+                .position(banner.getDisplayPosition())
+                .priority(banner.getPriority())
+                .build();
+    }
+}
@@ -0,0 +1,51 @@
+/**
+ * KATMALL Application
+ * tai.buivan@outlook.com Copyright (c) 2025 All rights reserved
+ */
+package com.en.katmall.co.cms.application.dto.response;
+
+import com.en.katmall.co.shared.enums.KTypeLanguage;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * Response DTO for a published news article in one language.
+ * List pages leave {@code content} empty.
+ *
+ * @author tai.buivan
+ * @version 1.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class NewsResponse {
+
+    /** News unique identifier */
+    private String id;
+
+    /** URL-friendly identifier */
+    private String slug;
+
+    /** Thumbnail image URL */
+    private String thumbnailUrl;
+
+    /** Author's administrator ID */
+    private String authorId;
+
+    /** Publication timestamp */
+    private Instant publishedAt;
+
+    /** Language of title and content; differs from the requested one on fallback */
+    private KTypeLanguage language;
+
+    /** Title in {@link #language} */
+    private String title;
+
+    /** Content in {@link #language}; null on list pages */
+    private String content;
+}
@@ -6,6 +6,7 @@ package com.en.katmall.co.cms.application.usecase;
 
 import com.en.katmall.co.cms.domain.model.Banner;
 import com.en.katmall.co.cms.domain.repository.BannerRepository;
+import com.en.katmall.co.cms.infrastructure.snapshot.BannerSlotSnapshot;
 import com.en.katmall.co.shared.enums.KTypeBannerPosition;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -26,6 +27,7 @@ import java.util.Objects;
 public class CreateBannerUseCase {
 
     private final BannerRepository bannerRepository;
+    private final BannerSlotSnapshot bannerSlotSnapshot;
 
     /**
      * Executes the create banner use case.
@@ -51,6 +53,8 @@ public class CreateBannerUseCase {
                 .isActive(true)
                 .build();
 
-        return bannerRepository.save(banner);
+        Banner saved = bannerRepository.save(banner);
+        bannerSlotSnapshot.put(saved);
+        return saved;
     }
 }
@@ -5,6 +5,8 @@
 package com.en.katmall.co.cms.application.usecase;
 
 import com.en.katmall.co.cms.domain.repository.BannerRepository;
+import com.en.katmall.co.cms.infrastructure.schedule.CmsTransitionScheduler;
+import com.en.katmall.co.cms.infrastructure.snapshot.BannerSlotSnapshot;
 import com.en.katmall.co.shared.exception.ResourceNotFoundException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -25,6 +27,8 @@ import java.util.Objects;
 public class DeleteBannerUseCase {
 
     private final BannerRepository bannerRepository;
+    private final BannerSlotSnapshot bannerSlotSnapshot;
+    private final CmsTransitionScheduler cmsTransitionScheduler;
 
     /**
      * Executes the delete banner use case.
@@ -38,5 +42,7 @@ public class DeleteBannerUseCase {
             throw new ResourceNotFoundException("Banner", bannerId);
         }
         bannerRepository.deleteById(bannerId);
+        bannerSlotSnapshot.remove(bannerId);
+        cmsTransitionScheduler.cancelBanner(bannerId);
     }
 }
@@ -4,7 +4,10 @@
  */
 package com.en.katmall.co.cms.application.usecase;
 
+import com.en.katmall.co.cms.domain.model.News;
 import com.en.katmall.co.cms.domain.repository.NewsRepository;
+import com.en.katmall.co.cms.infrastructure.readmodel.NewsReadModel;
+import com.en.katmall.co.cms.infrastructure.schedule.CmsTransitionScheduler;
 import com.en.katmall.co.shared.exception.ResourceNotFoundException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -25,6 +28,8 @@ import java.util.Objects;
 public class DeleteNewsUseCase {
 
     private final NewsRepository newsRepository;
+    private final NewsReadModel newsReadModel;
+    private final CmsTransitionScheduler cmsTransitionScheduler;
 
     /**
      * Executes the delete news use case.
@@ -34,9 +39,10 @@ public class DeleteNewsUseCase {
      */
     public void execute(String newsId) {
         Objects.requireNonNull(newsId, "News ID must not be null");
-        if (newsRepository.findById(newsId).isEmpty()) {
-            throw new ResourceNotFoundException("News", newsId);
-        }
+        News news = newsRepository.findById(newsId)
+                .orElseThrow(() -> new ResourceNotFoundException("News", newsId));
         newsRepository.deleteById(newsId);
+        newsReadModel.evict(news.getSlug());
+        cmsTransitionScheduler.cancelNews(newsId);
     }
 }
@@ -6,6 +6,7 @@ package com.en.katmall.co.cms.application.usecase;
 
 import com.en.katmall.co.cms.domain.model.Banner;
 import com.en.katmall.co.cms.domain.repository.BannerRepository;
+import com.en.katmall.co.cms.infrastructure.snapshot.BannerSlotSnapshot;
 import com.en.katmall.co.shared.enums.KTypeBannerPosition;
 import com.en.katmall.co.shared.exception.ResourceNotFoundException;
 import lombok.RequiredArgsConstructor;
@@ -28,6 +29,7 @@ import java.util.Objects;
 public class GetBannerUseCase {
 
     private final BannerRepository bannerRepository;
+    private final BannerSlotSnapshot bannerSlotSnapshot;
 
     /**
      * Finds a banner by ID.
@@ -52,14 +54,26 @@ public class GetBannerUseCase {
     }
 
     /**
-     * Finds active banners by position.
+     * Finds the banners currently shown at a position.
+     * Served from the in-memory banner snapshot.
      * 
      * @param position The display position
-     * @return List of banners at the position
+     * @return List of banners at the position, highest priority first
      */
     public List<Banner> findByPosition(KTypeBannerPosition position) {
         Objects.requireNonNull(position, "Position must not be null");
-        return bannerRepository.findActiveByPosition(position);
+        return bannerSlotSnapshot.findByPosition(position);
+    }
+
+    /**
+     * Gets the pre-serialised JSON of the banners currently shown at a position.
+     * 
+     * @param position The display position
+     * @return JSON array of banners; shared, must not be modified
+     */
+    public byte[] findJsonByPosition(KTypeBannerPosition position) {
+        Objects.requireNonNull(position, "Position must not be null");
+        return bannerSlotSnapshot.findJsonByPosition(position);
     }
 
     /**
@@ -4,8 +4,11 @@
  */
 package com.en.katmall.co.cms.application.usecase;
 
+import com.en.katmall.co.cms.application.dto.response.NewsResponse;
 import com.en.katmall.co.cms.domain.model.News;
 import com.en.katmall.co.cms.domain.repository.NewsRepository;
+import com.en.katmall.co.cms.infrastructure.readmodel.NewsReadModel;
+import com.en.katmall.co.shared.enums.KTypeLanguage;
 import com.en.katmall.co.shared.exception.ResourceNotFoundException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -27,6 +30,7 @@ import java.util.Objects;
 public class GetNewsUseCase {
 
     private final NewsRepository newsRepository;
+    private final NewsReadModel newsReadModel;
 
     /**
      * Finds a news article by ID.
@@ -54,6 +58,22 @@ public class GetNewsUseCase {
                 .orElseThrow(() -> new ResourceNotFoundException("News", "slug", slug));
     }
 
+    /**
+     * Finds a published news article by slug in a language.
+     * Served from the per-language news cache.
+     * 
+     * @param slug     The URL-friendly identifier
+     * @param language Requested language; falls back to the default language
+     * @return The news article
+     * @throws ResourceNotFoundException if not found or not published
+     */
+    public NewsResponse findBySlug(String slug, KTypeLanguage language) {
+        Objects.requireNonNull(slug, "Slug must not be null");
+        Objects.requireNonNull(language, "Language must not be null");
+        return newsReadModel.findBySlug(slug, language)
+                .orElseThrow(() -> new ResourceNotFoundException("News", "slug", slug));
+    }
+
     /**
      * Finds all published news articles.
      * 
@@ -63,6 +83,18 @@ public class GetNewsUseCase {
         return newsRepository.findAllPublished();
     }
 
+    /**
+     * Finds all published news articles in a language, newest first.
+     * Titles only; served from the per-language news cache.
+     * 
+     * @param language Requested language; falls back to the default language
+     * @return List of published news
+     */
+    public List<NewsResponse> findAllPublished(KTypeLanguage language) {
+        Objects.requireNonNull(language, "Language must not be null");
+        return newsReadModel.findAllPublished(language);
+    }
+
     /**
      * Finds news articles by author.
      * 
@@ -6,12 +6,15 @@ package com.en.katmall.co.cms.application.usecase;
 
 import com.en.katmall.co.cms.domain.model.Banner;
 import com.en.katmall.co.cms.domain.repository.BannerRepository;
+import com.en.katmall.co.cms.infrastructure.schedule.CmsTransitionScheduler;
+import com.en.katmall.co.cms.infrastructure.snapshot.BannerSlotSnapshot;
 import com.en.katmall.co.shared.enums.KTypeBannerPosition;
 import com.en.katmall.co.shared.exception.ResourceNotFoundException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
 import java.util.Objects;
 
 /**
@@ -27,6 +30,8 @@ import java.util.Objects;
 public class UpdateBannerUseCase {
 
     private final BannerRepository bannerRepository;
+    private final BannerSlotSnapshot bannerSlotSnapshot;
+    private final CmsTransitionScheduler cmsTransitionScheduler;
 
     /**
      * Updates banner content.
@@ -42,7 +47,7 @@ public class UpdateBannerUseCase {
         Objects.requireNonNull(bannerId, "Banner ID must not be null");
         Banner banner = findById(bannerId);
         banner.updateContent(name, imageUrl, targetUrl);
-        return bannerRepository.save(banner);
+        return save(banner);
     }
 
     /**
@@ -59,7 +64,7 @@ public class UpdateBannerUseCase {
         Banner banner = findById(bannerId);
         banner.updatePosition(position);
         banner.updatePriority(priority);
-        return bannerRepository.save(banner);
+        return save(banner);
     }
 
     /**
@@ -73,7 +78,7 @@ public class UpdateBannerUseCase {
         Objects.requireNonNull(bannerId, "Banner ID must not be null");
         Banner banner = findById(bannerId);
         banner.activate();
-        return bannerRepository.save(banner);
+        return save(banner);
     }
 
     /**
@@ -87,7 +92,36 @@ public class UpdateBannerUseCase {
         Objects.requireNonNull(bannerId, "Banner ID must not be null");
         Banner banner = findById(bannerId);
         banner.deactivate();
-        return bannerRepository.save(banner);
+        return save(banner);
+    }
+
+    /**
+     * Limits a banner to a display window.
+     * 
+     * @param bannerId The banner ID
+     * @param startAt  Display start, null for immediately
+     * @param endAt    Display end, null for no end
+     * @return Updated banner
+     * @throws ResourceNotFoundException if not found
+     */
+    public Banner schedule(String bannerId, Instant startAt, Instant endAt) {
+        Objects.requireNonNull(bannerId, "Banner ID must not be null");
+        Banner banner = findById(bannerId);
+        banner.schedule(startAt, endAt);
+        return save(banner);
+    }
+
+    /**
+     * Saves a banner, refreshes its slot and re-arms its window timers after commit.
+     * 
+     * @param banner The banner
+     * @return Saved banner
+     */
+    private Banner save(Banner banner) {
+        Banner saved = bannerRepository.save(banner);
+        bannerSlotSnapshot.put(saved);
+        cmsTransitionScheduler.schedule(saved);
+        return saved;
     }
 
     /**
@@ -6,11 +6,14 @@ package com.en.katmall.co.cms.application.usecase;
 
 import com.en.katmall.co.cms.domain.model.News;
 import com.en.katmall.co.cms.domain.repository.NewsRepository;
+import com.en.katmall.co.cms.infrastructure.readmodel.NewsReadModel;
+import com.en.katmall.co.cms.infrastructure.schedule.CmsTransitionScheduler;
 import com.en.katmall.co.shared.exception.ResourceNotFoundException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
 import java.util.Objects;
 
 /**
@@ -26,6 +29,8 @@ import java.util.Objects;
 public class UpdateNewsUseCase {
 
     private final NewsRepository newsRepository;
+    private final NewsReadModel newsReadModel;
+    private final CmsTransitionScheduler cmsTransitionScheduler;
 
     /**
      * Adds a translation to a news article.
@@ -41,7 +46,7 @@ public class UpdateNewsUseCase {
         Objects.requireNonNull(newsId, "News ID must not be null");
         News news = findById(newsId);
         news.addTranslation(languageCode, title, content);
-        return newsRepository.save(news);
+        return save(news);
     }
 
     /**
@@ -55,7 +60,7 @@ public class UpdateNewsUseCase {
         Objects.requireNonNull(newsId, "News ID must not be null");
         News news = findById(newsId);
         news.publish();
-        return newsRepository.save(news);
+        return save(news);
     }
 
     /**
@@ -69,7 +74,38 @@ public class UpdateNewsUseCase {
         Objects.requireNonNull(newsId, "News ID must not be null");
         News news = findById(newsId);
         news.unpublish();
-        return newsRepository.save(news);
+        return save(news);
+    }
+
+    /**
+     * Schedules publication and withdrawal of a news article.
+     * The CMS scheduler applies them at the given times.
+     * 
+     * @param newsId      The news ID
+     * @param publishAt   Time to publish, null to leave the state as is
+     * @param unpublishAt Time to unpublish, null for no end
+     * @return Updated news article
+     * @throws ResourceNotFoundException if not found
+     */
+    public News schedule(String newsId, Instant publishAt, Instant unpublishAt) {
+        Objects.requireNonNull(newsId, "News ID must not be null");
+        News news = findById(newsId);
+        news.schedule(publishAt, unpublishAt);
+        return save(news);
+    }
+
+    /**
+     * Saves a news article, evicts its cached views and re-arms its
+     * scheduled transitions after commit.
+     * 
+     * @param news The news article
+     * @return Saved news article
+     */
+    private News save(News news) {
+        News saved = newsRepository.save(news);
+        newsReadModel.evict(saved.getSlug());
+        cmsTransitionScheduler.schedule(saved);
+        return saved;
     }
 
     /**
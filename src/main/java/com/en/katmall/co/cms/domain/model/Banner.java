@@ -11,11 +11,13 @@ import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
 
+import java.time.Instant;
 import java.util.Objects;
 
 /**
  * Banner aggregate root for promotional banner management.
  * Handles display banners on the website with positioning and priority.
+ * A banner may be limited to a display window; an unset bound is open.
  * 
  * @author tai.buivan
  * @version 1.0
@@ -30,6 +32,8 @@ public class Banner extends AggregateRoot<String> {
     private KTypeBannerPosition displayPosition;
     private int priority;
     private boolean isActive;
+    private Instant startAt;
+    private Instant endAt;
 
     /** Default constructor for JPA */
     protected Banner() {
@@ -41,6 +45,9 @@ public class Banner extends AggregateRoot<String> {
      */
     private Banner(Builder builder) {
         super(builder.id != null ? builder.id : IdGenerator.generate());
+        if (builder.createdAt != null) {
+            this.createdAt = builder.createdAt;
+        }
         this.name = Objects.requireNonNull(builder.name, "name must not be null");
         this.imageUrl = Objects.requireNonNull(builder.imageUrl, "imageUrl must not be null");
         this.targetUrl = builder.targetUrl;
@@ -48,6 +55,9 @@ public class Banner extends AggregateRoot<String> {
                 : KTypeBannerPosition.HOME_SLIDER;
         this.priority = builder.priority;
         this.isActive = builder.isActive;
+        validateWindow(builder.startAt, builder.endAt);
+        this.startAt = builder.startAt;
+        this.endAt = builder.endAt;
     }
 
     /**
@@ -109,23 +119,86 @@ public class Banner extends AggregateRoot<String> {
         markAsUpdated();
     }
 
+    /**
+     * Limits display to a time window
+     * 
+     * @param startAt First instant the banner is shown, null for immediately
+     * @param endAt   Instant the banner stops being shown, null for no end
+     * @throws IllegalArgumentException if the window ends before it starts
+     */
+    public void schedule(Instant startAt, Instant endAt) {
+        validateWindow(startAt, endAt);
+        this.startAt = startAt;
+        this.endAt = endAt;
+        markAsUpdated();
+    }
+
+    /**
+     * Checks if the banner is shown at the given instant
+     * 
+     * @param now The instant
+     * @return true if active and inside its display window
+     */
+    public boolean isVisibleAt(Instant now) {
+        return isActive
+                && (startAt == null || !now.isBefore(startAt))
+                && (endAt == null || now.isBefore(endAt));
+    }
+
+    /**
+     * Creates a detached copy of this banner.
+     * Changes to the copy do not affect this instance.
+     * Registered domain events are not copied.
+     *
+     * @return New Banner instance with the same state
+     */
+    public Banner copy() {
+        Banner copy = new Banner();
+        copy.id = id;
+        copy.createdAt = createdAt;
+        copy.updatedAt = updatedAt;
+        copy.name = name;
+        copy.imageUrl = imageUrl;
+        copy.targetUrl = targetUrl;
+        copy.displayPosition = displayPosition;
+        copy.priority = priority;
+        copy.isActive = isActive;
+        copy.startAt = startAt;
+        copy.endAt = endAt;
+        return copy;
+    }
+
+    private static void validateWindow(Instant startAt, Instant endAt) {
+        if (startAt != null && endAt != null && !endAt.isAfter(startAt)) {
+            throw new IllegalArgumentException("endAt must be after startAt");
+        }
+    }
+
     /**
      * Builder class for Banner
      */
     public static class Builder {
         private String id;
+        private Instant createdAt;
         private String name;
         private String imageUrl;
         private String targetUrl;
         private KTypeBannerPosition displayPosition = KTypeBannerPosition.HOME_SLIDER;
         private int priority = 0;
         private boolean isActive = true;
+        private Instant startAt;
+        private Instant endAt;
 
         public Builder id(String id) {
             this.id = id;
             return this;
         }
 
+        public Builder createdAt(Instant createdAt) {
+            this.createdAt = createdAt;
+            return this;
+        }
+
         public Builder name(String name) {
             this.name = name;
             return this;
@@ -156,6 +229,16 @@ public class Banner extends AggregateRoot<String> {
             return this;
         }
 
+        public Builder startAt(Instant startAt) {
+            this.startAt = startAt;
+            return this;
+        }
+
+        public Builder endAt(Instant endAt) {
+            this.endAt = endAt;
+            return this;
+        }
+
         /**
          * Builds the Banner instance
          * 
@@ -16,6 +16,7 @@ import java.util.*;
 /**
  * News aggregate root for CMS content management.
  * Handles news articles with multi-language support.
+ * Publication and withdrawal can be scheduled ahead of time.
  * 
  * @author tai.buivan
  * @version 1.0
@@ -29,6 +30,8 @@ public class News extends AggregateRoot<String> {
     private String authorId;
     private Instant publishedAt;
     private boolean isPublished;
+    private Instant publishAt;
+    private Instant unpublishAt;
     private final Map<String, NewsTranslation> translations = new HashMap<>();
 
     /** Default constructor for JPA */
@@ -41,11 +44,17 @@ public class News extends AggregateRoot<String> {
      */
     private News(Builder builder) {
         super(builder.id != null ? builder.id : IdGenerator.generate());
+        if (builder.createdAt != null) {
+            this.createdAt = builder.createdAt;
+        }
         this.slug = Objects.requireNonNull(builder.slug, "slug must not be null");
         this.thumbnailUrl = builder.thumbnailUrl;
         this.authorId = builder.authorId;
         this.publishedAt = builder.publishedAt;
         this.isPublished = builder.isPublished;
+        validateSchedule(builder.publishAt, builder.unpublishAt);
+        this.publishAt = builder.publishAt;
+        this.unpublishAt = builder.unpublishAt;
     }
 
     /**
@@ -104,6 +113,7 @@ public class News extends AggregateRoot<String> {
     public void publish() {
         this.isPublished = true;
         this.publishedAt = Instant.now();
+        this.publishAt = null;
         markAsUpdated();
     }
 
@@ -112,9 +122,30 @@ public class News extends AggregateRoot<String> {
      */
     public void unpublish() {
         this.isPublished = false;
+        this.unpublishAt = null;
+        markAsUpdated();
+    }
+
+    /**
+     * Schedules publication and withdrawal of this news article
+     * 
+     * @param publishAt   Time to publish, null to leave the state as is
+     * @param unpublishAt Time to unpublish, null for no end
+     * @throws IllegalArgumentException if withdrawal is not after publication
+     */
+    public void schedule(Instant publishAt, Instant unpublishAt) {
+        validateSchedule(publishAt, unpublishAt);
+        this.publishAt = publishAt;
+        this.unpublishAt = unpublishAt;
         markAsUpdated();
     }
 
+    private static void validateSchedule(Instant publishAt, Instant unpublishAt) {
+        if (publishAt != null && unpublishAt != null && !unpublishAt.isAfter(publishAt)) {
+            throw new IllegalArgumentException("unpublishAt must be after publishAt");
+        }
+    }
+
     /**
      * Updates the thumbnail URL
      * 
@@ -140,17 +171,25 @@ public class News extends AggregateRoot<String> {
      */
     public static class Builder {
         private String id;
+        private Instant createdAt;
         private String slug;
         private String thumbnailUrl;
         private String authorId;
         private Instant publishedAt;
         private boolean isPublished = false;
+        private Instant publishAt;
+        private Instant unpublishAt;
 
         public Builder id(String id) {
             this.id = id;
             return this;
         }
 
+        public Builder createdAt(Instant createdAt) {
+            this.createdAt = createdAt;
+            return this;
+        }
+
         public Builder slug(String slug) {
             this.slug = slug;
             return this;
@@ -176,6 +215,16 @@ public class News extends AggregateRoot<String> {
             return this;
         }
 
+        public Builder publishAt(Instant publishAt) {
+            this.publishAt = publishAt;
+            return this;
+        }
+
+        public Builder unpublishAt(Instant unpublishAt) {
+            this.unpublishAt = unpublishAt;
+            return this;
+        }
+
         /**
          * Builds the News instance
          * 
@@ -5,6 +5,7 @@
 package com.en.katmall.co.cms.domain.repository;
 
 import com.en.katmall.co.cms.domain.model.Banner;
+import com.en.katmall.co.shared.dto.PageCursor;
 import com.en.katmall.co.shared.enums.KTypeBannerPosition;
 
 import java.util.List;
@@ -59,6 +60,15 @@ public interface BannerRepository {
      */
     List<Banner> findAll(int page, int size);
 
+    /**
+     * Finds all banners after a cursor, newest first
+     * 
+     * @param cursor Position of the last row already read, null for the first page
+     * @param limit  Maximum number of banners
+     * @return List of banners ordered by createdAt and ID, descending
+     */
+    List<Banner> findAllAfter(PageCursor cursor, int limit);
+
     /**
      * Deletes a banner by ID
      * 
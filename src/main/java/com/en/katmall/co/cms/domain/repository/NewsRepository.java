@@ -5,6 +5,7 @@
 package com.en.katmall.co.cms.domain.repository;
 
 import com.en.katmall.co.cms.domain.model.News;
+import com.en.katmall.co.shared.dto.PageCursor;
 
 import java.util.List;
 import java.util.Optional;
@@ -66,6 +67,15 @@ public interface NewsRepository {
      */
     List<News> findAll(int page, int size);
 
+    /**
+     * Finds all news after a cursor, newest first
+     * 
+     * @param cursor Position of the last row already read, null for the first page
+     * @param limit  Maximum number of news
+     * @return List of news ordered by createdAt and ID, descending
+     */
+    List<News> findAllAfter(PageCursor cursor, int limit);
+
     /**
      * Deletes a news article by ID
      * 
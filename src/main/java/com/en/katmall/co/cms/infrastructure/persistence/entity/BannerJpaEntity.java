@@ -7,6 +7,9 @@ package com.en.katmall.co.cms.infrastructure.persistence.entity;
 import com.en.katmall.co.shared.enums.KTypeBannerPosition;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.Instant;
 
 /**
  * JPA Entity for Banner persistence.
@@ -48,4 +51,14 @@ public class BannerJpaEntity {
     @Column(name = "is_active")
     @Builder.Default
     private Boolean isActive = true;
+
+    @Column(name = "start_at")
+    private Instant startAt;
+
+    @Column(name = "end_at")
+    private Instant endAt;
+
+    @CreationTimestamp
+    @Column(name = "created_at")
+    private Instant createdAt;
 }
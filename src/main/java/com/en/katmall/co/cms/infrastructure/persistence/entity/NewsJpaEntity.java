@@ -51,6 +51,12 @@ public class NewsJpaEntity {
     @Builder.Default
     private Boolean isPublished = false;
 
+    @Column(name = "publish_at")
+    private Instant publishAt;
+
+    @Column(name = "unpublish_at")
+    private Instant unpublishAt;
+
     @CreationTimestamp
     @Column(name = "created_at")
     private Instant createdAt;
@@ -0,0 +1,275 @@
+/**
+ * KATMALL Application
+ * tai.buivan@outlook.com Copyright (c) 2025 All rights reserved
+ */
+package com.en.katmall.co.cms.infrastructure.readmodel;
+
+import com.en.katmall.co.cms.application.dto.response.NewsResponse;
+import com.en.katmall.co.shared.enums.KTypeLanguage;
+import com.en.katmall.co.shared.infrastructure.config.properties.AppProperties;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.ResultSet;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Per-language read model of published news.
+ *
+ * <p>
+ * An article and all of its translations are read with one join, so there
+ * is no per-translation query. A miss for one language renders the article
+ * in every {@link KTypeLanguage} and caches all of them, so switching
+ * language is a cache hit. The published list is loaded the same way: one
+ * query for every published article and its translated titles, cached per
+ * language. Missing translations fall back to the default language.
+ *
+ * <p>
+ * Entries of a changed or deleted article, and every cached list, are
+ * evicted once the surrounding transaction commits. Every eviction bumps a
+ * generation; a fill whose query started before an eviction is not cached,
+ * so a slow read cannot put back what the eviction removed.
+ *
+ * @author tai.buivan
+ * @version 1.0
+ */
+@Component
+public class NewsReadModel {
+
+    /** Published articles keyed by slug and language code */
+    public static final String CACHE_BY_SLUG = "cms-news-by-slug";
+
+    /** Published article lists keyed by language code */
+    public static final String CACHE_PUBLISHED = "cms-news-published";
+
+    private static final String SQL_SELECT_BY_SLUG = """
+            SELECT n.id, n.slug, n.thumbnail_url, n.author_id, n.published_at,
+                   t.language_code, t.title, t.content
+              FROM cms_news n
+              LEFT JOIN cms_news_translations t ON t.news_id = n.id
+             WHERE n.slug = ? AND n.is_published = TRUE""";
+
+    private static final String SQL_SELECT_PUBLISHED = """
+            SELECT n.id, n.slug, n.thumbnail_url, n.author_id, n.published_at,
+                   t.language_code, t.title, NULL AS content
+              FROM cms_news n
+              LEFT JOIN cms_news_translations t ON t.news_id = n.id
+             WHERE n.is_published = TRUE
+             ORDER BY n.published_at DESC, n.id DESC""";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Cache bySlug;
+    private final Cache published;
+    private final ZoneId databaseZone;
+
+    /** Incremented before every eviction; fills read before it are discarded */
+    private final AtomicLong generation = new AtomicLong();
+
+    /**
+     * Creates the read model
+     *
+     * @param jdbcTemplate JDBC template
+     * @param cacheManager  Cache manager providing the news caches
+     * @param appProperties Application configuration, for the database zone
+     */
+    public NewsReadModel(JdbcTemplate jdbcTemplate, CacheManager cacheManager, AppProperties appProperties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.bySlug = requireCache(cacheManager, CACHE_BY_SLUG);
+        this.published = requireCache(cacheManager, CACHE_PUBLISHED);
+        this.databaseZone = appProperties.getDatabaseTimeZone();
+    }
+
+    /**
+     * Finds a published article in a language
+     *
+     * @param slug     The URL-friendly identifier
+     * @param language Requested language
+     * @return The article, empty if not found or not published
+     */
+    public Optional<NewsResponse> findBySlug(String slug, KTypeLanguage language) {
+        NewsResponse cached = bySlug.get(slugKey(slug, language), NewsResponse.class);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        long seen = generation.get();
+        List<Article> articles = load(SQL_SELECT_BY_SLUG, slug);
+        if (articles.isEmpty()) {
+            return Optional.empty();
+        }
+        Article article = articles.get(0);
+        Map<Object, Object> rendered = new LinkedHashMap<>();
+        for (KTypeLanguage each : KTypeLanguage.values()) {
+            rendered.put(slugKey(slug, each), article.render(each));
+        }
+        fill(bySlug, rendered, seen);
+        return Optional.of(article.render(language));
+    }
+
+    /**
+     * Finds all published articles in a language, newest first, without content
+     *
+     * @param language Requested language
+     * @return Published articles
+     */
+    @SuppressWarnings("unchecked")
+    public List<NewsResponse> findAllPublished(KTypeLanguage language) {
+        List<NewsResponse> cached = published.get(language.getCode(), List.class);
+        if (cached != null) {
+            return cached;
+        }
+        long seen = generation.get();
+        List<Article> articles = load(SQL_SELECT_PUBLISHED);
+        Map<Object, Object> rendered = new LinkedHashMap<>();
+        for (KTypeLanguage each : KTypeLanguage.values()) {
+            rendered.put(each.getCode(), articles.stream().map(article -> article.render(each)).toList());
+        }
+        fill(published, rendered, seen);
+        return (List<NewsResponse>) rendered.get(language.getCode());
+    }
+
+    /**
+     * Evicts an article and all cached lists once the current transaction commits
+     *
+     * @param slug Slug of the changed or deleted article
+     */
+    public void evict(String slug) {
+        Objects.requireNonNull(slug, "slug must not be null");
+        afterCommit(() -> {
+            generation.incrementAndGet();
+            for (KTypeLanguage language : KTypeLanguage.values()) {
+                bySlug.evict(slugKey(slug, language));
+            }
+            published.clear();
+        });
+    }
+
+    /**
+     * Caches freshly loaded entries unless an eviction ran since the load
+     * started. The generation is checked again after the puts: an eviction
+     * bumps it before evicting, so either it removes the entries itself or
+     * this check sees it and removes them.
+     *
+     * @param cache   Target cache
+     * @param entries Entries by key
+     * @param seen    Generation read before the load
+     */
+    private void fill(Cache cache, Map<Object, Object> entries, long seen) {
+        if (generation.get() != seen) {
+            return;
+        }
+        entries.forEach(cache::put);
+        if (generation.get() != seen) {
+            entries.keySet().forEach(cache::evict);
+        }
+    }
+
+    /**
+     * Runs a query returning one row per article and translation and groups the rows.
+     *
+     * @param sql  The query
+     * @param args Query arguments
+     * @return Articles in query order
+     */
+    private List<Article> load(String sql, Object... args) {
+        Map<String, Article> articles = new LinkedHashMap<>();
+        jdbcTemplate.query(sql, (ResultSet rs) -> {
+            String id = rs.getString("id");
+            Article article = articles.get(id);
+            if (article == null) {
+                LocalDateTime publishedAt = rs.getObject("published_at", LocalDateTime.class);
+                article = new Article(id, rs.getString("slug"), rs.getString("thumbnail_url"),
+                        rs.getString("author_id"),
+                        publishedAt != null ? publishedAt.atZone(databaseZone).toInstant() : null,
+                        new EnumMap<>(KTypeLanguage.class));
+                articles.put(id, article);
+            }
+            Optional<KTypeLanguage> language = KTypeLanguage.fromCode(rs.getString("language_code"));
+            if (language.isPresent()) {
+                article.translations().put(language.get(),
+                        new Translation(rs.getString("title"), rs.getString("content")));
+            }
+        }, args);
+        return new ArrayList<>(articles.values());
+    }
+
+    private static String slugKey(String slug, KTypeLanguage language) {
+        return slug + ':' + language.getCode();
+    }
+
+    private static Cache requireCache(CacheManager cacheManager, String name) {
+        return Objects.requireNonNull(cacheManager.getCache(name), "Cache '" + name + "' is not configured");
+    }
+
+    /**
+     * Runs a cache change after the current transaction commits,
+     * or immediately if no transaction is active.
+     *
+     * @param change The cache change
+     */
+    private void afterCommit(Runnable change) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            change.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                change.run();
+            }
+        });
+    }
+
+    /**
+     * Title and content in one language.
+     */
+    private record Translation(String title, String content) {
+    }
+
+    /**
+     * A published article with every translation loaded.
+     */
+    private record Article(String id, String slug, String thumbnailUrl, String authorId, Instant publishedAt,
+            Map<KTypeLanguage, Translation> translations) {
+
+        /**
+         * Renders the article in a language, falling back to the default
+         * language and then to any translation.
+         *
+         * @param language Requested language
+         * @return Response in the best available language
+         */
+        NewsResponse render(KTypeLanguage language) {
+            KTypeLanguage used = language;
+            if (!translations.containsKey(used)) {
+                used = translations.containsKey(KTypeLanguage.getDefault())
+                        ? KTypeLanguage.getDefault()
+                        : translations.keySet().stream().findFirst().orElse(language);
+            }
+            Translation translation = translations.get(used);
+            return NewsResponse.builder()
+                    .id(id)
+                    .slug(slug)
+                    .thumbnailUrl(thumbnailUrl)
+                    .authorId(authorId)
+                    .publishedAt(publishedAt)
+                    .language(used)
+                    .title(translation != null ? translation.title() : null)
+                    .content(translation != null ? translation.content() : null)
+                    .build();
+        }
+    }
+}
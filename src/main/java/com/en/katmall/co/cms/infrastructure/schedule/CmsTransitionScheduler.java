@@ -0,0 +1,372 @@
+/**
+ * KATMALL Application
+ * tai.buivan@outlook.com Copyright (c) 2025 All rights reserved
+ */
+package com.en.katmall.co.cms.infrastructure.schedule;
+
+import com.en.katmall.co.cms.domain.model.Banner;
+import com.en.katmall.co.cms.domain.model.News;
+import com.en.katmall.co.cms.infrastructure.readmodel.NewsReadModel;
+import com.en.katmall.co.cms.infrastructure.snapshot.BannerSlotSnapshot;
+import com.en.katmall.co.shared.infrastructure.config.properties.AppProperties;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ScheduledFuture;
+import java.util.function.Consumer;
+
+/**
+ * Fires scheduled CMS state changes at their exact time.
+ *
+ * <p>
+ * Every upcoming transition (news publish and unpublish, banner window start
+ * and end) is held as a one-shot timer on a single-thread delay queue, loaded
+ * from the database at startup and re-armed whenever a use case changes a
+ * schedule on this node. Transitions already due fire immediately, which
+ * catches up on anything missed while the node was down. A slow periodic
+ * reload picks up schedules changed on other nodes; timer changes made while
+ * it reads are journaled and replayed onto the loaded schedules, so the
+ * reload does not revert them.
+ *
+ * <p>
+ * Every node fires the same transitions. The database changes are
+ * conditional on the schedule still being due, so only the first node
+ * applies them; each node then refreshes its own news cache and banner
+ * snapshot, so reads never filter by time.
+ *
+ * <p>
+ * Schedule columns are TIMESTAMP without time zone, written by JPA in the
+ * configured database zone, so they are read and compared in that zone
+ * rather than the JVM's.
+ *
+ * @author tai.buivan
+ * @version 1.0
+ */
+@Component
+@Slf4j
+public class CmsTransitionScheduler {
+
+    private static final String SQL_SELECT_NEWS = """
+            SELECT id, slug, publish_at, unpublish_at FROM cms_news
+             WHERE publish_at IS NOT NULL OR unpublish_at IS NOT NULL""";
+
+    private static final String SQL_SELECT_BANNERS = """
+            SELECT id, start_at, end_at FROM cms_banners
+             WHERE is_active = TRUE AND (start_at IS NOT NULL OR end_at IS NOT NULL)""";
+
+    private static final String SQL_PUBLISH_NEWS = """
+            UPDATE cms_news SET is_published = TRUE, published_at = publish_at, publish_at = NULL
+             WHERE id = ? AND publish_at <= ?""";
+
+    private static final String SQL_UNPUBLISH_NEWS = """
+            UPDATE cms_news SET is_published = FALSE, unpublish_at = NULL
+             WHERE id = ? AND unpublish_at <= ?""";
+
+    private static final String SQL_EXPIRE_BANNER = """
+            UPDATE cms_banners SET is_active = FALSE
+             WHERE id = ? AND is_active = TRUE AND end_at <= ?""";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NewsReadModel newsReadModel;
+    private final BannerSlotSnapshot bannerSlotSnapshot;
+    private final ZoneId databaseZone;
+    private final ThreadPoolTaskScheduler timer;
+
+    /** Armed timers keyed by transition, e.g. "news:publish:{id}" */
+    private final Map<String, ScheduledFuture<?>> timers = new HashMap<>();
+
+    /** Timer changes made while a reload is loading; guarded by this */
+    private List<Consumer<Map<String, Transition>>> journal;
+
+    /**
+     * Creates the scheduler and its timer thread
+     *
+     * @param jdbcTemplate       JDBC template
+     * @param newsReadModel      News cache to evict on news transitions
+     * @param bannerSlotSnapshot Banner snapshot to refresh on banner transitions
+     * @param appProperties      Application configuration, for the database zone
+     */
+    public CmsTransitionScheduler(JdbcTemplate jdbcTemplate, NewsReadModel newsReadModel,
+            BannerSlotSnapshot bannerSlotSnapshot, AppProperties appProperties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.newsReadModel = newsReadModel;
+        this.bannerSlotSnapshot = bannerSlotSnapshot;
+        this.databaseZone = appProperties.getDatabaseTimeZone();
+        this.timer = new ThreadPoolTaskScheduler();
+        this.timer.setPoolSize(1);
+        this.timer.setThreadNamePrefix("cms-transitions-");
+        this.timer.setRemoveOnCancelPolicy(true);
+        this.timer.initialize();
+    }
+
+    /**
+     * Re-arms every timer from the database.
+     * Runs at startup and then at the configured interval.
+     */
+    @Scheduled(initialDelay = 0, fixedDelayString = "${cms.schedule.reload-interval-ms:1800000}")
+    public void reload() {
+        synchronized (this) {
+            journal = new ArrayList<>();
+        }
+        Map<String, Transition> fresh = new HashMap<>();
+        try {
+            jdbcTemplate.query(SQL_SELECT_NEWS, rs -> {
+                String id = rs.getString("id");
+                String slug = rs.getString("slug");
+                collect(fresh, newsKey("publish", id), rs.getObject("publish_at", LocalDateTime.class), true,
+                        () -> publishNews(id, slug));
+                collect(fresh, newsKey("unpublish", id), rs.getObject("unpublish_at", LocalDateTime.class), true,
+                        () -> unpublishNews(id, slug));
+            });
+            jdbcTemplate.query(SQL_SELECT_BANNERS, rs -> {
+                String id = rs.getString("id");
+                // Windows that already opened are rendered by the snapshot's own load
+                collect(fresh, bannerKey("start", id), rs.getObject("start_at", LocalDateTime.class), false,
+                        bannerSlotSnapshot::refresh);
+                collect(fresh, bannerKey("end", id), rs.getObject("end_at", LocalDateTime.class), true,
+                        () -> expireBanner(id));
+            });
+        } catch (DataAccessException e) {
+            synchronized (this) {
+                journal = null;
+            }
+            log.error("Could not load CMS transitions: {}", e.getMessage());
+            return;
+        }
+        synchronized (this) {
+            journal.forEach(change -> change.accept(fresh));
+            journal = null;
+            timers.values().forEach(future -> future.cancel(false));
+            timers.clear();
+            fresh.forEach((key, transition) -> arm(key, transition.at(), transition.action()));
+        }
+        log.debug("Armed {} CMS transitions", fresh.size());
+    }
+
+    /**
+     * Arms the publish and unpublish timers of a news article once the current
+     * transaction commits, replacing earlier ones.
+     *
+     * @param news The saved news article
+     */
+    public void schedule(News news) {
+        String id = news.getId();
+        String slug = news.getSlug();
+        Instant publishAt = news.getPublishAt();
+        Instant unpublishAt = news.getUnpublishAt();
+        afterCommit(() -> {
+            rearm(newsKey("publish", id), publishAt, () -> publishNews(id, slug));
+            rearm(newsKey("unpublish", id), unpublishAt, () -> unpublishNews(id, slug));
+        });
+    }
+
+    /**
+     * Arms the window timers of a banner once the current transaction commits,
+     * replacing earlier ones. Inactive banners have none.
+     *
+     * @param banner The saved banner
+     */
+    public void schedule(Banner banner) {
+        String id = banner.getId();
+        Instant startAt = banner.isActive() ? banner.getStartAt() : null;
+        Instant endAt = banner.isActive() ? banner.getEndAt() : null;
+        afterCommit(() -> {
+            rearm(bannerKey("start", id), startAt, bannerSlotSnapshot::refresh);
+            rearm(bannerKey("end", id), endAt, () -> expireBanner(id));
+        });
+    }
+
+    /**
+     * Cancels the timers of a deleted news article once the current transaction commits.
+     *
+     * @param newsId The news ID
+     */
+    public void cancelNews(String newsId) {
+        afterCommit(() -> {
+            rearm(newsKey("publish", newsId), null, null);
+            rearm(newsKey("unpublish", newsId), null, null);
+        });
+    }
+
+    /**
+     * Cancels the timers of a deleted banner once the current transaction commits.
+     *
+     * @param bannerId The banner ID
+     */
+    public void cancelBanner(String bannerId) {
+        afterCommit(() -> {
+            rearm(bannerKey("start", bannerId), null, null);
+            rearm(bannerKey("end", bannerId), null, null);
+        });
+    }
+
+    /**
+     * Stops the timer thread; pending transitions are re-armed on the next start
+     */
+    @PreDestroy
+    public void shutdown() {
+        timer.shutdown();
+    }
+
+    /**
+     * Publishes a news article whose publication is due and evicts its cached views.
+     *
+     * @param id   The news ID
+     * @param slug The news slug
+     */
+    private void publishNews(String id, String slug) {
+        int updated = jdbcTemplate.update(SQL_PUBLISH_NEWS, id, LocalDateTime.now(databaseZone));
+        newsReadModel.evict(slug);
+        if (updated > 0) {
+            log.info("Published scheduled news {}", slug);
+        }
+    }
+
+    /**
+     * Unpublishes a news article whose withdrawal is due and evicts its cached views.
+     *
+     * @param id   The news ID
+     * @param slug The news slug
+     */
+    private void unpublishNews(String id, String slug) {
+        int updated = jdbcTemplate.update(SQL_UNPUBLISH_NEWS, id, LocalDateTime.now(databaseZone));
+        newsReadModel.evict(slug);
+        if (updated > 0) {
+            log.info("Unpublished scheduled news {}", slug);
+        }
+    }
+
+    /**
+     * Deactivates a banner whose window ended and removes it from its slot.
+     *
+     * @param id The banner ID
+     */
+    private void expireBanner(String id) {
+        int updated = jdbcTemplate.update(SQL_EXPIRE_BANNER, id, LocalDateTime.now(databaseZone));
+        bannerSlotSnapshot.remove(id);
+        if (updated > 0) {
+            log.info("Deactivated banner {} at the end of its window", id);
+        }
+    }
+
+    /**
+     * Adds a transition found while loading.
+     *
+     * @param transitions Transitions by key
+     * @param key         Transition key
+     * @param at          Transition time in the database zone, may be null
+     * @param catchUp     Whether a transition already past is still fired
+     * @param action      Transition action
+     */
+    private void collect(Map<String, Transition> transitions, String key, LocalDateTime at, boolean catchUp,
+            Runnable action) {
+        if (at == null) {
+            return;
+        }
+        Instant instant = at.atZone(databaseZone).toInstant();
+        if (!catchUp && !instant.isAfter(Instant.now())) {
+            return;
+        }
+        transitions.put(key, new Transition(instant, action));
+    }
+
+    /**
+     * Replaces the timer of a transition, and journals the change while a
+     * reload is loading.
+     *
+     * @param key    Transition key
+     * @param at     Time to fire, null to only cancel
+     * @param action Transition action
+     */
+    private synchronized void rearm(String key, Instant at, Runnable action) {
+        ScheduledFuture<?> previous = timers.remove(key);
+        if (previous != null) {
+            previous.cancel(false);
+        }
+        if (at != null) {
+            arm(key, at, action);
+        }
+        if (journal != null) {
+            journal.add(transitions -> {
+                if (at != null) {
+                    transitions.put(key, new Transition(at, action));
+                } else {
+                    transitions.remove(key);
+                }
+            });
+        }
+    }
+
+    /**
+     * Arms a one-shot timer; it unregisters itself when it fires.
+     * Must be called while holding the monitor.
+     *
+     * @param key    Transition key
+     * @param at     Time to fire; past times fire immediately
+     * @param action Transition action
+     */
+    private void arm(String key, Instant at, Runnable action) {
+        ScheduledFuture<?>[] self = new ScheduledFuture<?>[1];
+        self[0] = timer.schedule(() -> {
+            synchronized (this) {
+                timers.remove(key, self[0]);
+            }
+            try {
+                action.run();
+            } catch (DataAccessException e) {
+                log.error("CMS transition {} failed; retried on the next reload: {}", key, e.getMessage());
+            }
+        }, at);
+        timers.put(key, self[0]);
+    }
+
+    private static String newsKey(String transition, String id) {
+        return "news:" + transition + ":" + id;
+    }
+
+    private static String bannerKey(String transition, String id) {
+        return "banner:" + transition + ":" + id;
+    }
+
+    /**
+     * Runs a timer change after the current transaction commits,
+     * or immediately if no transaction is active.
+     *
+     * @param change The timer change
+     */
+    private void afterCommit(Runnable change) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            change.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                change.run();
+            }
+        });
+    }
+
+    /**
+     * A transition to arm.
+     *
+     * @param at     Time to fire
+     * @param action Transition action
+     */
+    private record Transition(Instant at, Runnable action) {
+    }
+}
@@ -0,0 +1,241 @@
+/**
+ * KATMALL Application
+ * tai.buivan@outlook.com Copyright (c) 2025 All rights reserved
+ */
+package com.en.katmall.co.cms.infrastructure.snapshot;
+
+import com.en.katmall.co.cms.application.dto.response.BannerResponse;
+import com.en.katmall.co.cms.domain.model.Banner;
+import com.en.katmall.co.cms.domain.repository.BannerRepository;
+import com.en.katmall.co.shared.enums.KTypeBannerPosition;
+import com.en.katmall.co.shared.utils.JsonUtils;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * In-memory snapshot of the banners shown in each {@link KTypeBannerPosition}
+ * slot, with every slot pre-serialised to JSON.
+ *
+ * <p>
+ * Loaded from {@link BannerRepository#findAllActive()} at startup and reloaded
+ * periodically so changes made on other nodes are picked up. Changes made on
+ * this node are applied once the surrounding transaction commits; changes
+ * applied while a reload is reading are journaled and replayed onto the loaded
+ * banners, so the reload does not undo them. Every change builds a new
+ * snapshot and swaps it in with one volatile write, so readers never see a
+ * half-built slot and never take a lock.
+ *
+ * <p>
+ * The snapshot keeps its own copies of the banners and hands out copies, so
+ * callers cannot change what other readers see.
+ *
+ * <p>
+ * Active banners outside their display window are kept but not rendered.
+ * Reads never look at the clock: the CMS transition scheduler calls
+ * {@link #refresh()} when a window opens or closes.
+ *
+ * @author tai.buivan
+ * @version 1.0
+ */
+@Component
+@Slf4j
+public class BannerSlotSnapshot {
+
+    /** Slot order: higher priority first, newest first among equals */
+    private static final Comparator<Banner> SLOT_ORDER = Comparator.comparingInt(Banner::getPriority).reversed()
+            .thenComparing(Banner::getCreatedAt, Comparator.nullsLast(Comparator.reverseOrder()))
+            .thenComparing(Banner::getId);
+
+    private final ObjectProvider<BannerRepository> bannerRepository;
+
+    /** Current snapshot; replaced as a whole */
+    private volatile Snapshot snapshot = render(Map.of(), Instant.now());
+
+    /** Changes applied while a reload is loading; guarded by this */
+    private List<Consumer<Map<String, Banner>>> journal;
+
+    /**
+     * Creates the snapshot
+     *
+     * @param bannerRepository Repository used to load the snapshot, if available
+     */
+    public BannerSlotSnapshot(ObjectProvider<BannerRepository> bannerRepository) {
+        this.bannerRepository = bannerRepository;
+    }
+
+    /**
+     * Reloads every active banner from the database.
+     */
+    @Scheduled(initialDelay = 0, fixedDelayString = "${cms.banners.refresh-interval-ms:300000}")
+    public void reload() {
+        bannerRepository.ifAvailable(repository -> {
+            synchronized (this) {
+                journal = new ArrayList<>();
+            }
+            Map<String, Banner> fresh = new HashMap<>();
+            try {
+                for (Banner banner : repository.findAllActive()) {
+                    fresh.put(banner.getId(), banner.copy());
+                }
+            } catch (RuntimeException e) {
+                synchronized (this) {
+                    journal = null;
+                }
+                throw e;
+            }
+            synchronized (this) {
+                journal.forEach(change -> change.accept(fresh));
+                journal = null;
+                snapshot = render(fresh, Instant.now());
+            }
+            log.debug("Loaded banner snapshot with {} banners", fresh.size());
+        });
+    }
+
+    /**
+     * Gets copies of the banners currently shown in a slot, highest priority first
+     *
+     * @param position The display position
+     * @return Visible banners
+     */
+    public List<Banner> findByPosition(KTypeBannerPosition position) {
+        return snapshot.visible().get(position).stream().map(Banner::copy).toList();
+    }
+
+    /**
+     * Gets the pre-serialised JSON array of the banners currently shown in a slot.
+     * The returned array is shared and must not be modified.
+     *
+     * @param position The display position
+     * @return JSON array of {@link BannerResponse}
+     */
+    public byte[] findJsonByPosition(KTypeBannerPosition position) {
+        return snapshot.json().get(position);
+    }
+
+    /**
+     * Adds or replaces a created or updated banner once the current transaction
+     * commits. Inactive banners are removed.
+     *
+     * @param banner The saved banner
+     */
+    public void put(Banner banner) {
+        Objects.requireNonNull(banner, "Banner must not be null");
+        Banner copy = banner.copy();
+        afterCommit(() -> apply(banners -> {
+            if (copy.isActive()) {
+                banners.put(copy.getId(), copy);
+            } else {
+                banners.remove(copy.getId());
+            }
+        }));
+    }
+
+    /**
+     * Removes a deleted banner once the current transaction commits.
+     *
+     * @param bannerId The banner ID
+     */
+    public void remove(String bannerId) {
+        afterCommit(() -> apply(banners -> banners.remove(bannerId)));
+    }
+
+    /**
+     * Re-renders every slot from the banners in memory, for when a display
+     * window opened or closed.
+     */
+    public synchronized void refresh() {
+        snapshot = render(snapshot.banners(), Instant.now());
+    }
+
+    /**
+     * Builds a new snapshot from a modified copy of the current banners, and
+     * journals the change while a reload is loading.
+     *
+     * @param change Modification of the copy
+     */
+    private synchronized void apply(Consumer<Map<String, Banner>> change) {
+        Map<String, Banner> banners = new HashMap<>(snapshot.banners());
+        change.accept(banners);
+        snapshot = render(banners, Instant.now());
+        if (journal != null) {
+            journal.add(change);
+        }
+    }
+
+    /**
+     * Renders every slot for the given instant.
+     *
+     * @param banners Active banners by ID
+     * @param now     Instant to evaluate display windows at
+     * @return New snapshot
+     */
+    private static Snapshot render(Map<String, Banner> banners, Instant now) {
+        Map<KTypeBannerPosition, List<Banner>> visible = new EnumMap<>(KTypeBannerPosition.class);
+        Map<KTypeBannerPosition, byte[]> json = new EnumMap<>(KTypeBannerPosition.class);
+        for (KTypeBannerPosition position : KTypeBannerPosition.values()) {
+            List<Banner> slot = banners.values().stream()
+                    .filter(banner -> banner.getDisplayPosition() == position && banner.isVisibleAt(now))
+                    .sorted(SLOT_ORDER)
+                    .toList();
+            visible.put(position, slot);
+            json.put(position, serialise(slot));
+        }
+        return new Snapshot(Map.copyOf(banners), visible, json);
+    }
+
+    /**
+     * Serialises the banners of a slot.
+     *
+     * @param slot Banners in display order
+     * @return JSON array bytes
+     */
+    private static byte[] serialise(List<Banner> slot) {
+        try {
+            return JsonUtils.getMapper().writeValueAsBytes(slot.stream().map(BannerResponse::from).toList());
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialise banner slot", e);
+        }
+    }
+
+    /**
+     * Runs a snapshot change after the current transaction commits,
+     * or immediately if no transaction is active.
+     *
+     * @param change The snapshot change
+     */
+    private void afterCommit(Runnable change) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            change.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                change.run();
+            }
+        });
+    }
+
+    /**
+     * Active banners and the rendered slots.
+     */
+    private record Snapshot(Map<String, Banner> banners, Map<KTypeBannerPosition, List<Banner>> visible,
+            Map<KTypeBannerPosition, byte[]> json) {
+    }
+}
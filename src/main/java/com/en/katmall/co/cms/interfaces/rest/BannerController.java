@@ -0,0 +1,52 @@
+/**
+ * KATMALL Application
+ * tai.buivan@outlook.com Copyright (c) 2025 All rights reserved
+ */
+package com.en.katmall.co.cms.interfaces.rest;
+
+import com.en.katmall.co.cms.application.usecase.GetBannerUseCase;
+import com.en.katmall.co.shared.enums.KTypeBannerPosition;
+import com.en.katmall.co.shared.exception.ValidationException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * REST Controller for public banner slots.
+ * Writes the pre-serialised slot JSON as is, without a database query or
+ * serialisation per request.
+ *
+ * @author tai.buivan
+ * @version 1.0
+ */
+@RestController
+@RequestMapping("/api/v1/public/banners")
+@RequiredArgsConstructor
+public class BannerController {
+
+    private final GetBannerUseCase getBannerUseCase;
+
+    /**
+     * Gets the banners currently shown at a position
+     * GET /api/v1/public/banners/{position}
+     *
+     * @param position Position code, e.g. HOME_SLIDER
+     * @return JSON array of banners, highest priority first
+     */
+    @GetMapping(value = "/{position}", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<byte[]> getByPosition(@PathVariable String position) {
+        KTypeBannerPosition slot;
+        try {
+            slot = KTypeBannerPosition.fromCode(position);
+        } catch (IllegalArgumentException e) {
+            throw new ValidationException("position", e.getMessage());
+        }
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(getBannerUseCase.findJsonByPosition(slot));
+    }
+}
@@ -0,0 +1,54 @@
+/**
+ * KATMALL Application
+ * tai.buivan@outlook.com Copyright (c) 2025 All rights reserved
+ */
+package com.en.katmall.co.identity.application.listener;
+
+import com.en.katmall.co.identity.domain.event.UserRegisteredEvent;
+import com.en.katmall.co.identity.domain.model.UserModel;
+import com.en.katmall.co.identity.domain.repository.UserRepository;
+import com.en.katmall.co.shared.enums.KTypeAuthProvider;
+import com.en.katmall.co.shared.infrastructure.mail.EmailService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+
+/**
+ * Sends the welcome email once a registration has been verified.
+ * Receives {@link UserRegisteredEvent} from the outbox after the account is
+ * committed; a failed send is thrown back to the outbox, which retries it
+ * with backoff.
+ *
+ * @author tai.buivan
+ * @version 1.0
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class WelcomeEmailListener {
+
+    private final UserRepository userRepository;
+    private final EmailService emailService;
+
+    /**
+     * Sends the welcome email to a user who registered and verified an email address.
+     * Users who registered by phone or through a social provider are skipped.
+     *
+     * @param event The user registered event
+     */
+    @EventListener
+    public void onUserRegistered(UserRegisteredEvent event) {
+        Optional<UserModel> user = userRepository.findById(event.getUserId());
+        if (user.isEmpty()) {
+            log.warn("Skipped welcome email for missing user {}", event.getUserId());
+            return;
+        }
+        if (user.get().getAuthProvider() != KTypeAuthProvider.LOCAL || !user.get().isEmailVerified()) {
+            return;
+        }
+        emailService.sendWelcomeEmail(event.getEmail(), null);
+    }
+}
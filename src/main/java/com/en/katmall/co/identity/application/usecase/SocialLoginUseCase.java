@@ -12,6 +12,7 @@ import com.en.katmall.co.identity.domain.model.valueobject.Email;
 import com.en.katmall.co.identity.domain.repository.UserRepository;
 import com.en.katmall.co.shared.enums.KTypeAuthProvider;
 import com.en.katmall.co.shared.exception.ValidationException;
+import com.en.katmall.co.shared.infrastructure.event.DomainEventPublisher;
 import com.en.katmall.co.shared.infrastructure.i18n.MessageService;
 import com.en.katmall.co.shared.infrastructure.security.JwtTokenProvider;
 import lombok.RequiredArgsConstructor;
@@ -40,6 +41,7 @@ public class SocialLoginUseCase {
     private final UserRepository userRepository;
     private final JwtTokenProvider jwtTokenProvider;
     private final MessageService messageService;
+    private final DomainEventPublisher domainEventPublisher;
 
     /**
      * Executes the social login use case
@@ -86,6 +88,7 @@ public class SocialLoginUseCase {
         }
 
         UserModel savedUserModel = userRepository.save(userModel);
+        domainEventPublisher.publish(userModel);
         return createAuthResponse(savedUserModel);
     }
 
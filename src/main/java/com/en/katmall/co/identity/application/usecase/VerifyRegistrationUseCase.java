@@ -12,7 +12,7 @@ import com.en.katmall.co.identity.domain.repository.MemberRegistrationRepository
 import com.en.katmall.co.identity.domain.repository.UserRepository;
 import com.en.katmall.co.shared.enums.KTypeIdentifier;
 import com.en.katmall.co.shared.exception.DomainException;
-import com.en.katmall.co.shared.infrastructure.mail.EmailService;
+import com.en.katmall.co.shared.infrastructure.event.DomainEventPublisher;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -35,7 +35,7 @@ public class VerifyRegistrationUseCase {
 
     private final MemberRegistrationRepository memberRegistrationRepository;
     private final UserRepository userRepository;
-    private final EmailService emailService;
+    private final DomainEventPublisher domainEventPublisher;
 
     /**
      * Executes the verification use case
@@ -56,15 +56,12 @@ public class VerifyRegistrationUseCase {
         // Create user from registration
         UserModel userModel = createUserFromRegistration(registration);
         UserModel savedUserModel = userRepository.save(userModel);
+        // Welcome email is sent by WelcomeEmailListener once the outbox delivers the event
+        domainEventPublisher.publish(userModel);
 
         // Delete member registration
         memberRegistrationRepository.deleteById(registration.getId());
 
-        // Send welcome email
-        if (registration.getIdentifierType() == KTypeIdentifier.EMAIL) {
-            emailService.sendWelcomeEmail(registration.getIdentifier(), null);
-        }
-
         log.info("Verified registration for user: {}", savedUserModel.getId());
 
         return VerificationResponse.builder()
@@ -62,6 +62,9 @@ public class UserPersistenceMapper {
             setField(userModel, "status", KTypeUserStatus.ACTIVE);
         }
 
+        // A loaded user did not just register
+        userModel.clearDomainEvents();
+
         return userModel;
     }
 
@@ -0,0 +1,55 @@
+/**
+ * KATMALL Application
+ * tai.buivan@outlook.com Copyright (c) 2025 All rights reserved
+ */
+package com.en.katmall.co.inventory.application.dto.response;
+
+import com.en.katmall.co.inventory.domain.event.LowStockEvent;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Response DTO for a stock row at or below its low stock threshold.
+ * 
+ * @author tai.buivan
+ * @version 1.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LowStockResponse {
+
+    /** Inventory stock ID */
+    private String stockId;
+
+    /** Warehouse location ID */
+    private String locationId;
+
+    /** Product variant ID */
+    private String variantId;
+
+    /** Available quantity when the row became low */
+    private int availableQuantity;
+
+    /** Low stock threshold of the row */
+    private int lowStockThreshold;
+
+    /**
+     * Creates a response from a low stock entry
+     * 
+     * @param entry The low stock entry
+     * @return Low stock response
+     */
+    public static LowStockResponse from(LowStockEvent entry) {
+        return LowStockResponse.builder()
+                .stockId(entry.getStockId())
+                .locationId(entry.getLocationId())
+                .variantId(entry.getVariantId())
+                .availableQuantity(entry.getAvailableQuantity())
+                .lowStockThreshold(entry.getLowStockThreshold())
+                .build();
+    }
+}
@@ -0,0 +1,38 @@
+/**
+ * KATMALL Application
+ * tai.buivan@outlook.com Copyright (c) 2025 All rights reserved
+ */
+package com.en.katmall.co.inventory.application.usecase;
+
+import com.en.katmall.co.inventory.application.dto.response.LowStockResponse;
+import com.en.katmall.co.inventory.infrastructure.lowstock.LowStockFeed;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * Use Case: Get Low Stock
+ * Lists the stock rows at or below their low stock threshold from the
+ * maintained low stock feed, without scanning the stock table.
+ * 
+ * @author tai.buivan
+ * @version 1.0
+ */
+@Service
+@RequiredArgsConstructor
+public class GetLowStockUseCase {
+
+    private final LowStockFeed lowStockFeed;
+
+    /**
+     * Gets the low stock rows, most urgent first
+     * 
+     * @return Low stock rows ordered by available quantity
+     */
+    public List<LowStockResponse> execute() {
+        return lowStockFeed.findLowStock().stream()
+                .map(LowStockResponse::from)
+                .toList();
+    }
+}
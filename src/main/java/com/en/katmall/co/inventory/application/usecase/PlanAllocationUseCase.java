@@ -0,0 +1,210 @@
+/**
+ * KATMALL Application
+ * tai.buivan@outlook.com Copyright (c) 2025 All rights reserved
+ */
+package com.en.katmall.co.inventory.application.usecase;
+
+import com.en.katmall.co.inventory.domain.model.AllocationPlan;
+import com.en.katmall.co.inventory.infrastructure.allocation.StockAvailabilityIndex;
+import com.en.katmall.co.shared.exception.DomainException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+
+/**
+ * Use Case: Plan Allocation
+ * Decides which locations fulfil an order, splitting it across as few
+ * shipments as possible using the in-memory availability index.
+ *
+ * <p>
+ * Single-location and two-location plans are searched exhaustively; larger
+ * splits fall back to greedy set cover, picking the location that supplies
+ * the most remaining units each round. No database access is involved.
+ *
+ * @author tai.buivan
+ * @version 1.0
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PlanAllocationUseCase {
+
+    private static final String ERR_INVALID_QUANTITY = "INVALID_QUANTITY";
+
+    private final StockAvailabilityIndex availabilityIndex;
+
+    /**
+     * Plans the allocation of an order.
+     *
+     * @param quantities Quantity ordered keyed by variant ID
+     * @return Allocation plan, possibly with unallocated lines
+     * @throws DomainException if any quantity is not positive
+     */
+    public AllocationPlan execute(Map<String, Integer> quantities) {
+        Objects.requireNonNull(quantities, "Quantities must not be null");
+
+        List<String> locations = availabilityIndex.locations();
+        int slots = locations.size();
+        List<String> variants = new ArrayList<>(new TreeMap<>(quantities).keySet());
+        int[] needed = new int[variants.size()];
+        int[][] available = new int[variants.size()][];
+        for (int line = 0; line < variants.size(); line++) {
+            needed[line] = Objects.requireNonNull(quantities.get(variants.get(line)), "Quantity must not be null");
+            if (needed[line] <= 0) {
+                throw new DomainException(ERR_INVALID_QUANTITY, "Quantity must be positive");
+            }
+            available[line] = availabilityIndex.availability(variants.get(line), slots);
+        }
+
+        int[] chosen = findSingle(needed, available, slots);
+        if (chosen == null) {
+            chosen = findPair(needed, available, slots);
+        }
+        if (chosen == null) {
+            chosen = findGreedy(needed, available, slots);
+        }
+        return buildPlan(chosen, locations, variants, needed, available);
+    }
+
+    /**
+     * Finds one location that holds every line.
+     *
+     * @param needed    Quantity per line
+     * @param available Available quantity per line per slot
+     * @param slots     Number of location slots
+     * @return The slot, or null if none covers the order
+     */
+    private int[] findSingle(int[] needed, int[][] available, int slots) {
+        for (int slot = 0; slot < slots; slot++) {
+            if (covers(needed, available, slot, -1)) {
+                return new int[] { slot };
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Finds two locations that together hold every line.
+     *
+     * @param needed    Quantity per line
+     * @param available Available quantity per line per slot
+     * @param slots     Number of location slots
+     * @return The slots, or null if no pair covers the order
+     */
+    private int[] findPair(int[] needed, int[][] available, int slots) {
+        for (int first = 0; first < slots; first++) {
+            for (int second = first + 1; second < slots; second++) {
+                if (covers(needed, available, first, second)) {
+                    return new int[] { first, second };
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Picks locations greedily by the number of remaining units they supply.
+     *
+     * @param needed    Quantity per line
+     * @param available Available quantity per line per slot
+     * @param slots     Number of location slots
+     * @return Chosen slots in pick order
+     */
+    private int[] findGreedy(int[] needed, int[][] available, int slots) {
+        int[] remaining = needed.clone();
+        boolean[] used = new boolean[slots];
+        List<Integer> picked = new ArrayList<>();
+        while (true) {
+            int best = -1;
+            long bestUnits = 0;
+            for (int slot = 0; slot < slots; slot++) {
+                if (used[slot]) {
+                    continue;
+                }
+                long units = 0;
+                for (int line = 0; line < remaining.length; line++) {
+                    units += Math.min(remaining[line], available[line][slot]);
+                }
+                if (units > bestUnits) {
+                    best = slot;
+                    bestUnits = units;
+                }
+            }
+            if (best < 0) {
+                break;
+            }
+            used[best] = true;
+            picked.add(best);
+            for (int line = 0; line < remaining.length; line++) {
+                remaining[line] -= Math.min(remaining[line], available[line][best]);
+            }
+        }
+        return picked.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    /**
+     * Checks if one or two slots hold every line.
+     *
+     * @param needed    Quantity per line
+     * @param available Available quantity per line per slot
+     * @param first     First slot
+     * @param second    Second slot, or -1 for none
+     * @return true if every line is covered
+     */
+    private boolean covers(int[] needed, int[][] available, int first, int second) {
+        for (int line = 0; line < needed.length; line++) {
+            long supply = available[line][first] + (second >= 0 ? (long) available[line][second] : 0L);
+            if (supply < needed[line]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Turns the chosen slots into shipments, filling each line from the
+     * chosen locations in order.
+     *
+     * @param chosen    Chosen slots
+     * @param locations Location ID per slot
+     * @param variants  Variant ID per line
+     * @param needed    Quantity per line
+     * @param available Available quantity per line per slot
+     * @return Allocation plan
+     */
+    private AllocationPlan buildPlan(int[] chosen, List<String> locations, List<String> variants,
+            int[] needed, int[][] available) {
+        int[] remaining = needed.clone();
+        List<AllocationPlan.Shipment> shipments = new ArrayList<>(chosen.length);
+        for (int slot : chosen) {
+            Map<String, Integer> lines = new LinkedHashMap<>();
+            for (int line = 0; line < remaining.length; line++) {
+                int take = Math.min(remaining[line], available[line][slot]);
+                if (take > 0) {
+                    lines.put(variants.get(line), take);
+                    remaining[line] -= take;
+                }
+            }
+            if (!lines.isEmpty()) {
+                shipments.add(new AllocationPlan.Shipment(locations.get(slot), lines));
+            }
+        }
+
+        Map<String, Integer> unallocated = new LinkedHashMap<>();
+        for (int line = 0; line < remaining.length; line++) {
+            if (remaining[line] > 0) {
+                unallocated.put(variants.get(line), remaining[line]);
+            }
+        }
+        log.debug("Planned {} lines into {} shipments, {} lines unallocated",
+                variants.size(), shipments.size(), unallocated.size());
+        return new AllocationPlan(shipments, unallocated);
+    }
+}
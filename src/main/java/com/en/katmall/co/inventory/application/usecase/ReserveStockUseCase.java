@@ -0,0 +1,169 @@
+/**
+ * KATMALL Application
+ * tai.buivan@outlook.com Copyright (c) 2025 All rights reserved
+ */
+package com.en.katmall.co.inventory.application.usecase;
+
+import com.en.katmall.co.inventory.domain.model.StockShortfall;
+import com.en.katmall.co.inventory.domain.repository.StockReservationRepository;
+import com.en.katmall.co.inventory.infrastructure.allocation.StockAvailabilityIndex;
+import com.en.katmall.co.inventory.infrastructure.reservation.StripedReservationPool;
+import com.en.katmall.co.shared.exception.DomainException;
+import com.en.katmall.co.shared.infrastructure.config.properties.InventoryProperties;
+import com.en.katmall.co.shared.infrastructure.config.properties.InventoryProperties.ReservationMode;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Use Case: Reserve Stock
+ * Reserves, releases and confirms stock with single conditional updates
+ * instead of loading and saving the InventoryStock aggregate, so hot SKUs
+ * do not fail with optimistic-lock conflicts under concurrent checkouts.
+ *
+ * <p>
+ * Not transactional on purpose: each update commits on its own, which keeps
+ * the row lock short and keeps pooled chunk claims from being rolled back
+ * while their units are still held in memory.
+ *
+ * @author tai.buivan
+ * @version 1.0
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ReserveStockUseCase {
+
+    private static final String ERR_INVALID_QUANTITY = "INVALID_QUANTITY";
+    private static final String ERR_INSUFFICIENT_STOCK = "INSUFFICIENT_STOCK";
+    private static final String ERR_INVALID_RESERVATION = "INVALID_RESERVATION";
+
+    private final StockReservationRepository reservationRepository;
+    private final StripedReservationPool reservationPool;
+    private final InventoryProperties inventoryProperties;
+    private final StockAvailabilityIndex availabilityIndex;
+
+    /**
+     * Reserves stock for an order line.
+     *
+     * @param locationId The warehouse location ID
+     * @param variantId  The product variant ID
+     * @param quantity   The quantity to reserve
+     * @throws DomainException if quantity is invalid or stock is insufficient
+     */
+    public void execute(String locationId, String variantId, int quantity) {
+        validate(locationId, variantId, quantity);
+
+        boolean reserved = isPooled()
+                ? reservationPool.reserve(locationId, variantId, quantity)
+                : reservationRepository.reserve(locationId, variantId, quantity);
+        if (!reserved) {
+            throw new DomainException(ERR_INSUFFICIENT_STOCK,
+                    String.format("Not enough stock available for variant %s at location %s. Requested: %d",
+                            variantId, locationId, quantity));
+        }
+        availabilityIndex.adjust(locationId, variantId, -quantity);
+        log.debug("Reserved {} of variant {} at location {}", quantity, variantId, locationId);
+    }
+
+    /**
+     * Reserves every line of a cart at one location in a single batch.
+     * Always goes to the database, even in pooled mode, so the cart is
+     * reserved all-or-nothing.
+     *
+     * @param quantities Quantity to reserve keyed by variant ID
+     * @param locationId The warehouse location ID
+     * @return Lines that could not be reserved; empty if the whole cart was reserved
+     * @throws DomainException if any quantity is invalid
+     */
+    public List<StockShortfall> reserveAll(Map<String, Integer> quantities, String locationId) {
+        Objects.requireNonNull(quantities, "Quantities must not be null");
+        quantities.forEach((variantId, quantity) -> validate(locationId, variantId,
+                Objects.requireNonNull(quantity, "Quantity must not be null")));
+
+        List<StockShortfall> shortfalls = reservationRepository.reserveAll(quantities, locationId);
+        if (shortfalls.isEmpty()) {
+            quantities.forEach((variantId, quantity) -> availabilityIndex.adjust(locationId, variantId, -quantity));
+            log.debug("Reserved {} lines at location {}", quantities.size(), locationId);
+        } else {
+            log.info("Cart reservation at location {} rejected, {} of {} lines short",
+                    locationId, shortfalls.size(), quantities.size());
+        }
+        return shortfalls;
+    }
+
+    /**
+     * Releases a reservation (e.g., order cancelled).
+     *
+     * @param locationId The warehouse location ID
+     * @param variantId  The product variant ID
+     * @param quantity   The quantity to release
+     * @throws DomainException if quantity is invalid or exceeds the reserved quantity
+     */
+    public void release(String locationId, String variantId, int quantity) {
+        validate(locationId, variantId, quantity);
+
+        boolean released = isPooled()
+                ? reservationPool.release(locationId, variantId, quantity)
+                : reservationRepository.release(locationId, variantId, quantity);
+        if (!released) {
+            throw new DomainException(ERR_INVALID_RESERVATION,
+                    String.format("Not enough reserved for variant %s at location %s. Requested: %d",
+                            variantId, locationId, quantity));
+        }
+        availabilityIndex.adjust(locationId, variantId, quantity);
+        log.debug("Released {} of variant {} at location {}", quantity, variantId, locationId);
+    }
+
+    /**
+     * Confirms a sale, converting the reservation into a stock deduction.
+     * Available quantity is unchanged, since on-hand and reserved drop together.
+     *
+     * @param locationId The warehouse location ID
+     * @param variantId  The product variant ID
+     * @param quantity   The quantity sold
+     * @throws DomainException if quantity is invalid or exceeds the reserved quantity
+     */
+    public void confirm(String locationId, String variantId, int quantity) {
+        validate(locationId, variantId, quantity);
+
+        boolean confirmed = isPooled()
+                ? reservationPool.confirm(locationId, variantId, quantity)
+                : reservationRepository.confirm(locationId, variantId, quantity);
+        if (!confirmed) {
+            throw new DomainException(ERR_INVALID_RESERVATION,
+                    String.format("Not enough reserved for variant %s at location %s. Requested: %d",
+                            variantId, locationId, quantity));
+        }
+        log.debug("Confirmed sale of {} of variant {} at location {}", quantity, variantId, locationId);
+    }
+
+    /**
+     * Checks whether reservations are served from the striped pool.
+     *
+     * @return true in pooled mode
+     */
+    private boolean isPooled() {
+        return inventoryProperties.getReservation().getMode() == ReservationMode.POOLED;
+    }
+
+    /**
+     * Validates the reservation arguments.
+     *
+     * @param locationId The warehouse location ID
+     * @param variantId  The product variant ID
+     * @param quantity   The quantity
+     * @throws DomainException if quantity is not positive
+     */
+    private void validate(String locationId, String variantId, int quantity) {
+        Objects.requireNonNull(locationId, "Location ID must not be null");
+        Objects.requireNonNull(variantId, "Variant ID must not be null");
+        if (quantity <= 0) {
+            throw new DomainException(ERR_INVALID_QUANTITY, "Quantity must be positive");
+        }
+    }
+}
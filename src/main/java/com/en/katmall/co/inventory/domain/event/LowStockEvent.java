@@ -0,0 +1,48 @@
+/**
+ * KATMALL Application
+ * tai.buivan@outlook.com Copyright (c) 2025 All rights reserved
+ */
+package com.en.katmall.co.inventory.domain.event;
+
+import com.en.katmall.co.shared.domain.DomainEvent;
+import lombok.Getter;
+
+/**
+ * Domain event raised when a stock row drops to or below its low stock threshold.
+ * 
+ * @author tai.buivan
+ * @version 1.0
+ */
+@Getter
+public class LowStockEvent extends DomainEvent {
+
+    private final String stockId;
+    private final String locationId;
+    private final String variantId;
+    private final int availableQuantity;
+    private final int lowStockThreshold;
+
+    /**
+     * Creates a new low stock event
+     * 
+     * @param stockId           The inventory stock ID
+     * @param locationId        The warehouse location ID
+     * @param variantId         The product variant ID
+     * @param availableQuantity Available quantity after the change
+     * @param lowStockThreshold The threshold that was crossed
+     */
+    public LowStockEvent(String stockId, String locationId, String variantId,
+            int availableQuantity, int lowStockThreshold) {
+        super();
+        this.stockId = stockId;
+        this.locationId = locationId;
+        this.variantId = variantId;
+        this.availableQuantity = availableQuantity;
+        this.lowStockThreshold = lowStockThreshold;
+    }
+
+    @Override
+    public String getEventType() {
+        return "LOW_STOCK";
+    }
+}
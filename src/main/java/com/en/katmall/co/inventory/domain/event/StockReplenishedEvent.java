@@ -0,0 +1,44 @@
+/**
+ * KATMALL Application
+ * tai.buivan@outlook.com Copyright (c) 2025 All rights reserved
+ */
+package com.en.katmall.co.inventory.domain.event;
+
+import com.en.katmall.co.shared.domain.DomainEvent;
+import lombok.Getter;
+
+/**
+ * Domain event raised when a low stock row rises back above its threshold.
+ * 
+ * @author tai.buivan
+ * @version 1.0
+ */
+@Getter
+public class StockReplenishedEvent extends DomainEvent {
+
+    private final String stockId;
+    private final String locationId;
+    private final String variantId;
+    private final int availableQuantity;
+
+    /**
+     * Creates a new stock replenished event
+     * 
+     * @param stockId           The inventory stock ID
+     * @param locationId        The warehouse location ID
+     * @param variantId         The product variant ID
+     * @param availableQuantity Available quantity after the change
+     */
+    public StockReplenishedEvent(String stockId, String locationId, String variantId, int availableQuantity) {
+        super();
+        this.stockId = stockId;
+        this.locationId = locationId;
+        this.variantId = variantId;
+        this.availableQuantity = availableQuantity;
+    }
+
+    @Override
+    public String getEventType() {
+        return "STOCK_REPLENISHED";
+    }
+}
@@ -0,0 +1,55 @@
+/**
+ * KATMALL Application
+ * tai.buivan@outlook.com Copyright (c) 2025 All rights reserved
+ */
+package com.en.katmall.co.inventory.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Proposed split of an order across inventory locations.
+ * A plan is advisory: the lines still have to be reserved per shipment.
+ *
+ * @author tai.buivan
+ * @version 1.0
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public final class AllocationPlan {
+
+    /** Shipments, one per location, in the order they were chosen */
+    private final List<Shipment> shipments;
+
+    /** Quantities no location could supply, keyed by variant ID */
+    private final Map<String, Integer> unallocated;
+
+    /**
+     * Checks if every line of the order is covered
+     *
+     * @return true if nothing is left unallocated
+     */
+    public boolean isComplete() {
+        return unallocated.isEmpty();
+    }
+
+    /**
+     * Lines fulfilled from a single location.
+     */
+    @Getter
+    @ToString
+    @AllArgsConstructor
+    public static final class Shipment {
+
+        /** The warehouse location ID */
+        private final String locationId;
+
+        /** Quantity taken from this location keyed by variant ID */
+        private final Map<String, Integer> quantities;
+    }
+}
@@ -4,7 +4,10 @@
  */
 package com.en.katmall.co.inventory.domain.model;
 
+import com.en.katmall.co.inventory.domain.event.LowStockEvent;
+import com.en.katmall.co.inventory.domain.event.StockReplenishedEvent;
 import com.en.katmall.co.shared.domain.AggregateRoot;
+import com.en.katmall.co.shared.domain.DomainEvent;
 import com.en.katmall.co.shared.exception.DomainException;
 import com.en.katmall.co.shared.utils.IdGenerator;
 import lombok.AccessLevel;
@@ -12,11 +15,15 @@ import lombok.Getter;
 import lombok.Setter;
 
 import java.util.Objects;
+import java.util.Optional;
 
 /**
  * Inventory stock aggregate root managing product availability.
  * Handles stock quantities, reservations, and low stock alerts.
  * Uses optimistic locking via version field.
+ * Registers {@link LowStockEvent} and {@link StockReplenishedEvent} only when
+ * a change crosses the threshold, so alerting is driven by changes rather
+ * than by scanning every stock row.
  * 
  * @author tai.buivan
  * @version 1.0
@@ -104,9 +111,11 @@ public class InventoryStock extends AggregateRoot<String> {
                     String.format("Not enough stock available. Available: %d, Requested: %d",
                             getAvailableQuantity(), quantity));
         }
+        boolean wasLow = isLowStock();
         this.quantityReserved += quantity;
         this.version++;
         markAsUpdated();
+        registerThresholdCrossing(wasLow);
     }
 
     /**
@@ -117,9 +126,11 @@ public class InventoryStock extends AggregateRoot<String> {
      */
     public void releaseReservation(int quantity) {
         validatePositiveQuantity(quantity);
+        boolean wasLow = isLowStock();
         this.quantityReserved = Math.max(0, this.quantityReserved - quantity);
         this.version++;
         markAsUpdated();
+        registerThresholdCrossing(wasLow);
     }
 
     /**
@@ -130,9 +141,11 @@ public class InventoryStock extends AggregateRoot<String> {
      */
     public void addStock(int quantity) {
         validatePositiveQuantity(quantity);
+        boolean wasLow = isLowStock();
         this.quantityOnHand += quantity;
         this.version++;
         markAsUpdated();
+        registerThresholdCrossing(wasLow);
     }
 
     /**
@@ -147,9 +160,11 @@ public class InventoryStock extends AggregateRoot<String> {
             throw new DomainException(ERR_INSUFFICIENT_STOCK,
                     String.format("Cannot remove %d units. Only %d on hand", quantity, quantityOnHand));
         }
+        boolean wasLow = isLowStock();
         this.quantityOnHand -= quantity;
         this.version++;
         markAsUpdated();
+        registerThresholdCrossing(wasLow);
     }
 
     /**
@@ -165,10 +180,12 @@ public class InventoryStock extends AggregateRoot<String> {
                     String.format("Not enough reserved. Reserved: %d, Requested: %d",
                             quantityReserved, quantity));
         }
+        boolean wasLow = isLowStock();
         this.quantityReserved -= quantity;
         this.quantityOnHand -= quantity;
         this.version++;
         markAsUpdated();
+        registerThresholdCrossing(wasLow);
     }
 
     /**
@@ -180,8 +197,50 @@ public class InventoryStock extends AggregateRoot<String> {
         if (threshold < 0) {
             throw new DomainException(ERR_INVALID_QUANTITY, "Threshold cannot be negative");
         }
+        boolean wasLow = isLowStock();
         this.lowStockThreshold = threshold;
         markAsUpdated();
+        registerThresholdCrossing(wasLow);
+    }
+
+    /**
+     * Registers a low stock or replenished event if the last change crossed the threshold
+     * 
+     * @param wasLow Whether the stock was low before the change
+     */
+    private void registerThresholdCrossing(boolean wasLow) {
+        crossing(wasLow, isLowStock(), getId(), locationId, variantId, getAvailableQuantity(), lowStockThreshold)
+                .ifPresent(this::registerEvent);
+    }
+
+    /**
+     * Gets the event for a change in available quantity that crosses the low
+     * stock threshold. Also used by the conditional-update reservation path,
+     * which changes stock rows without loading the aggregate.
+     * 
+     * @param stockId         The inventory stock ID
+     * @param locationId      The warehouse location ID
+     * @param variantId       The product variant ID
+     * @param availableBefore Available quantity before the change
+     * @param availableAfter  Available quantity after the change
+     * @param threshold       The low stock threshold
+     * @return Low stock or replenished event, empty if the threshold was not crossed
+     */
+    public static Optional<DomainEvent> thresholdCrossing(String stockId, String locationId, String variantId,
+            int availableBefore, int availableAfter, int threshold) {
+        return crossing(availableBefore <= threshold, availableAfter <= threshold, stockId, locationId, variantId,
+                availableAfter, threshold);
+    }
+
+    private static Optional<DomainEvent> crossing(boolean wasLow, boolean isLow, String stockId, String locationId,
+            String variantId, int available, int threshold) {
+        if (!wasLow && isLow) {
+            return Optional.of(new LowStockEvent(stockId, locationId, variantId, available, threshold));
+        }
+        if (wasLow && !isLow) {
+            return Optional.of(new StockReplenishedEvent(stockId, locationId, variantId, available));
+        }
+        return Optional.empty();
     }
 
     private void validatePositiveQuantity(int quantity) {
@@ -0,0 +1,41 @@
+/**
+ * KATMALL Application
+ * tai.buivan@outlook.com Copyright (c) 2025 All rights reserved
+ */
+package com.en.katmall.co.inventory.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * A cart line that could not be reserved in full.
+ * Returned by batch reservations instead of failing on the first line,
+ * so checkout can report every short line at once.
+ *
+ * @author tai.buivan
+ * @version 1.0
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public final class StockShortfall {
+
+    /** The product variant ID */
+    private final String variantId;
+
+    /** Quantity requested for the line */
+    private final int requested;
+
+    /** Quantity available when the batch was attempted */
+    private final int available;
+
+    /**
+     * Gets the number of missing units
+     *
+     * @return Requested minus available
+     */
+    public int getMissing() {
+        return requested - Math.max(0, available);
+    }
+}
@@ -0,0 +1,88 @@
+/**
+ * KATMALL Application
+ * tai.buivan@outlook.com Copyright (c) 2025 All rights reserved
+ */
+package com.en.katmall.co.inventory.domain.repository;
+
+import com.en.katmall.co.inventory.domain.model.StockShortfall;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Repository interface for atomic stock reservation counters.
+ * Each operation is a single conditional update on the stock row, so
+ * concurrent callers never read-modify-write the
+ * {@link com.en.katmall.co.inventory.domain.model.InventoryStock} aggregate.
+ *
+ * @author tai.buivan
+ * @version 1.0
+ */
+public interface StockReservationRepository {
+
+    /**
+     * Reserves stock if enough is available
+     *
+     * @param locationId The warehouse location ID
+     * @param variantId  The product variant ID
+     * @param quantity   The quantity to reserve
+     * @return true if reserved, false if available quantity was insufficient
+     */
+    boolean reserve(String locationId, String variantId, int quantity);
+
+    /**
+     * Releases previously reserved stock
+     *
+     * @param locationId The warehouse location ID
+     * @param variantId  The product variant ID
+     * @param quantity   The quantity to release
+     * @return true if released, false if less than quantity was reserved
+     */
+    boolean release(String locationId, String variantId, int quantity);
+
+    /**
+     * Releases previously reserved stock while keeping some units reserved
+     *
+     * @param locationId The warehouse location ID
+     * @param variantId  The product variant ID
+     * @param quantity   The quantity to release
+     * @param retained   Units that must stay reserved afterwards, e.g. those
+     *                   held in a node-local pool
+     * @return true if released, false if less than quantity plus retained was reserved
+     */
+    boolean release(String locationId, String variantId, int quantity, int retained);
+
+    /**
+     * Converts reserved stock into a sale, deducting it from on-hand stock
+     *
+     * @param locationId The warehouse location ID
+     * @param variantId  The product variant ID
+     * @param quantity   The quantity sold
+     * @return true if confirmed, false if less than quantity was reserved
+     */
+    boolean confirm(String locationId, String variantId, int quantity);
+
+    /**
+     * Converts reserved stock into a sale while keeping some units reserved
+     *
+     * @param locationId The warehouse location ID
+     * @param variantId  The product variant ID
+     * @param quantity   The quantity sold
+     * @param retained   Units that must stay reserved afterwards, e.g. those
+     *                   held in a node-local pool
+     * @return true if confirmed, false if less than quantity plus retained was reserved
+     */
+    boolean confirm(String locationId, String variantId, int quantity, int retained);
+
+    /**
+     * Reserves every line of a cart at one location, all-or-nothing.
+     * Lines are applied in variant ID order so concurrent carts lock rows in
+     * the same sequence and cannot deadlock.
+     *
+     * @param quantities Quantity to reserve keyed by variant ID
+     * @param locationId The warehouse location ID
+     * @return Lines that could not be reserved; empty if everything was reserved.
+     *         When non-empty nothing is reserved.
+     */
+    List<StockShortfall> reserveAll(Map<String, Integer> quantities, String locationId);
+}
@@ -0,0 +1,233 @@
+/**
+ * KATMALL Application
+ * tai.buivan@outlook.com Copyright (c) 2025 All rights reserved
+ */
+package com.en.katmall.co.inventory.infrastructure.allocation;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory index of available quantity per variant per active location.
+ *
+ * <p>
+ * Locations are mapped to dense slots and each variant holds one
+ * {@link AtomicIntegerArray} indexed by slot, so 10k variants across 20
+ * locations fit in about a megabyte and a lookup is one hash probe. The index
+ * is adjusted on every reservation made through this node and fully reloaded
+ * from the database on a schedule to pick up changes made elsewhere.
+ *
+ * <p>
+ * Only active locations get slots; adjustments for any other location are
+ * ignored so the planner never picks it. Adjustments made while a reload is
+ * loading are journalled and replayed on the loaded state before it is
+ * swapped in. One that races with the query snapshot may be counted twice
+ * until the next reload; the index is advisory and every reservation is still
+ * checked by the database.
+ *
+ * @author tai.buivan
+ * @version 1.0
+ */
+@Component
+@Slf4j
+public class StockAvailabilityIndex {
+
+    private static final String SQL_LOAD = """
+            SELECT s.variant_id, s.location_id, s.quantity_on_hand - s.quantity_reserved
+              FROM inventory_stocks s
+              JOIN inventory_locations l ON l.id = s.location_id
+             WHERE l.is_active = TRUE""";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /** Adjustments share the read lock; starting and finishing a reload take the write lock */
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /** Current index state, swapped as a whole on reload */
+    private volatile State state = new State();
+
+    /** Adjustments made while a reload is loading; guarded by lock */
+    private Queue<Adjustment> journal;
+
+    /**
+     * Creates the index
+     *
+     * @param jdbcTemplate JDBC template used for reloads
+     */
+    public StockAvailabilityIndex(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Reloads the whole index from the database.
+     * Runs at startup and then periodically to reconcile changes from other nodes.
+     */
+    @Scheduled(initialDelay = 0, fixedDelayString = "${inventory.allocation.refresh-interval-ms:300000}")
+    public void refresh() {
+        lock.writeLock().lock();
+        try {
+            journal = new ConcurrentLinkedQueue<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        State fresh = new State();
+        try {
+            jdbcTemplate.query(SQL_LOAD, rs -> {
+                fresh.set(rs.getString(2), rs.getString(1), rs.getInt(3));
+            });
+        } catch (DataAccessException e) {
+            swap(null);
+            log.warn("Could not load stock availability index: {}", e.getMessage());
+            return;
+        }
+        swap(fresh);
+        log.info("Loaded stock availability for {} variants across {} locations",
+                fresh.variants.size(), fresh.locations.size());
+    }
+
+    /**
+     * Adjusts the available quantity of a stock row
+     *
+     * @param locationId The warehouse location ID
+     * @param variantId  The product variant ID
+     * @param delta      Change in available quantity (negative on reserve)
+     */
+    public void adjust(String locationId, String variantId, int delta) {
+        if (delta == 0) {
+            return;
+        }
+        lock.readLock().lock();
+        try {
+            state.adjust(locationId, variantId, delta);
+            if (journal != null) {
+                journal.add(new Adjustment(locationId, variantId, delta));
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Gets the locations known to the index, in slot order
+     *
+     * @return Location IDs; position i is slot i
+     */
+    public List<String> locations() {
+        return List.copyOf(state.locations);
+    }
+
+    /**
+     * Gets the available quantity of a variant at every location
+     *
+     * @param variantId The product variant ID
+     * @param slots     Number of slots to return, normally {@code locations().size()}
+     * @return Available quantity per location slot, zero where there is no stock row
+     */
+    public int[] availability(String variantId, int slots) {
+        int[] result = new int[slots];
+        AtomicIntegerArray row = state.variants.get(variantId);
+        if (row != null) {
+            for (int i = 0; i < Math.min(slots, row.length()); i++) {
+                result[i] = Math.max(0, row.get(i));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Ends a reload, replaying the journal on the loaded state and swapping it in
+     *
+     * @param fresh The loaded state, or null to keep the current one
+     */
+    private void swap(State fresh) {
+        lock.writeLock().lock();
+        try {
+            if (fresh != null) {
+                journal.forEach(adjustment -> fresh.adjust(adjustment.locationId(), adjustment.variantId(),
+                        adjustment.delta()));
+                state = fresh;
+            }
+            journal = null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * A change in available quantity made while a reload is loading.
+     */
+    private record Adjustment(String locationId, String variantId, int delta) {
+    }
+
+    /**
+     * Slot table and per-variant availability rows.
+     * All writes to a variant row go through {@link ConcurrentHashMap#compute}
+     * so growing a row for a new location cannot lose a concurrent update.
+     */
+    private static final class State {
+
+        private final Map<String, Integer> slots = new ConcurrentHashMap<>();
+        private final List<String> locations = new CopyOnWriteArrayList<>();
+        private final ConcurrentHashMap<String, AtomicIntegerArray> variants = new ConcurrentHashMap<>();
+
+        private void set(String locationId, String variantId, int available) {
+            int slot = slot(locationId);
+            variants.compute(variantId, (key, row) -> {
+                AtomicIntegerArray target = ensureCapacity(row, slot);
+                target.set(slot, available);
+                return target;
+            });
+        }
+
+        private void adjust(String locationId, String variantId, int delta) {
+            Integer slot = slots.get(locationId);
+            if (slot == null) {
+                return;
+            }
+            variants.compute(variantId, (key, row) -> {
+                AtomicIntegerArray target = ensureCapacity(row, slot);
+                target.addAndGet(slot, delta);
+                return target;
+            });
+        }
+
+        private int slot(String locationId) {
+            Integer slot = slots.get(locationId);
+            if (slot != null) {
+                return slot;
+            }
+            synchronized (this) {
+                return slots.computeIfAbsent(locationId, id -> {
+                    locations.add(id);
+                    return locations.size() - 1;
+                });
+            }
+        }
+
+        private AtomicIntegerArray ensureCapacity(AtomicIntegerArray row, int slot) {
+            if (row != null && slot < row.length()) {
+                return row;
+            }
+            AtomicIntegerArray grown = new AtomicIntegerArray(Math.max(slot + 1, locations.size()));
+            if (row != null) {
+                for (int i = 0; i < row.length(); i++) {
+                    grown.set(i, row.get(i));
+                }
+            }
+            return grown;
+        }
+    }
+}
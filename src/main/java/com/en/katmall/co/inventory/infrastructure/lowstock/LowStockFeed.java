@@ -0,0 +1,140 @@
+/**
+ * KATMALL Application
+ * tai.buivan@outlook.com Copyright (c) 2025 All rights reserved
+ */
+package com.en.katmall.co.inventory.infrastructure.lowstock;
+
+import com.en.katmall.co.inventory.domain.event.LowStockEvent;
+import com.en.katmall.co.inventory.domain.event.StockReplenishedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Maintained set of stock rows currently at or below their low stock threshold.
+ *
+ * <p>
+ * Loaded from {@code inventory_stocks} at startup and kept current by
+ * {@link LowStockEvent} and {@link StockReplenishedEvent} as the outbox
+ * delivers them, so reading the low stock list costs O(low stock rows)
+ * instead of a scan of every stock row. The outbox delivers each event on
+ * one node only, so the set is also reloaded at a slow interval; events
+ * received while a reload is loading are replayed on the loaded set.
+ *
+ * @author tai.buivan
+ * @version 1.0
+ */
+@Component
+@Slf4j
+public class LowStockFeed {
+
+    private static final String SQL_SELECT_LOW_STOCK = """
+            SELECT id, location_id, variant_id, quantity_on_hand - quantity_reserved AS available,
+                   low_stock_threshold
+              FROM inventory_stocks
+             WHERE quantity_on_hand - quantity_reserved <= low_stock_threshold""";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /** Low stock rows keyed by stock ID; guarded by this */
+    private Map<String, LowStockEvent> lowStock = new HashMap<>();
+
+    /** Changes received while a reload is loading; guarded by this */
+    private List<Consumer<Map<String, LowStockEvent>>> journal;
+
+    /**
+     * Creates the feed
+     *
+     * @param jdbcTemplate JDBC template used for reloads
+     */
+    public LowStockFeed(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Reloads the set with the current low stock rows.
+     * Runs at startup and then periodically to pick up events delivered on other nodes.
+     */
+    @Scheduled(initialDelay = 0, fixedDelayString = "${inventory.low-stock.refresh-interval-ms:300000}")
+    public void reload() {
+        synchronized (this) {
+            journal = new ArrayList<>();
+        }
+        Map<String, LowStockEvent> fresh = new HashMap<>();
+        try {
+            jdbcTemplate.query(SQL_SELECT_LOW_STOCK, rs -> {
+                LowStockEvent entry = new LowStockEvent(rs.getString("id"), rs.getString("location_id"),
+                        rs.getString("variant_id"), rs.getInt("available"), rs.getInt("low_stock_threshold"));
+                fresh.put(entry.getStockId(), entry);
+            });
+        } catch (DataAccessException e) {
+            synchronized (this) {
+                journal = null;
+            }
+            log.warn("Could not load low stock feed: {}", e.getMessage());
+            return;
+        }
+        synchronized (this) {
+            journal.forEach(change -> change.accept(fresh));
+            journal = null;
+            lowStock = fresh;
+        }
+        log.info("Loaded low stock feed with {} rows", fresh.size());
+    }
+
+    /**
+     * Adds a stock row that crossed below its threshold
+     *
+     * @param event The low stock event
+     */
+    @EventListener
+    public void onLowStock(LowStockEvent event) {
+        change(rows -> rows.put(event.getStockId(), event));
+        log.warn("Low stock: variant {} at location {} has {} available (threshold {})",
+                event.getVariantId(), event.getLocationId(), event.getAvailableQuantity(),
+                event.getLowStockThreshold());
+    }
+
+    /**
+     * Removes a stock row that rose back above its threshold
+     *
+     * @param event The replenished event
+     */
+    @EventListener
+    public void onReplenished(StockReplenishedEvent event) {
+        change(rows -> rows.remove(event.getStockId()));
+    }
+
+    /**
+     * Gets the stock rows currently low, most urgent first
+     *
+     * @return Low stock entries ordered by available quantity
+     */
+    public synchronized List<LowStockEvent> findLowStock() {
+        return lowStock.values().stream()
+                .sorted(Comparator.comparingInt(LowStockEvent::getAvailableQuantity))
+                .toList();
+    }
+
+    /**
+     * Applies a change to the set, and to the journal while a reload is loading.
+     *
+     * @param change The change
+     */
+    private synchronized void change(Consumer<Map<String, LowStockEvent>> change) {
+        change.accept(lowStock);
+        if (journal != null) {
+            journal.add(change);
+        }
+    }
+}
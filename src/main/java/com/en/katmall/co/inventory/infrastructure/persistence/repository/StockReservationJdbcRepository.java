@@ -0,0 +1,287 @@
+/**
+ * KATMALL Application
+ * tai.buivan@outlook.com Copyright (c) 2025 All rights reserved
+ */
+package com.en.katmall.co.inventory.infrastructure.persistence.repository;
+
+import com.en.katmall.co.inventory.domain.model.InventoryStock;
+import com.en.katmall.co.inventory.domain.model.StockShortfall;
+import com.en.katmall.co.inventory.domain.repository.StockReservationRepository;
+import com.en.katmall.co.shared.domain.DomainEvent;
+import com.en.katmall.co.shared.infrastructure.event.DomainEventPublisher;
+import org.springframework.jdbc.core.ArgumentPreparedStatementSetter;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+
+/**
+ * Implementation of StockReservationRepository using conditional SQL updates.
+ * The availability check lives in the WHERE clause, so the row lock taken by
+ * the UPDATE is held only for the statement and no version retry is needed.
+ *
+ * <p>
+ * Reservations and releases return the updated row, so a change that crosses
+ * the low stock threshold is detected from the counts before and after the
+ * statement without loading the aggregate. The resulting event is appended to
+ * the outbox in the same transaction as the update. Confirmations move on-hand
+ * and reserved together and never change availability.
+ *
+ * @author tai.buivan
+ * @version 1.0
+ */
+@Repository
+public class StockReservationJdbcRepository implements StockReservationRepository {
+
+    private static final String SQL_RESERVE = """
+            UPDATE inventory_stocks
+               SET quantity_reserved = quantity_reserved + ?, version = version + 1, updated_at = ?
+             WHERE location_id = ? AND variant_id = ?
+               AND quantity_on_hand - quantity_reserved >= ?""";
+
+    private static final String SQL_RELEASE = """
+            UPDATE inventory_stocks
+               SET quantity_reserved = quantity_reserved - ?, version = version + 1, updated_at = ?
+             WHERE location_id = ? AND variant_id = ?
+               AND quantity_reserved - ? >= ?""";
+
+    private static final String SQL_CONFIRM = """
+            UPDATE inventory_stocks
+               SET quantity_reserved = quantity_reserved - ?, quantity_on_hand = quantity_on_hand - ?,
+                   version = version + 1, updated_at = ?
+             WHERE location_id = ? AND variant_id = ?
+               AND quantity_reserved - ? >= ?""";
+
+    private static final String SQL_AVAILABLE = """
+            SELECT quantity_on_hand - quantity_reserved
+              FROM inventory_stocks
+             WHERE location_id = ? AND variant_id = ?""";
+
+    /** Columns returned by reservations and releases to detect threshold crossings */
+    private static final String[] RETURNED_COLUMNS = {
+            "id", "variant_id", "quantity_on_hand", "quantity_reserved", "low_stock_threshold" };
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final DomainEventPublisher domainEventPublisher;
+
+    /**
+     * Creates the repository
+     *
+     * @param jdbcTemplate         JDBC template
+     * @param transactionManager   Transaction manager used for reservations and batch reservations
+     * @param domainEventPublisher Publisher used for threshold crossings
+     */
+    public StockReservationJdbcRepository(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+            DomainEventPublisher domainEventPublisher) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.domainEventPublisher = domainEventPublisher;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean reserve(String locationId, String variantId, int quantity) {
+        requireKeys(locationId, variantId);
+        return updateAvailability(SQL_RESERVE, locationId, -quantity, quantity, now(), locationId, variantId, quantity);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean release(String locationId, String variantId, int quantity) {
+        return release(locationId, variantId, quantity, 0);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean release(String locationId, String variantId, int quantity, int retained) {
+        requireKeys(locationId, variantId);
+        return updateAvailability(SQL_RELEASE, locationId, quantity, quantity, now(), locationId, variantId,
+                retained, quantity);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean confirm(String locationId, String variantId, int quantity) {
+        return confirm(locationId, variantId, quantity, 0);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean confirm(String locationId, String variantId, int quantity, int retained) {
+        requireKeys(locationId, variantId);
+        return jdbcTemplate.update(SQL_CONFIRM, quantity, quantity, now(), locationId, variantId,
+                retained, quantity) == 1;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * The whole cart is sent as one JDBC batch of conditional updates. Lines
+     * whose update matched no row are short; if there are any, the available
+     * quantity of those lines is read and the transaction is rolled back.
+     */
+    @Override
+    public List<StockShortfall> reserveAll(Map<String, Integer> quantities, String locationId) {
+        Objects.requireNonNull(quantities, "Quantities must not be null");
+        Objects.requireNonNull(locationId, "Location ID must not be null");
+        if (quantities.isEmpty()) {
+            return List.of();
+        }
+
+        // Deterministic lock order across concurrent carts
+        List<Map.Entry<String, Integer>> lines = new ArrayList<>(new TreeMap<>(quantities).entrySet());
+        Timestamp now = now();
+        List<Object[]> args = new ArrayList<>(lines.size());
+        for (Map.Entry<String, Integer> line : lines) {
+            int quantity = Objects.requireNonNull(line.getValue(), "Quantity must not be null");
+            args.add(new Object[] { quantity, now, locationId, line.getKey(), quantity });
+        }
+
+        return transactionTemplate.execute(status -> {
+            KeyHolder rows = new GeneratedKeyHolder();
+            int[] counts = jdbcTemplate.batchUpdate(con -> con.prepareStatement(SQL_RESERVE, RETURNED_COLUMNS),
+                    new BatchPreparedStatementSetter() {
+                        @Override
+                        public void setValues(PreparedStatement ps, int i) throws SQLException {
+                            new ArgumentPreparedStatementSetter(args.get(i)).setValues(ps);
+                        }
+
+                        @Override
+                        public int getBatchSize() {
+                            return args.size();
+                        }
+                    }, rows);
+            List<StockShortfall> shortfalls = new ArrayList<>();
+            for (int i = 0; i < counts.length; i++) {
+                if (counts[i] != 1) {
+                    Map.Entry<String, Integer> line = lines.get(i);
+                    shortfalls.add(new StockShortfall(line.getKey(), line.getValue(),
+                            available(locationId, line.getKey())));
+                }
+            }
+            if (!shortfalls.isEmpty()) {
+                status.setRollbackOnly();
+                return shortfalls;
+            }
+            List<DomainEvent> events = new ArrayList<>();
+            for (Map<String, Object> row : rows.getKeyList()) {
+                int quantity = quantities.get((String) row.get("variant_id"));
+                thresholdCrossing(locationId, row, -quantity, events);
+            }
+            publish(events);
+            return shortfalls;
+        });
+    }
+
+    /**
+     * Runs a conditional update of one stock row and, in the same
+     * transaction, publishes the threshold crossing it caused, if any.
+     *
+     * @param sql        Conditional update returning {@link #RETURNED_COLUMNS}
+     * @param locationId The warehouse location ID
+     * @param delta      Change in available quantity made by the update
+     * @param args       Statement arguments
+     * @return true if the row was updated
+     */
+    private boolean updateAvailability(String sql, String locationId, int delta, Object... args) {
+        return Boolean.TRUE.equals(transactionTemplate.execute(status -> {
+            KeyHolder rows = new GeneratedKeyHolder();
+            int count = jdbcTemplate.update(con -> {
+                PreparedStatement ps = con.prepareStatement(sql, RETURNED_COLUMNS);
+                new ArgumentPreparedStatementSetter(args).setValues(ps);
+                return ps;
+            }, rows);
+            if (count != 1) {
+                return false;
+            }
+            List<DomainEvent> events = new ArrayList<>(1);
+            rows.getKeyList().forEach(row -> thresholdCrossing(locationId, row, delta, events));
+            publish(events);
+            return true;
+        }));
+    }
+
+    /**
+     * Adds the event for an updated row whose change crossed its low stock threshold.
+     *
+     * @param locationId The warehouse location ID
+     * @param row        Updated row
+     * @param delta      Change in available quantity made by the update
+     * @param events     Events to add to
+     */
+    private void thresholdCrossing(String locationId, Map<String, Object> row, int delta, List<DomainEvent> events) {
+        int after = ((Number) row.get("quantity_on_hand")).intValue()
+                - ((Number) row.get("quantity_reserved")).intValue();
+        InventoryStock.thresholdCrossing((String) row.get("id"), locationId, (String) row.get("variant_id"),
+                after - delta, after, ((Number) row.get("low_stock_threshold")).intValue())
+                .ifPresent(events::add);
+    }
+
+    /**
+     * Appends threshold crossings to the outbox in the current transaction.
+     *
+     * @param events Events to append
+     */
+    private void publish(List<DomainEvent> events) {
+        if (!events.isEmpty()) {
+            domainEventPublisher.publish(events);
+        }
+    }
+
+    /**
+     * Reads the available quantity of a stock row.
+     *
+     * @param locationId The warehouse location ID
+     * @param variantId  The product variant ID
+     * @return Available quantity, 0 if the row does not exist
+     */
+    private int available(String locationId, String variantId) {
+        List<Integer> rows = jdbcTemplate.queryForList(SQL_AVAILABLE, Integer.class, locationId, variantId);
+        return rows.isEmpty() ? 0 : rows.get(0);
+    }
+
+    /**
+     * Validates the stock row key.
+     *
+     * @param locationId The warehouse location ID
+     * @param variantId  The product variant ID
+     */
+    private void requireKeys(String locationId, String variantId) {
+        Objects.requireNonNull(locationId, "Location ID must not be null");
+        Objects.requireNonNull(variantId, "Variant ID must not be null");
+    }
+
+    /**
+     * Gets the current timestamp for updated_at.
+     *
+     * @return Current timestamp
+     */
+    private Timestamp now() {
+        return Timestamp.from(Instant.now());
+    }
+}
@@ -0,0 +1,319 @@
+/**
+ * KATMALL Application
+ * tai.buivan@outlook.com Copyright (c) 2025 All rights reserved
+ */
+package com.en.katmall.co.inventory.infrastructure.reservation;
+
+import com.en.katmall.co.inventory.domain.repository.StockReservationRepository;
+import com.en.katmall.co.shared.infrastructure.config.properties.InventoryProperties;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * Node-local pool of pre-reserved stock for hot SKUs.
+ *
+ * <p>
+ * Units are claimed from the database in chunks with the same conditional
+ * update used for single reservations, so the database always counts pooled
+ * units as reserved and no node can oversell. Individual reservations are then
+ * served by a CAS on one of several counter stripes, touching the database only
+ * when every stripe is empty. Unused units are returned periodically and on
+ * shutdown.
+ *
+ * <p>
+ * A release only goes back into the pool for units this node handed out
+ * from it. Any other release or confirmation is applied to the database
+ * with a conditional update that keeps this node's pooled units reserved.
+ * A double or bogus release is therefore rejected instead of adding units
+ * to the pool or freeing units the pool still hands out.
+ *
+ * <p>
+ * Pooled units of a node that crashes stay reserved until stock is
+ * reconciled, which is why this mode is opt-in.
+ *
+ * @author tai.buivan
+ * @version 1.0
+ */
+@Component
+@Slf4j
+public class StripedReservationPool {
+
+    private final StockReservationRepository reservationRepository;
+    private final int stripes;
+    private final int chunkSize;
+
+    /** Pools keyed by "locationId/variantId" */
+    private final Map<String, SkuPool> pools = new ConcurrentHashMap<>();
+
+    /**
+     * Creates the pool
+     *
+     * @param reservationRepository Atomic reservation repository
+     * @param inventoryProperties   Inventory configuration
+     */
+    public StripedReservationPool(StockReservationRepository reservationRepository,
+            InventoryProperties inventoryProperties) {
+        this.reservationRepository = reservationRepository;
+        this.stripes = Math.max(1, inventoryProperties.getReservation().getStripes());
+        this.chunkSize = Math.max(1, inventoryProperties.getReservation().getChunkSize());
+    }
+
+    /**
+     * Reserves stock from the local pool, refilling it from the database if needed.
+     *
+     * @param locationId The warehouse location ID
+     * @param variantId  The product variant ID
+     * @param quantity   The quantity to reserve
+     * @return true if reserved, false if the database has insufficient stock
+     */
+    public boolean reserve(String locationId, String variantId, int quantity) {
+        SkuPool pool = pool(locationId, variantId);
+        if (pool.tryTake(quantity)) {
+            pool.handedOut.addAndGet(quantity);
+            return true;
+        }
+        return refillAndTake(pool, quantity);
+    }
+
+    /**
+     * Releases reserved units. Units this node handed out from its pool go
+     * back into the pool and reach the database on the next flush; anything
+     * else is released in the database directly, never from the units
+     * pooled here.
+     *
+     * @param locationId The warehouse location ID
+     * @param variantId  The product variant ID
+     * @param quantity   The quantity released
+     * @return true if released, false if not that much is reserved
+     */
+    public boolean release(String locationId, String variantId, int quantity) {
+        SkuPool pool = pool(locationId, variantId);
+        if (pool.takeBack(quantity)) {
+            pool.put(quantity);
+            return true;
+        }
+        return reservationRepository.release(locationId, variantId, quantity, pool.pooled());
+    }
+
+    /**
+     * Confirms a sale in the database and stops counting the sold units as
+     * handed out by this node.
+     *
+     * @param locationId The warehouse location ID
+     * @param variantId  The product variant ID
+     * @param quantity   The quantity sold
+     * @return true if confirmed, false if not that much is reserved
+     */
+    public boolean confirm(String locationId, String variantId, int quantity) {
+        SkuPool pool = pool(locationId, variantId);
+        if (!reservationRepository.confirm(locationId, variantId, quantity, pool.pooled())) {
+            return false;
+        }
+        pool.forget(quantity);
+        return true;
+    }
+
+    /**
+     * Returns all unused pooled units to the database.
+     * Runs periodically so pooled stock does not hide availability for long.
+     */
+    @Scheduled(fixedDelayString = "${inventory.reservation.flush-interval-ms:5000}")
+    public void flush() {
+        pools.values().forEach(this::flush);
+    }
+
+    /**
+     * Drains the pools on shutdown so no stock stays reserved by this node.
+     */
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    /**
+     * Claims a chunk from the database and serves the request from it.
+     * Refills for one SKU are serialised so a burst of empty-pool misses
+     * produces one database claim rather than one per thread.
+     *
+     * @param pool     The SKU pool
+     * @param quantity The quantity requested
+     * @return true if reserved
+     */
+    private boolean refillAndTake(SkuPool pool, int quantity) {
+        synchronized (pool) {
+            if (pool.tryTake(quantity)) {
+                pool.handedOut.addAndGet(quantity);
+                return true;
+            }
+            int claim = Math.max(chunkSize, quantity);
+            if (reservationRepository.reserve(pool.locationId, pool.variantId, claim)) {
+                pool.put(claim - quantity);
+                pool.handedOut.addAndGet(quantity);
+                return true;
+            }
+            // Not enough for a full chunk; fall back to the exact quantity
+            return reservationRepository.reserve(pool.locationId, pool.variantId, quantity);
+        }
+    }
+
+    /**
+     * Drains one pool and releases its units in the database.
+     * If the database cannot be reached the units go back into the pool,
+     * where they are still counted as reserved, and are retried on the next
+     * flush. If the row no longer has that many units reserved they are not
+     * backed by the database any more and are dropped.
+     *
+     * @param pool The SKU pool
+     */
+    private void flush(SkuPool pool) {
+        int drained = pool.drain();
+        if (drained == 0) {
+            return;
+        }
+        try {
+            if (!reservationRepository.release(pool.locationId, pool.variantId, drained)) {
+                log.warn("Dropped {} pooled units for {}/{} the database no longer counts as reserved",
+                        drained, pool.locationId, pool.variantId);
+            }
+        } catch (DataAccessException e) {
+            pool.put(drained);
+            log.warn("Could not return {} pooled units for {}/{}: {}", drained, pool.locationId, pool.variantId,
+                    e.getMessage());
+        }
+    }
+
+    /**
+     * Gets or creates the pool of a stock row.
+     *
+     * @param locationId The warehouse location ID
+     * @param variantId  The product variant ID
+     * @return The SKU pool
+     */
+    private SkuPool pool(String locationId, String variantId) {
+        return pools.computeIfAbsent(key(locationId, variantId), k -> new SkuPool(locationId, variantId, stripes));
+    }
+
+    /**
+     * Builds the pool key for a stock row.
+     *
+     * @param locationId The warehouse location ID
+     * @param variantId  The product variant ID
+     * @return Pool key
+     */
+    private static String key(String locationId, String variantId) {
+        return locationId + "/" + variantId;
+    }
+
+    /**
+     * Striped counter of pooled units for one stock row.
+     */
+    private static final class SkuPool {
+
+        private final String locationId;
+        private final String variantId;
+        private final AtomicIntegerArray counts;
+
+        /** Units handed out from this pool and not yet released or confirmed */
+        private final AtomicInteger handedOut = new AtomicInteger();
+
+        private SkuPool(String locationId, String variantId, int stripes) {
+            this.locationId = locationId;
+            this.variantId = variantId;
+            this.counts = new AtomicIntegerArray(stripes);
+        }
+
+        /**
+         * Takes units from the first stripe that holds enough, starting at a random stripe.
+         *
+         * @param quantity Units to take
+         * @return true if taken
+         */
+        private boolean tryTake(int quantity) {
+            int length = counts.length();
+            int start = ThreadLocalRandom.current().nextInt(length);
+            for (int i = 0; i < length; i++) {
+                int stripe = (start + i) % length;
+                int current = counts.get(stripe);
+                while (current >= quantity) {
+                    if (counts.compareAndSet(stripe, current, current - quantity)) {
+                        return true;
+                    }
+                    current = counts.get(stripe);
+                }
+            }
+            return false;
+        }
+
+        /**
+         * Accounts for a release of units handed out from this pool.
+         *
+         * @param quantity Units released
+         * @return true if at least that many units were handed out
+         */
+        private boolean takeBack(int quantity) {
+            int current = handedOut.get();
+            while (current >= quantity) {
+                if (handedOut.compareAndSet(current, current - quantity)) {
+                    return true;
+                }
+                current = handedOut.get();
+            }
+            return false;
+        }
+
+        /**
+         * Stops counting confirmed units as handed out.
+         *
+         * @param quantity Units confirmed
+         */
+        private void forget(int quantity) {
+            handedOut.getAndUpdate(current -> Math.max(0, current - quantity));
+        }
+
+        /**
+         * Adds units to a random stripe.
+         *
+         * @param quantity Units to add
+         */
+        private void put(int quantity) {
+            if (quantity > 0) {
+                counts.addAndGet(ThreadLocalRandom.current().nextInt(counts.length()), quantity);
+            }
+        }
+
+        /**
+         * Counts the units currently in the pool.
+         *
+         * @return Pooled units
+         */
+        private int pooled() {
+            int total = 0;
+            for (int i = 0; i < counts.length(); i++) {
+                total += counts.get(i);
+            }
+            return total;
+        }
+
+        /**
+         * Atomically empties every stripe.
+         *
+         * @return Total units drained
+         */
+        private int drain() {
+            int total = 0;
+            for (int i = 0; i < counts.length(); i++) {
+                total += counts.getAndSet(i, 0);
+            }
+            return total;
+        }
+    }
+}
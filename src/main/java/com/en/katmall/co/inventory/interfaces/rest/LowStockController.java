@@ -0,0 +1,41 @@
+/**
+ * KATMALL Application
+ * tai.buivan@outlook.com Copyright (c) 2025 All rights reserved
+ */
+package com.en.katmall.co.inventory.interfaces.rest;
+
+import com.en.katmall.co.inventory.application.dto.response.LowStockResponse;
+import com.en.katmall.co.inventory.application.usecase.GetLowStockUseCase;
+import com.en.katmall.co.shared.dto.ApiResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * REST Controller for low stock alerts (admin only).
+ * 
+ * @author tai.buivan
+ * @version 1.0
+ */
+@RestController
+@RequestMapping("/api/v1/admin/inventory")
+@RequiredArgsConstructor
+public class LowStockController {
+
+    private final GetLowStockUseCase getLowStockUseCase;
+
+    /**
+     * Lists stock rows at or below their low stock threshold
+     * GET /api/v1/admin/inventory/low-stock
+     * 
+     * @return Low stock rows, most urgent first
+     */
+    @GetMapping("/low-stock")
+    public ResponseEntity<ApiResponse<List<LowStockResponse>>> findLowStock() {
+        return ResponseEntity.ok(ApiResponse.success(getLowStockUseCase.execute()));
+    }
+}
@@ -0,0 +1,66 @@
+/**
+ * KATMALL Application
+ * tai.buivan@outlook.com Copyright (c) 2025 All rights reserved
+ */
+package com.en.katmall.co.notification.application.dto.response;
+
+import com.en.katmall.co.notification.domain.model.Notification;
+import com.en.katmall.co.shared.enums.KTypeNotification;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * Response DTO for a notification.
+ *
+ * @author tai.buivan
+ * @version 1.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class NotificationResponse {
+
+    /** Notification unique identifier */
+    private String id;
+
+    /** Notification title */
+    private String title;
+
+    /** Notification message */
+    private String message;
+
+    /** Notification type */
+    private KTypeNotification type;
+
+    /** Related entity ID (order, promotion, ...) */
+    private String referenceId;
+
+    /** Whether the notification has been read */
+    private boolean read;
+
+    /** Creation timestamp */
+    private Instant createdAt;
+
+    /**
+     * Creates a response from a notification
+     *
+     * @param notification The notification
+     * @return Notification response
+     */
+    public static NotificationResponse from(Notification notification) {
+        return NotificationResponse.builder()
+                .id(notification.getId())
+                .title(notification.getTitle())
+                .message(notification.getMessage())
+                .type(notification.getType())
+                .referenceId(notification.getReferenceId())
+                .read(notification.isRead())
+                .createdAt(notification.getCreatedAt())
+                .build();
+    }
+}
@@ -0,0 +1,110 @@
+/**
+ * KATMALL Application
+ * tai.buivan@outlook.com Copyright (c) 2025 All rights reserved
+ */
+package com.en.katmall.co.notification.application.scheduler;
+
+import com.en.katmall.co.notification.infrastructure.archive.NotificationArchiver;
+import com.en.katmall.co.shared.infrastructure.config.properties.NotificationProperties;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Scheduler for notification retention.
+ * Moves read notifications past the configured age into the archive table,
+ * or drops them, so the notifications table stays small.
+ *
+ * <p>
+ * A run pauses between batches for up to the configured run time, so it
+ * runs on its own thread instead of holding a thread of the shared
+ * {@code @Scheduled} pool. A trigger that fires while a run is still going
+ * is skipped.
+ * 
+ * @author tai.buivan
+ * @version 1.0
+ */
+@Component
+@Slf4j
+public class NotificationArchiveScheduler {
+
+    private final NotificationArchiver notificationArchiver;
+    private final NotificationProperties notificationProperties;
+    private final ThreadPoolTaskExecutor worker;
+
+    /** Set while a run is queued or in progress */
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    /**
+     * Creates the scheduler and its worker thread
+     *
+     * @param notificationArchiver   Batch archiver
+     * @param notificationProperties Notification configuration
+     */
+    public NotificationArchiveScheduler(NotificationArchiver notificationArchiver,
+            NotificationProperties notificationProperties) {
+        this.notificationArchiver = notificationArchiver;
+        this.notificationProperties = notificationProperties;
+        this.worker = new ThreadPoolTaskExecutor();
+        this.worker.setCorePoolSize(1);
+        this.worker.setMaxPoolSize(1);
+        this.worker.setThreadNamePrefix("notification-archive-");
+        this.worker.initialize();
+    }
+
+    /**
+     * Starts archiving expired read notifications on the worker thread.
+     */
+    @Scheduled(cron = "${notification.archive.cron:0 40 3 * * *}")
+    public void archive() {
+        if (!notificationProperties.getArchive().isEnabled()) {
+            return;
+        }
+        if (!running.compareAndSet(false, true)) {
+            log.warn("Notification archival is still running; skipping this trigger");
+            return;
+        }
+        try {
+            worker.execute(() -> {
+                try {
+                    runArchive();
+                } finally {
+                    running.set(false);
+                }
+            });
+        } catch (TaskRejectedException e) {
+            running.set(false);
+        }
+    }
+
+    /**
+     * Interrupts a run in progress; the rest is moved on the next start
+     */
+    @PreDestroy
+    public void shutdown() {
+        worker.shutdown();
+    }
+
+    /**
+     * Archives expired read notifications in throttled batches.
+     */
+    private void runArchive() {
+        NotificationProperties.Archive config = notificationProperties.getArchive();
+        try {
+            notificationArchiver.archive(Instant.now().minus(config.getReadAfter()),
+                    config.getMode() == NotificationProperties.ArchiveMode.ARCHIVE,
+                    config.getBatchSize(), config.getPause(), config.getMaxRunTime());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (DataAccessException e) {
+            log.error("Notification archival failed: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,45 @@
+/**
+ * KATMALL Application
+ * tai.buivan@outlook.com Copyright (c) 2025 All rights reserved
+ */
+package com.en.katmall.co.notification.application.scheduler;
+
+import com.en.katmall.co.notification.infrastructure.counter.UnreadCounterStore;
+import com.en.katmall.co.shared.infrastructure.config.properties.NotificationProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Scheduler that recomputes unread notification counters from the
+ * notification rows, correcting drift from writes that bypassed the
+ * repository (manual fixes, bulk SQL).
+ * 
+ * @author tai.buivan
+ * @version 1.0
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class UnreadCounterReconciliationScheduler {
+
+    private final UnreadCounterStore unreadCounterStore;
+    private final NotificationProperties notificationProperties;
+
+    /**
+     * Reconciles all counters in keyset pages.
+     */
+    @Scheduled(cron = "${notification.unread.reconcile-cron:0 20 * * * *}")
+    public void reconcile() {
+        try {
+            int corrected = unreadCounterStore.reconcile(notificationProperties.getUnread().getReconcileBatchSize());
+            if (corrected > 0) {
+                log.warn("Corrected {} drifted unread notification counters", corrected);
+            }
+        } catch (DataAccessException e) {
+            log.error("Unread counter reconciliation failed: {}", e.getMessage());
+        }
+    }
+}
@@ -6,10 +6,13 @@ package com.en.katmall.co.notification.application.usecase;
 
 import com.en.katmall.co.notification.domain.model.Notification;
 import com.en.katmall.co.notification.domain.repository.NotificationRepository;
+import com.en.katmall.co.notification.infrastructure.fanout.NotificationFanout;
+import com.en.katmall.co.notification.infrastructure.push.NotificationPushRegistry;
 import com.en.katmall.co.shared.enums.KTypeNotification;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
@@ -18,6 +21,7 @@ import java.util.Objects;
 /**
  * Use Case: Send Notification
  * Sends various types of notifications to users.
+ * Saved notifications are pushed to the recipients' open streams after commit.
  * 
  * @author tai.buivan
  * @version 1.0
@@ -29,6 +33,8 @@ import java.util.Objects;
 public class SendNotificationUseCase {
 
     private final NotificationRepository notificationRepository;
+    private final NotificationFanout notificationFanout;
+    private final NotificationPushRegistry pushRegistry;
 
     /**
      * Sends a system notification to a user.
@@ -43,6 +49,7 @@ public class SendNotificationUseCase {
 
         Notification notification = Notification.systemNotification(userId, title, message);
         Notification saved = notificationRepository.save(notification);
+        pushRegistry.publish(List.of(saved));
 
         log.info("Sent system notification {} to user {}", saved.getId(), userId);
         return saved;
@@ -63,6 +70,7 @@ public class SendNotificationUseCase {
 
         Notification notification = Notification.orderNotification(userId, title, message, orderId);
         Notification saved = notificationRepository.save(notification);
+        pushRegistry.publish(List.of(saved));
 
         log.info("Sent order notification {} to user {} for order {}", saved.getId(), userId, orderId);
         return saved;
@@ -82,6 +90,7 @@ public class SendNotificationUseCase {
 
         Notification notification = Notification.promoNotification(userId, title, message, promotionId);
         Notification saved = notificationRepository.save(notification);
+        pushRegistry.publish(List.of(saved));
 
         log.info("Sent promo notification {} to user {}", saved.getId(), userId);
         return saved;
@@ -100,6 +109,7 @@ public class SendNotificationUseCase {
 
         Notification notification = Notification.securityNotification(userId, title, message);
         Notification saved = notificationRepository.save(notification);
+        pushRegistry.publish(List.of(saved));
 
         log.info("Sent security notification {} to user {}", saved.getId(), userId);
         return saved;
@@ -107,25 +117,32 @@ public class SendNotificationUseCase {
 
     /**
      * Sends a notification to multiple users.
+     * Notifications are written in chunks, each in its own transaction.
      * 
      * @param userIds List of user IDs
      * @param title   Notification title
      * @param message Notification message
      * @param type    Notification type
-     * @return List of created notifications
+     * @return Number of notifications sent
      */
-    public List<Notification> sendBulk(List<String> userIds, String title, String message, KTypeNotification type) {
-        List<Notification> notifications = userIds.stream()
-                .map(userId -> Notification.builder()
-                        .userId(userId)
-                        .title(title)
-                        .message(message)
-                        .type(type)
-                        .build())
-                .toList();
-
-        List<Notification> saved = notificationRepository.saveAll(notifications);
-        log.info("Sent bulk notification to {} users", userIds.size());
-        return saved;
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public int sendBulk(List<String> userIds, String title, String message, KTypeNotification type) {
+        int sent = notificationFanout.sendToUsers(userIds, title, message, type);
+        log.info("Sent bulk notification to {} users", sent);
+        return sent;
+    }
+
+    /**
+     * Starts a resumable broadcast of a notification to every active user.
+     * 
+     * @param title       Notification title
+     * @param message     Notification message
+     * @param type        Notification type
+     * @param referenceId Optional reference to a related entity
+     * @return Broadcast job ID
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public String broadcast(String title, String message, KTypeNotification type, String referenceId) {
+        return notificationFanout.broadcast(title, message, type, referenceId);
     }
 }
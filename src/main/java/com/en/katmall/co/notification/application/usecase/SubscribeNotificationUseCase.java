@@ -0,0 +1,40 @@
+/**
+ * KATMALL Application
+ * tai.buivan@outlook.com Copyright (c) 2025 All rights reserved
+ */
+package com.en.katmall.co.notification.application.usecase;
+
+import com.en.katmall.co.notification.domain.repository.NotificationRepository;
+import com.en.katmall.co.notification.infrastructure.push.NotificationPushRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.Objects;
+
+/**
+ * Use Case: Subscribe to Notifications
+ * Opens a push stream delivering a user's new notifications as they are sent.
+ * 
+ * @author tai.buivan
+ * @version 1.0
+ */
+@Service
+@RequiredArgsConstructor
+public class SubscribeNotificationUseCase {
+
+    private final NotificationRepository notificationRepository;
+    private final NotificationPushRegistry pushRegistry;
+
+    /**
+     * Opens a notification stream for a user.
+     * The current unread count is sent first.
+     * 
+     * @param userId User ID
+     * @return The event stream
+     */
+    public SseEmitter execute(String userId) {
+        Objects.requireNonNull(userId, "User ID must not be null");
+        return pushRegistry.subscribe(userId, notificationRepository.countUnreadByUserId(userId));
+    }
+}
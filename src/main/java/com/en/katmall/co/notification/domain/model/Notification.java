@@ -11,6 +11,7 @@ import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
 
+import java.time.Instant;
 import java.util.Objects;
 
 /**
@@ -41,6 +42,9 @@ public class Notification extends AggregateRoot<String> {
      */
     private Notification(Builder builder) {
         super(builder.id != null ? builder.id : IdGenerator.generate());
+        if (builder.createdAt != null) {
+            this.createdAt = builder.createdAt;
+        }
         this.userId = Objects.requireNonNull(builder.userId, "userId must not be null");
         this.title = Objects.requireNonNull(builder.title, "title must not be null");
         this.message = builder.message;
@@ -167,6 +171,7 @@ public class Notification extends AggregateRoot<String> {
      */
     public static class Builder {
         private String id;
+        private Instant createdAt;
         private String userId;
         private String title;
         private String message;
@@ -178,6 +183,11 @@ public class Notification extends AggregateRoot<String> {
             return this;
         }
 
+        public Builder createdAt(Instant createdAt) {
+            this.createdAt = createdAt;
+            return this;
+        }
+
         public Builder userId(String userId) {
             this.userId = userId;
             return this;
@@ -5,6 +5,7 @@
 package com.en.katmall.co.notification.domain.repository;
 
 import com.en.katmall.co.notification.domain.model.Notification;
+import com.en.katmall.co.shared.dto.PageCursor;
 import com.en.katmall.co.shared.enums.KTypeNotification;
 
 import java.util.List;
@@ -53,6 +54,16 @@ public interface NotificationRepository {
      */
     List<Notification> findByUserId(String userId, int page, int size);
 
+    /**
+     * Finds notifications for a user after a cursor, newest first
+     * 
+     * @param userId The user ID
+     * @param cursor Position of the last row already read, null for the first page
+     * @param limit  Maximum number of notifications
+     * @return List of notifications ordered by createdAt and ID, descending
+     */
+    List<Notification> findByUserIdAfter(String userId, PageCursor cursor, int limit);
+
     /**
      * Finds unread notifications for a user
      * 
@@ -0,0 +1,134 @@
+/**
+ * KATMALL Application
+ * tai.buivan@outlook.com Copyright (c) 2025 All rights reserved
+ */
+package com.en.katmall.co.notification.infrastructure.archive;
+
+import com.en.katmall.co.shared.infrastructure.config.properties.AppProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * Moves old read notifications out of the notifications table.
+ *
+ * <p>
+ * Each batch is a single auto-committed statement that deletes up to
+ * {@code batchSize} read notifications older than the cut-off and, in
+ * archive mode, inserts them into {@code notifications_archive}. Candidates
+ * come from the partial index on read rows with {@code FOR UPDATE SKIP
+ * LOCKED}, so rows being changed by users are skipped rather than waited on.
+ * Only read rows are touched, so the unread index and the unread counters
+ * are never affected. A pause between batches keeps the job from saturating
+ * I/O and replication. The cut-off and archived_at are bound in the configured
+ * database zone, the zone created_at is written in.
+ *
+ * <p>
+ * Metrics: {@code notification.archive.moved}. Every run also logs its
+ * throughput.
+ *
+ * @author tai.buivan
+ * @version 1.0
+ */
+@Component
+@Slf4j
+public class NotificationArchiver {
+
+    private static final String SQL_ARCHIVE_BATCH = """
+            WITH moved AS (
+                DELETE FROM notifications
+                 WHERE id IN (SELECT id FROM notifications
+                               WHERE is_read = TRUE AND created_at < ?
+                               ORDER BY created_at
+                               LIMIT ?
+                               FOR UPDATE SKIP LOCKED)
+                RETURNING id, user_id, title, message, type, reference_id, created_at)
+            INSERT INTO notifications_archive
+                (id, user_id, title, message, type, reference_id, created_at, archived_at)
+            SELECT id, user_id, title, message, type, reference_id, created_at, ?
+              FROM moved""";
+
+    private static final String SQL_DELETE_BATCH = """
+            DELETE FROM notifications
+             WHERE id IN (SELECT id FROM notifications
+                           WHERE is_read = TRUE AND created_at < ?
+                           ORDER BY created_at
+                           LIMIT ?
+                           FOR UPDATE SKIP LOCKED)""";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Counter movedCounter;
+    private final ZoneId databaseZone;
+
+    /**
+     * Creates the archiver
+     *
+     * @param jdbcTemplate  JDBC template
+     * @param meterRegistry Metrics registry
+     * @param appProperties Application configuration, for the database zone
+     */
+    public NotificationArchiver(JdbcTemplate jdbcTemplate, MeterRegistry meterRegistry, AppProperties appProperties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.databaseZone = appProperties.getDatabaseTimeZone();
+        this.movedCounter = Counter.builder("notification.archive.moved")
+                .description("Read notifications archived or deleted by retention")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Archives or deletes read notifications older than the cut-off in
+     * batches until none are left or the run time is used up.
+     *
+     * @param before     Read notifications created before this are moved
+     * @param keepCopy   true to copy rows into notifications_archive, false to drop them
+     * @param batchSize  Rows per statement
+     * @param pause      Pause between batches
+     * @param maxRunTime Time after which the run stops; the rest is moved on the next run
+     * @return Number of notifications moved
+     * @throws InterruptedException if interrupted while pausing
+     */
+    public long archive(Instant before, boolean keepCopy, int batchSize, Duration pause, Duration maxRunTime)
+            throws InterruptedException {
+        LocalDateTime cutoff = LocalDateTime.ofInstant(before, databaseZone);
+        int limit = Math.max(1, batchSize);
+        long startNanos = System.nanoTime();
+        long deadline = startNanos + maxRunTime.toNanos();
+        long moved = 0;
+        while (true) {
+            int count = keepCopy
+                    ? jdbcTemplate.update(SQL_ARCHIVE_BATCH, cutoff, limit, LocalDateTime.now(databaseZone))
+                    : jdbcTemplate.update(SQL_DELETE_BATCH, cutoff, limit);
+            moved += count;
+            movedCounter.increment(count);
+            if (count < limit || System.nanoTime() >= deadline) {
+                break;
+            }
+            Thread.sleep(pause.toMillis());
+        }
+        logThroughput(keepCopy ? "archived" : "deleted", moved, startNanos);
+        return moved;
+    }
+
+    /**
+     * Logs the number of notifications moved and the rate.
+     *
+     * @param what       Action performed
+     * @param count      Notifications moved
+     * @param startNanos Start time from {@link System#nanoTime()}
+     */
+    private void logThroughput(String what, long count, long startNanos) {
+        if (count == 0) {
+            return;
+        }
+        double seconds = Math.max(1e-9, (System.nanoTime() - startNanos) / 1e9);
+        log.info("Notification retention {} {} notifications in {} ms ({} per second)",
+                what, count, Math.round(seconds * 1000), Math.round(count / seconds));
+    }
+}
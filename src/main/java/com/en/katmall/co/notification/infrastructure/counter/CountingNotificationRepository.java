@@ -0,0 +1,154 @@
+/**
+ * KATMALL Application
+ * tai.buivan@outlook.com Copyright (c) 2025 All rights reserved
+ */
+package com.en.katmall.co.notification.infrastructure.counter;
+
+import com.en.katmall.co.notification.domain.model.Notification;
+import com.en.katmall.co.notification.domain.repository.NotificationRepository;
+import com.en.katmall.co.shared.dto.PageCursor;
+import com.en.katmall.co.shared.enums.KTypeNotification;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Decorator for {@link NotificationRepository} that keeps the materialised
+ * unread counters in step with every write and answers
+ * {@link #countUnreadByUserId(String)} from them instead of counting rows.
+ *
+ * <p>
+ * Counter adjustments join the caller's transaction, so a rolled back write
+ * leaves the counter untouched.
+ *
+ * @author tai.buivan
+ * @version 1.0
+ */
+public class CountingNotificationRepository implements NotificationRepository {
+
+    /** Underlying persistence repository */
+    private final NotificationRepository delegate;
+
+    private final UnreadCounterStore counters;
+
+    /**
+     * Creates a counting decorator around a notification repository
+     *
+     * @param delegate The repository to decorate
+     * @param counters Unread counter store
+     */
+    public CountingNotificationRepository(NotificationRepository delegate, UnreadCounterStore counters) {
+        this.delegate = Objects.requireNonNull(delegate, "delegate must not be null");
+        this.counters = Objects.requireNonNull(counters, "counters must not be null");
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * Adjusts the counter when the notification is new and unread, or when its
+     * read flag changed, as found by conditional updates of the flag.
+     */
+    @Override
+    public Notification save(Notification notification) {
+        Map<String, Integer> deltas = counters.applyReadFlags(List.of(notification));
+        Notification saved = delegate.save(notification);
+        deltas.forEach(counters::adjust);
+        return saved;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Notification> saveAll(List<Notification> notifications) {
+        Map<String, Integer> deltas = counters.applyReadFlags(notifications);
+        List<Notification> saved = delegate.saveAll(notifications);
+        deltas.forEach(counters::adjust);
+        return saved;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<Notification> findById(String id) {
+        return delegate.findById(id);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Notification> findByUserId(String userId, int page, int size) {
+        return delegate.findByUserId(userId, page, size);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Notification> findByUserIdAfter(String userId, PageCursor cursor, int limit) {
+        return delegate.findByUserIdAfter(userId, cursor, limit);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Notification> findUnreadByUserId(String userId) {
+        return delegate.findUnreadByUserId(userId);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Notification> findByUserIdAndType(String userId, KTypeNotification type) {
+        return delegate.findByUserIdAndType(userId, type);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * Served from the counter; the rows are counted only to seed it.
+     */
+    @Override
+    public long countUnreadByUserId(String userId) {
+        return counters.get(userId, () -> delegate.countUnreadByUserId(userId));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void markAllAsRead(String userId) {
+        delegate.markAllAsRead(userId);
+        counters.reset(userId);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void deleteById(String id) {
+        Optional<Notification> existing = delegate.findById(id);
+        boolean wasUnread = existing.isPresent() && counters.markReadBeforeDelete(id);
+        delegate.deleteById(id);
+        if (wasUnread) {
+            counters.adjust(existing.get().getUserId(), -1);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void deleteAllByUserId(String userId) {
+        delegate.deleteAllByUserId(userId);
+        counters.reset(userId);
+    }
+}
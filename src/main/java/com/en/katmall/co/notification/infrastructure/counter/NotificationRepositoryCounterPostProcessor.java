@@ -0,0 +1,60 @@
+/**
+ * KATMALL Application
+ * tai.buivan@outlook.com Copyright (c) 2025 All rights reserved
+ */
+package com.en.katmall.co.notification.infrastructure.counter;
+
+import com.en.katmall.co.notification.domain.repository.NotificationRepository;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.core.Ordered;
+import org.springframework.stereotype.Component;
+
+/**
+ * Wraps the persistence {@link NotificationRepository} bean in a
+ * {@link CountingNotificationRepository} so every write keeps the unread
+ * counters current without the use cases knowing about them.
+ *
+ * @author tai.buivan
+ * @version 1.0
+ */
+@Component
+public class NotificationRepositoryCounterPostProcessor implements BeanPostProcessor, Ordered {
+
+    /** Resolved lazily so the store is not created during post-processor registration */
+    private final ObjectProvider<UnreadCounterStore> counters;
+
+    /**
+     * Creates the post processor
+     *
+     * @param counters Lazy unread counter store provider
+     */
+    public NotificationRepositoryCounterPostProcessor(ObjectProvider<UnreadCounterStore> counters) {
+        this.counters = counters;
+    }
+
+    /**
+     * Decorates notification repository beans after all other proxies are applied.
+     *
+     * @param bean     The initialized bean
+     * @param beanName The bean name
+     * @return The decorated repository, or the bean unchanged
+     */
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof NotificationRepository repository && !(bean instanceof CountingNotificationRepository)) {
+            return new CountingNotificationRepository(repository, counters.getObject());
+        }
+        return bean;
+    }
+
+    /**
+     * Runs last so the decorator wraps transactional proxies.
+     *
+     * @return Lowest precedence
+     */
+    @Override
+    public int getOrder() {
+        return Ordered.LOWEST_PRECEDENCE;
+    }
+}
@@ -0,0 +1,292 @@
+/**
+ * KATMALL Application
+ * tai.buivan@outlook.com Copyright (c) 2025 All rights reserved
+ */
+package com.en.katmall.co.notification.infrastructure.counter;
+
+import com.en.katmall.co.notification.domain.model.Notification;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.LongSupplier;
+
+/**
+ * Materialised per-user unread notification counts.
+ *
+ * <p>
+ * Counts live in {@code notification_unread_counters} and are adjusted with
+ * relative updates in the same transaction as the notification change, so
+ * they commit or roll back together. A missing row means the count has not
+ * been computed yet: adjustments skip it and the first read seeds it with a
+ * real count. Reads go through the {@value #CACHE_NAME} cache, which is
+ * evicted after every committed adjustment, making badge polling a cache hit.
+ *
+ * @author tai.buivan
+ * @version 1.0
+ */
+@Component
+@Slf4j
+public class UnreadCounterStore {
+
+    /** Cache of unread counts keyed by user ID */
+    public static final String CACHE_NAME = "notification-unread-counts";
+
+    private static final String SQL_SELECT = """
+            SELECT unread_count FROM notification_unread_counters WHERE user_id = ?""";
+
+    private static final String SQL_SEED = """
+            INSERT INTO notification_unread_counters (user_id, unread_count, updated_at) VALUES (?, ?, ?)""";
+
+    private static final String SQL_ADJUST = """
+            UPDATE notification_unread_counters
+               SET unread_count = GREATEST(unread_count + ?, 0), updated_at = ?
+             WHERE user_id = ?""";
+
+    private static final String SQL_RESET = """
+            UPDATE notification_unread_counters SET unread_count = 0, updated_at = ? WHERE user_id = ?""";
+
+    private static final String SQL_SELECT_PAGE = """
+            SELECT user_id FROM notification_unread_counters
+             WHERE user_id > ?
+             ORDER BY user_id
+             LIMIT ?""";
+
+    private static final String SQL_RECONCILE = """
+            UPDATE notification_unread_counters c
+               SET unread_count = (SELECT COUNT(*) FROM notifications n
+                                    WHERE n.user_id = c.user_id AND n.is_read = FALSE),
+                   updated_at = ?
+             WHERE c.user_id >= ? AND c.user_id <= ?
+               AND c.unread_count <> (SELECT COUNT(*) FROM notifications n
+                                       WHERE n.user_id = c.user_id AND n.is_read = FALSE)""";
+
+    private static final String SQL_MARK_READ = """
+            UPDATE notifications SET is_read = TRUE WHERE id = ? AND is_read = FALSE""";
+
+    private static final String SQL_TOUCH_UNREAD = """
+            UPDATE notifications SET is_read = FALSE WHERE id = ? AND is_read = FALSE""";
+
+    private static final String SQL_MARK_UNREAD = """
+            UPDATE notifications SET is_read = FALSE WHERE id = ? AND is_read = TRUE""";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Cache cache;
+
+    /**
+     * Creates the store
+     *
+     * @param jdbcTemplate JDBC template
+     * @param cacheManager Cache manager providing the unread count cache
+     */
+    public UnreadCounterStore(JdbcTemplate jdbcTemplate, CacheManager cacheManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.cache = Objects.requireNonNull(cacheManager.getCache(CACHE_NAME),
+                "Cache '" + CACHE_NAME + "' is not configured");
+    }
+
+    /**
+     * Gets the unread count of a user, seeding the counter on first use
+     *
+     * @param userId        The user ID
+     * @param countFromRows Fallback that counts unread notification rows
+     * @return Unread count
+     */
+    public long get(String userId, LongSupplier countFromRows) {
+        Long cached = cache.get(userId, Long.class);
+        if (cached != null) {
+            return cached;
+        }
+        List<Long> rows = jdbcTemplate.queryForList(SQL_SELECT, Long.class, userId);
+        long count;
+        if (!rows.isEmpty()) {
+            count = rows.get(0);
+        } else {
+            count = countFromRows.getAsLong();
+            try {
+                jdbcTemplate.update(SQL_SEED, userId, count, now());
+            } catch (DuplicateKeyException e) {
+                // Seeded concurrently; both counted the same rows
+            }
+        }
+        cache.put(userId, count);
+        return count;
+    }
+
+    /**
+     * Adjusts the unread count of a user in the current transaction
+     *
+     * @param userId The user ID
+     * @param delta  Change of the unread count
+     */
+    public void adjust(String userId, int delta) {
+        if (delta == 0) {
+            return;
+        }
+        jdbcTemplate.update(SQL_ADJUST, delta, now(), userId);
+        evictAfterCommit(List.of(userId));
+    }
+
+    /**
+     * Writes the read flags of notifications about to be saved with
+     * conditional updates, and derives each owner's unread count change from
+     * the updated row counts. The updates lock the rows they match, so
+     * concurrent saves of the same notification count a transition once.
+     * Must run in the transaction that saves the notifications.
+     *
+     * <p>
+     * A read notification counts -1 if its row was unread. An unread one
+     * counts +1 unless its row already was unread, which covers both new
+     * notifications and rows marked unread again.
+     *
+     * @param notifications Notifications about to be saved
+     * @return Unread count change keyed by user ID, without zero entries
+     */
+    public Map<String, Integer> applyReadFlags(List<Notification> notifications) {
+        List<Notification> read = new ArrayList<>();
+        List<Notification> unread = new ArrayList<>();
+        for (Notification notification : notifications) {
+            (notification.isRead() ? read : unread).add(notification);
+        }
+        Map<String, Integer> deltas = new HashMap<>();
+        int[] markedRead = updateEach(SQL_MARK_READ, read);
+        for (int i = 0; i < read.size(); i++) {
+            if (markedRead[i] > 0) {
+                deltas.merge(read.get(i).getUserId(), -1, Integer::sum);
+            }
+        }
+        int[] alreadyUnread = updateEach(SQL_TOUCH_UNREAD, unread);
+        List<Notification> becameUnread = new ArrayList<>();
+        for (int i = 0; i < unread.size(); i++) {
+            if (alreadyUnread[i] == 0) {
+                becameUnread.add(unread.get(i));
+                deltas.merge(unread.get(i).getUserId(), 1, Integer::sum);
+            }
+        }
+        // Flip rows that were read now, so a concurrent save sees them as unread
+        updateEach(SQL_MARK_UNREAD, becameUnread);
+        deltas.values().removeIf(delta -> delta == 0);
+        return deltas;
+    }
+
+    /**
+     * Marks a notification about to be deleted as read with a conditional update
+     *
+     * @param notificationId The notification ID
+     * @return true if it was unread, so its owner's count must drop
+     */
+    public boolean markReadBeforeDelete(String notificationId) {
+        return jdbcTemplate.update(SQL_MARK_READ, notificationId) > 0;
+    }
+
+    /**
+     * Increments the unread count of many users by one in the current transaction
+     *
+     * @param userIds The user IDs, each receiving one unread notification
+     */
+    public void incrementAll(Collection<String> userIds) {
+        if (userIds.isEmpty()) {
+            return;
+        }
+        Timestamp now = now();
+        jdbcTemplate.batchUpdate(SQL_ADJUST, userIds.stream()
+                .map(userId -> new Object[] { 1, now, userId })
+                .toList());
+        evictAfterCommit(List.copyOf(userIds));
+    }
+
+    /**
+     * Sets the unread count of a user to zero in the current transaction
+     *
+     * @param userId The user ID
+     */
+    public void reset(String userId) {
+        jdbcTemplate.update(SQL_RESET, now(), userId);
+        evictAfterCommit(List.of(userId));
+    }
+
+    /**
+     * Recomputes every counter from the notification rows, one page of users per statement.
+     * Only counters that drifted are written.
+     *
+     * @param batchSize Counter rows per statement
+     * @return Number of counters corrected
+     */
+    public int reconcile(int batchSize) {
+        String cursor = "";
+        int corrected = 0;
+        while (true) {
+            List<String> page = jdbcTemplate.queryForList(SQL_SELECT_PAGE, String.class, cursor, batchSize);
+            if (page.isEmpty()) {
+                break;
+            }
+            String last = page.get(page.size() - 1);
+            corrected += jdbcTemplate.update(SQL_RECONCILE, now(), page.get(0), last);
+            cursor = last;
+        }
+        if (corrected > 0) {
+            cache.clear();
+        }
+        return corrected;
+    }
+
+    /**
+     * Evicts cached counts once the current transaction commits,
+     * or immediately if no transaction is active.
+     *
+     * @param userIds The user IDs
+     */
+    private void evictAfterCommit(List<String> userIds) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            userIds.forEach(cache::evict);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                userIds.forEach(cache::evict);
+            }
+        });
+    }
+
+    /**
+     * Runs a statement taking a notification ID once per notification in one batch.
+     *
+     * @param sql           Statement with the notification ID as its only parameter
+     * @param notifications The notifications
+     * @return Updated row count per notification
+     */
+    private int[] updateEach(String sql, List<Notification> notifications) {
+        if (notifications.isEmpty()) {
+            return new int[0];
+        }
+        if (notifications.size() == 1) {
+            return new int[] { jdbcTemplate.update(sql, notifications.get(0).getId()) };
+        }
+        return jdbcTemplate.batchUpdate(sql, notifications.stream()
+                .map(notification -> new Object[] { notification.getId() })
+                .toList());
+    }
+
+    /**
+     * Gets the current timestamp for updated_at.
+     *
+     * @return Current timestamp
+     */
+    private Timestamp now() {
+        return Timestamp.from(Instant.now());
+    }
+}
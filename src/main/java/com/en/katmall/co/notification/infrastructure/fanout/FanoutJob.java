@@ -0,0 +1,41 @@
+/**
+ * KATMALL Application
+ * tai.buivan@outlook.com Copyright (c) 2025 All rights reserved
+ */
+package com.en.katmall.co.notification.infrastructure.fanout;
+
+import com.en.katmall.co.shared.enums.KTypeNotification;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * A broadcast of one notification to every active user.
+ *
+ * @author tai.buivan
+ * @version 1.0
+ */
+@Getter
+@AllArgsConstructor
+public final class FanoutJob {
+
+    /** Job ID */
+    private final String id;
+
+    /** Notification title */
+    private final String title;
+
+    /** Notification message */
+    private final String message;
+
+    /** Notification type */
+    private final KTypeNotification type;
+
+    /** Optional reference to a related entity */
+    private final String referenceId;
+
+    /** Last user already notified; empty before the first chunk */
+    private final String lastUserId;
+
+    /** Notifications written so far */
+    private final long sentCount;
+}
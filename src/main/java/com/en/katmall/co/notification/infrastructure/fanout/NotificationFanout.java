@@ -0,0 +1,237 @@
+/**
+ * KATMALL Application
+ * tai.buivan@outlook.com Copyright (c) 2025 All rights reserved
+ */
+package com.en.katmall.co.notification.infrastructure.fanout;
+
+import com.en.katmall.co.notification.domain.model.Notification;
+import com.en.katmall.co.notification.infrastructure.push.NotificationPushRegistry;
+import com.en.katmall.co.shared.enums.KTypeNotification;
+import com.en.katmall.co.shared.infrastructure.config.properties.NotificationProperties;
+import com.en.katmall.co.shared.utils.IdGenerator;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Streaming fan-out of notifications to many users.
+ *
+ * <p>
+ * Notifications are built and written in fixed-size chunks, each one JDBC
+ * batch in its own transaction, so memory use and transaction size do not
+ * grow with the audience. Broadcasts to every active user run as jobs on a
+ * small worker pool and page through user IDs with a keyset cursor stored
+ * with every chunk; a job whose node dies is resumed from its cursor by the
+ * next node that finds its heartbeat stale. Each committed chunk is pushed
+ * to recipients with an open notification stream.
+ *
+ * <p>
+ * Metrics: {@code notification.fanout.sent} and the per-chunk write latency
+ * {@code notification.fanout.chunk}. Every finished job also logs its
+ * throughput.
+ *
+ * @author tai.buivan
+ * @version 1.0
+ */
+@Component
+@Slf4j
+public class NotificationFanout {
+
+    private final NotificationFanoutRepository fanoutRepository;
+    private final NotificationPushRegistry pushRegistry;
+    private final NotificationProperties.Fanout properties;
+    private final ThreadPoolTaskExecutor executor;
+    private final Counter sentCounter;
+    private final Timer chunkTimer;
+
+    /** Set on shutdown so running jobs stop after their current chunk */
+    private volatile boolean stopping;
+
+    /**
+     * Creates the fan-out engine and its worker pool
+     *
+     * @param fanoutRepository       Fan-out repository
+     * @param pushRegistry           Open notification streams
+     * @param notificationProperties Notification configuration
+     * @param meterRegistry          Metrics registry
+     */
+    public NotificationFanout(NotificationFanoutRepository fanoutRepository, NotificationPushRegistry pushRegistry,
+            NotificationProperties notificationProperties, MeterRegistry meterRegistry) {
+        this.fanoutRepository = fanoutRepository;
+        this.pushRegistry = pushRegistry;
+        this.properties = notificationProperties.getFanout();
+        this.executor = new ThreadPoolTaskExecutor();
+        this.executor.setCorePoolSize(Math.max(1, properties.getWorkerThreads()));
+        this.executor.setMaxPoolSize(Math.max(1, properties.getWorkerThreads()));
+        this.executor.setThreadNamePrefix("notification-fanout-");
+        this.executor.initialize();
+        this.sentCounter = Counter.builder("notification.fanout.sent")
+                .description("Notifications written by bulk fan-out")
+                .register(meterRegistry);
+        this.chunkTimer = Timer.builder("notification.fanout.chunk")
+                .description("Time to write one fan-out chunk")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Sends a notification to the given users, one chunk per transaction.
+     * Runs on the calling thread and is not resumable; use
+     * {@link #broadcast} for audiences that are too large to list.
+     *
+     * @param userIds User IDs
+     * @param title   Notification title
+     * @param message Notification message
+     * @param type    Notification type
+     * @return Number of notifications written
+     */
+    public int sendToUsers(List<String> userIds, String title, String message, KTypeNotification type) {
+        Objects.requireNonNull(userIds, "userIds must not be null");
+        int chunkSize = chunkSize();
+        long startNanos = System.nanoTime();
+        for (int from = 0; from < userIds.size(); from += chunkSize) {
+            List<String> chunk = userIds.subList(from, Math.min(from + chunkSize, userIds.size()));
+            List<Notification> notifications = build(chunk, title, message, type, null);
+            chunkTimer.record(() -> fanoutRepository.insertChunk(notifications));
+            sentCounter.increment(notifications.size());
+            pushRegistry.publish(notifications);
+        }
+        logThroughput("Bulk send", userIds.size(), startNanos);
+        return userIds.size();
+    }
+
+    /**
+     * Starts a resumable broadcast of a notification to every active user
+     *
+     * @param title       Notification title
+     * @param message     Notification message
+     * @param type        Notification type
+     * @param referenceId Optional reference to a related entity
+     * @return The job ID
+     */
+    public String broadcast(String title, String message, KTypeNotification type, String referenceId) {
+        Objects.requireNonNull(title, "title must not be null");
+        FanoutJob job = new FanoutJob(IdGenerator.generate(), title, message,
+                type != null ? type : KTypeNotification.SYSTEM, referenceId, "", 0);
+        fanoutRepository.createJob(job);
+        executor.execute(() -> run(job));
+        log.info("Started notification broadcast job {}", job.getId());
+        return job.getId();
+    }
+
+    /**
+     * Resumes broadcast jobs abandoned by a node that stopped or crashed
+     */
+    @Scheduled(fixedDelayString = "${notification.fanout.resume-interval-ms:60000}")
+    public void resumeStalled() {
+        for (FanoutJob job : fanoutRepository.claimStale(properties.getStaleAfter())) {
+            log.warn("Resuming notification broadcast job {} after user {} ({} already sent)",
+                    job.getId(), job.getLastUserId(), job.getSentCount());
+            executor.execute(() -> run(job));
+        }
+    }
+
+    /**
+     * Stops running jobs after their current chunk; they are resumed elsewhere or on restart
+     */
+    @PreDestroy
+    public void shutdown() {
+        stopping = true;
+        executor.shutdown();
+    }
+
+    /**
+     * Runs a broadcast job from its cursor to the last active user.
+     *
+     * @param job The job
+     */
+    private void run(FanoutJob job) {
+        int chunkSize = chunkSize();
+        String cursor = job.getLastUserId();
+        long sent = 0;
+        long startNanos = System.nanoTime();
+        try {
+            while (!stopping) {
+                List<String> userIds = fanoutRepository.findActiveUserIdsAfter(cursor, chunkSize);
+                if (userIds.isEmpty()) {
+                    fanoutRepository.finishJob(job.getId());
+                    logThroughput("Broadcast job " + job.getId(), sent, startNanos);
+                    return;
+                }
+                String expected = cursor;
+                String next = userIds.get(userIds.size() - 1);
+                List<Notification> notifications = build(userIds, job.getTitle(), job.getMessage(),
+                        job.getType(), job.getReferenceId());
+                Boolean written = chunkTimer.record(() -> fanoutRepository.writeJobChunk(job.getId(),
+                        expected, next, notifications));
+                if (!Boolean.TRUE.equals(written)) {
+                    log.warn("Broadcast job {} was taken over by another node after user {}", job.getId(), cursor);
+                    return;
+                }
+                sentCounter.increment(notifications.size());
+                pushRegistry.publish(notifications);
+                sent += notifications.size();
+                cursor = next;
+            }
+            log.info("Paused broadcast job {} after user {} on shutdown", job.getId(), cursor);
+        } catch (Exception e) {
+            log.error("Broadcast job {} failed after user {}; it will be resumed: {}",
+                    job.getId(), cursor, e.getMessage());
+        }
+    }
+
+    /**
+     * Builds the notifications of one chunk.
+     *
+     * @param userIds     Recipients of the chunk
+     * @param title       Notification title
+     * @param message     Notification message
+     * @param type        Notification type
+     * @param referenceId Optional reference to a related entity
+     * @return Notifications, one per user
+     */
+    private List<Notification> build(List<String> userIds, String title, String message,
+            KTypeNotification type, String referenceId) {
+        List<Notification> notifications = new ArrayList<>(userIds.size());
+        for (String userId : userIds) {
+            notifications.add(Notification.builder()
+                    .userId(userId)
+                    .title(title)
+                    .message(message)
+                    .type(type)
+                    .referenceId(referenceId)
+                    .build());
+        }
+        return notifications;
+    }
+
+    /**
+     * Logs the number of notifications written and the rate.
+     *
+     * @param what       Description of the run
+     * @param count      Notifications written
+     * @param startNanos Start time from {@link System#nanoTime()}
+     */
+    private void logThroughput(String what, long count, long startNanos) {
+        double seconds = Math.max(1e-9, (System.nanoTime() - startNanos) / 1e9);
+        log.info("{} wrote {} notifications in {} ms ({} per second)",
+                what, count, Math.round(seconds * 1000), Math.round(count / seconds));
+    }
+
+    /**
+     * Gets the configured chunk size.
+     *
+     * @return Chunk size, at least 1
+     */
+    private int chunkSize() {
+        return Math.max(1, properties.getChunkSize());
+    }
+}
@@ -0,0 +1,199 @@
+/**
+ * KATMALL Application
+ * tai.buivan@outlook.com Copyright (c) 2025 All rights reserved
+ */
+package com.en.katmall.co.notification.infrastructure.fanout;
+
+import com.en.katmall.co.notification.domain.model.Notification;
+import com.en.katmall.co.notification.infrastructure.counter.UnreadCounterStore;
+import com.en.katmall.co.shared.enums.KTypeNotification;
+import com.en.katmall.co.shared.infrastructure.config.properties.AppProperties;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * JDBC access for bulk notification fan-out.
+ * Every chunk of notifications is inserted as one JDBC batch in its own
+ * transaction together with the job cursor, so after a crash a job resumes
+ * exactly after the last committed chunk. The cursor update is conditional on
+ * the cursor the writer read, so two nodes can never write the same chunk.
+ * Unread counters of the recipients are incremented in the same transaction.
+ * Notification created_at is written in the configured database zone, like
+ * the notifications saved through JPA.
+ *
+ * @author tai.buivan
+ * @version 1.0
+ */
+@Repository
+public class NotificationFanoutRepository {
+
+    private static final String SQL_INSERT_NOTIFICATION = """
+            INSERT INTO notifications (id, user_id, title, message, type, reference_id, is_read, created_at)
+            VALUES (?, ?, ?, ?, ?, ?, FALSE, ?)""";
+
+    private static final String SQL_INSERT_JOB = """
+            INSERT INTO notification_fanout_jobs
+                   (id, title, message, type, reference_id, status, last_user_id, sent_count, created_at, heartbeat_at)
+            VALUES (?, ?, ?, ?, ?, 'RUNNING', '', 0, ?, ?)""";
+
+    private static final String SQL_SELECT_STALE = """
+            SELECT id, title, message, type, reference_id, last_user_id, sent_count
+              FROM notification_fanout_jobs
+             WHERE status = 'RUNNING' AND heartbeat_at < ?""";
+
+    private static final String SQL_CLAIM = """
+            UPDATE notification_fanout_jobs SET heartbeat_at = ?
+             WHERE id = ? AND status = 'RUNNING' AND heartbeat_at < ?""";
+
+    private static final String SQL_SELECT_USER_IDS = """
+            SELECT id FROM users
+             WHERE is_active = TRUE AND id > ?
+             ORDER BY id
+             LIMIT ?""";
+
+    private static final String SQL_ADVANCE = """
+            UPDATE notification_fanout_jobs
+               SET last_user_id = ?, sent_count = sent_count + ?, heartbeat_at = ?
+             WHERE id = ? AND status = 'RUNNING' AND last_user_id = ?""";
+
+    private static final String SQL_FINISH = """
+            UPDATE notification_fanout_jobs SET status = 'DONE', finished_at = ?, heartbeat_at = ?
+             WHERE id = ? AND status = 'RUNNING'""";
+
+    private static final RowMapper<FanoutJob> JOB_MAPPER = (rs, rowNum) -> new FanoutJob(
+            rs.getString("id"), rs.getString("title"), rs.getString("message"),
+            KTypeNotification.valueOf(rs.getString("type")), rs.getString("reference_id"),
+            rs.getString("last_user_id"), rs.getLong("sent_count"));
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final UnreadCounterStore unreadCounterStore;
+    private final ZoneId databaseZone;
+
+    /**
+     * Creates the repository
+     *
+     * @param jdbcTemplate       JDBC template
+     * @param transactionManager Transaction manager used for chunk transactions
+     * @param unreadCounterStore Unread counters of the recipients
+     * @param appProperties      Application configuration, for the database zone
+     */
+    public NotificationFanoutRepository(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+            UnreadCounterStore unreadCounterStore, AppProperties appProperties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.unreadCounterStore = unreadCounterStore;
+        this.databaseZone = appProperties.getDatabaseTimeZone();
+    }
+
+    /**
+     * Inserts notifications as one JDBC batch in its own transaction
+     *
+     * @param notifications Notifications to insert
+     */
+    public void insertChunk(List<Notification> notifications) {
+        transactionTemplate.executeWithoutResult(status -> insert(notifications));
+    }
+
+    /**
+     * Creates a running job with an empty cursor
+     *
+     * @param job The job to create
+     */
+    public void createJob(FanoutJob job) {
+        Timestamp now = Timestamp.from(Instant.now());
+        jdbcTemplate.update(SQL_INSERT_JOB, job.getId(), job.getTitle(), job.getMessage(), job.getType().name(),
+                job.getReferenceId(), now, now);
+    }
+
+    /**
+     * Claims running jobs whose heartbeat is older than the given age
+     *
+     * @param staleAfter Heartbeat age after which a job is considered abandoned
+     * @return Jobs claimed by this node
+     */
+    public List<FanoutJob> claimStale(Duration staleAfter) {
+        Instant now = Instant.now();
+        Timestamp threshold = Timestamp.from(now.minus(staleAfter));
+        List<FanoutJob> claimed = new ArrayList<>();
+        for (FanoutJob job : jdbcTemplate.query(SQL_SELECT_STALE, JOB_MAPPER, threshold)) {
+            if (jdbcTemplate.update(SQL_CLAIM, Timestamp.from(now), job.getId(), threshold) == 1) {
+                claimed.add(job);
+            }
+        }
+        return claimed;
+    }
+
+    /**
+     * Reads the next page of active user IDs in key order
+     *
+     * @param afterUserId Last user ID already read, empty for the first page
+     * @param limit       Maximum number of IDs
+     * @return User IDs greater than afterUserId, ascending
+     */
+    public List<String> findActiveUserIdsAfter(String afterUserId, int limit) {
+        return jdbcTemplate.queryForList(SQL_SELECT_USER_IDS, String.class, afterUserId, limit);
+    }
+
+    /**
+     * Inserts a chunk of a job and advances its cursor in one transaction.
+     * Nothing is written if the cursor has moved since it was read.
+     *
+     * @param jobId          The job ID
+     * @param expectedCursor Cursor the chunk was read after
+     * @param newCursor      Last user ID of the chunk
+     * @param notifications  Notifications of the chunk
+     * @return true if written, false if another node owns the job or it is finished
+     */
+    public boolean writeJobChunk(String jobId, String expectedCursor, String newCursor,
+            List<Notification> notifications) {
+        Boolean written = transactionTemplate.execute(status -> {
+            int advanced = jdbcTemplate.update(SQL_ADVANCE, newCursor, notifications.size(),
+                    Timestamp.from(Instant.now()), jobId, expectedCursor);
+            if (advanced != 1) {
+                return false;
+            }
+            insert(notifications);
+            return true;
+        });
+        return Boolean.TRUE.equals(written);
+    }
+
+    /**
+     * Marks a job as finished
+     *
+     * @param jobId The job ID
+     */
+    public void finishJob(String jobId) {
+        Timestamp now = Timestamp.from(Instant.now());
+        jdbcTemplate.update(SQL_FINISH, now, now, jobId);
+    }
+
+    /**
+     * Batch-inserts notifications and increments the recipients' unread
+     * counters in the current transaction.
+     *
+     * @param notifications Notifications to insert
+     */
+    private void insert(List<Notification> notifications) {
+        List<Object[]> args = new ArrayList<>(notifications.size());
+        for (Notification notification : notifications) {
+            args.add(new Object[] { notification.getId(), notification.getUserId(), notification.getTitle(),
+                    notification.getMessage(), notification.getType().name(), notification.getReferenceId(),
+                    LocalDateTime.ofInstant(notification.getCreatedAt(), databaseZone) });
+        }
+        jdbcTemplate.batchUpdate(SQL_INSERT_NOTIFICATION, args);
+        unreadCounterStore.incrementAll(notifications.stream().map(Notification::getUserId).toList());
+    }
+}
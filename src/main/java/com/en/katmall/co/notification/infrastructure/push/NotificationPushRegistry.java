@@ -0,0 +1,234 @@
+/**
+ * KATMALL Application
+ * tai.buivan@outlook.com Copyright (c) 2025 All rights reserved
+ */
+package com.en.katmall.co.notification.infrastructure.push;
+
+import com.en.katmall.co.notification.application.dto.response.NotificationResponse;
+import com.en.katmall.co.notification.domain.model.Notification;
+import com.en.katmall.co.shared.infrastructure.config.properties.NotificationProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Registry of open notification streams, keyed by user.
+ *
+ * <p>
+ * Streams are async servlet responses ({@link SseEmitter}), so an idle
+ * connection holds no request thread; a small sender pool writes queued
+ * events. Each stream has a bounded buffer and is closed when a slow client
+ * lets it overflow. Idle streams receive a keep-alive comment so proxies do
+ * not cut them.
+ *
+ * <p>
+ * Only streams connected to this node are reached. Clients load their
+ * notifications once on connect, so an event missed while reconnecting or
+ * published on another node shows up on the next load.
+ *
+ * <p>
+ * Metrics: {@code notification.push.connections} and
+ * {@code notification.push.dropped} (streams closed on overflow).
+ *
+ * @author tai.buivan
+ * @version 1.0
+ */
+@Component
+@Slf4j
+public class NotificationPushRegistry {
+
+    /** Event name of a new notification */
+    public static final String EVENT_NOTIFICATION = "notification";
+
+    /** Event name of the unread count sent on connect */
+    public static final String EVENT_UNREAD_COUNT = "unread-count";
+
+    private final NotificationProperties.Push properties;
+    private final ThreadPoolTaskExecutor sender;
+    private final Map<String, List<SseSubscriber>> subscribers = new ConcurrentHashMap<>();
+    private final AtomicInteger connections = new AtomicInteger();
+    private final Counter droppedCounter;
+
+    /**
+     * Creates the registry and its sender pool
+     *
+     * @param notificationProperties Notification configuration
+     * @param meterRegistry          Metrics registry
+     */
+    public NotificationPushRegistry(NotificationProperties notificationProperties, MeterRegistry meterRegistry) {
+        this.properties = notificationProperties.getPush();
+        this.sender = new ThreadPoolTaskExecutor();
+        this.sender.setCorePoolSize(Math.max(1, properties.getSenderThreads()));
+        this.sender.setMaxPoolSize(Math.max(1, properties.getSenderThreads()));
+        this.sender.setThreadNamePrefix("notification-push-");
+        this.sender.initialize();
+        Gauge.builder("notification.push.connections", connections, AtomicInteger::get)
+                .description("Open notification streams on this node")
+                .register(meterRegistry);
+        this.droppedCounter = Counter.builder("notification.push.dropped")
+                .description("Notification streams closed because the client fell behind")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Opens a stream for a user. The oldest stream of the user is closed when
+     * the per-user limit is reached.
+     *
+     * @param userId      The user ID
+     * @param unreadCount Unread count sent as the first event
+     * @return The stream to return from the controller
+     */
+    public SseEmitter subscribe(String userId, long unreadCount) {
+        Objects.requireNonNull(userId, "userId must not be null");
+        SseEmitter emitter = createEmitter(properties.getTimeout().toMillis());
+        SseSubscriber subscriber = new SseSubscriber(userId, emitter, properties.getBufferSize(), sender);
+        emitter.onCompletion(() -> unregister(subscriber));
+        emitter.onTimeout(() -> {
+            // The async request stays open until the emitter is completed
+            unregister(subscriber);
+            subscriber.close();
+        });
+        emitter.onError(e -> unregister(subscriber));
+
+        int limit = Math.max(1, properties.getMaxConnectionsPerUser());
+        List<SseSubscriber> evicted = new ArrayList<>();
+        subscribers.compute(userId, (id, streams) -> {
+            List<SseSubscriber> current = streams != null ? streams : new CopyOnWriteArrayList<>();
+            current.add(subscriber);
+            connections.incrementAndGet();
+            while (current.size() > limit) {
+                evicted.add(current.remove(0));
+                connections.decrementAndGet();
+            }
+            return current;
+        });
+        evicted.forEach(SseSubscriber::close);
+        subscriber.offer(SseEmitter.event().name(EVENT_UNREAD_COUNT).data(unreadCount));
+        return emitter;
+    }
+
+    /**
+     * Pushes notifications to their recipients' open streams. When called
+     * inside a transaction the push waits for the commit, so clients never
+     * see a notification that was rolled back.
+     *
+     * @param notifications The saved notifications
+     */
+    public void publish(List<Notification> notifications) {
+        if (subscribers.isEmpty() || notifications.isEmpty()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            notifications.forEach(this::push);
+            return;
+        }
+        List<Notification> pending = List.copyOf(notifications);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                pending.forEach(NotificationPushRegistry.this::push);
+            }
+        });
+    }
+
+    /**
+     * Gets the number of open streams on this node
+     *
+     * @return Open streams
+     */
+    public int getConnectionCount() {
+        return connections.get();
+    }
+
+    /**
+     * Sends a keep-alive comment to streams that were idle for a heartbeat interval
+     */
+    @Scheduled(fixedDelayString = "${notification.push.heartbeat-interval-ms:25000}")
+    public void heartbeat() {
+        long idleNanos = TimeUnit.MILLISECONDS.toNanos(properties.getHeartbeatIntervalMs());
+        for (List<SseSubscriber> streams : subscribers.values()) {
+            for (SseSubscriber subscriber : streams) {
+                if (subscriber.isIdleFor(idleNanos)) {
+                    subscriber.offer(SseEmitter.event().comment("keep-alive"));
+                }
+            }
+        }
+    }
+
+    /**
+     * Closes all streams so clients reconnect to another node
+     */
+    @PreDestroy
+    public void shutdown() {
+        subscribers.values().forEach(streams -> streams.forEach(SseSubscriber::close));
+        subscribers.clear();
+        sender.shutdown();
+    }
+
+    /**
+     * Creates the emitter of a new stream
+     *
+     * @param timeoutMillis Stream lifetime in milliseconds
+     * @return The emitter
+     */
+    SseEmitter createEmitter(long timeoutMillis) {
+        return new SseEmitter(timeoutMillis);
+    }
+
+    /**
+     * Queues a notification on every stream of its recipient.
+     *
+     * @param notification The notification
+     */
+    private void push(Notification notification) {
+        List<SseSubscriber> streams = subscribers.get(notification.getUserId());
+        if (streams == null) {
+            return;
+        }
+        NotificationResponse payload = NotificationResponse.from(notification);
+        for (SseSubscriber subscriber : streams) {
+            boolean queued = subscriber.offer(SseEmitter.event()
+                    .id(notification.getId())
+                    .name(EVENT_NOTIFICATION)
+                    .data(payload));
+            if (!queued && !subscriber.isClosed()) {
+                log.debug("Closing notification stream of user {}: buffer full", subscriber.getUserId());
+                droppedCounter.increment();
+                unregister(subscriber);
+                subscriber.close();
+            }
+        }
+    }
+
+    /**
+     * Removes a stream from the registry; called once per stream from any of
+     * its completion callbacks or on eviction.
+     *
+     * @param subscriber The stream
+     */
+    private void unregister(SseSubscriber subscriber) {
+        subscribers.computeIfPresent(subscriber.getUserId(), (userId, streams) -> {
+            if (streams.remove(subscriber)) {
+                connections.decrementAndGet();
+            }
+            return streams.isEmpty() ? null : streams;
+        });
+    }
+}
@@ -0,0 +1,136 @@
+/**
+ * KATMALL Application
+ * tai.buivan@outlook.com Copyright (c) 2025 All rights reserved
+ */
+package com.en.katmall.co.notification.infrastructure.push;
+
+import lombok.Getter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * One open SSE stream of a user.
+ *
+ * <p>
+ * Events are queued in a bounded buffer and written by a sender thread, at
+ * most one drain per stream at a time, so publishers never block on a slow
+ * client. A stream whose buffer overflows is closed; the client reconnects
+ * and reloads its notifications.
+ *
+ * @author tai.buivan
+ * @version 1.0
+ */
+class SseSubscriber {
+
+    @Getter
+    private final String userId;
+
+    @Getter
+    private final SseEmitter emitter;
+
+    private final BlockingQueue<SseEmitter.SseEventBuilder> buffer;
+    private final Executor sender;
+
+    /** Set while a drain is scheduled or running */
+    private final AtomicBoolean draining = new AtomicBoolean();
+
+    /** Nano time of the last write, read by the heartbeat */
+    private volatile long lastSentNanos = System.nanoTime();
+
+    private volatile boolean closed;
+
+    /**
+     * Creates a subscriber
+     *
+     * @param userId     The user ID
+     * @param emitter    The stream
+     * @param bufferSize Events buffered before the stream is dropped
+     * @param sender     Executor writing buffered events
+     */
+    SseSubscriber(String userId, SseEmitter emitter, int bufferSize, Executor sender) {
+        this.userId = userId;
+        this.emitter = emitter;
+        this.buffer = new ArrayBlockingQueue<>(Math.max(1, bufferSize));
+        this.sender = sender;
+    }
+
+    /**
+     * Queues an event for sending
+     *
+     * @param event The event
+     * @return false if the stream is closed or its buffer is full
+     */
+    boolean offer(SseEmitter.SseEventBuilder event) {
+        if (closed || !buffer.offer(event)) {
+            return false;
+        }
+        scheduleDrain();
+        return true;
+    }
+
+    /**
+     * Checks whether nothing was written for the given time
+     *
+     * @param idleNanos Idle time in nanoseconds
+     * @return true if idle
+     */
+    boolean isIdleFor(long idleNanos) {
+        return System.nanoTime() - lastSentNanos >= idleNanos;
+    }
+
+    /**
+     * Completes the stream; further events are rejected
+     */
+    void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        buffer.clear();
+        emitter.complete();
+    }
+
+    /**
+     * Checks whether the stream has been closed
+     *
+     * @return true if closed
+     */
+    boolean isClosed() {
+        return closed;
+    }
+
+    private void scheduleDrain() {
+        if (draining.compareAndSet(false, true)) {
+            sender.execute(this::drain);
+        }
+    }
+
+    /**
+     * Writes buffered events until the buffer is empty, then re-checks for
+     * events offered while the drain was finishing.
+     */
+    private void drain() {
+        try {
+            SseEmitter.SseEventBuilder event;
+            while (!closed && (event = buffer.poll()) != null) {
+                emitter.send(event);
+                lastSentNanos = System.nanoTime();
+            }
+        } catch (IOException | IllegalStateException e) {
+            // Client went away; the emitter callbacks unregister the stream
+            closed = true;
+            buffer.clear();
+            emitter.completeWithError(e);
+        } finally {
+            draining.set(false);
+        }
+        if (!closed && !buffer.isEmpty()) {
+            scheduleDrain();
+        }
+    }
+}
@@ -0,0 +1,44 @@
+/**
+ * KATMALL Application
+ * tai.buivan@outlook.com Copyright (c) 2025 All rights reserved
+ */
+package com.en.katmall.co.notification.interfaces.rest;
+
+import com.en.katmall.co.notification.application.usecase.SubscribeNotificationUseCase;
+import com.en.katmall.co.shared.infrastructure.security.AuthenticatedUser;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * REST Controller for the notification push stream.
+ * Replaces polling for unread notifications with Server-Sent Events.
+ *
+ * @author tai.buivan
+ * @version 1.0
+ */
+@RestController
+@RequestMapping("/api/v1/notifications")
+@RequiredArgsConstructor
+public class NotificationStreamController {
+
+    private final SubscribeNotificationUseCase subscribeNotificationUseCase;
+
+    /**
+     * Opens the current user's notification stream.
+     * Sends 'unread-count' on connect, then one 'notification' event per new
+     * notification; clients reconnect when the stream ends.
+     * GET /api/v1/notifications/stream
+     *
+     * @param user Authenticated user
+     * @return The event stream
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter stream(@AuthenticationPrincipal AuthenticatedUser user) {
+        return subscribeNotificationUseCase.execute(user.getId());
+    }
+}
@@ -56,7 +56,7 @@ public class Order extends AggregateRoot<String> {
      */
     private Order(Builder builder) {
         super(builder.id != null ? builder.id : IdGenerator.generate());
-        this.orderNumber = OrderNumber.generate();
+        this.orderNumber = builder.orderNumber != null ? builder.orderNumber : OrderNumber.generate();
         this.userId = builder.userId;
         this.purchaserSnapshotId = builder.purchaserSnapshotId;
         this.shippingAddress = builder.shippingAddress;
@@ -217,6 +217,7 @@ public class Order extends AggregateRoot<String> {
      */
     public static class Builder {
         private String id;
+        private OrderNumber orderNumber;
         private String userId;
         private String purchaserSnapshotId;
         private Address shippingAddress;
@@ -233,6 +234,11 @@ public class Order extends AggregateRoot<String> {
             return this;
         }
 
+        public Builder orderNumber(OrderNumber orderNumber) {
+            this.orderNumber = orderNumber;
+            return this;
+        }
+
         public Builder userId(String userId) {
             this.userId = userId;
             return this;
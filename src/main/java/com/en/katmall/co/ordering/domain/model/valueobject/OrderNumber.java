@@ -7,16 +7,32 @@ package com.en.katmall.co.ordering.domain.model.valueobject;
 import com.en.katmall.co.shared.domain.ValueObject;
 
 import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
 
 /**
  * Value Object representing a human-readable order number.
- * Format: ORD-{timestamp}-{random}
+ * Allocated numbers have the format ORD-XXXX-XXXX: a 40-bit sequence value
+ * passed through a fixed bijection and written as 8 Crockford base32
+ * characters, so distinct sequence values always give distinct numbers while
+ * consecutive orders do not reveal order volume. The fallback format without
+ * a sequence is ORD-{timestamp}-{random}.
  * 
  * @author tai.buivan
  * @version 1.0
  */
 public final class OrderNumber extends ValueObject {
 
+    private static final String PREFIX = "ORD-";
+
+    /** Crockford base32: no I, L, O or U, so numbers read back unambiguously */
+    private static final char[] ALPHABET = "0123456789ABCDEFGHJKMNPQRSTVWXYZ".toCharArray();
+
+    private static final int SEQUENCE_BITS = 40;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+
+    /** Odd multiplier, invertible modulo 2^40 */
+    private static final long MIX_MULTIPLIER = 0x9E3779B97FL;
+
     private final String value;
 
     /**
@@ -39,14 +55,43 @@ public final class OrderNumber extends ValueObject {
     }
 
     /**
-     * Generates a new unique order number
+     * Creates an OrderNumber from a value of the order number sequence
+     * 
+     * @param sequence Unique sequence value
+     * @return OrderNumber encoding the sequence value
+     * @throws IllegalArgumentException if the value is outside the 40-bit range
+     */
+    public static OrderNumber fromSequence(long sequence) {
+        if (sequence < 0 || sequence > SEQUENCE_MASK) {
+            throw new IllegalArgumentException("Order number sequence out of range: " + sequence);
+        }
+        long mixed = (sequence * MIX_MULTIPLIER) & SEQUENCE_MASK;
+        mixed ^= mixed >>> 20;
+
+        char[] chars = new char[13];
+        PREFIX.getChars(0, PREFIX.length(), chars, 0);
+        for (int i = 12; i >= 4; i--) {
+            if (i == 8) {
+                chars[i] = '-';
+                continue;
+            }
+            chars[i] = ALPHABET[(int) (mixed & 31)];
+            mixed >>>= 5;
+        }
+        return new OrderNumber(new String(chars));
+    }
+
+    /**
+     * Generates an order number without the sequence.
+     * Not guaranteed unique; use an allocator for new orders.
      * 
      * @return New OrderNumber with generated value
      */
     public static OrderNumber generate() {
         long timestamp = System.currentTimeMillis();
-        String random = Long.toHexString(Double.doubleToLongBits(Math.random())).substring(0, 4).toUpperCase();
-        return new OrderNumber("ORD-" + timestamp + "-" + random);
+        String random = Integer.toHexString(0x10000 | ThreadLocalRandom.current().nextInt(0x10000))
+                .substring(1).toUpperCase();
+        return new OrderNumber(PREFIX + timestamp + "-" + random);
     }
 
     /**
@@ -0,0 +1,25 @@
+/**
+ * KATMALL Application
+ * tai.buivan@outlook.com Copyright (c) 2025 All rights reserved
+ */
+package com.en.katmall.co.ordering.domain.service;
+
+import com.en.katmall.co.ordering.domain.model.valueobject.OrderNumber;
+
+/**
+ * Domain service interface for allocating order numbers.
+ * Implementations must never hand out the same number twice, across all
+ * application nodes.
+ * 
+ * @author tai.buivan
+ * @version 1.0
+ */
+public interface OrderNumberAllocator {
+
+    /**
+     * Allocates the next order number
+     * 
+     * @return A unique order number
+     */
+    OrderNumber next();
+}
@@ -0,0 +1,159 @@
+/**
+ * KATMALL Application
+ * tai.buivan@outlook.com Copyright (c) 2025 All rights reserved
+ */
+package com.en.katmall.co.ordering.infrastructure.sequence;
+
+import com.en.katmall.co.ordering.domain.model.valueobject.OrderNumber;
+import com.en.katmall.co.ordering.domain.service.OrderNumberAllocator;
+import com.en.katmall.co.shared.infrastructure.config.properties.OrderingProperties;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Order number allocator backed by blocks of the {@code order_number_seq}
+ * database sequence.
+ *
+ * <p>
+ * Each {@code nextval} reserves a block of values for this node. The block
+ * size is the {@code INCREMENT BY} of the sequence, read from the database
+ * catalog at startup, so blocks of different nodes never overlap even if
+ * {@code block-size} was not updated with the sequence. Values inside a block are handed out with a single
+ * {@code getAndIncrement}; only the thread that finds the block exhausted
+ * goes to the database. Values of a block that is not used up before
+ * shutdown are skipped, leaving gaps but never duplicates.
+ *
+ * @author tai.buivan
+ * @version 1.0
+ */
+@Component
+@Slf4j
+public class BlockOrderNumberAllocator implements OrderNumberAllocator {
+
+    private static final String SQL_NEXT_BLOCK = "SELECT nextval('order_number_seq')";
+
+    private static final String SQL_SEQUENCE_INCREMENT = """
+            SELECT CAST(increment AS BIGINT)
+              FROM information_schema.sequences
+             WHERE LOWER(sequence_name) = 'order_number_seq'
+               AND LOWER(sequence_schema) = LOWER(CURRENT_SCHEMA)""";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int configuredBlockSize;
+
+    /** Increment of order_number_seq; 0 until read from the database */
+    private long blockSize;
+
+    /** Block currently handed out; starts exhausted so the first call reserves one */
+    private volatile Block block = new Block(0, 0);
+
+    /**
+     * Creates the allocator
+     *
+     * @param jdbcTemplate       JDBC template
+     * @param orderingProperties Ordering configuration
+     */
+    public BlockOrderNumberAllocator(JdbcTemplate jdbcTemplate, OrderingProperties orderingProperties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.configuredBlockSize = orderingProperties.getOrderNumber().getBlockSize();
+    }
+
+    /**
+     * Reads the block size from the sequence at startup.
+     * If the sequence cannot be read yet it is read again before the first block is reserved.
+     */
+    @PostConstruct
+    public synchronized void readBlockSize() {
+        try {
+            blockSize = sequenceIncrement();
+        } catch (DataAccessException | IllegalStateException e) {
+            log.warn("Could not read the increment of order_number_seq at startup: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public OrderNumber next() {
+        return OrderNumber.fromSequence(nextValue());
+    }
+
+    /**
+     * Takes the next sequence value, reserving a new block when the current one is used up.
+     *
+     * @return Unique sequence value
+     */
+    long nextValue() {
+        while (true) {
+            Block current = block;
+            long value = current.next.getAndIncrement();
+            if (value < current.end) {
+                return value;
+            }
+            refill(current);
+        }
+    }
+
+    /**
+     * Reserves a new block unless another thread already replaced the exhausted one.
+     *
+     * @param exhausted The block found exhausted
+     */
+    private synchronized void refill(Block exhausted) {
+        if (block != exhausted) {
+            return;
+        }
+        if (blockSize == 0) {
+            blockSize = sequenceIncrement();
+        }
+        Long start = jdbcTemplate.queryForObject(SQL_NEXT_BLOCK, Long.class);
+        if (start == null) {
+            throw new IllegalStateException("order_number_seq returned no value");
+        }
+        block = new Block(start, start + blockSize);
+        log.debug("Reserved order numbers [{}, {})", start, start + blockSize);
+    }
+
+    /**
+     * Reads the increment of order_number_seq, warning if the configured block size differs.
+     *
+     * @return Sequence increment
+     * @throws IllegalStateException if the sequence is missing or does not count upwards
+     */
+    private long sequenceIncrement() {
+        List<Long> increments = jdbcTemplate.queryForList(SQL_SEQUENCE_INCREMENT, Long.class);
+        if (increments.isEmpty() || increments.get(0) == null) {
+            throw new IllegalStateException("Sequence order_number_seq not found");
+        }
+        long increment = increments.get(0);
+        if (increment <= 0) {
+            throw new IllegalStateException("order_number_seq must count upwards, but increments by " + increment);
+        }
+        if (increment != configuredBlockSize) {
+            log.warn("ordering.order-number.block-size is {} but order_number_seq increments by {}; using {}",
+                    configuredBlockSize, increment, increment);
+        }
+        return increment;
+    }
+
+    /**
+     * Range of sequence values reserved by this node.
+     */
+    private static final class Block {
+
+        private final AtomicLong next;
+        private final long end;
+
+        private Block(long start, long end) {
+            this.next = new AtomicLong(start);
+            this.end = end;
+        }
+    }
+}
@@ -4,13 +4,15 @@
  */
 package com.en.katmall.co.promotion.application.usecase;
 
-import com.en.katmall.co.promotion.domain.model.Coupon;
+import com.en.katmall.co.promotion.domain.model.CouponRule;
 import com.en.katmall.co.promotion.domain.repository.CouponRepository;
+import com.en.katmall.co.promotion.infrastructure.index.CouponIndex;
+import com.en.katmall.co.promotion.infrastructure.redemption.StripedRedemptionCounter;
+import com.en.katmall.co.shared.exception.DomainException;
 import com.en.katmall.co.shared.exception.ResourceNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.util.Objects;
@@ -18,17 +20,25 @@ import java.util.Objects;
 /**
  * Use Case: Apply Coupon
  * Validates and applies a coupon to an order.
+ * Coupon rules are read from {@link CouponIndex}, so validation and previews
+ * need no database access. Usage is recorded atomically by
+ * {@link StripedRedemptionCounter} instead of saving the aggregate, so
+ * concurrent redemptions cannot exceed the usage limit.
+ * Not transactional: each redemption is a single conditional update.
  * 
  * @author tai.buivan
  * @version 1.0
  */
 @Service
 @RequiredArgsConstructor
-@Transactional
 @Slf4j
 public class ApplyCouponUseCase {
 
+    private static final String ERR_USAGE_LIMIT_EXCEEDED = "USAGE_LIMIT_EXCEEDED";
+
     private final CouponRepository couponRepository;
+    private final CouponIndex couponIndex;
+    private final StripedRedemptionCounter redemptionCounter;
 
     /**
      * Executes the apply coupon use case.
@@ -38,19 +48,48 @@ public class ApplyCouponUseCase {
      * @param orderValue Order subtotal
      * @return Discount amount applied
      * @throws ResourceNotFoundException if coupon not found
+     * @throws DomainException           if the coupon is invalid or its usage limit is reached
      */
     public BigDecimal execute(String code, BigDecimal orderValue) {
-        Objects.requireNonNull(code, "Coupon code must not be null");
         Objects.requireNonNull(orderValue, "Order value must not be null");
 
-        Coupon coupon = couponRepository.findByCode(code.toUpperCase())
-                .orElseThrow(() -> new ResourceNotFoundException("Coupon", "code", code));
-
-        BigDecimal discount = coupon.calculateDiscount(orderValue);
-        coupon.recordUsage();
-        couponRepository.save(coupon);
+        CouponRule rule = findRule(code);
+        BigDecimal discount = rule.calculateDiscount(orderValue, System.currentTimeMillis());
+        if (!redemptionCounter.redeem(rule.getCode(), rule.getMaxUsageLimit())) {
+            throw new DomainException(ERR_USAGE_LIMIT_EXCEEDED, "Coupon usage limit exceeded");
+        }
 
         log.info("Applied coupon {} with discount {} for order value {}", code, discount, orderValue);
         return discount;
     }
+
+    /**
+     * Previews the discount of a coupon without recording usage.
+     * 
+     * @param code       Coupon code
+     * @param orderValue Order subtotal
+     * @return Discount amount that would be applied
+     * @throws ResourceNotFoundException if coupon not found
+     * @throws DomainException           if the coupon is invalid
+     */
+    public BigDecimal preview(String code, BigDecimal orderValue) {
+        Objects.requireNonNull(orderValue, "Order value must not be null");
+        return findRule(code).calculateDiscount(orderValue, System.currentTimeMillis());
+    }
+
+    /**
+     * Finds the rule of a coupon in the index.
+     * Falls back to the database only for codes the index does not hold,
+     * so inactive coupons still report why they cannot be used.
+     * 
+     * @param code Coupon code
+     * @return The coupon rule
+     * @throws ResourceNotFoundException if coupon not found
+     */
+    private CouponRule findRule(String code) {
+        Objects.requireNonNull(code, "Coupon code must not be null");
+        return couponIndex.find(code)
+                .or(() -> couponRepository.findByCode(CouponRule.normaliseCode(code)).map(CouponRule::of))
+                .orElseThrow(() -> new ResourceNotFoundException("Coupon", "code", code));
+    }
 }
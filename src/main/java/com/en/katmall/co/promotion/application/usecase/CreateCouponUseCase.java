@@ -6,6 +6,7 @@ package com.en.katmall.co.promotion.application.usecase;
 
 import com.en.katmall.co.promotion.domain.model.Coupon;
 import com.en.katmall.co.promotion.domain.repository.CouponRepository;
+import com.en.katmall.co.promotion.infrastructure.index.CouponIndex;
 import com.en.katmall.co.shared.enums.KTypeDiscountType;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -30,6 +31,7 @@ import java.util.Objects;
 public class CreateCouponUseCase {
 
     private final CouponRepository couponRepository;
+    private final CouponIndex couponIndex;
 
     /**
      * Executes the create coupon use case.
@@ -68,7 +70,9 @@ public class CreateCouponUseCase {
                 .isActive(true)
                 .build();
 
+        Coupon saved = couponRepository.save(coupon);
+        couponIndex.put(saved);
         log.info("Created coupon {} with type {} and value {}", code, discountType, discountValue);
-        return couponRepository.save(coupon);
+        return saved;
     }
 }
@@ -5,6 +5,7 @@
 package com.en.katmall.co.promotion.application.usecase;
 
 import com.en.katmall.co.promotion.domain.repository.CouponRepository;
+import com.en.katmall.co.promotion.infrastructure.index.CouponIndex;
 import com.en.katmall.co.shared.exception.ResourceNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -27,6 +28,7 @@ import java.util.Objects;
 public class DeleteCouponUseCase {
 
     private final CouponRepository couponRepository;
+    private final CouponIndex couponIndex;
 
     /**
      * Executes the delete coupon use case.
@@ -42,6 +44,7 @@ public class DeleteCouponUseCase {
         }
 
         couponRepository.deleteByCode(code.toUpperCase());
+        couponIndex.remove(code);
         log.info("Deleted coupon {}", code);
     }
 }
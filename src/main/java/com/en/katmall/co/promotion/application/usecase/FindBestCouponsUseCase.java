@@ -0,0 +1,152 @@
+/**
+ * KATMALL Application
+ * tai.buivan@outlook.com Copyright (c) 2025 All rights reserved
+ */
+package com.en.katmall.co.promotion.application.usecase;
+
+import com.en.katmall.co.promotion.domain.model.CouponOffer;
+import com.en.katmall.co.promotion.domain.model.CouponRule;
+import com.en.katmall.co.promotion.infrastructure.index.CouponIndex;
+import com.en.katmall.co.shared.exception.ValidationException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.PriorityQueue;
+
+/**
+ * Use Case: Find Best Coupons
+ * Ranks the coupons applicable to a cart by the discount they give.
+ *
+ * <p>
+ * Reads the sorted views of {@link CouponIndex}. A binary search over the
+ * rules sorted by minimum order value counts the coupons the cart qualifies
+ * for. If that is a small share, only those are evaluated. Otherwise the
+ * rules are walked from the largest possible discount down, and the walk
+ * stops as soon as no remaining coupon can beat the offers already kept.
+ * Uncapped percentage coupons, which come first, are ordered by rate, so
+ * they are skipped together once the best of the rest cannot win.
+ * Either way offers are kept in a heap bounded by the requested limit.
+ * Usage limits are not known in memory; an exhausted coupon is rejected when
+ * it is applied.
+ *
+ * @author tai.buivan
+ * @version 1.0
+ */
+@Service
+@RequiredArgsConstructor
+public class FindBestCouponsUseCase {
+
+    private static final Comparator<CouponOffer> BY_DISCOUNT = Comparator
+            .comparing(CouponOffer::getDiscount)
+            .thenComparing(CouponOffer::getCode, Comparator.reverseOrder());
+
+    /** Qualifying coupons are scanned directly when they are at most 1/8 of the index */
+    private static final int PREFIX_SCAN_RATIO = 8;
+
+    private final CouponIndex couponIndex;
+
+    /**
+     * Executes the find best coupons use case.
+     *
+     * @param cartValue Cart subtotal
+     * @param limit     Maximum number of coupons to return
+     * @return Applicable coupons, biggest discount first
+     * @throws ValidationException if the limit is not positive
+     */
+    public List<CouponOffer> execute(BigDecimal cartValue, int limit) {
+        Objects.requireNonNull(cartValue, "Cart value must not be null");
+        if (limit <= 0) {
+            throw new ValidationException("limit", "Limit must be positive");
+        }
+
+        CouponRule[] byMinOrderValue = couponIndex.findAllByMinOrderValue();
+        int applicable = upperBound(byMinOrderValue, cartValue);
+        long now = System.currentTimeMillis();
+
+        // Min-heap of the best offers seen so far
+        PriorityQueue<CouponOffer> best = new PriorityQueue<>(limit + 1, BY_DISCOUNT);
+        if (applicable * PREFIX_SCAN_RATIO <= byMinOrderValue.length) {
+            for (int i = 0; i < applicable; i++) {
+                offer(best, limit, byMinOrderValue[i], cartValue, now);
+            }
+        } else {
+            CouponRule[] byMaxDiscount = couponIndex.findAllByMaxDiscount();
+            int i = 0;
+            while (i < byMaxDiscount.length) {
+                CouponRule rule = byMaxDiscount[i];
+                // Uncapped percentages come first, highest first; their bound is the discount on this cart
+                BigDecimal bound = rule.getMaxDiscount() != null ? rule.getMaxDiscount() : rule.discountFor(cartValue);
+                if (best.size() == limit && bound.compareTo(best.peek().getDiscount()) < 0) {
+                    if (rule.getMaxDiscount() != null) {
+                        break;
+                    }
+                    // No remaining uncapped coupon can win; continue with the capped ones
+                    while (i < byMaxDiscount.length && byMaxDiscount[i].getMaxDiscount() == null) {
+                        i++;
+                    }
+                    continue;
+                }
+                if (rule.getMinOrderValue().compareTo(cartValue) <= 0) {
+                    offer(best, limit, rule, cartValue, now);
+                }
+                i++;
+            }
+        }
+
+        List<CouponOffer> ranked = new ArrayList<>(best);
+        ranked.sort(BY_DISCOUNT.reversed());
+        return ranked;
+    }
+
+    /**
+     * Evaluates one coupon and keeps it if it is among the best offers.
+     *
+     * @param best      Min-heap of the best offers
+     * @param limit     Maximum heap size
+     * @param rule      The coupon rule
+     * @param cartValue Cart subtotal
+     * @param now       Current time in epoch milliseconds
+     */
+    private static void offer(PriorityQueue<CouponOffer> best, int limit, CouponRule rule,
+            BigDecimal cartValue, long now) {
+        if (!rule.isValidAt(now)) {
+            return;
+        }
+        BigDecimal discount = rule.discountFor(cartValue);
+        if (discount.signum() <= 0) {
+            return;
+        }
+        if (best.size() < limit) {
+            best.add(new CouponOffer(rule.getCode(), discount));
+        } else if (BY_DISCOUNT.compare(new CouponOffer(rule.getCode(), discount), best.peek()) > 0) {
+            best.poll();
+            best.add(new CouponOffer(rule.getCode(), discount));
+        }
+    }
+
+    /**
+     * Finds the number of rules whose minimum order value is at most the cart value.
+     *
+     * @param rules     Rules sorted by minimum order value
+     * @param cartValue Cart subtotal
+     * @return Index of the first rule the cart does not qualify for
+     */
+    private static int upperBound(CouponRule[] rules, BigDecimal cartValue) {
+        int low = 0;
+        int high = rules.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (rules[mid].getMinOrderValue().compareTo(cartValue) <= 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+}
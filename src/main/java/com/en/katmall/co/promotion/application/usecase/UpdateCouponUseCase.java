@@ -6,6 +6,8 @@ package com.en.katmall.co.promotion.application.usecase;
 
 import com.en.katmall.co.promotion.domain.model.Coupon;
 import com.en.katmall.co.promotion.domain.repository.CouponRepository;
+import com.en.katmall.co.promotion.infrastructure.index.CouponIndex;
+import com.en.katmall.co.promotion.infrastructure.redemption.StripedRedemptionCounter;
 import com.en.katmall.co.shared.exception.ResourceNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -29,6 +31,8 @@ import java.util.Objects;
 public class UpdateCouponUseCase {
 
     private final CouponRepository couponRepository;
+    private final CouponIndex couponIndex;
+    private final StripedRedemptionCounter redemptionCounter;
 
     /**
      * Activates a coupon.
@@ -42,7 +46,7 @@ public class UpdateCouponUseCase {
         Coupon coupon = findByCode(code);
         coupon.activate();
         log.info("Activated coupon {}", code);
-        return couponRepository.save(coupon);
+        return saveAndIndex(coupon);
     }
 
     /**
@@ -57,7 +61,7 @@ public class UpdateCouponUseCase {
         Coupon coupon = findByCode(code);
         coupon.deactivate();
         log.info("Deactivated coupon {}", code);
-        return couponRepository.save(coupon);
+        return saveAndIndex(coupon);
     }
 
     /**
@@ -74,7 +78,7 @@ public class UpdateCouponUseCase {
         Coupon coupon = findByCode(code);
         coupon.updateValidityPeriod(startDate, endDate);
         log.info("Updated validity period for coupon {} from {} to {}", code, startDate, endDate);
-        return couponRepository.save(coupon);
+        return saveAndIndex(coupon);
     }
 
     /**
@@ -86,11 +90,22 @@ public class UpdateCouponUseCase {
     public void revertUsage(String code) {
         Objects.requireNonNull(code, "Coupon code must not be null");
         Coupon coupon = findByCode(code);
-        coupon.revertUsage();
-        couponRepository.save(coupon);
+        redemptionCounter.release(coupon.getCode(), coupon.getMaxUsageLimit());
         log.info("Reverted usage for coupon {}", code);
     }
 
+    /**
+     * Saves a coupon and refreshes its index entry after commit.
+     * 
+     * @param coupon The coupon
+     * @return Saved coupon
+     */
+    private Coupon saveAndIndex(Coupon coupon) {
+        Coupon saved = couponRepository.save(coupon);
+        couponIndex.put(saved);
+        return saved;
+    }
+
     /**
      * Finds a coupon by code.
      * 
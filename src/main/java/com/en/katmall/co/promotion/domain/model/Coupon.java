@@ -29,11 +29,7 @@ public class Coupon extends AggregateRoot<String> {
 
     // Error codes
     private static final String ERR_INVALID_DISCOUNT = "INVALID_DISCOUNT";
-    private static final String ERR_COUPON_EXPIRED = "COUPON_EXPIRED";
-    private static final String ERR_COUPON_NOT_STARTED = "COUPON_NOT_STARTED";
-    private static final String ERR_COUPON_INACTIVE = "COUPON_INACTIVE";
     private static final String ERR_USAGE_LIMIT_EXCEEDED = "USAGE_LIMIT_EXCEEDED";
-    private static final String ERR_MIN_ORDER_NOT_MET = "MIN_ORDER_NOT_MET";
 
     private String code;
     private String description;
@@ -57,7 +53,7 @@ public class Coupon extends AggregateRoot<String> {
      */
     private Coupon(Builder builder) {
         super(builder.code); // Using code as ID for coupons
-        this.code = Objects.requireNonNull(builder.code, "code must not be null").toUpperCase();
+        this.code = CouponRule.normaliseCode(builder.code);
         this.description = builder.description;
         this.discountType = Objects.requireNonNull(builder.discountType, "discountType must not be null");
         this.discountValue = validateDiscountValue(builder.discountValue, builder.discountType);
@@ -94,32 +90,21 @@ public class Coupon extends AggregateRoot<String> {
     }
 
     /**
-     * Validates if coupon can be applied to an order
+     * Validates if coupon can be applied to an order.
+     * Validity window and minimum order value are checked by {@link CouponRule}.
      * 
      * @param orderValue The order subtotal
      * @throws DomainException if coupon cannot be applied
      */
     public void validate(BigDecimal orderValue) {
-        if (!isActive) {
-            throw new DomainException(ERR_COUPON_INACTIVE, "Coupon is not active");
-        }
+        CouponRule rule = toRule();
+        rule.validateAt(System.currentTimeMillis());
 
-        Instant now = Instant.now();
-        if (startDate != null && now.isBefore(startDate)) {
-            throw new DomainException(ERR_COUPON_NOT_STARTED, "Coupon is not yet valid");
-        }
-        if (endDate != null && now.isAfter(endDate)) {
-            throw new DomainException(ERR_COUPON_EXPIRED, "Coupon has expired");
-        }
-
-        if (maxUsageLimit != null && usageCount >= maxUsageLimit) {
+        if (isUsageLimitReached()) {
             throw new DomainException(ERR_USAGE_LIMIT_EXCEEDED, "Coupon usage limit exceeded");
         }
 
-        if (orderValue.compareTo(minOrderValue) < 0) {
-            throw new DomainException(ERR_MIN_ORDER_NOT_MET,
-                    String.format("Minimum order value of %s required", minOrderValue));
-        }
+        rule.validateOrderValue(orderValue);
     }
 
     /**
@@ -130,23 +115,16 @@ public class Coupon extends AggregateRoot<String> {
      */
     public BigDecimal calculateDiscount(BigDecimal orderValue) {
         validate(orderValue);
+        return toRule().discountFor(orderValue);
+    }
 
-        BigDecimal discount;
-        if (discountType == KTypeDiscountType.PERCENTAGE) {
-            discount = orderValue.multiply(discountValue).divide(BigDecimal.valueOf(100));
-            if (maxDiscountAmount != null && discount.compareTo(maxDiscountAmount) > 0) {
-                discount = maxDiscountAmount;
-            }
-        } else {
-            discount = discountValue;
-        }
-
-        // Discount cannot exceed order value
-        if (discount.compareTo(orderValue) > 0) {
-            discount = orderValue;
-        }
-
-        return discount;
+    /**
+     * Takes a snapshot of the current rules of this coupon
+     * 
+     * @return Rule snapshot
+     */
+    public CouponRule toRule() {
+        return CouponRule.of(this);
     }
 
     /**
@@ -211,18 +189,16 @@ public class Coupon extends AggregateRoot<String> {
      * @return true if coupon can be used
      */
     public boolean isValid() {
-        if (!isActive)
-            return false;
-
-        Instant now = Instant.now();
-        if (startDate != null && now.isBefore(startDate))
-            return false;
-        if (endDate != null && now.isAfter(endDate))
-            return false;
-        if (maxUsageLimit != null && usageCount >= maxUsageLimit)
-            return false;
-
-        return true;
+        return toRule().isValidAt(System.currentTimeMillis()) && !isUsageLimitReached();
+    }
+
+    /**
+     * Checks if the usage limit has been reached
+     * 
+     * @return true if no uses remain
+     */
+    private boolean isUsageLimitReached() {
+        return maxUsageLimit != null && usageCount >= maxUsageLimit;
     }
 
     /**
@@ -0,0 +1,29 @@
+/**
+ * KATMALL Application
+ * tai.buivan@outlook.com Copyright (c) 2025 All rights reserved
+ */
+package com.en.katmall.co.promotion.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.math.BigDecimal;
+
+/**
+ * A coupon applicable to a cart together with the discount it would give.
+ *
+ * @author tai.buivan
+ * @version 1.0
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public final class CouponOffer {
+
+    /** The coupon code */
+    private final String code;
+
+    /** Discount the coupon gives on the cart */
+    private final BigDecimal discount;
+}
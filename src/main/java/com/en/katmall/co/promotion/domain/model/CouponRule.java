@@ -0,0 +1,177 @@
+/**
+ * KATMALL Application
+ * tai.buivan@outlook.com Copyright (c) 2025 All rights reserved
+ */
+package com.en.katmall.co.promotion.domain.model;
+
+import com.en.katmall.co.shared.exception.DomainException;
+import com.en.katmall.co.shared.enums.KTypeDiscountType;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.math.BigDecimal;
+import java.util.Locale;
+import java.util.Objects;
+
+/**
+ * Immutable snapshot of the rules of a {@link Coupon}, and the single
+ * implementation of its validity and discount checks.
+ * The validity window is precomputed as epoch milliseconds so checks against
+ * the current time are two long comparisons. The usage limit is not checked
+ * here: remaining usage is only known to the database and is enforced when
+ * the coupon is redeemed.
+ *
+ * @author tai.buivan
+ * @version 1.0
+ */
+@Getter
+@ToString
+public final class CouponRule {
+
+    // Error codes
+    private static final String ERR_COUPON_EXPIRED = "COUPON_EXPIRED";
+    private static final String ERR_COUPON_NOT_STARTED = "COUPON_NOT_STARTED";
+    private static final String ERR_COUPON_INACTIVE = "COUPON_INACTIVE";
+    private static final String ERR_MIN_ORDER_NOT_MET = "MIN_ORDER_NOT_MET";
+
+    private static final BigDecimal HUNDRED = BigDecimal.valueOf(100);
+
+    private final String code;
+    private final KTypeDiscountType discountType;
+    private final BigDecimal discountValue;
+    private final BigDecimal maxDiscountAmount;
+    private final BigDecimal minOrderValue;
+    private final Integer maxUsageLimit;
+    private final long validFromMillis;
+    private final long validUntilMillis;
+    private final boolean active;
+
+    private CouponRule(Coupon coupon) {
+        this.code = coupon.getCode();
+        this.discountType = coupon.getDiscountType();
+        this.discountValue = coupon.getDiscountValue();
+        this.maxDiscountAmount = coupon.getMaxDiscountAmount();
+        this.minOrderValue = coupon.getMinOrderValue() != null ? coupon.getMinOrderValue() : BigDecimal.ZERO;
+        this.maxUsageLimit = coupon.getMaxUsageLimit();
+        this.validFromMillis = coupon.getStartDate() != null ? coupon.getStartDate().toEpochMilli() : Long.MIN_VALUE;
+        this.validUntilMillis = coupon.getEndDate() != null ? coupon.getEndDate().toEpochMilli() : Long.MAX_VALUE;
+        this.active = coupon.isActive();
+    }
+
+    /**
+     * Takes a snapshot of a coupon
+     *
+     * @param coupon The coupon
+     * @return Rule snapshot
+     */
+    public static CouponRule of(Coupon coupon) {
+        return new CouponRule(Objects.requireNonNull(coupon, "Coupon must not be null"));
+    }
+
+    /**
+     * Normalises a coupon code as entered by a customer
+     *
+     * @param code Raw coupon code
+     * @return Trimmed upper-case code
+     */
+    public static String normaliseCode(String code) {
+        return Objects.requireNonNull(code, "Coupon code must not be null").trim().toUpperCase(Locale.ROOT);
+    }
+
+    /**
+     * Checks if the coupon is active and inside its validity window
+     *
+     * @param nowMillis Current time in epoch milliseconds
+     * @return true if the coupon can be used at that time
+     */
+    public boolean isValidAt(long nowMillis) {
+        return active && nowMillis >= validFromMillis && nowMillis <= validUntilMillis;
+    }
+
+    /**
+     * Validates if the coupon can be applied to an order
+     *
+     * @param orderValue The order subtotal
+     * @param nowMillis  Current time in epoch milliseconds
+     * @throws DomainException if coupon cannot be applied
+     */
+    public void validate(BigDecimal orderValue, long nowMillis) {
+        validateAt(nowMillis);
+        validateOrderValue(orderValue);
+    }
+
+    /**
+     * Validates that the coupon is active and inside its validity window
+     *
+     * @param nowMillis Current time in epoch milliseconds
+     * @throws DomainException if the coupon cannot be used at that time
+     */
+    public void validateAt(long nowMillis) {
+        if (!active) {
+            throw new DomainException(ERR_COUPON_INACTIVE, "Coupon is not active");
+        }
+        if (nowMillis < validFromMillis) {
+            throw new DomainException(ERR_COUPON_NOT_STARTED, "Coupon is not yet valid");
+        }
+        if (nowMillis > validUntilMillis) {
+            throw new DomainException(ERR_COUPON_EXPIRED, "Coupon has expired");
+        }
+    }
+
+    /**
+     * Validates that an order reaches the minimum order value
+     *
+     * @param orderValue The order subtotal
+     * @throws DomainException if the order value is too low
+     */
+    public void validateOrderValue(BigDecimal orderValue) {
+        if (orderValue.compareTo(minOrderValue) < 0) {
+            throw new DomainException(ERR_MIN_ORDER_NOT_MET,
+                    String.format("Minimum order value of %s required", minOrderValue));
+        }
+    }
+
+    /**
+     * Gets the largest discount this coupon can give on any cart
+     *
+     * @return Discount upper bound, or null if it grows with the cart value
+     */
+    public BigDecimal getMaxDiscount() {
+        if (discountType == KTypeDiscountType.PERCENTAGE) {
+            return maxDiscountAmount;
+        }
+        return discountValue;
+    }
+
+    /**
+     * Validates the coupon and calculates the discount for an order
+     *
+     * @param orderValue The order subtotal
+     * @param nowMillis  Current time in epoch milliseconds
+     * @return The discount amount to apply
+     * @throws DomainException if coupon cannot be applied
+     */
+    public BigDecimal calculateDiscount(BigDecimal orderValue, long nowMillis) {
+        validate(orderValue, nowMillis);
+        return discountFor(orderValue);
+    }
+
+    /**
+     * Calculates the discount for an order without validating the coupon
+     *
+     * @param orderValue The order subtotal
+     * @return The discount amount, never more than the order value
+     */
+    public BigDecimal discountFor(BigDecimal orderValue) {
+        BigDecimal discount;
+        if (discountType == KTypeDiscountType.PERCENTAGE) {
+            discount = orderValue.multiply(discountValue).divide(HUNDRED);
+            if (maxDiscountAmount != null && discount.compareTo(maxDiscountAmount) > 0) {
+                discount = maxDiscountAmount;
+            }
+        } else {
+            discount = discountValue;
+        }
+        return discount.compareTo(orderValue) > 0 ? orderValue : discount;
+    }
+}
@@ -0,0 +1,58 @@
+/**
+ * KATMALL Application
+ * tai.buivan@outlook.com Copyright (c) 2025 All rights reserved
+ */
+package com.en.katmall.co.promotion.domain.repository;
+
+/**
+ * Repository interface for atomic coupon usage counters.
+ * Each operation is a single conditional update on the coupon row, so
+ * concurrent redemptions never read-modify-write the
+ * {@link com.en.katmall.co.promotion.domain.model.Coupon} aggregate and the
+ * usage limit cannot be exceeded.
+ *
+ * @author tai.buivan
+ * @version 1.0
+ */
+public interface CouponRedemptionRepository {
+
+    /**
+     * Claims usage slots if the coupon is active, within its validity window
+     * and has enough usage left
+     *
+     * @param code  The coupon code
+     * @param slots Number of usages to claim
+     * @return true if claimed, false if the coupon cannot be redeemed that many times
+     */
+    boolean claim(String code, int slots);
+
+    /**
+     * Returns previously claimed usage slots
+     *
+     * @param code  The coupon code
+     * @param slots Number of usages to return
+     * @return true if returned, false if less than slots were recorded
+     */
+    boolean release(String code, int slots);
+
+    /**
+     * Returns previously claimed usage slots while keeping some counted as used
+     *
+     * @param code     The coupon code
+     * @param slots    Number of usages to return
+     * @param retained Usages that must stay counted afterwards, e.g. slots
+     *                 leased by a node and not handed out yet
+     * @return true if returned, false if less than slots plus retained were recorded
+     */
+    boolean release(String code, int slots, int retained);
+
+    /**
+     * Adds usages already granted elsewhere without checking the limit.
+     * Used to fold node-local counters of unlimited coupons.
+     *
+     * @param code  The coupon code
+     * @param count Number of usages to add
+     * @return true if the coupon exists
+     */
+    boolean addUsage(String code, long count);
+}
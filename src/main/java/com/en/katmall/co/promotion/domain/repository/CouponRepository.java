@@ -19,7 +19,9 @@ import java.util.Optional;
 public interface CouponRepository {
 
     /**
-     * Saves a coupon
+     * Saves a coupon. The usage count of an existing coupon is not written:
+     * it is only changed by {@link CouponRedemptionRepository}, and the value
+     * loaded with the aggregate may already be stale.
      * 
      * @param coupon The coupon to save
      * @return The saved coupon
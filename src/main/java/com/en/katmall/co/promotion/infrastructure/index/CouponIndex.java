@@ -0,0 +1,235 @@
+/**
+ * KATMALL Application
+ * tai.buivan@outlook.com Copyright (c) 2025 All rights reserved
+ */
+package com.en.katmall.co.promotion.infrastructure.index;
+
+import com.en.katmall.co.promotion.domain.model.Coupon;
+import com.en.katmall.co.promotion.domain.model.CouponRule;
+import com.en.katmall.co.promotion.domain.repository.CouponRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * In-memory index of active coupon rules keyed by normalised code.
+ *
+ * <p>
+ * Loaded from {@link CouponRepository#findAllActive()} at startup and reloaded
+ * periodically so changes made on other nodes are picked up. Changes made on
+ * this node are applied incrementally once the surrounding transaction
+ * commits, so a rolled back change never becomes visible; changes applied
+ * while a reload is reading are journaled and replayed onto the loaded rules,
+ * so the reload cannot undo them. Validation and
+ * discount previews read only this index; the database is touched when a
+ * coupon is redeemed.
+ *
+ * <p>
+ * Copies of the rules sorted by minimum order value and by largest possible
+ * discount are rebuilt lazily after any change, so ranking can binary search
+ * or stop early instead of scanning every coupon.
+ *
+ * @author tai.buivan
+ * @version 1.0
+ */
+@Component
+@Slf4j
+public class CouponIndex {
+
+    private final ObjectProvider<CouponRepository> couponRepository;
+
+    /** Active coupon rules keyed by normalised code; replaced as a whole on reload */
+    private volatile Map<String, CouponRule> rules = new ConcurrentHashMap<>();
+
+    /** Changes applied while a reload is loading; guarded by this */
+    private List<Consumer<Map<String, CouponRule>>> journal;
+
+    /** Incremented on every change so the sorted view knows when it is stale */
+    private final AtomicLong version = new AtomicLong();
+
+    /** Sorted copies of the rules, tagged with the version they were built from */
+    private volatile SortedRules sorted = new SortedRules(-1, new CouponRule[0], new CouponRule[0]);
+
+    /**
+     * Creates the index
+     *
+     * @param couponRepository Repository used to load the index, if available
+     */
+    public CouponIndex(ObjectProvider<CouponRepository> couponRepository) {
+        this.couponRepository = couponRepository;
+    }
+
+    /**
+     * Reloads every active coupon from the database.
+     */
+    @Scheduled(initialDelay = 0, fixedDelayString = "${promotion.index.refresh-interval-ms:300000}")
+    public void reload() {
+        couponRepository.ifAvailable(repository -> {
+            synchronized (this) {
+                journal = new ArrayList<>();
+            }
+            Map<String, CouponRule> fresh = new ConcurrentHashMap<>();
+            try {
+                for (Coupon coupon : repository.findAllActive()) {
+                    fresh.put(coupon.getCode(), coupon.toRule());
+                }
+            } catch (RuntimeException e) {
+                synchronized (this) {
+                    journal = null;
+                }
+                throw e;
+            }
+            synchronized (this) {
+                journal.forEach(change -> change.accept(fresh));
+                journal = null;
+                rules = fresh;
+                version.incrementAndGet();
+            }
+            log.debug("Loaded coupon index with {} coupons", fresh.size());
+        });
+    }
+
+    /**
+     * Finds the rule of an active coupon
+     *
+     * @param code Coupon code, normalised or not
+     * @return The rule if the coupon is indexed
+     */
+    public Optional<CouponRule> find(String code) {
+        return Optional.ofNullable(rules.get(CouponRule.normaliseCode(code)));
+    }
+
+    /**
+     * Gets every indexed rule
+     *
+     * @return Read-only view of the indexed rules
+     */
+    public Collection<CouponRule> findAll() {
+        return List.copyOf(rules.values());
+    }
+
+    /**
+     * Gets every indexed rule sorted by minimum order value, ascending.
+     * The returned array is shared and must not be modified.
+     *
+     * @return Rules sorted by minimum order value
+     */
+    public CouponRule[] findAllByMinOrderValue() {
+        return sorted().byMinOrderValue();
+    }
+
+    /**
+     * Gets every indexed rule sorted by largest possible discount, descending.
+     * Rules whose discount is not capped come first, highest percentage first.
+     * The returned array is shared and must not be modified.
+     *
+     * @return Rules sorted by discount upper bound
+     */
+    public CouponRule[] findAllByMaxDiscount() {
+        return sorted().byMaxDiscount();
+    }
+
+    /**
+     * Gets the sorted copies, rebuilding them if the index changed since they were built.
+     *
+     * @return Current sorted rules
+     */
+    private SortedRules sorted() {
+        long current = version.get();
+        SortedRules snapshot = sorted;
+        if (snapshot.version() != current) {
+            CouponRule[] byMinOrderValue = rules.values().toArray(new CouponRule[0]);
+            CouponRule[] byMaxDiscount = byMinOrderValue.clone();
+            Arrays.sort(byMinOrderValue, Comparator.comparing(CouponRule::getMinOrderValue));
+            Arrays.sort(byMaxDiscount, Comparator.comparing(CouponRule::getMaxDiscount,
+                    Comparator.nullsFirst(Comparator.<BigDecimal>reverseOrder()))
+                    .thenComparing(CouponRule::getDiscountValue, Comparator.reverseOrder()));
+            snapshot = new SortedRules(current, byMinOrderValue, byMaxDiscount);
+            sorted = snapshot;
+        }
+        return snapshot;
+    }
+
+    /**
+     * Indexes a created or updated coupon once the current transaction commits.
+     * Inactive coupons are removed.
+     *
+     * @param coupon The saved coupon
+     */
+    public void put(Coupon coupon) {
+        Objects.requireNonNull(coupon, "Coupon must not be null");
+        CouponRule rule = coupon.toRule();
+        afterCommit(() -> apply(indexed -> {
+            if (rule.isActive()) {
+                indexed.put(rule.getCode(), rule);
+            } else {
+                indexed.remove(rule.getCode());
+            }
+        }));
+    }
+
+    /**
+     * Removes a deleted coupon once the current transaction commits.
+     *
+     * @param code Coupon code
+     */
+    public void remove(String code) {
+        String normalised = CouponRule.normaliseCode(code);
+        afterCommit(() -> apply(indexed -> indexed.remove(normalised)));
+    }
+
+    /**
+     * Applies a change to the indexed rules, and journals it while a reload
+     * is loading.
+     *
+     * @param change Modification of the rules
+     */
+    private synchronized void apply(Consumer<Map<String, CouponRule>> change) {
+        change.accept(rules);
+        version.incrementAndGet();
+        if (journal != null) {
+            journal.add(change);
+        }
+    }
+
+    /**
+     * Runs an index change after the current transaction commits,
+     * or immediately if no transaction is active.
+     *
+     * @param change The index change
+     */
+    private void afterCommit(Runnable change) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            change.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                change.run();
+            }
+        });
+    }
+
+    /**
+     * Sorted copies of the rules and the index version they reflect.
+     */
+    private record SortedRules(long version, CouponRule[] byMinOrderValue, CouponRule[] byMaxDiscount) {
+    }
+}
@@ -51,7 +51,8 @@ public class CouponJpaEntity {
     @Column(name = "max_usage_limit")
     private Integer maxUsageLimit;
 
-    @Column(name = "usage_count")
+    /** Written only by the conditional updates of CouponRedemptionRepository */
+    @Column(name = "usage_count", updatable = false)
     @Builder.Default
     private Integer usageCount = 0;
 
@@ -0,0 +1,96 @@
+/**
+ * KATMALL Application
+ * tai.buivan@outlook.com Copyright (c) 2025 All rights reserved
+ */
+package com.en.katmall.co.promotion.infrastructure.persistence.repository;
+
+import com.en.katmall.co.promotion.domain.repository.CouponRedemptionRepository;
+import com.en.katmall.co.shared.infrastructure.config.properties.AppProperties;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Objects;
+
+/**
+ * Implementation of CouponRedemptionRepository using conditional SQL updates.
+ * Activity, validity window and remaining usage are checked in the WHERE
+ * clause, so the row lock taken by the UPDATE is held only for the statement.
+ * The validity window is compared in the configured database zone, the zone
+ * JPA writes start_date and end_date in.
+ *
+ * @author tai.buivan
+ * @version 1.0
+ */
+@Repository
+public class CouponRedemptionJdbcRepository implements CouponRedemptionRepository {
+
+    private static final String SQL_CLAIM = """
+            UPDATE coupons
+               SET usage_count = usage_count + ?
+             WHERE code = ? AND is_active = TRUE
+               AND (start_date IS NULL OR start_date <= ?)
+               AND (end_date IS NULL OR end_date >= ?)
+               AND (max_usage_limit IS NULL OR usage_count + ? <= max_usage_limit)""";
+
+    private static final String SQL_RELEASE = """
+            UPDATE coupons
+               SET usage_count = usage_count - ?
+             WHERE code = ? AND usage_count - ? >= ?""";
+
+    private static final String SQL_ADD_USAGE = """
+            UPDATE coupons
+               SET usage_count = usage_count + ?
+             WHERE code = ?""";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ZoneId databaseZone;
+
+    /**
+     * Creates the repository
+     *
+     * @param jdbcTemplate  JDBC template
+     * @param appProperties Application configuration, for the database zone
+     */
+    public CouponRedemptionJdbcRepository(JdbcTemplate jdbcTemplate, AppProperties appProperties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.databaseZone = appProperties.getDatabaseTimeZone();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean claim(String code, int slots) {
+        Objects.requireNonNull(code, "Coupon code must not be null");
+        LocalDateTime now = LocalDateTime.now(databaseZone);
+        return jdbcTemplate.update(SQL_CLAIM, slots, code, now, now, slots) == 1;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean release(String code, int slots) {
+        return release(code, slots, 0);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean release(String code, int slots, int retained) {
+        Objects.requireNonNull(code, "Coupon code must not be null");
+        return jdbcTemplate.update(SQL_RELEASE, slots, code, slots, retained) == 1;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean addUsage(String code, long count) {
+        Objects.requireNonNull(code, "Coupon code must not be null");
+        return jdbcTemplate.update(SQL_ADD_USAGE, count, code) == 1;
+    }
+}
@@ -0,0 +1,298 @@
+/**
+ * KATMALL Application
+ * tai.buivan@outlook.com Copyright (c) 2025 All rights reserved
+ */
+package com.en.katmall.co.promotion.infrastructure.redemption;
+
+import com.en.katmall.co.promotion.domain.repository.CouponRedemptionRepository;
+import com.en.katmall.co.shared.infrastructure.config.properties.PromotionProperties;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Node-local redemption counters for coupons that are redeemed often.
+ *
+ * <p>
+ * Coupons with a small usage limit are redeemed with one conditional update
+ * each, which keeps the limit exact. Above the configured threshold the row
+ * would become a hot spot, so:
+ * <ul>
+ * <li>unlimited coupons only count usages in a {@link LongAdder} that is folded
+ * into {@code coupons.usage_count} periodically</li>
+ * <li>high-limit coupons lease usage slots from the database in chunks with the
+ * same conditional update and serve redemptions by a CAS on one of several
+ * stripes; unused slots are returned on every flush</li>
+ * </ul>
+ * Leased slots are counted as used in the database, so the limit holds across
+ * nodes. A release only goes back into the lease for usages this node served
+ * from it; any other release is applied to the database with a conditional
+ * update that keeps this node's leased slots counted, so a double release or
+ * one of a usage redeemed on another node cannot create a slot the database
+ * never counted. Counts of a node that
+ * crashes are lost for unlimited coupons and stay leased for high-limit
+ * coupons until corrected.
+ *
+ * @author tai.buivan
+ * @version 1.0
+ */
+@Component
+@Slf4j
+public class StripedRedemptionCounter {
+
+    private final CouponRedemptionRepository redemptionRepository;
+    private final int highLimitThreshold;
+    private final int stripes;
+    private final int leaseSize;
+
+    /** Pending usages of unlimited coupons keyed by code */
+    private final Map<String, LongAdder> unlimited = new ConcurrentHashMap<>();
+
+    /** Leased slots of high-limit coupons keyed by code */
+    private final Map<String, SlotLease> leases = new ConcurrentHashMap<>();
+
+    /**
+     * Creates the counter
+     *
+     * @param redemptionRepository Atomic redemption repository
+     * @param promotionProperties  Promotion configuration
+     */
+    public StripedRedemptionCounter(CouponRedemptionRepository redemptionRepository,
+            PromotionProperties promotionProperties) {
+        this.redemptionRepository = redemptionRepository;
+        PromotionProperties.Redemption redemption = promotionProperties.getRedemption();
+        this.highLimitThreshold = Math.max(1, redemption.getHighLimitThreshold());
+        this.stripes = Math.max(1, redemption.getStripes());
+        this.leaseSize = Math.max(1, redemption.getLeaseSize());
+    }
+
+    /**
+     * Redeems one usage of a coupon.
+     * The caller is expected to have validated activity and dates already.
+     *
+     * @param code          The normalised coupon code
+     * @param maxUsageLimit Usage limit of the coupon, null for unlimited
+     * @return true if redeemed, false if the usage limit is reached
+     */
+    public boolean redeem(String code, Integer maxUsageLimit) {
+        Objects.requireNonNull(code, "Coupon code must not be null");
+        if (maxUsageLimit == null) {
+            unlimited.computeIfAbsent(code, k -> new LongAdder()).increment();
+            return true;
+        }
+        if (maxUsageLimit < highLimitThreshold) {
+            return redemptionRepository.claim(code, 1);
+        }
+        SlotLease lease = leases.computeIfAbsent(code, k -> new SlotLease(code, stripes));
+        if (lease.tryTake()) {
+            lease.handedOut.incrementAndGet();
+            return true;
+        }
+        return refillAndTake(lease);
+    }
+
+    /**
+     * Reverts one usage of a coupon (e.g., order cancelled). A usage this node
+     * served from its lease goes back into the lease; any other usage of a
+     * limited coupon is returned in the database.
+     *
+     * @param code          The normalised coupon code
+     * @param maxUsageLimit Usage limit of the coupon, null for unlimited
+     */
+    public void release(String code, Integer maxUsageLimit) {
+        Objects.requireNonNull(code, "Coupon code must not be null");
+        if (maxUsageLimit == null) {
+            unlimited.computeIfAbsent(code, k -> new LongAdder()).decrement();
+            return;
+        }
+        SlotLease lease = maxUsageLimit < highLimitThreshold ? null : leases.get(code);
+        if (lease != null && lease.takeBack()) {
+            lease.put(1);
+        } else if (!redemptionRepository.release(code, 1, lease != null ? lease.leased() : 0)) {
+            log.warn("Could not revert usage of coupon {}", code);
+        }
+    }
+
+    /**
+     * Folds pending usages of unlimited coupons into the database and
+     * returns unused leased slots.
+     */
+    @Scheduled(fixedDelayString = "${promotion.redemption.flush-interval-ms:5000}")
+    public void flush() {
+        unlimited.forEach(this::flush);
+        leases.values().forEach(this::flush);
+    }
+
+    /**
+     * Flushes on shutdown so no usage is lost and no slot stays leased by this node.
+     */
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    /**
+     * Leases a chunk of slots from the database and serves the redemption from it.
+     * Refills for one coupon are serialised so a burst of misses produces one
+     * database claim rather than one per thread.
+     *
+     * @param lease The coupon lease
+     * @return true if redeemed
+     */
+    private boolean refillAndTake(SlotLease lease) {
+        synchronized (lease) {
+            if (lease.tryTake()) {
+                lease.handedOut.incrementAndGet();
+                return true;
+            }
+            if (redemptionRepository.claim(lease.code, leaseSize)) {
+                lease.put(leaseSize - 1);
+                lease.handedOut.incrementAndGet();
+                return true;
+            }
+            // Fewer than a full lease left; fall back to a single slot
+            return redemptionRepository.claim(lease.code, 1);
+        }
+    }
+
+    /**
+     * Folds the pending usages of one unlimited coupon.
+     * If the database cannot be reached the usages are added back and
+     * retried on the next flush.
+     *
+     * @param code  The coupon code
+     * @param adder Pending usages
+     */
+    private void flush(String code, LongAdder adder) {
+        long pending = adder.sumThenReset();
+        if (pending == 0) {
+            return;
+        }
+        try {
+            boolean stored = pending > 0 ? redemptionRepository.addUsage(code, pending)
+                    : redemptionRepository.release(code, (int) -pending);
+            if (!stored) {
+                log.warn("Could not fold {} usages of coupon {}", pending, code);
+            }
+        } catch (DataAccessException e) {
+            adder.add(pending);
+            log.warn("Could not fold {} usages of coupon {}: {}", pending, code, e.getMessage());
+        }
+    }
+
+    /**
+     * Returns the unused slots of one lease.
+     * If the database cannot be reached the slots go back into the lease,
+     * where they are still counted as used, and are retried on the next flush.
+     *
+     * @param lease The coupon lease
+     */
+    private void flush(SlotLease lease) {
+        int drained = lease.drain();
+        if (drained == 0) {
+            return;
+        }
+        try {
+            if (!redemptionRepository.release(lease.code, drained)) {
+                log.warn("Could not return {} leased slots of coupon {}", drained, lease.code);
+            }
+        } catch (DataAccessException e) {
+            lease.put(drained);
+            log.warn("Could not return {} leased slots of coupon {}: {}", drained, lease.code, e.getMessage());
+        }
+    }
+
+    /**
+     * Striped counter of leased usage slots for one coupon.
+     */
+    private static final class SlotLease {
+
+        private final String code;
+        private final AtomicIntegerArray slots;
+
+        /** Usages served from this lease and not yet released */
+        private final AtomicInteger handedOut = new AtomicInteger();
+
+        private SlotLease(String code, int stripes) {
+            this.code = code;
+            this.slots = new AtomicIntegerArray(stripes);
+        }
+
+        /**
+         * Takes one slot from the first non-empty stripe, starting at a random stripe.
+         *
+         * @return true if taken
+         */
+        private boolean tryTake() {
+            int length = slots.length();
+            int start = ThreadLocalRandom.current().nextInt(length);
+            for (int i = 0; i < length; i++) {
+                int stripe = (start + i) % length;
+                int current = slots.get(stripe);
+                while (current > 0) {
+                    if (slots.compareAndSet(stripe, current, current - 1)) {
+                        return true;
+                    }
+                    current = slots.get(stripe);
+                }
+            }
+            return false;
+        }
+
+        /**
+         * Accounts for a release of a usage served from this lease.
+         *
+         * @return true if a usage was handed out
+         */
+        private boolean takeBack() {
+            return handedOut.getAndUpdate(current -> current > 0 ? current - 1 : 0) > 0;
+        }
+
+        /**
+         * Adds slots to a random stripe.
+         *
+         * @param count Slots to add
+         */
+        private void put(int count) {
+            if (count > 0) {
+                slots.addAndGet(ThreadLocalRandom.current().nextInt(slots.length()), count);
+            }
+        }
+
+        /**
+         * Counts the slots left in every stripe.
+         *
+         * @return Leased slots not handed out
+         */
+        private int leased() {
+            int total = 0;
+            for (int i = 0; i < slots.length(); i++) {
+                total += slots.get(i);
+            }
+            return total;
+        }
+
+        /**
+         * Atomically empties every stripe.
+         *
+         * @return Total slots drained
+         */
+        private int drain() {
+            int total = 0;
+            for (int i = 0; i < slots.length(); i++) {
+                total += slots.getAndSet(i, 0);
+            }
+            return total;
+        }
+    }
+}
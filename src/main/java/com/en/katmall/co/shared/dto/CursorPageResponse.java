@@ -0,0 +1,69 @@
+/**
+ * KATMALL Application
+ * tai.buivan@outlook.com Copyright (c) 2025 All rights reserved
+ */
+package com.en.katmall.co.shared.dto;
+
+import com.en.katmall.co.shared.exception.ValidationException;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Cursor-paginated response wrapper for list data.
+ * Unlike {@link PageResponse} it has no page number or total count, so deep
+ * pages cost the same as the first one.
+ * 
+ * @param <T> Type of items in the list
+ * @author tai.buivan
+ * @version 1.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPageResponse<T> {
+
+    /** List of items for current page */
+    private List<T> items;
+
+    /** Number of items per page */
+    private int size;
+
+    /** Cursor for the next page, null on the last page */
+    private String nextCursor;
+
+    /** Whether more items follow */
+    private boolean hasNext;
+
+    /**
+     * Creates a CursorPageResponse from the rows of a keyset query.
+     * The query should fetch {@code size + 1} rows; the extra row only
+     * signals that another page exists and is not returned.
+     * 
+     * @param rows     Rows fetched, at most size + 1
+     * @param size     Page size
+     * @param cursorOf Extracts the cursor of a row
+     * @param <T>      Type of items
+     * @return Cursor page
+     * @throws ValidationException if the size is less than 1
+     */
+    public static <T> CursorPageResponse<T> of(List<T> rows, int size, Function<T, PageCursor> cursorOf) {
+        if (size < 1) {
+            throw new ValidationException("size", "Size must be at least 1");
+        }
+        boolean hasNext = rows.size() > size;
+        List<T> items = hasNext ? rows.subList(0, size) : rows;
+        String nextCursor = hasNext ? cursorOf.apply(items.get(items.size() - 1)).encode() : null;
+        return CursorPageResponse.<T>builder()
+                .items(items)
+                .size(size)
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .build();
+    }
+}
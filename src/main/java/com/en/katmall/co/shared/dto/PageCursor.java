@@ -0,0 +1,86 @@
+/**
+ * KATMALL Application
+ * tai.buivan@outlook.com Copyright (c) 2025 All rights reserved
+ */
+package com.en.katmall.co.shared.dto;
+
+import com.en.katmall.co.shared.exception.ValidationException;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Objects;
+
+/**
+ * Position in a list ordered by (created_at DESC, id DESC).
+ * Keyset queries return the rows strictly after this position, so reading
+ * page N costs the same as reading page 1. Clients only ever see the
+ * opaque {@link #encode() encoded} form.
+ * 
+ * @author tai.buivan
+ * @version 1.0
+ */
+@Getter
+@ToString
+@EqualsAndHashCode
+public final class PageCursor {
+
+    private static final String SEPARATOR = "|";
+
+    /** Creation time of the last row returned */
+    private final Instant createdAt;
+
+    /** ID of the last row returned, breaks ties on createdAt */
+    private final String id;
+
+    private PageCursor(Instant createdAt, String id) {
+        this.createdAt = Objects.requireNonNull(createdAt, "createdAt must not be null");
+        this.id = Objects.requireNonNull(id, "id must not be null");
+    }
+
+    /**
+     * Creates a cursor positioned at a row
+     * 
+     * @param createdAt Creation time of the row
+     * @param id        ID of the row
+     * @return New cursor
+     */
+    public static PageCursor of(Instant createdAt, String id) {
+        return new PageCursor(createdAt, id);
+    }
+
+    /**
+     * Encodes the cursor as an opaque URL-safe token
+     * 
+     * @return Encoded cursor
+     */
+    public String encode() {
+        String raw = createdAt.getEpochSecond() + "." + createdAt.getNano() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a token produced by {@link #encode()}
+     * 
+     * @param token Encoded cursor, null or blank for the first page
+     * @return The cursor, or null for the first page
+     * @throws ValidationException if the token is malformed
+     */
+    public static PageCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(SEPARATOR);
+            String[] time = raw.substring(0, separator).split("\\.");
+            Instant createdAt = Instant.ofEpochSecond(Long.parseLong(time[0]), Long.parseLong(time[1]));
+            return new PageCursor(createdAt, raw.substring(separator + 1));
+        } catch (RuntimeException e) {
+            throw new ValidationException("cursor", "Invalid cursor");
+        }
+    }
+}
@@ -0,0 +1,48 @@
+/**
+ * KATMALL Application
+ * tai.buivan@outlook.com Copyright (c) 2025 All rights reserved
+ */
+package com.en.katmall.co.shared.infrastructure.config;
+
+import com.en.katmall.co.shared.infrastructure.config.properties.CacheSpecProperties;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Cache configuration backed by Caffeine.
+ * Every cache declared under 'cache.specs' is registered up front with its own
+ * size and TTL, and records statistics so actuator can publish hit, miss and
+ * eviction metrics for it.
+ *
+ * @author tai.buivan
+ * @version 1.0
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    /**
+     * Creates the Caffeine cache manager with per-cache specs.
+     *
+     * @param properties Cache spec properties
+     * @return Configured CacheManager
+     */
+    @Bean
+    public CacheManager cacheManager(CacheSpecProperties properties) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        cacheManager.setCaffeine(Caffeine.newBuilder().recordStats());
+
+        properties.getSpecs().forEach((name, spec) -> cacheManager.registerCustomCache(name,
+                Caffeine.newBuilder()
+                        .maximumSize(spec.getMaximumSize())
+                        .expireAfterWrite(spec.getTtl())
+                        .recordStats()
+                        .build()));
+
+        return cacheManager;
+    }
+}
@@ -4,10 +4,13 @@
  */
 package com.en.katmall.co.shared.infrastructure.config.properties;
 
+import com.en.katmall.co.shared.utils.DateTimeUtils;
 import lombok.Data;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
 
+import java.time.ZoneId;
+
 /**
  * Application properties configuration.
  * Binds to 'app.*' properties.
@@ -31,4 +34,10 @@ public class AppProperties {
 
     /** Frontend URL for links in emails */
     private String frontendUrl = "http://localhost:3000";
+
+    /**
+     * Zone of TIMESTAMP columns without time zone; must match
+     * hibernate.jdbc.time_zone so JDBC code reads and binds what JPA writes
+     */
+    private ZoneId databaseTimeZone = DateTimeUtils.VN_ZONE;
 }
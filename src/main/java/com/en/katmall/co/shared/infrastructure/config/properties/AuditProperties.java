@@ -0,0 +1,63 @@
+/**
+ * KATMALL Application
+ * tai.buivan@outlook.com Copyright (c) 2025 All rights reserved
+ */
+package com.en.katmall.co.shared.infrastructure.config.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Audit log configuration properties.
+ * Binds to 'audit.*' properties.
+ *
+ * @author tai.buivan
+ * @version 1.0
+ */
+@Configuration
+@ConfigurationProperties(prefix = "audit")
+@Data
+public class AuditProperties {
+
+    /** Audit write buffer configuration */
+    private Buffer buffer = new Buffer();
+
+    /** Audit table partitioning and retention configuration */
+    private Partitions partitions = new Partitions();
+
+    /** Audit log query configuration */
+    private Query query = new Query();
+
+    @Data
+    public static class Buffer {
+        /** Maximum audit entries held in memory */
+        private int capacity = 8192;
+        /** Maximum entries per batch insert */
+        private int batchSize = 500;
+        /** Maximum time an entry waits before being flushed */
+        private Duration flushInterval = Duration.ofSeconds(1);
+        /** How long a caller waits for space before the entry is dropped */
+        private Duration offerTimeout = Duration.ofMillis(50);
+        /** How long shutdown waits for the buffer to drain */
+        private Duration shutdownTimeout = Duration.ofSeconds(10);
+    }
+
+    @Data
+    public static class Partitions {
+        /** Whether the partition scheduler runs */
+        private boolean enabled = true;
+        /** Monthly partitions created ahead of the current month */
+        private int monthsAhead = 3;
+        /** Days of audit logs to keep; 0 keeps everything */
+        private int retentionDays = 365;
+    }
+
+    @Data
+    public static class Query {
+        /** Maximum page size of a cursor-paginated query */
+        private int maxPageSize = 100;
+    }
+}
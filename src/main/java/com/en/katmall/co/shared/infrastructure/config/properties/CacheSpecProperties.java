@@ -0,0 +1,37 @@
+/**
+ * KATMALL Application
+ * tai.buivan@outlook.com Copyright (c) 2025 All rights reserved
+ */
+package com.en.katmall.co.shared.infrastructure.config.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * In-memory cache configuration properties.
+ * Binds to 'cache.*' properties, one spec per named cache.
+ *
+ * @author tai.buivan
+ * @version 1.0
+ */
+@Configuration
+@ConfigurationProperties(prefix = "cache")
+@Data
+public class CacheSpecProperties {
+
+    /** Per-cache size and TTL, keyed by cache name */
+    private Map<String, Spec> specs = new LinkedHashMap<>();
+
+    @Data
+    public static class Spec {
+        /** Maximum number of entries before eviction */
+        private long maximumSize = 1000;
+        /** Time to live after write */
+        private Duration ttl = Duration.ofMinutes(10);
+    }
+}
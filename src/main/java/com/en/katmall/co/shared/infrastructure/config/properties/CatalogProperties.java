@@ -0,0 +1,52 @@
+/**
+ * KATMALL Application
+ * tai.buivan@outlook.com Copyright (c) 2025 All rights reserved
+ */
+package com.en.katmall.co.shared.infrastructure.config.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Catalog configuration properties.
+ * Binds to 'catalog.*' properties.
+ *
+ * @author tai.buivan
+ * @version 1.0
+ */
+@Configuration
+@ConfigurationProperties(prefix = "catalog")
+@Data
+public class CatalogProperties {
+
+    /** Product search index configuration */
+    private Search search = new Search();
+
+    /** Faceted listing index configuration */
+    private Facets facets = new Facets();
+
+    @Data
+    public static class Search {
+        /** Maximum number of terms the last word of a query expands to */
+        private int maxExpansions = 64;
+        /** Maximum number of results per query */
+        private int maxResults = 50;
+        /** Pending changes from which the index is compacted */
+        private int compactThreshold = 1000;
+        /** Interval for checking whether the index needs compacting */
+        private long compactCheckIntervalMs = 10000;
+        /** Interval for rebuilding the index from the database */
+        private long refreshIntervalMs = 3600000;
+    }
+
+    @Data
+    public static class Facets {
+        /** Maximum page size of a filtered listing */
+        private int maxPageSize = 100;
+        /** Interval for refreshing the in-stock facet from inventory */
+        private long stockRefreshIntervalMs = 60000;
+        /** Interval for rebuilding the index from the database */
+        private long refreshIntervalMs = 3600000;
+    }
+}
@@ -0,0 +1,40 @@
+/**
+ * KATMALL Application
+ * tai.buivan@outlook.com Copyright (c) 2025 All rights reserved
+ */
+package com.en.katmall.co.shared.infrastructure.config.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * CMS configuration properties.
+ * Binds to 'cms.*' properties.
+ *
+ * @author tai.buivan
+ * @version 1.0
+ */
+@Configuration
+@ConfigurationProperties(prefix = "cms")
+@Data
+public class CmsProperties {
+
+    /** Banner slot snapshot configuration */
+    private Banners banners = new Banners();
+
+    /** Scheduled publish/unpublish configuration */
+    private Schedule schedule = new Schedule();
+
+    @Data
+    public static class Banners {
+        /** Interval for reloading the banner snapshot from the database */
+        private long refreshIntervalMs = 300000;
+    }
+
+    @Data
+    public static class Schedule {
+        /** Interval for re-arming transition timers from the database */
+        private long reloadIntervalMs = 1800000;
+    }
+}
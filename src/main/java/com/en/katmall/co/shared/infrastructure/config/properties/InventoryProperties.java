@@ -0,0 +1,65 @@
+/**
+ * KATMALL Application
+ * tai.buivan@outlook.com Copyright (c) 2025 All rights reserved
+ */
+package com.en.katmall.co.shared.infrastructure.config.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Inventory configuration properties.
+ * Binds to 'inventory.*' properties.
+ *
+ * @author tai.buivan
+ * @version 1.0
+ */
+@Configuration
+@ConfigurationProperties(prefix = "inventory")
+@Data
+public class InventoryProperties {
+
+    /** Stock reservation configuration */
+    private Reservation reservation = new Reservation();
+
+    /** Allocation planner configuration */
+    private Allocation allocation = new Allocation();
+
+    /** Low stock feed configuration */
+    private LowStock lowStock = new LowStock();
+
+    /**
+     * How reservations reach the database
+     */
+    public enum ReservationMode {
+        /** One conditional UPDATE per reservation */
+        DIRECT,
+        /** Reservations served from node-local striped pools claimed in chunks */
+        POOLED
+    }
+
+    @Data
+    public static class Reservation {
+        /** Reservation mode */
+        private ReservationMode mode = ReservationMode.DIRECT;
+        /** Number of counter stripes per stock row in pooled mode */
+        private int stripes = 8;
+        /** Units claimed from the database per refill in pooled mode */
+        private int chunkSize = 20;
+        /** Interval for returning unused pooled units to the database */
+        private long flushIntervalMs = 5000;
+    }
+
+    @Data
+    public static class Allocation {
+        /** Interval for reloading the availability index from the database */
+        private long refreshIntervalMs = 300000;
+    }
+
+    @Data
+    public static class LowStock {
+        /** Interval for reloading the low stock feed from the database */
+        private long refreshIntervalMs = 300000;
+    }
+}
@@ -28,4 +28,7 @@ public class JwtProperties {
 
     /** Refresh token expiration in milliseconds */
     private long refreshTokenExpiration = 604800000; // 7 days
+
+    /** Maximum number of verified tokens kept in memory */
+    private long verifiedCacheMaxSize = 10000;
 }
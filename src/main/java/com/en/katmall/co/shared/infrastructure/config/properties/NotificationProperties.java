@@ -0,0 +1,98 @@
+/**
+ * KATMALL Application
+ * tai.buivan@outlook.com Copyright (c) 2025 All rights reserved
+ */
+package com.en.katmall.co.shared.infrastructure.config.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Notification configuration properties.
+ * Binds to 'notification.*' properties.
+ *
+ * @author tai.buivan
+ * @version 1.0
+ */
+@Configuration
+@ConfigurationProperties(prefix = "notification")
+@Data
+public class NotificationProperties {
+
+    /** Bulk notification fan-out configuration */
+    private Fanout fanout = new Fanout();
+
+    /** Unread counter configuration */
+    private Unread unread = new Unread();
+
+    /** Server-Sent Events push configuration */
+    private Push push = new Push();
+
+    /** Read notification retention configuration */
+    private Archive archive = new Archive();
+
+    /**
+     * What retention does with expired read notifications
+     */
+    public enum ArchiveMode {
+        /** Move them into notifications_archive */
+        ARCHIVE,
+        /** Delete them */
+        DELETE
+    }
+
+    @Data
+    public static class Fanout {
+        /** Notifications inserted per JDBC batch and transaction */
+        private int chunkSize = 1000;
+        /** Broadcast jobs running at once on this node */
+        private int workerThreads = 2;
+        /** Age of the last heartbeat after which a running job is resumed */
+        private Duration staleAfter = Duration.ofMinutes(2);
+        /** Interval for looking up stalled jobs */
+        private long resumeIntervalMs = 60000;
+    }
+
+    @Data
+    public static class Unread {
+        /** Counter rows checked per reconciliation statement */
+        private int reconcileBatchSize = 500;
+        /** Schedule of the reconciliation job */
+        private String reconcileCron = "0 20 * * * *";
+    }
+
+    @Data
+    public static class Push {
+        /** Events buffered per connection before the connection is dropped as too slow */
+        private int bufferSize = 64;
+        /** Open streams allowed per user on this node; the oldest is closed beyond this */
+        private int maxConnectionsPerUser = 5;
+        /** Lifetime of a stream before the client has to reconnect */
+        private Duration timeout = Duration.ofMinutes(30);
+        /** Interval between keep-alive comments on idle streams */
+        private long heartbeatIntervalMs = 25000;
+        /** Threads writing buffered events to connections */
+        private int senderThreads = 4;
+    }
+
+    @Data
+    public static class Archive {
+        /** Whether the retention job runs */
+        private boolean enabled = true;
+        /** Whether expired notifications are archived or deleted */
+        private ArchiveMode mode = ArchiveMode.ARCHIVE;
+        /** Age after which read notifications leave the notifications table */
+        private Duration readAfter = Duration.ofDays(90);
+        /** Notifications moved per statement */
+        private int batchSize = 1000;
+        /** Pause between batches */
+        private Duration pause = Duration.ofMillis(200);
+        /** Maximum duration of one run; the remainder is moved on the next run */
+        private Duration maxRunTime = Duration.ofMinutes(15);
+        /** Schedule of the retention job */
+        private String cron = "0 40 3 * * *";
+    }
+}
@@ -0,0 +1,31 @@
+/**
+ * KATMALL Application
+ * tai.buivan@outlook.com Copyright (c) 2025 All rights reserved
+ */
+package com.en.katmall.co.shared.infrastructure.config.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Ordering configuration properties.
+ * Binds to 'ordering.*' properties.
+ *
+ * @author tai.buivan
+ * @version 1.0
+ */
+@Configuration
+@ConfigurationProperties(prefix = "ordering")
+@Data
+public class OrderingProperties {
+
+    /** Order number allocation configuration */
+    private OrderNumber orderNumber = new OrderNumber();
+
+    @Data
+    public static class OrderNumber {
+        /** Expected INCREMENT BY of order_number_seq; the sequence's own increment is used if they differ */
+        private int blockSize = 100;
+    }
+}
@@ -0,0 +1,51 @@
+/**
+ * KATMALL Application
+ * tai.buivan@outlook.com Copyright (c) 2025 All rights reserved
+ */
+package com.en.katmall.co.shared.infrastructure.config.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Event outbox configuration properties.
+ * Binds to 'outbox.*' properties.
+ *
+ * @author tai.buivan
+ * @version 1.0
+ */
+@Configuration
+@ConfigurationProperties(prefix = "outbox")
+@Data
+public class OutboxProperties {
+
+    /** Whether the dispatcher polls the outbox */
+    private boolean enabled = true;
+
+    /** Maximum events claimed per poll */
+    private int batchSize = 100;
+
+    /** Delay between polls */
+    private long pollIntervalMs = 1000;
+
+    /** Handler threads */
+    private int workerThreads = 4;
+
+    /** Handler queue capacity; the poller runs handlers itself when full */
+    private int queueCapacity = 500;
+
+    /** Attempts before an event is marked FAILED */
+    private int maxAttempts = 10;
+
+    /** Delay before the first retry, doubled on each further attempt */
+    private Duration retryBackoff = Duration.ofSeconds(5);
+
+    /** Claimed events not finished within this time are handed out again */
+    private Duration claimTimeout = Duration.ofMinutes(5);
+
+    /** How long dispatched events are kept before being purged */
+    private Duration retention = Duration.ofDays(7);
+}
@@ -0,0 +1,46 @@
+/**
+ * KATMALL Application
+ * tai.buivan@outlook.com Copyright (c) 2025 All rights reserved
+ */
+package com.en.katmall.co.shared.infrastructure.config.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Promotion configuration properties.
+ * Binds to 'promotion.*' properties.
+ *
+ * @author tai.buivan
+ * @version 1.0
+ */
+@Configuration
+@ConfigurationProperties(prefix = "promotion")
+@Data
+public class PromotionProperties {
+
+    /** Coupon redemption configuration */
+    private Redemption redemption = new Redemption();
+
+    /** In-memory coupon index configuration */
+    private Index index = new Index();
+
+    @Data
+    public static class Redemption {
+        /** Usage limit from which coupons are redeemed from node-local striped counters */
+        private int highLimitThreshold = 10000;
+        /** Number of counter stripes per coupon */
+        private int stripes = 8;
+        /** Usage slots claimed from the database per refill for high-limit coupons */
+        private int leaseSize = 50;
+        /** Interval for folding node-local counters into coupons.usage_count */
+        private long flushIntervalMs = 5000;
+    }
+
+    @Data
+    public static class Index {
+        /** Interval for a full reload of the coupon index from the database */
+        private long refreshIntervalMs = 300000;
+    }
+}
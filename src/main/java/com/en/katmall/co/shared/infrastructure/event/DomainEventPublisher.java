@@ -0,0 +1,56 @@
+/**
+ * KATMALL Application
+ * tai.buivan@outlook.com Copyright (c) 2025 All rights reserved
+ */
+package com.en.katmall.co.shared.infrastructure.event;
+
+import com.en.katmall.co.shared.domain.AggregateRoot;
+import com.en.katmall.co.shared.domain.DomainEvent;
+import com.en.katmall.co.shared.infrastructure.event.outbox.OutboxRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Records the domain events registered on an aggregate root in the event
+ * outbox, then clears them from the aggregate. Must be called inside the
+ * transaction that saves the aggregate, so the events are committed or
+ * rolled back together with it; the outbox dispatcher delivers them to
+ * {@code @EventListener}s afterwards.
+ *
+ * @author tai.buivan
+ * @version 1.0
+ */
+@Component
+@RequiredArgsConstructor
+public class DomainEventPublisher {
+
+    private final OutboxRepository outboxRepository;
+
+    /**
+     * Appends the pending events of an aggregate to the outbox and clears them
+     *
+     * @param aggregate The aggregate root
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void publish(AggregateRoot<?> aggregate) {
+        List<DomainEvent> events = List.copyOf(aggregate.getDomainEvents());
+        outboxRepository.append(events);
+        aggregate.clearDomainEvents();
+    }
+
+    /**
+     * Appends events raised without an aggregate, e.g. by a conditional
+     * update that changed a row in place, to the outbox
+     *
+     * @param events The events
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void publish(Collection<? extends DomainEvent> events) {
+        outboxRepository.append(List.copyOf(events));
+    }
+}
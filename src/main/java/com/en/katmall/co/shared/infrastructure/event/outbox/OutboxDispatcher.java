@@ -0,0 +1,182 @@
+/**
+ * KATMALL Application
+ * tai.buivan@outlook.com Copyright (c) 2025 All rights reserved
+ */
+package com.en.katmall.co.shared.infrastructure.event.outbox;
+
+import com.en.katmall.co.shared.domain.DomainEvent;
+import com.en.katmall.co.shared.infrastructure.config.properties.OutboxProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * Background dispatcher for the event outbox.
+ *
+ * <p>
+ * Each poll claims a batch of due events and hands every event to a bounded
+ * worker pool, where it is published on Spring's event bus so any
+ * {@code @EventListener} receives it. When the pool queue is full the poller
+ * runs the event itself, which throttles claiming. Successful events are
+ * marked DONE in one batch; failures are retried with exponential backoff.
+ * Delivery is at-least-once, so listeners must tolerate duplicates.
+ *
+ * @author tai.buivan
+ * @version 1.0
+ */
+@Component
+@Slf4j
+public class OutboxDispatcher {
+
+    private final OutboxRepository outboxRepository;
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final ObjectMapper objectMapper;
+    private final OutboxProperties properties;
+    private final ThreadPoolTaskExecutor executor;
+
+    /**
+     * Creates the dispatcher and its worker pool
+     *
+     * @param outboxRepository          Outbox repository
+     * @param applicationEventPublisher Spring event bus
+     * @param objectMapper              Mapper used to read event payloads
+     * @param properties                Outbox configuration
+     */
+    public OutboxDispatcher(OutboxRepository outboxRepository, ApplicationEventPublisher applicationEventPublisher,
+            ObjectMapper objectMapper, OutboxProperties properties) {
+        this.outboxRepository = outboxRepository;
+        this.applicationEventPublisher = applicationEventPublisher;
+        this.objectMapper = objectMapper.copy().addMixIn(DomainEvent.class, DomainEventMixIn.class);
+        this.properties = properties;
+        this.executor = new ThreadPoolTaskExecutor();
+        this.executor.setCorePoolSize(properties.getWorkerThreads());
+        this.executor.setMaxPoolSize(properties.getWorkerThreads());
+        this.executor.setQueueCapacity(properties.getQueueCapacity());
+        this.executor.setThreadNamePrefix("outbox-");
+        this.executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        this.executor.setWaitForTasksToCompleteOnShutdown(true);
+        this.executor.initialize();
+    }
+
+    /**
+     * Claims and dispatches one batch of due events
+     */
+    @Scheduled(fixedDelayString = "${outbox.poll-interval-ms:1000}")
+    public void poll() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        try {
+            int recovered = outboxRepository.recoverStale(properties.getClaimTimeout());
+            if (recovered > 0) {
+                log.warn("Recovered {} outbox events with expired claims", recovered);
+            }
+            List<OutboxMessage> batch = outboxRepository.claimBatch(properties.getBatchSize());
+            if (!batch.isEmpty()) {
+                dispatch(batch);
+            }
+        } catch (Exception e) {
+            log.error("Outbox poll failed: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Deletes dispatched events past the retention period
+     */
+    @Scheduled(cron = "0 30 * * * *") // Every hour
+    public void purge() {
+        int purged = outboxRepository.purgeProcessed(properties.getRetention());
+        if (purged > 0) {
+            log.info("Purged {} dispatched outbox events", purged);
+        }
+    }
+
+    /**
+     * Stops the worker pool, letting running handlers finish
+     */
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    /**
+     * Dispatches a claimed batch and records the outcome of every event.
+     *
+     * @param batch Claimed events
+     */
+    private void dispatch(List<OutboxMessage> batch) {
+        List<CompletableFuture<Void>> futures = new ArrayList<>(batch.size());
+        for (OutboxMessage message : batch) {
+            futures.add(CompletableFuture.runAsync(() -> publish(message), executor));
+        }
+
+        List<String> done = new ArrayList<>(batch.size());
+        for (int i = 0; i < batch.size(); i++) {
+            OutboxMessage message = batch.get(i);
+            try {
+                futures.get(i).join();
+                done.add(message.getId());
+            } catch (Exception e) {
+                Throwable cause = e.getCause() != null ? e.getCause() : e;
+                log.warn("Outbox event {} failed on attempt {}: {}",
+                        message.getId(), message.getAttempts(), cause.getMessage());
+                outboxRepository.markFailed(message.getId(), cause.toString(),
+                        nextAttempt(message.getAttempts()), properties.getMaxAttempts());
+            }
+        }
+        outboxRepository.markDone(done);
+        log.debug("Dispatched {} of {} outbox events", done.size(), batch.size());
+    }
+
+    /**
+     * Reads an event and publishes it to in-process listeners.
+     *
+     * @param message Claimed event
+     * @throws IllegalStateException if the payload cannot be read
+     */
+    private void publish(OutboxMessage message) {
+        DomainEvent event;
+        try {
+            Class<? extends DomainEvent> type = Class.forName(message.getEventClass()).asSubclass(DomainEvent.class);
+            event = objectMapper.readValue(message.getPayload(), type);
+        } catch (Exception e) {
+            throw new IllegalStateException("Unreadable outbox event " + message.getId(), e);
+        }
+        applicationEventPublisher.publishEvent(event);
+    }
+
+    /**
+     * Restores the original event ID and occurrence time on read, so listeners
+     * can de-duplicate redelivered events by {@link DomainEvent#getEventId()}.
+     */
+    private abstract static class DomainEventMixIn {
+
+        @JsonProperty
+        private String eventId;
+
+        @JsonProperty
+        private Instant occurredAt;
+    }
+
+    /**
+     * Computes the next retry time using exponential backoff.
+     *
+     * @param attempts Attempts made so far
+     * @return Next attempt time
+     */
+    private Instant nextAttempt(int attempts) {
+        long factor = 1L << Math.min(attempts - 1, 16);
+        return Instant.now().plus(properties.getRetryBackoff().multipliedBy(factor));
+    }
+}
@@ -0,0 +1,31 @@
+/**
+ * KATMALL Application
+ * tai.buivan@outlook.com Copyright (c) 2025 All rights reserved
+ */
+package com.en.katmall.co.shared.infrastructure.event.outbox;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * A claimed outbox row waiting to be dispatched.
+ *
+ * @author tai.buivan
+ * @version 1.0
+ */
+@Getter
+@AllArgsConstructor
+public final class OutboxMessage {
+
+    /** Event ID */
+    private final String id;
+
+    /** Fully qualified event class name */
+    private final String eventClass;
+
+    /** Serialized event */
+    private final String payload;
+
+    /** Attempts including the current one */
+    private final int attempts;
+}
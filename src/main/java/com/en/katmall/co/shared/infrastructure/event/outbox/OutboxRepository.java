@@ -0,0 +1,189 @@
+/**
+ * KATMALL Application
+ * tai.buivan@outlook.com Copyright (c) 2025 All rights reserved
+ */
+package com.en.katmall.co.shared.infrastructure.event.outbox;
+
+import com.en.katmall.co.shared.domain.DomainEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * JDBC access to the event_outbox table.
+ * Appends join the caller's transaction; claims use
+ * {@code FOR UPDATE SKIP LOCKED} so several nodes can poll concurrently
+ * without handing out the same row twice.
+ *
+ * @author tai.buivan
+ * @version 1.0
+ */
+@Repository
+public class OutboxRepository {
+
+    private static final String SQL_INSERT = """
+            INSERT INTO event_outbox (id, event_type, event_class, payload, status, attempts, occurred_at, available_at)
+            VALUES (?, ?, ?, ?, 'PENDING', 0, ?, ?)""";
+
+    private static final String SQL_SELECT_PENDING = """
+            SELECT id, event_class, payload, attempts
+              FROM event_outbox
+             WHERE status = 'PENDING' AND available_at <= ?
+             ORDER BY available_at
+             LIMIT ?
+               FOR UPDATE SKIP LOCKED""";
+
+    private static final String SQL_CLAIM = """
+            UPDATE event_outbox SET status = 'PROCESSING', claimed_at = ?, attempts = attempts + 1
+             WHERE id = ?""";
+
+    private static final String SQL_MARK_DONE = """
+            UPDATE event_outbox SET status = 'DONE', processed_at = ?, last_error = NULL
+             WHERE id = ?""";
+
+    private static final String SQL_MARK_FAILED = """
+            UPDATE event_outbox
+               SET status = CASE WHEN attempts >= ? THEN 'FAILED' ELSE 'PENDING' END,
+                   available_at = ?, last_error = ?
+             WHERE id = ?""";
+
+    private static final String SQL_RECOVER = """
+            UPDATE event_outbox SET status = 'PENDING', available_at = ?
+             WHERE status = 'PROCESSING' AND claimed_at < ?""";
+
+    private static final String SQL_PURGE = """
+            DELETE FROM event_outbox WHERE status = 'DONE' AND processed_at < ?""";
+
+    private static final int MAX_ERROR_LENGTH = 2000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * Creates the repository
+     *
+     * @param jdbcTemplate       JDBC template
+     * @param objectMapper       Mapper used to serialize events
+     * @param transactionManager Transaction manager used for claims
+     */
+    public OutboxRepository(JdbcTemplate jdbcTemplate, ObjectMapper objectMapper,
+            PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Appends events to the outbox in the current transaction
+     *
+     * @param events Events to append
+     * @throws IllegalStateException if an event cannot be serialized
+     */
+    public void append(List<? extends DomainEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.from(Instant.now());
+        List<Object[]> args = new ArrayList<>(events.size());
+        for (DomainEvent event : events) {
+            args.add(new Object[] { event.getEventId(), event.getEventType(), event.getClass().getName(),
+                    serialize(event), Timestamp.from(event.getOccurredAt()), now });
+        }
+        jdbcTemplate.batchUpdate(SQL_INSERT, args);
+    }
+
+    /**
+     * Claims a batch of due events for dispatch
+     *
+     * @param limit Maximum number of events
+     * @return Claimed events, oldest first
+     */
+    public List<OutboxMessage> claimBatch(int limit) {
+        return transactionTemplate.execute(status -> {
+            Timestamp now = Timestamp.from(Instant.now());
+            List<OutboxMessage> messages = jdbcTemplate.query(SQL_SELECT_PENDING,
+                    (rs, rowNum) -> new OutboxMessage(rs.getString("id"), rs.getString("event_class"),
+                            rs.getString("payload"), rs.getInt("attempts") + 1),
+                    now, limit);
+            if (!messages.isEmpty()) {
+                jdbcTemplate.batchUpdate(SQL_CLAIM, messages.stream()
+                        .map(message -> new Object[] { now, message.getId() })
+                        .toList());
+            }
+            return messages;
+        });
+    }
+
+    /**
+     * Marks events as dispatched
+     *
+     * @param ids Event IDs
+     */
+    public void markDone(List<String> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.from(Instant.now());
+        jdbcTemplate.batchUpdate(SQL_MARK_DONE, ids.stream().map(id -> new Object[] { now, id }).toList());
+    }
+
+    /**
+     * Records a failed dispatch, scheduling a retry or giving up
+     *
+     * @param id          Event ID
+     * @param error       Failure description
+     * @param retryAt     When to retry
+     * @param maxAttempts Attempts after which the event is marked FAILED
+     */
+    public void markFailed(String id, String error, Instant retryAt, int maxAttempts) {
+        String truncated = error != null && error.length() > MAX_ERROR_LENGTH
+                ? error.substring(0, MAX_ERROR_LENGTH)
+                : error;
+        jdbcTemplate.update(SQL_MARK_FAILED, maxAttempts, Timestamp.from(retryAt), truncated, id);
+    }
+
+    /**
+     * Returns events whose claim has timed out (e.g. the node crashed) to PENDING
+     *
+     * @param claimTimeout Maximum time an event may stay claimed
+     * @return Number of events recovered
+     */
+    public int recoverStale(Duration claimTimeout) {
+        Instant now = Instant.now();
+        return jdbcTemplate.update(SQL_RECOVER, Timestamp.from(now), Timestamp.from(now.minus(claimTimeout)));
+    }
+
+    /**
+     * Deletes dispatched events older than the retention period
+     *
+     * @param retention Retention period
+     * @return Number of events deleted
+     */
+    public int purgeProcessed(Duration retention) {
+        return jdbcTemplate.update(SQL_PURGE, Timestamp.from(Instant.now().minus(retention)));
+    }
+
+    /**
+     * Serializes an event to JSON.
+     *
+     * @param event Event to serialize
+     * @return JSON string
+     */
+    private String serialize(DomainEvent event) {
+        try {
+            return objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize event " + event.getEventType(), e);
+        }
+    }
+}
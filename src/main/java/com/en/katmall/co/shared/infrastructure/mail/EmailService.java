@@ -6,9 +6,12 @@ package com.en.katmall.co.shared.infrastructure.mail;
 
 import com.en.katmall.co.shared.infrastructure.config.properties.AppProperties;
 import com.en.katmall.co.shared.infrastructure.config.properties.MailProperties;
+import jakarta.mail.MessagingException;
 import jakarta.mail.internet.MimeMessage;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailPreparationException;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.mail.javamail.MimeMessageHelper;
 import org.springframework.scheduling.annotation.Async;
@@ -16,6 +19,7 @@ import org.springframework.stereotype.Service;
 import org.thymeleaf.TemplateEngine;
 import org.thymeleaf.context.Context;
 
+import java.io.UnsupportedEncodingException;
 import java.util.Map;
 
 /**
@@ -50,15 +54,7 @@ public class EmailService {
         }
 
         try {
-            MimeMessage message = mailSender.createMimeMessage();
-            MimeMessageHelper helper = new MimeMessageHelper(message, true, "UTF-8");
-
-            helper.setFrom(mailProperties.getFrom(), mailProperties.getFromName());
-            helper.setTo(to);
-            helper.setSubject(subject);
-            helper.setText(text, false);
-
-            mailSender.send(message);
+            send(to, subject, text, false);
             log.info("Email sent to: {} with subject: {}", to, subject);
         } catch (Exception e) {
             log.error("Failed to send email to {}: {}", to, e.getMessage());
@@ -85,15 +81,7 @@ public class EmailService {
             context.setVariables(variables);
             String htmlContent = templateEngine.process(templateName, context);
 
-            MimeMessage message = mailSender.createMimeMessage();
-            MimeMessageHelper helper = new MimeMessageHelper(message, true, "UTF-8");
-
-            helper.setFrom(mailProperties.getFrom(), mailProperties.getFromName());
-            helper.setTo(to);
-            helper.setSubject(subject);
-            helper.setText(htmlContent, true);
-
-            mailSender.send(message);
+            send(to, subject, htmlContent, true);
             log.info("HTML email sent to: {} with template: {}", to, templateName);
         } catch (Exception e) {
             log.error("Failed to send HTML email to {}: {}", to, e.getMessage());
@@ -150,12 +138,14 @@ public class EmailService {
     }
 
     /**
-     * Sends a welcome email after successful registration
+     * Sends a welcome email after successful registration.
+     * Sent on the caller's thread and throws on failure, so the outbox
+     * consumer calling it can retry the delivery.
      * 
      * @param to   Recipient email
      * @param name User's name (optional)
+     * @throws MailException if the email cannot be sent
      */
-    @Async
     public void sendWelcomeEmail(String to, String name) {
         String subject = "Welcome to KatMall!";
         String displayName = (name != null && !name.isBlank()) ? name : "there";
@@ -172,7 +162,16 @@ public class EmailService {
                 %s Team
                 """, displayName, appProperties.getName(), appProperties.getName());
 
-        sendSimpleEmail(to, subject, text);
+        if (!mailProperties.isEnabled()) {
+            log.info("Email disabled. Would send to: {} with subject: {}", to, subject);
+            return;
+        }
+        try {
+            send(to, subject, text, false);
+        } catch (MessagingException | UnsupportedEncodingException e) {
+            throw new MailPreparationException("Failed to prepare email to " + to, e);
+        }
+        log.info("Email sent to: {} with subject: {}", to, subject);
     }
 
     /**
@@ -203,4 +202,27 @@ public class EmailService {
 
         sendSimpleEmail(to, subject, text);
     }
+
+    /**
+     * Builds and sends a message
+     * 
+     * @param to      Recipient email
+     * @param subject Email subject
+     * @param body    Email body
+     * @param html    Whether the body is HTML
+     * @throws MessagingException           if the message cannot be built
+     * @throws UnsupportedEncodingException if the sender name cannot be encoded
+     */
+    private void send(String to, String subject, String body, boolean html)
+            throws MessagingException, UnsupportedEncodingException {
+        MimeMessage message = mailSender.createMimeMessage();
+        MimeMessageHelper helper = new MimeMessageHelper(message, true, "UTF-8");
+
+        helper.setFrom(mailProperties.getFrom(), mailProperties.getFromName());
+        helper.setTo(to);
+        helper.setSubject(subject);
+        helper.setText(body, html);
+
+        mailSender.send(message);
+    }
 }
@@ -22,6 +22,8 @@ import java.util.List;
 /**
  * JWT Authentication filter.
  * Validates JWT token and sets authentication in SecurityContext.
+ * The token is parsed and verified once per request via
+ * {@link JwtTokenProvider#parseVerifiedToken(String)}.
  * 
  * @author tai.buivan
  * @version 1.0
@@ -42,23 +44,9 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         try {
             String jwt = extractJwtFromRequest(request);
 
-            if (StringUtils.hasText(jwt) && jwtTokenProvider.validateToken(jwt)) {
-                String userId = jwtTokenProvider.getUserIdFromToken(jwt);
-                String email = jwtTokenProvider.getEmailFromToken(jwt);
-                String role = jwtTokenProvider.getRoleFromToken(jwt);
-
-                // Create authentication principal
-                AuthenticatedUser principal = new AuthenticatedUser(userId, email, role);
-
-                // Create authorities from role
-                List<SimpleGrantedAuthority> authorities = role != null
-                        ? List.of(new SimpleGrantedAuthority("ROLE_" + role))
-                        : List.of();
-
-                // Set authentication in context
-                UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(principal,
-                        null, authorities);
-                SecurityContextHolder.getContext().setAuthentication(authentication);
+            if (StringUtils.hasText(jwt)) {
+                // Single verification per token; repeat tokens are served from cache
+                jwtTokenProvider.parseVerifiedToken(jwt).ifPresent(this::authenticate);
             }
         } catch (Exception ex) {
             // Log error but continue - authentication will fail
@@ -68,6 +56,28 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
+    /**
+     * Sets the authentication for a verified token in the security context.
+     * 
+     * @param token Verified token claims
+     */
+    private void authenticate(VerifiedToken token) {
+        String role = token.getRole();
+
+        // Create authentication principal
+        AuthenticatedUser principal = new AuthenticatedUser(token.getUserId(), token.getEmail(), role);
+
+        // Create authorities from role
+        List<SimpleGrantedAuthority> authorities = role != null
+                ? List.of(new SimpleGrantedAuthority("ROLE_" + role))
+                : List.of();
+
+        // Set authentication in context
+        UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(principal,
+                null, authorities);
+        SecurityContextHolder.getContext().setAuthentication(authentication);
+    }
+
     private String extractJwtFromRequest(HttpServletRequest request) {
         String bearerToken = request.getHeader(HEADER_AUTHORIZATION);
         if (StringUtils.hasText(bearerToken) && bearerToken.startsWith(BEARER_PREFIX)) {
@@ -4,20 +4,31 @@
  */
 package com.en.katmall.co.shared.infrastructure.security;
 
+import com.en.katmall.co.shared.infrastructure.config.properties.JwtProperties;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
-import jakarta.annotation.PostConstruct;
 import lombok.Getter;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
 import java.util.Date;
+import java.util.Optional;
 import java.util.function.Function;
 
 /**
  * JWT Token provider for authentication.
  * Handles token generation, validation and parsing.
+ * Recently verified tokens are kept in a bounded cache until their expiry so
+ * repeated requests with the same token skip signature verification.
  * 
  * @author tai.buivan
  * @version 1.0
@@ -31,21 +42,29 @@ public class JwtTokenProvider {
     private static final String TOKEN_TYPE_ACCESS = "access";
     private static final String TOKEN_TYPE_REFRESH = "refresh";
 
-    @Value("${jwt.secret:katmall-secret-key-must-be-at-least-256-bits-long-for-hs256}")
-    private String jwtSecret;
+    private final long accessTokenExpiration;
 
-    @Value("${jwt.access-token-expiration:3600000}")
-    private long accessTokenExpiration; // 1 hour default
-
-    @Value("${jwt.refresh-token-expiration:604800000}")
-    private long refreshTokenExpiration; // 7 days default
+    private final long refreshTokenExpiration;
 
     @Getter
-    private SecretKey signingKey;
+    private final SecretKey signingKey;
+
+    /** Verified tokens keyed by SHA-256 hash of the raw token */
+    private final Cache<String, VerifiedToken> verifiedTokens;
 
-    @PostConstruct
-    public void init() {
-        this.signingKey = Keys.hmacShaKeyFor(jwtSecret.getBytes());
+    /**
+     * Creates the provider
+     * 
+     * @param jwtProperties JWT configuration
+     */
+    public JwtTokenProvider(JwtProperties jwtProperties) {
+        this.accessTokenExpiration = jwtProperties.getAccessTokenExpiration();
+        this.refreshTokenExpiration = jwtProperties.getRefreshTokenExpiration();
+        this.signingKey = Keys.hmacShaKeyFor(jwtProperties.getSecret().getBytes());
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(jwtProperties.getVerifiedCacheMaxSize())
+                .expireAfter(new TokenExpiry())
+                .build();
     }
 
     /**
@@ -169,6 +188,58 @@ public class JwtTokenProvider {
         return accessTokenExpiration / 1000;
     }
 
+    /**
+     * Verifies the token signature once and returns all claims needed for
+     * authentication. Results are cached until the token expires, so repeat
+     * calls with the same token do not re-verify the signature.
+     * 
+     * @param token JWT token
+     * @return Verified claims, or empty if the token is invalid or expired
+     */
+    public Optional<VerifiedToken> parseVerifiedToken(String token) {
+        if (token == null || token.isEmpty()) {
+            return Optional.empty();
+        }
+        String key = hashToken(token);
+        VerifiedToken cached = verifiedTokens.getIfPresent(key);
+        if (cached != null) {
+            // Expiry is lazy in Caffeine, so guard against a just-expired entry
+            return cached.isExpiredAt(Instant.now()) ? Optional.empty() : Optional.of(cached);
+        }
+
+        try {
+            Claims claims = extractAllClaims(token);
+            Date expiration = claims.getExpiration();
+            VerifiedToken verified = new VerifiedToken(
+                    claims.getSubject(),
+                    claims.get(CLAIM_EMAIL, String.class),
+                    claims.get(CLAIM_ROLE, String.class),
+                    claims.get(CLAIM_TYPE, String.class),
+                    expiration != null ? expiration.toInstant() : null);
+            verifiedTokens.put(key, verified);
+            return Optional.of(verified);
+        } catch (JwtException | IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Hashes a raw token so the cache never retains bearer credentials.
+     * 
+     * @param token JWT token
+     * @return Base64-encoded SHA-256 digest of the token
+     */
+    private String hashToken(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] hash = digest.digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            // SHA-256 is mandated by the Java platform specification
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
     private <T> T extractClaim(String token, Function<Claims, T> claimsResolver) {
         Claims claims = extractAllClaims(token);
         return claimsResolver.apply(claims);
@@ -181,4 +252,33 @@ public class JwtTokenProvider {
                 .parseSignedClaims(token)
                 .getPayload();
     }
+
+    /**
+     * Caffeine expiry policy that evicts a verified token at its own expiration
+     * time. Tokens without an expiration claim are never cached beyond
+     * the access token lifetime.
+     */
+    private final class TokenExpiry implements Expiry<String, VerifiedToken> {
+
+        @Override
+        public long expireAfterCreate(String key, VerifiedToken value, long currentTime) {
+            Instant expiresAt = value.getExpiresAt();
+            if (expiresAt == null) {
+                return Duration.ofMillis(accessTokenExpiration).toNanos();
+            }
+            return Math.max(0, Duration.between(Instant.now(), expiresAt).toNanos());
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, VerifiedToken value, long currentTime,
+                long currentDuration) {
+            return currentDuration;
+        }
+
+        @Override
+        public long expireAfterRead(String key, VerifiedToken value, long currentTime,
+                long currentDuration) {
+            return currentDuration;
+        }
+    }
 }
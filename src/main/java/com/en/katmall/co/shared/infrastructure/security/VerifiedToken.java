@@ -0,0 +1,48 @@
+/**
+ * KATMALL Application
+ * tai.buivan@outlook.com Copyright (c) 2025 All rights reserved
+ */
+package com.en.katmall.co.shared.infrastructure.security;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.Instant;
+
+/**
+ * Immutable view of the claims of a JWT whose signature has been verified.
+ * Produced once per token by {@link JwtTokenProvider#parseVerifiedToken(String)}
+ * so callers never need to re-parse the token to read individual claims.
+ *
+ * @author tai.buivan
+ * @version 1.0
+ */
+@Getter
+@AllArgsConstructor
+public final class VerifiedToken {
+
+    /** Subject claim (user ID) */
+    private final String userId;
+
+    /** Email claim */
+    private final String email;
+
+    /** Role claim, null for refresh tokens */
+    private final String role;
+
+    /** Token type claim (access or refresh) */
+    private final String type;
+
+    /** Expiration claim */
+    private final Instant expiresAt;
+
+    /**
+     * Checks if the token has expired at the given instant
+     *
+     * @param now The instant to compare against
+     * @return true if expired
+     */
+    public boolean isExpiredAt(Instant now) {
+        return expiresAt != null && !expiresAt.isAfter(now);
+    }
+}
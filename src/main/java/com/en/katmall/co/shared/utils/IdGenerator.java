@@ -5,16 +5,35 @@
 package com.en.katmall.co.shared.utils;
 
 import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Utility class for generating unique identifiers.
  * Provides various ID generation strategies for different use cases.
+ *
+ * <p>
+ * {@link #generate()} produces UUIDv7 strings (RFC 9562): 48 bits of Unix
+ * milliseconds, a 12-bit sequence and 62 random bits. Keys created later sort
+ * after earlier ones, so inserts append to the right edge of primary key
+ * B-trees instead of splitting random pages. The timestamp and sequence are
+ * advanced together with a single CAS, which makes IDs strictly increasing
+ * per node; if more than 4096 IDs are requested within one millisecond the
+ * sequence carries into the timestamp, which briefly runs ahead of the clock.
+ * Random bits come from {@link ThreadLocalRandom} rather than
+ * {@code SecureRandom}: the IDs are not secrets, only unique.
  * 
  * @author tai.buivan
  * @version 1.0
  */
 public final class IdGenerator {
 
+    /** Bits of the per-millisecond sequence */
+    private static final int SEQUENCE_BITS = 12;
+
+    /** Last issued (millis << SEQUENCE_BITS | sequence) */
+    private static final AtomicLong LAST_TIMESTAMP = new AtomicLong();
+
     /**
      * Private constructor to prevent instantiation
      */
@@ -22,12 +41,26 @@ public final class IdGenerator {
     }
 
     /**
-     * Generates a standard UUID string
+     * Generates a time-ordered UUIDv7 string
      * 
-     * @return A randomly generated UUID string
+     * @return A UUID string that sorts after every ID previously generated by this node
      */
     public static String generate() {
-        return UUID.randomUUID().toString();
+        return generateUuid().toString();
+    }
+
+    /**
+     * Generates a time-ordered UUIDv7
+     * 
+     * @return A UUID greater than every UUID previously generated by this node
+     */
+    public static UUID generateUuid() {
+        long timestamp = nextTimestamp();
+        long millis = timestamp >>> SEQUENCE_BITS;
+        long sequence = timestamp & ((1L << SEQUENCE_BITS) - 1);
+        long msb = (millis << 16) | 0x7000L | sequence;
+        long lsb = (ThreadLocalRandom.current().nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+        return new UUID(msb, lsb);
     }
 
     /**
@@ -49,4 +82,26 @@ public final class IdGenerator {
         String random = UUID.randomUUID().toString().substring(0, 4).toUpperCase();
         return "ORD-" + timestamp + "-" + random;
     }
+
+    /**
+     * Advances the node clock from the system clock.
+     * 
+     * @return Millis and sequence packed as (millis << SEQUENCE_BITS | sequence)
+     */
+    private static long nextTimestamp() {
+        return nextTimestamp(System.currentTimeMillis());
+    }
+
+    /**
+     * Advances the node clock to max(now, last + 1) without locking.
+     * If the clock moves backwards, IDs continue from the last issued
+     * timestamp until the clock catches up, so they never go backwards.
+     * 
+     * @param nowMillis Current time in epoch milliseconds
+     * @return Millis and sequence packed as (millis << SEQUENCE_BITS | sequence)
+     */
+    static long nextTimestamp(long nowMillis) {
+        long now = nowMillis << SEQUENCE_BITS;
+        return LAST_TIMESTAMP.accumulateAndGet(now, (last, current) -> Math.max(current, last + 1));
+    }
 }
@@ -24,6 +24,28 @@ public final class StringUtils {
     private static final Pattern SLUG_PATTERN = Pattern.compile(
             "^[a-z0-9]+(?:-[a-z0-9]+)*$");
 
+    /** Lower-case Vietnamese letters and the ASCII letter each folds to */
+    private static final String[][] VIETNAMESE_FOLDS = {
+            { "àáạảãâầấậẩẫăằắặẳẵ", "a" },
+            { "èéẹẻẽêềếệểễ", "e" },
+            { "ìíịỉĩ", "i" },
+            { "òóọỏõôồốộổỗơờớợởỡ", "o" },
+            { "ùúụủũưừứựửữ", "u" },
+            { "ỳýỵỷỹ", "y" },
+            { "đ", "d" }
+    };
+
+    /** Fold table indexed by character; 0 means the character is kept */
+    private static final char[] FOLD_TABLE = new char[0x1F00];
+
+    static {
+        for (String[] fold : VIETNAMESE_FOLDS) {
+            for (char c : fold[0].toCharArray()) {
+                FOLD_TABLE[c] = fold[1].charAt(0);
+            }
+        }
+    }
+
     private StringUtils() {
         // Private constructor to prevent instantiation
     }
@@ -76,20 +98,34 @@ public final class StringUtils {
     public static String toSlug(String input) {
         if (ObjectUtils.isBlank(input))
             return "";
-        return input.toLowerCase()
-                .replaceAll("[àáạảãâầấậẩẫăằắặẳẵ]", "a")
-                .replaceAll("[èéẹẻẽêềếệểễ]", "e")
-                .replaceAll("[ìíịỉĩ]", "i")
-                .replaceAll("[òóọỏõôồốộổỗơờớợởỡ]", "o")
-                .replaceAll("[ùúụủũưừứựửữ]", "u")
-                .replaceAll("[ỳýỵỷỹ]", "y")
-                .replaceAll("[đ]", "d")
+        return foldDiacritics(input)
                 .replaceAll("[^a-z0-9\\s-]", "")
                 .replaceAll("\\s+", "-")
                 .replaceAll("-+", "-")
                 .replaceAll("^-|-$", "");
     }
 
+    /**
+     * Lower-cases a string and replaces Vietnamese letters with their ASCII
+     * base letter (e.g. "Điện thoại" becomes "dien thoai"). Other characters
+     * are kept. This is the folding used by {@link #toSlug(String)}.
+     * 
+     * @param input The input string
+     * @return Folded string, empty if input is null
+     */
+    public static String foldDiacritics(String input) {
+        if (input == null)
+            return "";
+        char[] chars = input.toLowerCase().toCharArray();
+        for (int i = 0; i < chars.length; i++) {
+            char c = chars[i];
+            if (c < FOLD_TABLE.length && FOLD_TABLE[c] != 0) {
+                chars[i] = FOLD_TABLE[c];
+            }
+        }
+        return new String(chars);
+    }
+
     /**
      * Truncates string to max length with ellipsis
      * 
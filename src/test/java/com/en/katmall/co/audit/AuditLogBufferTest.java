@@ -0,0 +1,246 @@
+package com.en.katmall.co.audit;
+
+import com.en.katmall.co.audit.domain.model.AuditLog;
+import com.en.katmall.co.audit.domain.repository.AuditLogRepository;
+import com.en.katmall.co.audit.infrastructure.buffer.AuditLogBuffer;
+import com.en.katmall.co.shared.dto.PageCursor;
+import com.en.katmall.co.shared.enums.KTypeAuditAction;
+import com.en.katmall.co.shared.infrastructure.config.properties.AuditProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AuditLogBufferTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final RecordingAuditLogRepository repository = new RecordingAuditLogRepository();
+    private AuditLogBuffer buffer;
+
+    @AfterEach
+    void tearDown() {
+        repository.release.countDown();
+        buffer.stop();
+    }
+
+    @Test
+    void writesAFullBatchWithoutWaitingForTheInterval() {
+        buffer = buffer(100, 5, Duration.ofSeconds(30));
+
+        for (int i = 0; i < 5; i++) {
+            assertTrue(buffer.offer(auditLog()));
+        }
+
+        assertTrue(eventually(() -> repository.written() == 5));
+        assertEquals(List.of(5), repository.batchSizes());
+    }
+
+    @Test
+    void writesAPartialBatchAfterTheInterval() throws Exception {
+        buffer = buffer(100, 50, Duration.ofMillis(300));
+
+        buffer.offer(auditLog());
+        buffer.offer(auditLog());
+        Thread.sleep(100);
+        assertEquals(0, repository.written());
+
+        assertTrue(eventually(() -> repository.written() == 2));
+        assertEquals(List.of(2), repository.batchSizes());
+    }
+
+    @Test
+    void dropsEntriesWhenFull() throws Exception {
+        repository.release = new CountDownLatch(1);
+        buffer = buffer(2, 1, Duration.ofSeconds(30));
+        // The flusher takes the first entry and blocks writing it; the next two fill the buffer
+        buffer.offer(auditLog());
+        assertTrue(repository.blocked.await(5, TimeUnit.SECONDS));
+        assertTrue(buffer.offer(auditLog()));
+        assertTrue(buffer.offer(auditLog()));
+
+        assertFalse(buffer.offer(auditLog()));
+        assertEquals(1.0, meterRegistry.counter("audit.buffer.dropped").count());
+
+        repository.release.countDown();
+        assertTrue(eventually(() -> repository.written() == 3));
+    }
+
+    @Test
+    void writesEverythingBufferedOnStop() {
+        buffer = buffer(100, 50, Duration.ofSeconds(30));
+        for (int i = 0; i < 10; i++) {
+            buffer.offer(auditLog());
+        }
+
+        buffer.stop();
+
+        assertEquals(10, repository.written());
+        assertFalse(buffer.offer(auditLog()));
+    }
+
+    @Test
+    void entriesOfferedWhileStoppingAreWrittenOrDropped() throws Exception {
+        buffer = buffer(10_000, 20, Duration.ofMillis(50));
+        int threads = 8;
+        AtomicInteger accepted = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(threads);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> offers = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                offers.add(executor.submit(() -> {
+                    started.countDown();
+                    for (int i = 0; i < 500; i++) {
+                        if (buffer.offer(auditLog())) {
+                            accepted.incrementAndGet();
+                        }
+                    }
+                }));
+            }
+            started.await(5, TimeUnit.SECONDS);
+            buffer.stop();
+            for (Future<?> offer : offers) {
+                offer.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertEquals(accepted.get(), repository.written());
+        assertEquals(threads * 500 - accepted.get(), (int) meterRegistry.counter("audit.buffer.dropped").count());
+    }
+
+    private AuditLogBuffer buffer(int capacity, int batchSize, Duration flushInterval) {
+        AuditProperties properties = new AuditProperties();
+        properties.getBuffer().setCapacity(capacity);
+        properties.getBuffer().setBatchSize(batchSize);
+        properties.getBuffer().setFlushInterval(flushInterval);
+        properties.getBuffer().setOfferTimeout(Duration.ofMillis(10));
+        AuditLogBuffer created = new AuditLogBuffer(repository, properties, meterRegistry);
+        created.start();
+        return created;
+    }
+
+    private static AuditLog auditLog() {
+        return AuditLog.builder().tableName("orders").recordId("o1").action(KTypeAuditAction.UPDATE).build();
+    }
+
+    private static boolean eventually(BooleanSupplier condition) {
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() > deadline) {
+                return false;
+            }
+            try {
+                Thread.sleep(10);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Audit log repository recording batch inserts, optionally blocking the
+     * first insert until released.
+     */
+    private static class RecordingAuditLogRepository implements AuditLogRepository {
+
+        private final List<Integer> batches = new CopyOnWriteArrayList<>();
+        private final CountDownLatch blocked = new CountDownLatch(1);
+        private volatile CountDownLatch release = new CountDownLatch(0);
+
+        int written() {
+            return batches.stream().mapToInt(Integer::intValue).sum();
+        }
+
+        List<Integer> batchSizes() {
+            return List.copyOf(batches);
+        }
+
+        @Override
+        public void saveAll(List<AuditLog> auditLogs) {
+            blocked.countDown();
+            try {
+                release.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            batches.add(auditLogs.size());
+        }
+
+        @Override
+        public AuditLog save(AuditLog auditLog) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Optional<AuditLog> findById(String id) {
+            return Optional.empty();
+        }
+
+        @Override
+        public List<AuditLog> findByTableAndRecord(String tableName, String recordId) {
+            return List.of();
+        }
+
+        @Override
+        public List<AuditLog> findByActor(String actorId, String actorType, int page, int size) {
+            return List.of();
+        }
+
+        @Override
+        public List<AuditLog> findByAction(KTypeAuditAction action, int page, int size) {
+            return List.of();
+        }
+
+        @Override
+        public List<AuditLog> findByDateRange(Instant startDate, Instant endDate, int page, int size) {
+            return List.of();
+        }
+
+        @Override
+        public List<AuditLog> findByActorAfter(String actorId, String actorType, PageCursor cursor, int limit) {
+            return List.of();
+        }
+
+        @Override
+        public List<AuditLog> findByActionAfter(KTypeAuditAction action, PageCursor cursor, int limit) {
+            return List.of();
+        }
+
+        @Override
+        public List<AuditLog> findByDateRangeAfter(Instant startDate, Instant endDate, PageCursor cursor,
+                int limit) {
+            return List.of();
+        }
+
+        @Override
+        public List<AuditLog> findRecent(int limit) {
+            return List.of();
+        }
+
+        @Override
+        public int deleteOlderThan(Instant before) {
+            return 0;
+        }
+    }
+}
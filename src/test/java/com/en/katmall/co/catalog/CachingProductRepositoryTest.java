@@ -0,0 +1,139 @@
+package com.en.katmall.co.catalog;
+
+import com.en.katmall.co.catalog.domain.model.Product;
+import com.en.katmall.co.catalog.domain.model.valueobject.Money;
+import com.en.katmall.co.catalog.domain.model.valueobject.Slug;
+import com.en.katmall.co.catalog.domain.repository.ProductRepository;
+import com.en.katmall.co.catalog.infrastructure.cache.CachingProductRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+
+class CachingProductRepositoryTest {
+
+    private InMemoryProductRepository store;
+    private CachingProductRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        store = new InMemoryProductRepository();
+        repository = new CachingProductRepository(store, new ConcurrentMapCacheManager(
+                CachingProductRepository.CACHE_BY_ID,
+                CachingProductRepository.CACHE_BY_SLUG,
+                CachingProductRepository.CACHE_BY_CATEGORY));
+        store.save(Product.builder().id("p1").categoryId("phones").slug("galaxy").basePrice(price("100")).build());
+        store.commit();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void unsavedChangesDoNotLeakToOtherReaders() {
+        Product first = repository.findById("p1").orElseThrow();
+        first.updatePrice(Money.of(price("1")));
+        Product second = repository.findById("p1").orElseThrow();
+
+        assertNotSame(first, second);
+        assertEquals(price("100"), second.getBasePrice().getAmount());
+        assertEquals(price("100"), repository.findBySlug(Slug.of("galaxy")).orElseThrow().getBasePrice().getAmount());
+
+        repository.findByCategoryId("phones").get(0).updatePrice(Money.of(price("2")));
+
+        assertEquals(price("100"), repository.findByCategoryId("phones").get(0).getBasePrice().getAmount());
+    }
+
+    @Test
+    void evictsAgainAfterCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+        Product product = repository.findById("p1").orElseThrow();
+        product.updatePrice(Money.of(price("200")));
+        repository.save(product);
+
+        // Another reader caches the committed row before the change commits
+        assertEquals(price("100"), repository.findById("p1").orElseThrow().getBasePrice().getAmount());
+
+        store.commit();
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        synchronizations.forEach(TransactionSynchronization::afterCommit);
+
+        assertEquals(price("200"), repository.findById("p1").orElseThrow().getBasePrice().getAmount());
+    }
+
+    private static BigDecimal price(String amount) {
+        return new BigDecimal(amount);
+    }
+
+    /**
+     * Store whose saves only become visible to readers on commit.
+     */
+    private static class InMemoryProductRepository implements ProductRepository {
+
+        private final Map<String, Product> committed = new HashMap<>();
+        private final Map<String, Product> pending = new HashMap<>();
+
+        void commit() {
+            committed.putAll(pending);
+            pending.clear();
+        }
+
+        @Override
+        public Product save(Product product) {
+            pending.put(product.getId(), product.copy());
+            return product;
+        }
+
+        @Override
+        public Optional<Product> findById(String id) {
+            return Optional.ofNullable(committed.get(id)).map(Product::copy);
+        }
+
+        @Override
+        public Optional<Product> findBySlug(Slug slug) {
+            return committed.values().stream().filter(p -> p.getSlug().equals(slug)).findFirst().map(Product::copy);
+        }
+
+        @Override
+        public List<Product> findByCategoryId(String categoryId) {
+            return committed.values().stream().filter(p -> p.getCategoryId().equals(categoryId))
+                    .map(Product::copy).toList();
+        }
+
+        @Override
+        public List<Product> findByBrandId(String brandId) {
+            return List.of();
+        }
+
+        @Override
+        public List<Product> findAllActive() {
+            return committed.values().stream().map(Product::copy).toList();
+        }
+
+        @Override
+        public boolean existsBySlug(Slug slug) {
+            return findBySlug(slug).isPresent();
+        }
+
+        @Override
+        public void delete(Product product) {
+            committed.remove(product.getId());
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.en.katmall.co.catalog;
+
+import com.en.katmall.co.catalog.domain.model.valueobject.Money;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Cart total latency for 100-line carts, with {@link Money} held as long
+ * minor units and with the previous BigDecimal plus setScale chain. Skipped
+ * by default; run with {@code mvn test -Dtest=MoneyBenchmark -Dbenchmark=true}.
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class MoneyBenchmark {
+
+    private static final int LINES = 100;
+    private static final int CARTS = 1_000;
+    private static final int WARMUP_TOTALS = 200_000;
+    private static final int MEASURED_TOTALS = 500_000;
+
+    @Test
+    void totalHundredLineCarts() {
+        Random random = new Random(42);
+        Money[][] prices = new Money[CARTS][LINES];
+        BigDecimal[][] decimals = new BigDecimal[CARTS][LINES];
+        int[][] quantities = new int[CARTS][LINES];
+        for (int c = 0; c < CARTS; c++) {
+            for (int l = 0; l < LINES; l++) {
+                BigDecimal price = BigDecimal.valueOf(1_000L * (1 + random.nextInt(5_000)));
+                prices[c][l] = Money.of(price);
+                decimals[c][l] = price.setScale(2, RoundingMode.HALF_UP);
+                quantities[c][l] = 1 + random.nextInt(5);
+            }
+        }
+        for (int c = 0; c < CARTS; c++) {
+            assertEquals(0, total(decimals[c], quantities[c]).compareTo(total(prices[c], quantities[c]).getAmount()));
+        }
+
+        long sink = 0;
+        for (int i = 0; i < WARMUP_TOTALS; i++) {
+            int c = i % CARTS;
+            sink += total(prices[c], quantities[c]).getMinorUnits() + total(decimals[c], quantities[c]).signum();
+        }
+        long[] minorNanos = new long[MEASURED_TOTALS];
+        long[] decimalNanos = new long[MEASURED_TOTALS];
+        for (int i = 0; i < MEASURED_TOTALS; i++) {
+            int c = random.nextInt(CARTS);
+            long start = System.nanoTime();
+            sink += total(prices[c], quantities[c]).getMinorUnits();
+            minorNanos[i] = System.nanoTime() - start;
+            start = System.nanoTime();
+            sink += total(decimals[c], quantities[c]).signum();
+            decimalNanos[i] = System.nanoTime() - start;
+        }
+        System.out.printf("lines=%d minor-units: %s big-decimal: %s sink=%d%n",
+                LINES, percentiles(minorNanos), percentiles(decimalNanos), sink);
+    }
+
+    private static Money total(Money[] prices, int[] quantities) {
+        Money total = Money.zero();
+        for (int i = 0; i < prices.length; i++) {
+            total = total.add(prices[i].multiply(quantities[i]));
+        }
+        return total;
+    }
+
+    /**
+     * Totals a cart the way Money did before it held minor units.
+     */
+    private static BigDecimal total(BigDecimal[] prices, int[] quantities) {
+        BigDecimal total = BigDecimal.ZERO.setScale(2, RoundingMode.HALF_UP);
+        for (int i = 0; i < prices.length; i++) {
+            BigDecimal line = prices[i].multiply(BigDecimal.valueOf(quantities[i])).setScale(2, RoundingMode.HALF_UP);
+            total = total.add(line).setScale(2, RoundingMode.HALF_UP);
+        }
+        return total;
+    }
+
+    private static String percentiles(long[] nanos) {
+        Arrays.sort(nanos);
+        return String.format("mean=%.2fus p50=%.2fus p99=%.2fus", Arrays.stream(nanos).average().orElse(0) / 1e3,
+                nanos[nanos.length / 2] / 1e3, nanos[(int) (nanos.length * 0.99)] / 1e3);
+    }
+}
@@ -0,0 +1,76 @@
+package com.en.katmall.co.catalog;
+
+import com.en.katmall.co.catalog.domain.model.valueobject.Money;
+import com.en.katmall.co.shared.exception.DomainException;
+import com.en.katmall.co.shared.exception.ValidationException;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class MoneyTest {
+
+    @Test
+    void usesIsoFractionDigitsOfTheCurrency() {
+        Money vnd = Money.of(new BigDecimal("150000"));
+        Money usd = Money.of(new BigDecimal("19.99"), "USD");
+
+        assertEquals(150_000, vnd.getMinorUnits());
+        assertEquals(new BigDecimal("150000"), vnd.getAmount());
+        assertEquals(0, vnd.getAmount().scale());
+        assertEquals(1_999, usd.getMinorUnits());
+        assertEquals(new BigDecimal("19.99"), usd.getAmount());
+        assertEquals(3, Money.zero("KWD").getAmount().scale());
+    }
+
+    @Test
+    void roundsHalfUpIntoMinorUnits() {
+        assertEquals(1, Money.of(new BigDecimal("0.5")).getMinorUnits());
+        assertEquals(3, Money.of(new BigDecimal("2.5")).getMinorUnits());
+        assertEquals(0, Money.of(new BigDecimal("0.49")).getMinorUnits());
+        assertEquals(1_001, Money.of(new BigDecimal("10.005"), "USD").getMinorUnits());
+        assertEquals(1_000, Money.of(new BigDecimal("10.004"), "USD").getMinorUnits());
+    }
+
+    @Test
+    void addsSubtractsAndMultipliesExactly() {
+        Money price = Money.of(new BigDecimal("19.99"), "USD");
+
+        assertEquals(Money.of(new BigDecimal("59.97"), "USD"), price.multiply(3));
+        assertEquals(Money.of(new BigDecimal("39.98"), "USD"), price.add(price));
+        assertEquals(Money.zero("USD"), price.subtract(price));
+    }
+
+    @Test
+    void overflowRaisesMoneyOverflow() {
+        Money max = Money.ofMinor(Long.MAX_VALUE, "VND");
+        Money one = Money.ofMinor(1, "VND");
+        Money min = Money.zero().subtract(max);
+
+        assertEquals("MONEY_OVERFLOW", assertThrows(DomainException.class, () -> max.add(one)).getErrorCode());
+        assertEquals("MONEY_OVERFLOW", assertThrows(DomainException.class,
+                () -> min.subtract(Money.ofMinor(2, "VND"))).getErrorCode());
+        assertEquals("MONEY_OVERFLOW", assertThrows(DomainException.class, () -> max.multiply(2)).getErrorCode());
+    }
+
+    @Test
+    void rejectsMixedCurrencies() {
+        Money vnd = Money.of(new BigDecimal("1000"));
+        Money usd = Money.of(new BigDecimal("1"), "USD");
+
+        assertEquals("CURRENCY_MISMATCH", assertThrows(DomainException.class, () -> vnd.add(usd)).getErrorCode());
+        assertEquals("CURRENCY_MISMATCH", assertThrows(DomainException.class, () -> vnd.subtract(usd)).getErrorCode());
+        assertEquals("CURRENCY_MISMATCH", assertThrows(DomainException.class, () -> vnd.isGreaterThan(usd)).getErrorCode());
+    }
+
+    @Test
+    void rejectsInvalidAmountsAndCurrencies() {
+        assertThrows(ValidationException.class, () -> Money.of(null));
+        assertThrows(ValidationException.class, () -> Money.of(new BigDecimal("-1")));
+        assertThrows(ValidationException.class, () -> Money.of(new BigDecimal("1e30")));
+        assertThrows(ValidationException.class, () -> Money.of(BigDecimal.ONE, "XYZ"));
+        assertThrows(ValidationException.class, () -> Money.ofMinor(-1, "VND"));
+    }
+}
@@ -0,0 +1,118 @@
+package com.en.katmall.co.catalog;
+
+import com.en.katmall.co.catalog.infrastructure.facet.ProductFacetIndex;
+import com.en.katmall.co.catalog.infrastructure.facet.ProductFacetIndex.FacetQuery;
+import com.en.katmall.co.catalog.infrastructure.facet.ProductFacetIndex.FacetResult;
+import com.en.katmall.co.catalog.infrastructure.facet.ProductFacetIndex.ProductFacets;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ProductFacetIndexTest {
+
+    private ProductFacetIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new ProductFacetIndex();
+        index.rebuild(() -> List.of(
+                product("p1", "phones", "samsung", Map.of("black", "color", "128gb", "storage"), "5000000", true),
+                product("p2", "phones", "samsung", Map.of("white", "color", "256gb", "storage"), "7000000", false),
+                product("p3", "phones", "apple", Map.of("black", "color", "256gb", "storage"), "20000000", true),
+                product("p4", "laptops", "apple", Map.of("white", "color"), "30000000", true)));
+    }
+
+    @Test
+    void filtersByCategoryIncludingAncestors() {
+        assertEquals(List.of("p1", "p2", "p3"), search(query().categoryId("phones")).productIds());
+        assertEquals(4, search(query().categoryId("electronics")).total());
+    }
+
+    @Test
+    void valuesOfOneFacetAreAlternativesAndFacetsCombine() {
+        FacetResult result = search(query().categoryId("phones")
+                .brandIds(Set.of("samsung", "apple"))
+                .attributeValueIds(Set.of("black", "white", "256gb")));
+
+        assertEquals(List.of("p2", "p3"), result.productIds());
+    }
+
+    @Test
+    void countsIgnoreTheirOwnFacetSelection() {
+        FacetResult result = search(query().categoryId("phones")
+                .brandIds(Set.of("samsung"))
+                .attributeValueIds(Set.of("black")));
+
+        assertEquals(List.of("p1"), result.productIds());
+        assertEquals(Map.of("samsung", 1, "apple", 1), result.brandCounts());
+        assertEquals(Map.of("black", 1, "white", 1), result.attributeCounts().get("color"));
+        assertEquals(Map.of("128gb", 1), result.attributeCounts().get("storage"));
+    }
+
+    @Test
+    void filtersByPriceAndStock() {
+        assertEquals(List.of("p1", "p2"), search(query().maxPrice(new BigDecimal("7000000"))).productIds());
+        assertEquals(List.of("p1", "p3", "p4"), search(query().inStockOnly(true)).productIds());
+
+        index.updateStock(List.of("p2"));
+
+        assertEquals(List.of("p2"), search(query().inStockOnly(true)).productIds());
+    }
+
+    @Test
+    void appliesIncrementalUpdates() {
+        index.put(product("p1", "laptops", "dell", Map.of("silver", "color"), "15000000", true));
+        index.remove("p3");
+
+        assertEquals(List.of("p2"), search(query().categoryId("phones")).productIds());
+        assertEquals(Map.of("apple", 1, "dell", 1), search(query().categoryId("laptops")).brandCounts());
+        assertEquals(Map.of("samsung", 1), search(query().categoryId("phones")).brandCounts());
+    }
+
+    @Test
+    void keepsChangesMadeDuringRebuild() {
+        index.rebuild(() -> {
+            index.put(product("p9", "phones", "oppo", Map.of(), "3000000", true));
+            return List.of(product("p1", "phones", "samsung", Map.of(), "5000000", true));
+        });
+
+        assertEquals(List.of("p1", "p9"), search(query()).productIds());
+    }
+
+    @Test
+    void pagesThroughLargeResults() {
+        List<ProductFacets> products = new ArrayList<>();
+        for (int i = 0; i < 200_000; i++) {
+            products.add(product("p" + i, i % 2 == 0 ? "even" : "odd", "brand" + (i % 7),
+                    Map.of("v" + (i % 3), "a"), String.valueOf(i), i % 5 != 0));
+        }
+        index.rebuild(() -> products);
+
+        FacetResult result = search(query().categoryId("even").brandIds(Set.of("brand0")).offset(5000).limit(3));
+
+        assertEquals(100_000 / 7 + 1, result.total());
+        assertEquals(List.of("p70000", "p70014", "p70028"), result.productIds());
+        assertEquals(100_000 / 7 + 1, result.brandCounts().get("brand0"));
+    }
+
+    private FacetResult search(FacetQuery.FacetQueryBuilder query) {
+        return index.search(query.build());
+    }
+
+    private static FacetQuery.FacetQueryBuilder query() {
+        return FacetQuery.builder().limit(20);
+    }
+
+    private static ProductFacets product(String id, String categoryId, String brandId,
+            Map<String, String> values, String price, boolean inStock) {
+        return new ProductFacets(id, Set.of(categoryId, "electronics"), brandId, values,
+                new BigDecimal(price), inStock);
+    }
+}
@@ -0,0 +1,110 @@
+package com.en.katmall.co.catalog;
+
+import com.en.katmall.co.catalog.infrastructure.search.ProductSearchIndex;
+import com.en.katmall.co.catalog.infrastructure.search.ProductSearchIndex.SearchDocument;
+import com.en.katmall.co.shared.utils.StringUtils;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Typeahead latency over a synthetic catalog. Skipped by default; run with
+ * {@code mvn test -Dtest=ProductSearchIndexBenchmark -Dbenchmark=true}
+ * (optionally {@code -Dbenchmark.products=1000000}).
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class ProductSearchIndexBenchmark {
+
+    private static final String[] KINDS = {
+            "Điện thoại", "Máy tính bảng", "Tai nghe", "Đồng hồ thông minh", "Máy giặt", "Tủ lạnh",
+            "Máy điều hòa", "Nồi cơm điện", "Bàn ủi hơi nước", "Quạt đứng", "Loa bluetooth",
+            "Bàn phím cơ", "Chuột không dây", "Màn hình", "Máy lọc không khí", "Áo thun", "Giày thể thao" };
+
+    private static final String[] BRANDS = {
+            "Samsung", "Apple", "Xiaomi", "Sony", "LG", "Panasonic", "Daikin", "Sunhouse", "Philips",
+            "Asus", "Logitech", "Dell", "Sharp", "Toshiba", "Oppo", "Vivo", "Nike", "Adidas", "Biti's" };
+
+    private static final String[] COLORS = {
+            "đen", "trắng", "xanh dương", "xanh lá", "đỏ", "vàng", "hồng", "bạc", "xám", "tím" };
+
+    private static final String[] EXTRAS = {
+            "chính hãng", "bảo hành 12 tháng", "phiên bản quốc tế", "tiết kiệm điện", "chống nước",
+            "sạc nhanh", "cao cấp", "giá rẻ", "mới 100%", "nhập khẩu" };
+
+    private static final int WARMUP_QUERIES = 50_000;
+    private static final int MEASURED_QUERIES = 200_000;
+    private static final int LIMIT = 10;
+
+    @Test
+    void typeaheadP99UnderFiveMillis() {
+        int products = Integer.getInteger("benchmark.products", 1_000_000);
+        Random random = new Random(42);
+
+        List<SearchDocument> documents = new ArrayList<>(products);
+        for (int i = 0; i < products; i++) {
+            String name = KINDS[random.nextInt(KINDS.length)] + " " + BRANDS[random.nextInt(BRANDS.length)]
+                    + " " + model(random) + " " + COLORS[random.nextInt(COLORS.length)]
+                    + " " + EXTRAS[random.nextInt(EXTRAS.length)];
+            documents.add(new SearchDocument("p" + i, "p-" + i, name, name));
+        }
+        ProductSearchIndex index = new ProductSearchIndex(64);
+        long buildStart = System.nanoTime();
+        index.rebuild(() -> documents);
+        long buildMillis = (System.nanoTime() - buildStart) / 1_000_000;
+
+        // Pending changes are scanned by every query, so measure with some
+        for (int i = 0; i < 1000; i++) {
+            SearchDocument source = documents.get(random.nextInt(products));
+            index.put(new SearchDocument(source.id(), source.slug(), source.name() + " mới", source.text() + " mới"));
+        }
+
+        List<String> queries = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            queries.addAll(keystrokes(documents.get(random.nextInt(products)).name(), random.nextBoolean()));
+        }
+
+        long hits = 0;
+        for (int i = 0; i < WARMUP_QUERIES; i++) {
+            hits += index.search(queries.get(i % queries.size()), LIMIT).size();
+        }
+        long[] nanos = new long[MEASURED_QUERIES];
+        for (int i = 0; i < MEASURED_QUERIES; i++) {
+            String query = queries.get(random.nextInt(queries.size()));
+            long start = System.nanoTime();
+            hits += index.search(query, LIMIT).size();
+            nanos[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(nanos);
+        double p50 = nanos[MEASURED_QUERIES / 2] / 1e6;
+        double p99 = nanos[(int) (MEASURED_QUERIES * 0.99)] / 1e6;
+        double max = nanos[MEASURED_QUERIES - 1] / 1e6;
+        System.out.printf("products=%d build=%dms queries=%d p50=%.3fms p99=%.3fms max=%.3fms hits=%d%n",
+                products, buildMillis, MEASURED_QUERIES, p50, p99, max, hits);
+
+        assertTrue(p99 < 5.0, "p99 " + p99 + "ms");
+    }
+
+    private static String model(Random random) {
+        return (char) ('A' + random.nextInt(26)) + String.valueOf(random.nextInt(1000));
+    }
+
+    /**
+     * Every prefix of a name as typed, word by word, with or without diacritics.
+     */
+    private static List<String> keystrokes(String name, boolean folded) {
+        String typed = folded ? StringUtils.foldDiacritics(name) : name;
+        List<String> prefixes = new ArrayList<>();
+        for (int end = 1; end <= typed.length(); end++) {
+            if (typed.charAt(end - 1) != ' ') {
+                prefixes.add(typed.substring(0, end));
+            }
+        }
+        return prefixes;
+    }
+}
@@ -0,0 +1,116 @@
+package com.en.katmall.co.catalog;
+
+import com.en.katmall.co.catalog.infrastructure.search.ProductSearchIndex;
+import com.en.katmall.co.catalog.infrastructure.search.ProductSearchIndex.SearchDocument;
+import com.en.katmall.co.shared.utils.StringUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ProductSearchIndexTest {
+
+    private ProductSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new ProductSearchIndex(64);
+        index.rebuild(() -> List.of(
+                document("p1", "Điện thoại Samsung Galaxy A15", "Samsung Galaxy A15 phone"),
+                document("p2", "Điện thoại iPhone 15 Pro", null),
+                document("p3", "Tai nghe Sony WH-1000XM5", null),
+                document("p4", "Máy điều hòa Daikin", null)));
+    }
+
+    @Test
+    void foldingMatchesSlugFolding() {
+        assertEquals("dien thoai duong", StringUtils.foldDiacritics("ĐIỆN Thoại Đường"));
+        assertEquals("dien-thoai-samsung", StringUtils.toSlug("Điện thoại  Samsung!"));
+    }
+
+    @Test
+    void findsWithAndWithoutDiacritics() {
+        assertEquals(List.of("p1", "p2"), ids("điện thoại"));
+        assertEquals(List.of("p1", "p2"), ids("DIEN THOAI"));
+        assertEquals(List.of("p4"), ids("dieu hoa"));
+    }
+
+    @Test
+    void lastWordMatchesAsPrefix() {
+        assertEquals(List.of("p1", "p2"), ids("dien th"));
+        assertEquals(List.of("p1"), ids("dien thoai sa"));
+        assertEquals(List.of(), ids("dieu sa"));
+        assertEquals(List.of("p3"), ids("wh 1000"));
+    }
+
+    @Test
+    void indexesEveryTranslation() {
+        assertEquals(List.of("p1"), ids("phone"));
+    }
+
+    @Test
+    void appliesChangesBeforeAndAfterCompaction() {
+        index.put(document("p2", "Điện thoại iPhone 16 Pro", null));
+        index.put(document("p5", "Điện thoại Xiaomi 14", null));
+        index.remove("p1");
+
+        assertEquals(List.of("p5", "p2"), ids("dien thoai"));
+        assertEquals(List.of(), ids("iphone 15"));
+        assertEquals(3, index.getPendingChanges());
+
+        index.compact();
+
+        assertEquals(0, index.getPendingChanges());
+        assertEquals(4, index.getSegmentSize());
+        assertEquals(List.of("p5", "p2"), ids("dien thoai"));
+        assertEquals(List.of("p2"), ids("iphone 16"));
+    }
+
+    @Test
+    void rebuildDropsChangesTheLoadAlreadyHas() {
+        index.put(document("p2", "Điện thoại iPhone 16 Pro", null));
+        index.remove("p4");
+
+        // Loaded after p2 was renamed again and p4 restored on another node
+        index.rebuild(() -> List.of(
+                document("p2", "Điện thoại iPhone 17 Pro", null),
+                document("p4", "Máy điều hòa Daikin", null)));
+
+        assertEquals(0, index.getPendingChanges());
+        assertEquals(List.of("p2"), ids("iphone 17"));
+        assertEquals(List.of(), ids("iphone 16"));
+        assertEquals(List.of("p4"), ids("dieu hoa"));
+    }
+
+    @Test
+    void rebuildKeepsChangesMadeWhileLoading() {
+        index.rebuild(() -> {
+            index.put(document("p5", "Điện thoại Xiaomi 14", null));
+            index.remove("p1");
+            return List.of(
+                    document("p1", "Điện thoại Samsung Galaxy A15", null),
+                    document("p2", "Điện thoại iPhone 15 Pro", null));
+        });
+
+        assertEquals(2, index.getPendingChanges());
+        assertEquals(List.of("p5", "p2"), ids("dien thoai"));
+    }
+
+    @Test
+    void stopsAtLimit() {
+        assertEquals(1, index.search("dien", 1).size());
+        assertTrue(index.search("  ", 10).isEmpty());
+    }
+
+    private List<String> ids(String query) {
+        return index.search(query, 10).stream().map(SearchDocument::id).toList();
+    }
+
+    private static SearchDocument document(String id, String name, String otherNames) {
+        String text = otherNames == null ? name : name + " " + otherNames;
+        return new SearchDocument(id, StringUtils.toSlug(name), name, text);
+    }
+}
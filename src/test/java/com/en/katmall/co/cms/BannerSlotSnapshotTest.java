@@ -0,0 +1,170 @@
+package com.en.katmall.co.cms;
+
+import com.en.katmall.co.cms.domain.model.Banner;
+import com.en.katmall.co.cms.domain.repository.BannerRepository;
+import com.en.katmall.co.cms.infrastructure.snapshot.BannerSlotSnapshot;
+import com.en.katmall.co.shared.dto.PageCursor;
+import com.en.katmall.co.shared.enums.KTypeBannerPosition;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BannerSlotSnapshotTest {
+
+    private final FakeBannerRepository repository = new FakeBannerRepository();
+    private BannerSlotSnapshot snapshot;
+
+    @BeforeEach
+    void setUp() {
+        snapshot = new BannerSlotSnapshot(new StaticListableBeanFactory(Map.of("bannerRepository", repository))
+                .getBeanProvider(BannerRepository.class));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void rendersVisibleBannersByPriority() {
+        repository.active.add(banner("low", 1));
+        repository.active.add(banner("high", 5));
+        repository.active.add(Banner.builder().id("ended").name("ended").imageUrl("/ended.png")
+                .startAt(Instant.now().minus(2, ChronoUnit.DAYS)).endAt(Instant.now().minus(1, ChronoUnit.DAYS))
+                .build());
+        repository.active.add(Banner.builder().id("side").name("side").imageUrl("/side.png")
+                .displayPosition(KTypeBannerPosition.HOME_SIDE).build());
+
+        snapshot.reload();
+
+        assertEquals(List.of("high", "low"), ids(KTypeBannerPosition.HOME_SLIDER));
+        assertEquals(List.of("side"), ids(KTypeBannerPosition.HOME_SIDE));
+        String json = new String(snapshot.findJsonByPosition(KTypeBannerPosition.HOME_SLIDER), StandardCharsets.UTF_8);
+        assertTrue(json.indexOf("\"high\"") < json.indexOf("\"low\""), json);
+    }
+
+    @Test
+    void changesMadeDuringAReloadAreKept() {
+        repository.active.add(banner("kept", 1));
+        repository.active.add(banner("reordered", 2));
+        repository.active.add(banner("deleted", 3));
+        repository.duringLoad = () -> {
+            snapshot.put(banner("created", 4));
+            Banner reordered = banner("reordered", 2);
+            reordered.updatePriority(9);
+            snapshot.put(reordered);
+            snapshot.remove("deleted");
+        };
+
+        snapshot.reload();
+
+        assertEquals(List.of("reordered", "created", "kept"), ids(KTypeBannerPosition.HOME_SLIDER));
+
+        // The journal is dropped after the reload, so the next one shows the database again
+        repository.duringLoad = null;
+        snapshot.reload();
+        assertEquals(List.of("deleted", "reordered", "kept"), ids(KTypeBannerPosition.HOME_SLIDER));
+    }
+
+    @Test
+    void appliesChangesAfterCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+        snapshot.put(banner("pending", 1));
+        assertEquals(List.of(), ids(KTypeBannerPosition.HOME_SLIDER));
+
+        TransactionSynchronizationUtils.invokeAfterCommit(TransactionSynchronizationManager.getSynchronizations());
+
+        assertEquals(List.of("pending"), ids(KTypeBannerPosition.HOME_SLIDER));
+    }
+
+    @Test
+    void callersCannotChangeTheSnapshot() {
+        Banner saved = banner("shared", 1);
+        snapshot.put(saved);
+        saved.deactivate();
+
+        Banner read = snapshot.findByPosition(KTypeBannerPosition.HOME_SLIDER).get(0);
+        read.updatePosition(KTypeBannerPosition.FOOTER);
+        read.updatePriority(7);
+        snapshot.refresh();
+
+        List<Banner> slot = snapshot.findByPosition(KTypeBannerPosition.HOME_SLIDER);
+        assertEquals(List.of("shared"), ids(KTypeBannerPosition.HOME_SLIDER));
+        assertTrue(slot.get(0).isActive());
+        assertEquals(1, slot.get(0).getPriority());
+        assertEquals(List.of(), ids(KTypeBannerPosition.FOOTER));
+    }
+
+    private List<String> ids(KTypeBannerPosition position) {
+        return snapshot.findByPosition(position).stream().map(Banner::getId).toList();
+    }
+
+    private static Banner banner(String id, int priority) {
+        return Banner.builder().id(id).name(id).imageUrl("/" + id + ".png").priority(priority).build();
+    }
+
+    /**
+     * Banner repository serving a list of active banners, optionally running
+     * an action while a load is in progress.
+     */
+    private static class FakeBannerRepository implements BannerRepository {
+
+        private final List<Banner> active = new ArrayList<>();
+        private Runnable duringLoad;
+
+        @Override
+        public List<Banner> findAllActive() {
+            List<Banner> loaded = active.stream().map(Banner::copy).toList();
+            if (duringLoad != null) {
+                duringLoad.run();
+            }
+            return loaded;
+        }
+
+        @Override
+        public Banner save(Banner banner) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Optional<Banner> findById(String id) {
+            return active.stream().filter(banner -> banner.getId().equals(id)).findFirst();
+        }
+
+        @Override
+        public List<Banner> findActiveByPosition(KTypeBannerPosition position) {
+            return active.stream().filter(banner -> banner.getDisplayPosition() == position).toList();
+        }
+
+        @Override
+        public List<Banner> findAll(int page, int size) {
+            return active;
+        }
+
+        @Override
+        public List<Banner> findAllAfter(PageCursor cursor, int limit) {
+            return active;
+        }
+
+        @Override
+        public void deleteById(String id) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
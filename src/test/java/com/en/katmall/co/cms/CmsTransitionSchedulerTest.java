@@ -0,0 +1,209 @@
+package com.en.katmall.co.cms;
+
+import com.en.katmall.co.cms.domain.model.News;
+import com.en.katmall.co.cms.domain.repository.BannerRepository;
+import com.en.katmall.co.cms.infrastructure.readmodel.NewsReadModel;
+import com.en.katmall.co.cms.infrastructure.schedule.CmsTransitionScheduler;
+import com.en.katmall.co.cms.infrastructure.snapshot.BannerSlotSnapshot;
+import com.en.katmall.co.shared.infrastructure.config.properties.AppProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.TimeZone;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CmsTransitionSchedulerTest {
+
+    /** Zone JPA writes TIMESTAMP columns in */
+    private static final ZoneId DATABASE_ZONE = ZoneId.of("Asia/Ho_Chi_Minh");
+
+    private HookedJdbcTemplate jdbcTemplate;
+    private CmsTransitionScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = new HookedJdbcTemplate(new DriverManagerDataSource(
+                "jdbc:h2:mem:cms_transitions;DB_CLOSE_DELAY=-1", "sa", ""));
+        jdbcTemplate.execute("DROP ALL OBJECTS");
+        jdbcTemplate.execute("""
+                CREATE TABLE cms_news (
+                    id VARCHAR(255) PRIMARY KEY,
+                    slug VARCHAR(255) NOT NULL,
+                    is_published BOOLEAN NOT NULL DEFAULT FALSE,
+                    published_at TIMESTAMP,
+                    publish_at TIMESTAMP,
+                    unpublish_at TIMESTAMP)""");
+        jdbcTemplate.execute("""
+                CREATE TABLE cms_banners (
+                    id VARCHAR(255) PRIMARY KEY,
+                    is_active BOOLEAN NOT NULL DEFAULT TRUE,
+                    start_at TIMESTAMP,
+                    end_at TIMESTAMP)""");
+        AppProperties appProperties = new AppProperties();
+        appProperties.setDatabaseTimeZone(DATABASE_ZONE);
+        NewsReadModel newsReadModel = new NewsReadModel(jdbcTemplate,
+                new ConcurrentMapCacheManager(NewsReadModel.CACHE_BY_SLUG, NewsReadModel.CACHE_PUBLISHED),
+                appProperties);
+        BannerSlotSnapshot bannerSlotSnapshot = new BannerSlotSnapshot(
+                new StaticListableBeanFactory().getBeanProvider(BannerRepository.class));
+        scheduler = new CmsTransitionScheduler(jdbcTemplate, newsReadModel, bannerSlotSnapshot, appProperties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        scheduler.shutdown();
+    }
+
+    @Test
+    void firesArmedTransitionsAtTheirTime() {
+        insertNews("n1", Instant.now().plusMillis(300), null);
+
+        scheduler.reload();
+
+        assertFalse(isPublished("n1"));
+        assertTrue(eventually(() -> isPublished("n1")));
+        assertNull(jdbcTemplate.queryForObject("SELECT publish_at FROM cms_news WHERE id = 'n1'", LocalDateTime.class));
+    }
+
+    @Test
+    void catchesUpOnTransitionsMissedWhileDown() {
+        insertNews("n1", Instant.now().minusSeconds(60), null);
+        jdbcTemplate.update("INSERT INTO cms_news (id, slug, is_published, unpublish_at) VALUES ('n2', 'n2', TRUE, ?)",
+                local(Instant.now().minusSeconds(60)));
+        jdbcTemplate.update("INSERT INTO cms_banners (id, end_at) VALUES ('b1', ?)",
+                local(Instant.now().minusSeconds(60)));
+
+        scheduler.reload();
+
+        assertTrue(eventually(() -> isPublished("n1") && !isPublished("n2") && !isActive("b1")));
+    }
+
+    @Test
+    void doesNotApplyTransitionsNoLongerDue() throws Exception {
+        // Rescheduled on another node after this node armed its timer
+        insertNews("n1", Instant.now().plus(Duration.ofHours(1)), null);
+
+        scheduler.schedule(news("n1", Instant.now().plusMillis(50)));
+        Thread.sleep(300);
+
+        assertFalse(isPublished("n1"));
+    }
+
+    @Test
+    void keepsCancellationsMadeDuringAReload() throws Exception {
+        insertNews("n1", Instant.now().minusSeconds(60), null);
+        jdbcTemplate.afterFirstQuery = () -> scheduler.cancelNews("n1");
+
+        scheduler.reload();
+        Thread.sleep(300);
+
+        assertFalse(isPublished("n1"));
+    }
+
+    @Test
+    void keepsSchedulesMadeDuringAReload() {
+        insertNews("n1", Instant.now().plus(Duration.ofHours(1)), null);
+        Instant publishAt = Instant.now().plusMillis(100);
+        jdbcTemplate.afterFirstQuery = () -> {
+            jdbcTemplate.update("UPDATE cms_news SET publish_at = ? WHERE id = 'n1'", local(publishAt));
+            scheduler.schedule(news("n1", publishAt));
+        };
+
+        scheduler.reload();
+
+        assertTrue(eventually(() -> isPublished("n1")));
+    }
+
+    @Test
+    void readsAndComparesSchedulesInTheDatabaseZone() {
+        TimeZone jvmZone = TimeZone.getDefault();
+        TimeZone.setDefault(TimeZone.getTimeZone("UTC"));
+        try {
+            insertNews("due", Instant.now().minusSeconds(60), null);
+            insertNews("later", Instant.now().plus(Duration.ofHours(1)), null);
+            jdbcTemplate.update("INSERT INTO cms_banners (id, end_at) VALUES ('b1', ?)",
+                    local(Instant.now().minusSeconds(60)));
+
+            scheduler.reload();
+
+            assertTrue(eventually(() -> isPublished("due") && !isActive("b1")));
+            assertFalse(isPublished("later"));
+        } finally {
+            TimeZone.setDefault(jvmZone);
+        }
+    }
+
+    private void insertNews(String id, Instant publishAt, Instant unpublishAt) {
+        jdbcTemplate.update("INSERT INTO cms_news (id, slug, publish_at, unpublish_at) VALUES (?, ?, ?, ?)", id, id,
+                publishAt != null ? local(publishAt) : null, unpublishAt != null ? local(unpublishAt) : null);
+    }
+
+    private static LocalDateTime local(Instant instant) {
+        return LocalDateTime.ofInstant(instant, DATABASE_ZONE);
+    }
+
+    private boolean isPublished(String id) {
+        return jdbcTemplate.queryForObject("SELECT is_published FROM cms_news WHERE id = ?", Boolean.class, id);
+    }
+
+    private boolean isActive(String id) {
+        return jdbcTemplate.queryForObject("SELECT is_active FROM cms_banners WHERE id = ?", Boolean.class, id);
+    }
+
+    private static News news(String id, Instant publishAt) {
+        return News.builder().id(id).slug(id).publishAt(publishAt).build();
+    }
+
+    private static boolean eventually(BooleanSupplier condition) {
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() > deadline) {
+                return false;
+            }
+            try {
+                Thread.sleep(10);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * JDBC template running an action once after the first row query, while
+     * a reload is between its two loads.
+     */
+    private static class HookedJdbcTemplate extends JdbcTemplate {
+
+        private Runnable afterFirstQuery;
+
+        HookedJdbcTemplate(DriverManagerDataSource dataSource) {
+            super(dataSource);
+        }
+
+        @Override
+        public void query(String sql, RowCallbackHandler rch) {
+            super.query(sql, rch);
+            Runnable action = afterFirstQuery;
+            afterFirstQuery = null;
+            if (action != null) {
+                action.run();
+            }
+        }
+    }
+}
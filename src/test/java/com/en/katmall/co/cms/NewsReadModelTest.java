@@ -0,0 +1,168 @@
+package com.en.katmall.co.cms;
+
+import com.en.katmall.co.cms.application.dto.response.NewsResponse;
+import com.en.katmall.co.cms.infrastructure.readmodel.NewsReadModel;
+import com.en.katmall.co.shared.enums.KTypeLanguage;
+import com.en.katmall.co.shared.infrastructure.config.properties.AppProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class NewsReadModelTest {
+
+    private static final ZoneId DATABASE_ZONE = ZoneId.of("Asia/Ho_Chi_Minh");
+
+    private CountingJdbcTemplate jdbcTemplate;
+    private NewsReadModel readModel;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = new CountingJdbcTemplate(new DriverManagerDataSource(
+                "jdbc:h2:mem:cms_news;DB_CLOSE_DELAY=-1", "sa", ""));
+        jdbcTemplate.execute("DROP ALL OBJECTS");
+        jdbcTemplate.execute("""
+                CREATE TABLE cms_news (
+                    id VARCHAR(255) PRIMARY KEY,
+                    slug VARCHAR(255) NOT NULL,
+                    thumbnail_url VARCHAR(512),
+                    author_id VARCHAR(255),
+                    published_at TIMESTAMP,
+                    is_published BOOLEAN DEFAULT FALSE)""");
+        jdbcTemplate.execute("""
+                CREATE TABLE cms_news_translations (
+                    id VARCHAR(255) PRIMARY KEY,
+                    news_id VARCHAR(255) NOT NULL,
+                    language_code VARCHAR(5) NOT NULL,
+                    title VARCHAR(255) NOT NULL,
+                    content TEXT)""");
+        AppProperties appProperties = new AppProperties();
+        appProperties.setDatabaseTimeZone(DATABASE_ZONE);
+        readModel = new NewsReadModel(jdbcTemplate,
+                new ConcurrentMapCacheManager(NewsReadModel.CACHE_BY_SLUG, NewsReadModel.CACHE_PUBLISHED),
+                appProperties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void fallsBackToTheDefaultLanguage() {
+        Instant publishedAt = Instant.parse("2025-01-01T00:00:00Z");
+        insertNews("n1", publishedAt);
+        insertTranslation("n1", KTypeLanguage.VI, "Tin tuc");
+
+        NewsResponse news = readModel.findBySlug("n1", KTypeLanguage.EN).orElseThrow();
+
+        assertEquals(KTypeLanguage.VI, news.getLanguage());
+        assertEquals("Tin tuc", news.getTitle());
+        assertEquals(publishedAt, news.getPublishedAt());
+    }
+
+    @Test
+    void oneMissFillsEveryLanguage() {
+        insertNews("n1", Instant.now());
+        insertTranslation("n1", KTypeLanguage.VI, "Tin tuc");
+        insertTranslation("n1", KTypeLanguage.EN, "News");
+
+        assertEquals("Tin tuc", readModel.findBySlug("n1", KTypeLanguage.VI).orElseThrow().getTitle());
+        assertEquals("News", readModel.findBySlug("n1", KTypeLanguage.EN).orElseThrow().getTitle());
+        assertEquals(KTypeLanguage.VI, readModel.findBySlug("n1", KTypeLanguage.JA).orElseThrow().getLanguage());
+        assertEquals(1, jdbcTemplate.queries);
+
+        assertEquals(List.of("News"), titles(KTypeLanguage.EN));
+        assertEquals(List.of("Tin tuc"), titles(KTypeLanguage.KO));
+        assertEquals(2, jdbcTemplate.queries);
+    }
+
+    @Test
+    void evictsOnceTheTransactionCommits() {
+        insertNews("n1", Instant.now());
+        insertTranslation("n1", KTypeLanguage.VI, "Old");
+        readModel.findBySlug("n1", KTypeLanguage.VI);
+        titles(KTypeLanguage.VI);
+        jdbcTemplate.update("UPDATE cms_news_translations SET title = 'New'");
+
+        TransactionSynchronizationManager.initSynchronization();
+        readModel.evict("n1");
+        assertEquals("Old", readModel.findBySlug("n1", KTypeLanguage.VI).orElseThrow().getTitle());
+
+        TransactionSynchronizationUtils.invokeAfterCommit(TransactionSynchronizationManager.getSynchronizations());
+
+        assertEquals("New", readModel.findBySlug("n1", KTypeLanguage.VI).orElseThrow().getTitle());
+        assertEquals(List.of("New"), titles(KTypeLanguage.VI));
+    }
+
+    @Test
+    void aFillStartedBeforeAnEvictionIsNotCached() {
+        insertNews("n1", Instant.now());
+        insertTranslation("n1", KTypeLanguage.VI, "Old");
+        // The article changes and is evicted while the reads are still running
+        jdbcTemplate.afterQuery = () -> {
+            jdbcTemplate.update("UPDATE cms_news_translations SET title = 'New'");
+            readModel.evict("n1");
+        };
+
+        assertEquals("Old", readModel.findBySlug("n1", KTypeLanguage.VI).orElseThrow().getTitle());
+        jdbcTemplate.afterQuery = () -> readModel.evict("n1");
+        assertEquals(List.of("New"), titles(KTypeLanguage.VI));
+        jdbcTemplate.afterQuery = null;
+
+        assertEquals("New", readModel.findBySlug("n1", KTypeLanguage.VI).orElseThrow().getTitle());
+        jdbcTemplate.update("UPDATE cms_news_translations SET title = 'Newer'");
+        assertEquals(List.of("Newer"), titles(KTypeLanguage.VI));
+    }
+
+    private List<String> titles(KTypeLanguage language) {
+        return readModel.findAllPublished(language).stream().map(NewsResponse::getTitle).toList();
+    }
+
+    private void insertNews(String id, Instant publishedAt) {
+        jdbcTemplate.update("INSERT INTO cms_news (id, slug, published_at, is_published) VALUES (?, ?, ?, TRUE)",
+                id, id, LocalDateTime.ofInstant(publishedAt, DATABASE_ZONE));
+    }
+
+    private void insertTranslation(String newsId, KTypeLanguage language, String title) {
+        jdbcTemplate.update("INSERT INTO cms_news_translations (id, news_id, language_code, title) VALUES (?, ?, ?, ?)",
+                newsId + ":" + language.getCode(), newsId, language.getCode(), title);
+    }
+
+    /**
+     * JDBC template counting row queries, optionally running an action after
+     * each while the read model has not cached the result yet.
+     */
+    private static class CountingJdbcTemplate extends JdbcTemplate {
+
+        private int queries;
+        private Runnable afterQuery;
+
+        CountingJdbcTemplate(DriverManagerDataSource dataSource) {
+            super(dataSource);
+        }
+
+        @Override
+        public void query(String sql, RowCallbackHandler rch, Object... args) {
+            super.query(sql, rch, args);
+            queries++;
+            if (afterQuery != null) {
+                afterQuery.run();
+            }
+        }
+    }
+}
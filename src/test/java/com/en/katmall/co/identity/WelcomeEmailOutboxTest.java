@@ -0,0 +1,183 @@
+package com.en.katmall.co.identity;
+
+import com.en.katmall.co.identity.application.listener.WelcomeEmailListener;
+import com.en.katmall.co.identity.domain.event.UserRegisteredEvent;
+import com.en.katmall.co.identity.domain.model.UserModel;
+import com.en.katmall.co.identity.domain.model.valueobject.Email;
+import com.en.katmall.co.identity.domain.repository.UserRepository;
+import com.en.katmall.co.shared.infrastructure.config.properties.OutboxProperties;
+import com.en.katmall.co.shared.infrastructure.event.outbox.OutboxDispatcher;
+import com.en.katmall.co.shared.infrastructure.event.outbox.OutboxRepository;
+import com.en.katmall.co.shared.infrastructure.mail.EmailService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.mail.MailSendException;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+class WelcomeEmailOutboxTest {
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    private final Map<String, UserModel> users = new HashMap<>();
+    private final List<String> sent = new ArrayList<>();
+    private boolean mailDown;
+
+    private JdbcTemplate jdbcTemplate;
+    private OutboxRepository outboxRepository;
+    private OutboxDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:welcome-email;DB_CLOSE_DELAY=-1", "sa", "");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("DROP TABLE IF EXISTS event_outbox");
+        jdbcTemplate.execute("""
+                CREATE TABLE event_outbox (
+                    id VARCHAR(255) PRIMARY KEY,
+                    event_type VARCHAR(100) NOT NULL,
+                    event_class VARCHAR(255) NOT NULL,
+                    payload CLOB NOT NULL,
+                    status VARCHAR(20) NOT NULL DEFAULT 'PENDING',
+                    attempts INT NOT NULL DEFAULT 0,
+                    last_error CLOB,
+                    occurred_at TIMESTAMP NOT NULL,
+                    available_at TIMESTAMP NOT NULL,
+                    claimed_at TIMESTAMP,
+                    processed_at TIMESTAMP)""");
+        outboxRepository = new OutboxRepository(jdbcTemplate, objectMapper,
+                new DataSourceTransactionManager(dataSource));
+
+        WelcomeEmailListener listener = new WelcomeEmailListener(new InMemoryUserRepository(), new RecordingEmailService());
+        dispatcher = new OutboxDispatcher(outboxRepository, event -> {
+            if (event instanceof UserRegisteredEvent registered) {
+                listener.onUserRegistered(registered);
+            }
+        }, objectMapper, new OutboxProperties());
+    }
+
+    @AfterEach
+    void tearDown() {
+        dispatcher.shutdown();
+    }
+
+    @Test
+    void sendsWelcomeEmailOnlyToVerifiedEmailRegistrations() {
+        UserModel verified = register("shopper@example.com");
+        verified.verifyEmail();
+        register("0901234567@phone.katmall.vn");
+
+        dispatcher.poll();
+
+        assertEquals(List.of("shopper@example.com"), sent);
+        assertEquals(2, count("DONE"));
+    }
+
+    @Test
+    void failedSendIsRetriedByTheOutbox() {
+        register("shopper@example.com").verifyEmail();
+        mailDown = true;
+
+        dispatcher.poll();
+
+        assertEquals(List.of(), sent);
+        assertEquals(1, count("PENDING"));
+        assertNotNull(jdbcTemplate.queryForObject("SELECT last_error FROM event_outbox", String.class));
+
+        // Not due again until the backoff has passed
+        mailDown = false;
+        dispatcher.poll();
+        assertEquals(List.of(), sent);
+
+        jdbcTemplate.update("UPDATE event_outbox SET available_at = DATEADD('MINUTE', -1, CURRENT_TIMESTAMP)");
+        dispatcher.poll();
+
+        assertEquals(List.of("shopper@example.com"), sent);
+        assertEquals(1, count("DONE"));
+        assertEquals(2, jdbcTemplate.queryForObject("SELECT attempts FROM event_outbox", Integer.class));
+    }
+
+    private UserModel register(String email) {
+        UserModel user = UserModel.create("New User", Email.of(email), "hash");
+        users.put(user.getId(), user);
+        outboxRepository.append(user.getDomainEvents());
+        user.clearDomainEvents();
+        return user;
+    }
+
+    private int count(String status) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM event_outbox WHERE status = ?", Integer.class, status);
+    }
+
+    private class RecordingEmailService extends EmailService {
+
+        RecordingEmailService() {
+            super(null, null, null, null);
+        }
+
+        @Override
+        public void sendWelcomeEmail(String to, String name) {
+            if (mailDown) {
+                throw new MailSendException("SMTP server unavailable");
+            }
+            sent.add(to);
+        }
+    }
+
+    private class InMemoryUserRepository implements UserRepository {
+
+        @Override
+        public UserModel save(UserModel userModel) {
+            users.put(userModel.getId(), userModel);
+            return userModel;
+        }
+
+        @Override
+        public Optional<UserModel> findById(String id) {
+            return Optional.ofNullable(users.get(id));
+        }
+
+        @Override
+        public Optional<UserModel> findByEmail(Email email) {
+            return users.values().stream().filter(user -> user.getEmail().equals(email)).findFirst();
+        }
+
+        @Override
+        public Optional<UserModel> findActiveByEmail(Email email) {
+            return findByEmail(email).filter(UserModel::isActive);
+        }
+
+        @Override
+        public boolean existsByEmail(Email email) {
+            return findByEmail(email).isPresent();
+        }
+
+        @Override
+        public boolean existsActiveByEmail(Email email) {
+            return findActiveByEmail(email).isPresent();
+        }
+
+        @Override
+        public boolean existsByPhone(String phone) {
+            return false;
+        }
+
+        @Override
+        public void delete(UserModel userModel) {
+            users.remove(userModel.getId());
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.en.katmall.co.inventory;
+
+import com.en.katmall.co.inventory.application.usecase.PlanAllocationUseCase;
+import com.en.katmall.co.inventory.infrastructure.allocation.StockAvailabilityIndex;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Allocation planning latency over a synthetic catalog. Skipped by default;
+ * run with {@code mvn test -Dtest=AllocationPlannerBenchmark -Dbenchmark=true}
+ * (optionally {@code -Dbenchmark.variants=10000 -Dbenchmark.locations=20}).
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class AllocationPlannerBenchmark {
+
+    private static final int CART_LINES = 8;
+    private static final int WARMUP_CARTS = 50_000;
+    private static final int MEASURED_CARTS = 200_000;
+
+    @Test
+    void planEightLineCarts() {
+        int variants = Integer.getInteger("benchmark.variants", 10_000);
+        int locations = Integer.getInteger("benchmark.locations", 20);
+        Random random = new Random(42);
+
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:allocation-benchmark;DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("DROP TABLE IF EXISTS inventory_stocks");
+        jdbcTemplate.execute("DROP TABLE IF EXISTS inventory_locations");
+        jdbcTemplate.execute("CREATE TABLE inventory_locations (id VARCHAR(36) PRIMARY KEY, is_active BOOLEAN NOT NULL)");
+        jdbcTemplate.execute("""
+                CREATE TABLE inventory_stocks (
+                    location_id VARCHAR(36) NOT NULL,
+                    variant_id VARCHAR(36) NOT NULL,
+                    quantity_on_hand INT NOT NULL,
+                    quantity_reserved INT NOT NULL DEFAULT 0)""");
+        List<Object[]> rows = new ArrayList<>();
+        for (int l = 0; l < locations; l++) {
+            jdbcTemplate.update("INSERT INTO inventory_locations VALUES (?, TRUE)", "loc-" + l);
+            for (int v = 0; v < variants; v++) {
+                // Sparse stock so a good share of carts needs a split
+                if (random.nextInt(4) == 0) {
+                    rows.add(new Object[] { "loc-" + l, "v" + v, 1 + random.nextInt(5) });
+                }
+            }
+        }
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO inventory_stocks (location_id, variant_id, quantity_on_hand) VALUES (?, ?, ?)", rows);
+
+        StockAvailabilityIndex index = new StockAvailabilityIndex(jdbcTemplate);
+        long loadStart = System.nanoTime();
+        index.refresh();
+        long loadMillis = (System.nanoTime() - loadStart) / 1_000_000;
+        PlanAllocationUseCase planner = new PlanAllocationUseCase(index);
+
+        List<Map<String, Integer>> carts = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            Map<String, Integer> cart = new HashMap<>();
+            while (cart.size() < CART_LINES) {
+                cart.put("v" + random.nextInt(variants), 1 + random.nextInt(3));
+            }
+            carts.add(cart);
+        }
+
+        long shipments = 0;
+        for (int i = 0; i < WARMUP_CARTS; i++) {
+            shipments += planner.execute(carts.get(i % carts.size())).getShipments().size();
+        }
+        long[] nanos = new long[MEASURED_CARTS];
+        for (int i = 0; i < MEASURED_CARTS; i++) {
+            Map<String, Integer> cart = carts.get(random.nextInt(carts.size()));
+            long start = System.nanoTime();
+            shipments += planner.execute(cart).getShipments().size();
+            nanos[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(nanos);
+        System.out.printf("variants=%d locations=%d load=%dms carts=%d mean=%.1fus p50=%.1fus p99=%.1fus shipments=%d%n",
+                variants, locations, loadMillis, MEASURED_CARTS, Arrays.stream(nanos).average().orElse(0) / 1e3,
+                nanos[MEASURED_CARTS / 2] / 1e3, nanos[(int) (MEASURED_CARTS * 0.99)] / 1e3, shipments);
+    }
+}
@@ -0,0 +1,128 @@
+package com.en.katmall.co.inventory;
+
+import com.en.katmall.co.inventory.application.usecase.PlanAllocationUseCase;
+import com.en.katmall.co.inventory.domain.model.AllocationPlan;
+import com.en.katmall.co.inventory.infrastructure.allocation.StockAvailabilityIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AllocationPlannerTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private Runnable afterLoad;
+    private StockAvailabilityIndex index;
+    private PlanAllocationUseCase planner;
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:allocation;DB_CLOSE_DELAY=-1", "sa", "");
+        jdbcTemplate = new JdbcTemplate(dataSource) {
+            @Override
+            public void query(String sql, RowCallbackHandler rch) {
+                super.query(sql, rch);
+                if (afterLoad != null) {
+                    afterLoad.run();
+                }
+            }
+        };
+        jdbcTemplate.execute("DROP TABLE IF EXISTS inventory_stocks");
+        jdbcTemplate.execute("DROP TABLE IF EXISTS inventory_locations");
+        jdbcTemplate.execute("CREATE TABLE inventory_locations (id VARCHAR(36) PRIMARY KEY, is_active BOOLEAN NOT NULL)");
+        jdbcTemplate.execute("""
+                CREATE TABLE inventory_stocks (
+                    location_id VARCHAR(36) NOT NULL,
+                    variant_id VARCHAR(36) NOT NULL,
+                    quantity_on_hand INT NOT NULL,
+                    quantity_reserved INT NOT NULL DEFAULT 0,
+                    PRIMARY KEY (location_id, variant_id))""");
+        for (String location : List.of("north", "south", "east")) {
+            jdbcTemplate.update("INSERT INTO inventory_locations VALUES (?, TRUE)", location);
+        }
+        jdbcTemplate.update("INSERT INTO inventory_locations VALUES ('closed', FALSE)");
+        stock("north", "shirt", 5);
+        stock("south", "shirt", 2);
+        stock("south", "shoes", 3);
+        stock("east", "hat", 4);
+        stock("closed", "shirt", 100);
+        stock("closed", "shoes", 100);
+        stock("closed", "hat", 100);
+
+        index = new StockAvailabilityIndex(jdbcTemplate);
+        index.refresh();
+        planner = new PlanAllocationUseCase(index);
+    }
+
+    @Test
+    void prefersOneLocationHoldingEveryLine() {
+        AllocationPlan plan = planner.execute(Map.of("shirt", 2, "shoes", 1));
+
+        assertTrue(plan.isComplete());
+        assertEquals(1, plan.getShipments().size());
+        assertEquals("south", plan.getShipments().get(0).getLocationId());
+    }
+
+    @Test
+    void splitsAcrossAPairBeforeGoingGreedy() {
+        AllocationPlan plan = planner.execute(Map.of("shirt", 5, "hat", 1));
+
+        assertTrue(plan.isComplete());
+        assertEquals(List.of("north", "east"), locations(plan));
+    }
+
+    @Test
+    void coversTheRestGreedilyAndReportsShortLines() {
+        AllocationPlan plan = planner.execute(Map.of("shirt", 6, "shoes", 3, "hat", 5));
+
+        assertEquals(3, plan.getShipments().size());
+        assertEquals(Map.of("shirt", 5), plan.getShipments().get(0).getQuantities());
+        assertEquals(Map.of("hat", 1), plan.getUnallocated());
+        assertFalse(locations(plan).contains("closed"));
+    }
+
+    @Test
+    void ignoresAdjustmentsForUnknownLocations() {
+        index.adjust("closed", "shirt", 50);
+        index.adjust("nowhere", "shirt", 50);
+
+        assertEquals(List.of("north", "south", "east"), index.locations());
+        assertArrayEquals(new int[] { 5, 2, 0 }, index.availability("shirt", 3));
+    }
+
+    @Test
+    void keepsAdjustmentsMadeDuringRefresh() {
+        afterLoad = () -> {
+            jdbcTemplate.update("UPDATE inventory_stocks SET quantity_reserved = 3 "
+                    + "WHERE location_id = 'north' AND variant_id = 'shirt'");
+            index.adjust("north", "shirt", -3);
+        };
+        index.refresh();
+        afterLoad = null;
+
+        assertArrayEquals(new int[] { 2, 2, 0 }, index.availability("shirt", 3));
+
+        index.refresh();
+
+        assertArrayEquals(new int[] { 2, 2, 0 }, index.availability("shirt", 3));
+    }
+
+    private void stock(String location, String variant, int onHand) {
+        jdbcTemplate.update("INSERT INTO inventory_stocks (location_id, variant_id, quantity_on_hand) VALUES (?, ?, ?)",
+                location, variant, onHand);
+    }
+
+    private static List<String> locations(AllocationPlan plan) {
+        return plan.getShipments().stream().map(AllocationPlan.Shipment::getLocationId).toList();
+    }
+}
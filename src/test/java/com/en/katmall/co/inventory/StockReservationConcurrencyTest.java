@@ -0,0 +1,293 @@
+package com.en.katmall.co.inventory;
+
+import com.en.katmall.co.inventory.domain.event.LowStockEvent;
+import com.en.katmall.co.inventory.domain.event.StockReplenishedEvent;
+import com.en.katmall.co.inventory.domain.model.StockShortfall;
+import com.en.katmall.co.inventory.domain.repository.StockReservationRepository;
+import com.en.katmall.co.inventory.infrastructure.lowstock.LowStockFeed;
+import com.en.katmall.co.inventory.infrastructure.persistence.repository.StockReservationJdbcRepository;
+import com.en.katmall.co.inventory.infrastructure.reservation.StripedReservationPool;
+import com.en.katmall.co.shared.infrastructure.config.properties.InventoryProperties;
+import com.en.katmall.co.shared.infrastructure.config.properties.OutboxProperties;
+import com.en.katmall.co.shared.infrastructure.event.DomainEventPublisher;
+import com.en.katmall.co.shared.infrastructure.event.outbox.OutboxDispatcher;
+import com.en.katmall.co.shared.infrastructure.event.outbox.OutboxRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class StockReservationConcurrencyTest {
+
+    private static final String LOCATION = "loc-1";
+    private static final String VARIANT = "variant-1";
+    private static final int ON_HAND = 1000;
+    private static final int REQUESTS = 4000;
+    private static final int THREADS = 64;
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+    private JdbcTemplate jdbcTemplate;
+    private OutboxRepository outboxRepository;
+    private StockReservationJdbcRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:reservation;DB_CLOSE_DELAY=-1;LOCK_TIMEOUT=10000", "sa", "");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("DROP TABLE IF EXISTS inventory_stocks");
+        jdbcTemplate.execute("DROP TABLE IF EXISTS event_outbox");
+        jdbcTemplate.execute("""
+                CREATE TABLE inventory_stocks (
+                    id VARCHAR(36) PRIMARY KEY,
+                    location_id VARCHAR(36) NOT NULL,
+                    variant_id VARCHAR(36) NOT NULL,
+                    quantity_on_hand INT NOT NULL,
+                    quantity_reserved INT NOT NULL DEFAULT 0,
+                    low_stock_threshold INT NOT NULL DEFAULT 10,
+                    version INT NOT NULL DEFAULT 0,
+                    updated_at TIMESTAMP,
+                    UNIQUE (location_id, variant_id))""");
+        jdbcTemplate.update("INSERT INTO inventory_stocks (id, location_id, variant_id, quantity_on_hand) VALUES (?, ?, ?, ?)",
+                "stock-1", LOCATION, VARIANT, ON_HAND);
+        jdbcTemplate.update("INSERT INTO inventory_stocks (id, location_id, variant_id, quantity_on_hand) VALUES (?, ?, ?, ?)",
+                "stock-2", LOCATION, "variant-2", 5);
+        jdbcTemplate.execute("""
+                CREATE TABLE event_outbox (
+                    id VARCHAR(255) PRIMARY KEY,
+                    event_type VARCHAR(100) NOT NULL,
+                    event_class VARCHAR(255) NOT NULL,
+                    payload CLOB NOT NULL,
+                    status VARCHAR(20) NOT NULL DEFAULT 'PENDING',
+                    attempts INT NOT NULL DEFAULT 0,
+                    last_error CLOB,
+                    occurred_at TIMESTAMP NOT NULL,
+                    available_at TIMESTAMP NOT NULL,
+                    claimed_at TIMESTAMP,
+                    processed_at TIMESTAMP)""");
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        outboxRepository = new OutboxRepository(jdbcTemplate, objectMapper, transactionManager);
+        repository = new StockReservationJdbcRepository(jdbcTemplate, transactionManager,
+                new DomainEventPublisher(outboxRepository));
+    }
+
+    @Test
+    void directReservationsNeverOversell() throws Exception {
+        int successes = hammer(() -> repository.reserve(LOCATION, VARIANT, 1));
+
+        assertEquals(ON_HAND, successes);
+        assertEquals(ON_HAND, reserved());
+    }
+
+    @Test
+    void pooledReservationsNeverOversellAndFlushReturnsLeftovers() throws Exception {
+        InventoryProperties properties = new InventoryProperties();
+        properties.getReservation().setMode(InventoryProperties.ReservationMode.POOLED);
+        properties.getReservation().setChunkSize(7);
+        StripedReservationPool pool = new StripedReservationPool(repository, properties);
+
+        int successes = hammer(() -> pool.reserve(LOCATION, VARIANT, 1));
+        pool.flush();
+
+        assertEquals(ON_HAND, successes);
+        assertEquals(ON_HAND, reserved());
+    }
+
+    @Test
+    void pooledReleaseReachesDatabaseOnFlush() {
+        InventoryProperties properties = new InventoryProperties();
+        StripedReservationPool pool = new StripedReservationPool(repository, properties);
+
+        pool.reserve(LOCATION, VARIANT, 3);
+        pool.release(LOCATION, VARIANT, 3);
+        pool.flush();
+
+        assertEquals(0, reserved());
+    }
+
+    @Test
+    void pooledDoubleReleaseIsRejectedAndCannotOversell() {
+        InventoryProperties properties = new InventoryProperties();
+        properties.getReservation().setChunkSize(5);
+        StripedReservationPool pool = new StripedReservationPool(repository, properties);
+
+        assertTrue(pool.reserve(LOCATION, "variant-2", 5));
+        assertTrue(pool.release(LOCATION, "variant-2", 5));
+        assertFalse(pool.release(LOCATION, "variant-2", 5));
+        assertFalse(pool.release(LOCATION, "variant-2", 1));
+
+        assertTrue(pool.reserve(LOCATION, "variant-2", 5));
+        assertFalse(pool.reserve(LOCATION, "variant-2", 1));
+        assertEquals(5, reserved("variant-2"));
+    }
+
+    @Test
+    void failedFlushKeepsUnitsPooled() {
+        AtomicBoolean down = new AtomicBoolean(true);
+        InventoryProperties properties = new InventoryProperties();
+        properties.getReservation().setChunkSize(5);
+        StripedReservationPool pool = new StripedReservationPool(failingReleases(down), properties);
+
+        assertTrue(pool.reserve(LOCATION, "variant-2", 1));
+        pool.flush();
+
+        assertEquals(5, reserved("variant-2"));
+        assertTrue(pool.reserve(LOCATION, "variant-2", 4));
+        assertTrue(pool.release(LOCATION, "variant-2", 4));
+
+        down.set(false);
+        pool.flush();
+
+        assertEquals(1, reserved("variant-2"));
+    }
+
+    @Test
+    void reserveAllReservesWholeCart() {
+        List<StockShortfall> shortfalls = repository.reserveAll(Map.of(VARIANT, 10, "variant-2", 5), LOCATION);
+
+        assertTrue(shortfalls.isEmpty());
+        assertEquals(10, reserved(VARIANT));
+        assertEquals(5, reserved("variant-2"));
+    }
+
+    @Test
+    void reserveAllRollsBackAndReportsEveryShortLine() {
+        List<StockShortfall> shortfalls = repository.reserveAll(
+                Map.of(VARIANT, 10, "variant-2", 6, "variant-missing", 1), LOCATION);
+
+        assertEquals(2, shortfalls.size());
+        assertEquals("variant-2", shortfalls.get(0).getVariantId());
+        assertEquals(5, shortfalls.get(0).getAvailable());
+        assertEquals(0, shortfalls.get(1).getAvailable());
+        assertEquals(0, reserved(VARIANT));
+        assertEquals(0, reserved("variant-2"));
+    }
+
+    @Test
+    void reserveCrossingThresholdReachesLowStockFeed() {
+        LowStockFeed feed = new LowStockFeed(jdbcTemplate);
+        feed.reload();
+        OutboxDispatcher dispatcher = new OutboxDispatcher(outboxRepository, event -> {
+            if (event instanceof LowStockEvent low) {
+                feed.onLowStock(low);
+            } else if (event instanceof StockReplenishedEvent replenished) {
+                feed.onReplenished(replenished);
+            }
+        }, objectMapper, new OutboxProperties());
+        try {
+            assertTrue(repository.reserve(LOCATION, "variant-2", 1));
+            assertTrue(repository.reserve(LOCATION, VARIANT, ON_HAND - 11));
+            assertEquals(0, outboxEvents());
+
+            assertTrue(repository.reserve(LOCATION, VARIANT, 2));
+            assertEquals(1, outboxEvents());
+            dispatcher.poll();
+
+            List<LowStockEvent> lowStock = feed.findLowStock();
+            assertEquals(List.of("stock-2", "stock-1"), lowStock.stream().map(LowStockEvent::getStockId).toList());
+            assertEquals(9, lowStock.get(1).getAvailableQuantity());
+
+            assertTrue(repository.release(LOCATION, VARIANT, 5));
+            dispatcher.poll();
+
+            assertEquals(List.of("stock-2"), feed.findLowStock().stream().map(LowStockEvent::getStockId).toList());
+            assertEquals(2, jdbcTemplate.queryForObject(
+                    "SELECT COUNT(*) FROM event_outbox WHERE status = 'DONE'", Integer.class));
+        } finally {
+            dispatcher.shutdown();
+        }
+    }
+
+    private int hammer(BooleanSupplier reservation) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        AtomicInteger successes = new AtomicInteger();
+        try {
+            List<Callable<Void>> tasks = new ArrayList<>();
+            for (int i = 0; i < REQUESTS; i++) {
+                tasks.add(() -> {
+                    if (reservation.getAsBoolean()) {
+                        successes.incrementAndGet();
+                    }
+                    return null;
+                });
+            }
+            for (Future<Void> future : executor.invokeAll(tasks)) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+        return successes.get();
+    }
+
+    private StockReservationRepository failingReleases(AtomicBoolean down) {
+        return new StockReservationRepository() {
+            @Override
+            public boolean reserve(String locationId, String variantId, int quantity) {
+                return repository.reserve(locationId, variantId, quantity);
+            }
+
+            @Override
+            public boolean release(String locationId, String variantId, int quantity) {
+                return release(locationId, variantId, quantity, 0);
+            }
+
+            @Override
+            public boolean release(String locationId, String variantId, int quantity, int retained) {
+                if (down.get()) {
+                    throw new DataAccessResourceFailureException("Database unavailable");
+                }
+                return repository.release(locationId, variantId, quantity, retained);
+            }
+
+            @Override
+            public boolean confirm(String locationId, String variantId, int quantity) {
+                return repository.confirm(locationId, variantId, quantity);
+            }
+
+            @Override
+            public boolean confirm(String locationId, String variantId, int quantity, int retained) {
+                return repository.confirm(locationId, variantId, quantity, retained);
+            }
+
+            @Override
+            public List<StockShortfall> reserveAll(Map<String, Integer> quantities, String locationId) {
+                return repository.reserveAll(quantities, locationId);
+            }
+        };
+    }
+
+    private int outboxEvents() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM event_outbox", Integer.class);
+    }
+
+    private int reserved() {
+        return reserved(VARIANT);
+    }
+
+    private int reserved(String variantId) {
+        return jdbcTemplate.queryForObject(
+                "SELECT quantity_reserved FROM inventory_stocks WHERE location_id = ? AND variant_id = ?",
+                Integer.class, LOCATION, variantId);
+    }
+}
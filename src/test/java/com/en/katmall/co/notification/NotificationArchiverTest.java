@@ -0,0 +1,127 @@
+package com.en.katmall.co.notification;
+
+import com.en.katmall.co.notification.application.scheduler.NotificationArchiveScheduler;
+import com.en.katmall.co.notification.infrastructure.archive.NotificationArchiver;
+import com.en.katmall.co.shared.infrastructure.config.properties.AppProperties;
+import com.en.katmall.co.shared.infrastructure.config.properties.NotificationProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class NotificationArchiverTest {
+
+    private static final ZoneId DATABASE_ZONE = ZoneId.of("Asia/Ho_Chi_Minh");
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void pausesBetweenBatchesAndStopsAfterAShortOne() throws Exception {
+        ScriptedJdbcTemplate jdbcTemplate = new ScriptedJdbcTemplate(100, 100, 40, 100);
+        NotificationArchiver archiver = new NotificationArchiver(jdbcTemplate, meterRegistry, appProperties());
+
+        Instant before = Instant.now();
+        long start = System.nanoTime();
+        long moved = archiver.archive(before, true, 100, Duration.ofMillis(50), Duration.ofMinutes(1));
+
+        assertEquals(240, moved);
+        assertEquals(3, jdbcTemplate.statements.size());
+        assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(100));
+        assertEquals(240.0, meterRegistry.counter("notification.archive.moved").count());
+        assertTrue(jdbcTemplate.statements.get(0).contains("INSERT INTO notifications_archive"));
+        // created_at is written in the database zone, so the cut-off is bound in it too
+        assertEquals(LocalDateTime.ofInstant(before, DATABASE_ZONE), jdbcTemplate.cutoffs.get(0));
+    }
+
+    @Test
+    void stopsWhenTheRunTimeIsUsedUp() throws Exception {
+        ScriptedJdbcTemplate jdbcTemplate = new ScriptedJdbcTemplate();
+        NotificationArchiver archiver = new NotificationArchiver(jdbcTemplate, meterRegistry, appProperties());
+
+        long moved = archiver.archive(Instant.now(), false, 10, Duration.ofMillis(40), Duration.ofMillis(100));
+
+        int batches = jdbcTemplate.statements.size();
+        assertTrue(batches >= 2 && batches <= 4, "batches " + batches);
+        assertEquals(10L * batches, moved);
+        assertTrue(jdbcTemplate.statements.get(0).startsWith("DELETE"));
+    }
+
+    @Test
+    void schedulerRunsOffTheCallingThreadAndSkipsOverlappingTriggers() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger runs = new AtomicInteger();
+        List<String> threads = new ArrayList<>();
+        NotificationArchiver archiver = new NotificationArchiver(new ScriptedJdbcTemplate(), meterRegistry, appProperties()) {
+            @Override
+            public long archive(Instant before, boolean keepCopy, int batchSize, Duration pause,
+                    Duration maxRunTime) throws InterruptedException {
+                runs.incrementAndGet();
+                threads.add(Thread.currentThread().getName());
+                started.countDown();
+                release.await(5, TimeUnit.SECONDS);
+                return 0;
+            }
+        };
+        NotificationArchiveScheduler scheduler = new NotificationArchiveScheduler(archiver, new NotificationProperties());
+        try {
+            scheduler.archive();
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+            scheduler.archive();
+            release.countDown();
+
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            do {
+                scheduler.archive();
+                Thread.sleep(10);
+            } while (runs.get() < 2 && System.nanoTime() < deadline);
+
+            assertEquals(2, runs.get());
+            assertNotEquals(Thread.currentThread().getName(), threads.get(0));
+        } finally {
+            scheduler.shutdown();
+        }
+    }
+
+    private static AppProperties appProperties() {
+        AppProperties appProperties = new AppProperties();
+        appProperties.setDatabaseTimeZone(DATABASE_ZONE);
+        return appProperties;
+    }
+
+    /**
+     * JDBC template answering each batch statement with the next scripted row
+     * count, or a full batch once the script is used up.
+     */
+    private static class ScriptedJdbcTemplate extends JdbcTemplate {
+
+        private final int[] counts;
+        private final List<String> statements = new ArrayList<>();
+        private final List<Object> cutoffs = new ArrayList<>();
+
+        ScriptedJdbcTemplate(int... counts) {
+            this.counts = counts;
+        }
+
+        @Override
+        public int update(String sql, Object... args) {
+            statements.add(sql.strip());
+            cutoffs.add(args[0]);
+            int batch = statements.size() - 1;
+            return batch < counts.length ? counts[batch] : (Integer) args[1];
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package com.en.katmall.co.notification;
+
+import com.en.katmall.co.notification.infrastructure.counter.UnreadCounterStore;
+import com.en.katmall.co.notification.infrastructure.fanout.NotificationFanout;
+import com.en.katmall.co.notification.infrastructure.fanout.NotificationFanoutRepository;
+import com.en.katmall.co.notification.infrastructure.push.NotificationPushRegistry;
+import com.en.katmall.co.shared.enums.KTypeNotification;
+import com.en.katmall.co.shared.infrastructure.config.properties.AppProperties;
+import com.en.katmall.co.shared.infrastructure.config.properties.NotificationProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class NotificationFanoutTest {
+
+    private static final int USERS = 2500;
+    private static final ZoneId DATABASE_ZONE = ZoneId.of("Asia/Ho_Chi_Minh");
+
+    private JdbcTemplate jdbcTemplate;
+    private NotificationFanout fanout;
+    private SimpleMeterRegistry meterRegistry;
+    private NotificationPushRegistry pushRegistry;
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:fanout;DB_CLOSE_DELAY=-1", "sa", "");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("DROP ALL OBJECTS");
+        jdbcTemplate.execute("CREATE TABLE users (id VARCHAR(255) PRIMARY KEY, is_active BOOLEAN NOT NULL)");
+        jdbcTemplate.execute("""
+                CREATE TABLE notifications (
+                    id VARCHAR(255) PRIMARY KEY,
+                    user_id VARCHAR(255) NOT NULL,
+                    title VARCHAR(255) NOT NULL,
+                    message TEXT,
+                    type VARCHAR(50),
+                    reference_id VARCHAR(255),
+                    is_read BOOLEAN DEFAULT FALSE,
+                    created_at TIMESTAMP,
+                    UNIQUE (user_id, title))""");
+        jdbcTemplate.execute("""
+                CREATE TABLE notification_fanout_jobs (
+                    id VARCHAR(255) PRIMARY KEY,
+                    title VARCHAR(255) NOT NULL,
+                    message TEXT,
+                    type VARCHAR(50) NOT NULL,
+                    reference_id VARCHAR(255),
+                    status VARCHAR(20) NOT NULL DEFAULT 'RUNNING',
+                    last_user_id VARCHAR(255) NOT NULL DEFAULT '',
+                    sent_count BIGINT NOT NULL DEFAULT 0,
+                    created_at TIMESTAMP NOT NULL,
+                    heartbeat_at TIMESTAMP NOT NULL,
+                    finished_at TIMESTAMP)""");
+        jdbcTemplate.execute("""
+                CREATE TABLE notification_unread_counters (
+                    user_id VARCHAR(255) PRIMARY KEY,
+                    unread_count INT NOT NULL DEFAULT 0,
+                    updated_at TIMESTAMP NOT NULL)""");
+        List<Object[]> users = new ArrayList<>();
+        for (int i = 0; i < USERS; i++) {
+            users.add(new Object[] { String.format("user-%05d", i), i % 10 != 0 });
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO users (id, is_active) VALUES (?, ?)", users);
+
+        NotificationProperties properties = new NotificationProperties();
+        properties.getFanout().setChunkSize(300);
+        properties.getFanout().setStaleAfter(Duration.ofSeconds(30));
+        meterRegistry = new SimpleMeterRegistry();
+        pushRegistry = new NotificationPushRegistry(properties, meterRegistry);
+        AppProperties appProperties = new AppProperties();
+        appProperties.setDatabaseTimeZone(DATABASE_ZONE);
+        fanout = new NotificationFanout(
+                new NotificationFanoutRepository(jdbcTemplate, new DataSourceTransactionManager(dataSource),
+                        new UnreadCounterStore(jdbcTemplate,
+                                new ConcurrentMapCacheManager(UnreadCounterStore.CACHE_NAME)),
+                        appProperties),
+                pushRegistry, properties, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        fanout.shutdown();
+        pushRegistry.shutdown();
+    }
+
+    @Test
+    void broadcastReachesEveryActiveUserOnce() throws Exception {
+        String jobId = fanout.broadcast("Sale", "50% off", KTypeNotification.PROMOTION, "promo-1");
+
+        awaitDone(jobId);
+
+        int active = USERS - USERS / 10;
+        assertEquals(active, count("SELECT COUNT(*) FROM notifications"));
+        assertEquals(active, count("SELECT sent_count FROM notification_fanout_jobs WHERE id = '" + jobId + "'"));
+        assertEquals(active, (int) meterRegistry.counter("notification.fanout.sent").count());
+        // created_at is written in the database zone, as JPA writes it
+        LocalDateTime createdAt = jdbcTemplate.queryForObject("SELECT MAX(created_at) FROM notifications",
+                LocalDateTime.class);
+        assertTrue(Duration.between(createdAt, LocalDateTime.now(DATABASE_ZONE)).abs().toMinutes() < 1);
+    }
+
+    @Test
+    void stalledJobResumesAfterItsCursor() throws Exception {
+        Timestamp stale = Timestamp.from(Instant.now().minus(Duration.ofMinutes(5)));
+        jdbcTemplate.update("""
+                INSERT INTO notification_fanout_jobs
+                       (id, title, type, status, last_user_id, sent_count, created_at, heartbeat_at)
+                VALUES ('job-1', 'Resumed', 'SYSTEM', 'RUNNING', 'user-01999', 1800, ?, ?)""", stale, stale);
+
+        fanout.resumeStalled();
+        awaitDone("job-1");
+
+        assertEquals(450, count("SELECT COUNT(*) FROM notifications"));
+        assertEquals(0, count("SELECT COUNT(*) FROM notifications WHERE user_id <= 'user-01999'"));
+        assertEquals(2250, count("SELECT sent_count FROM notification_fanout_jobs WHERE id = 'job-1'"));
+    }
+
+    @Test
+    void sendToUsersWritesEveryUserInChunks() {
+        List<String> userIds = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            userIds.add(String.format("user-%05d", i));
+        }
+
+        int sent = fanout.sendToUsers(userIds, "Hello", "Welcome", KTypeNotification.SYSTEM);
+
+        assertEquals(1000, sent);
+        assertEquals(1000, count("SELECT COUNT(*) FROM notifications"));
+        assertEquals(4, meterRegistry.timer("notification.fanout.chunk").count());
+    }
+
+    private void awaitDone(String jobId) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10000;
+        while (System.currentTimeMillis() < deadline) {
+            String status = jdbcTemplate.queryForObject(
+                    "SELECT status FROM notification_fanout_jobs WHERE id = ?", String.class, jobId);
+            if ("DONE".equals(status)) {
+                return;
+            }
+            Thread.sleep(20);
+        }
+        throw new AssertionError("Job " + jobId + " did not finish");
+    }
+
+    private int count(String sql) {
+        return jdbcTemplate.queryForObject(sql, Integer.class);
+    }
+}
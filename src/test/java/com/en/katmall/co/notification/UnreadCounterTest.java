@@ -0,0 +1,234 @@
+package com.en.katmall.co.notification;
+
+import com.en.katmall.co.notification.domain.model.Notification;
+import com.en.katmall.co.notification.domain.repository.NotificationRepository;
+import com.en.katmall.co.notification.infrastructure.counter.CountingNotificationRepository;
+import com.en.katmall.co.notification.infrastructure.counter.UnreadCounterStore;
+import com.en.katmall.co.shared.dto.PageCursor;
+import com.en.katmall.co.shared.enums.KTypeNotification;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class UnreadCounterTest {
+
+    private static final String USER = "user-1";
+
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate transactionTemplate;
+    private JdbcNotificationRepository rows;
+    private CountingNotificationRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:unread;DB_CLOSE_DELAY=-1;LOCK_TIMEOUT=10000", "sa", "");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("DROP ALL OBJECTS");
+        jdbcTemplate.execute("""
+                CREATE TABLE notifications (
+                    id VARCHAR(255) PRIMARY KEY,
+                    user_id VARCHAR(255) NOT NULL,
+                    title VARCHAR(255) NOT NULL,
+                    is_read BOOLEAN DEFAULT FALSE)""");
+        jdbcTemplate.execute("""
+                CREATE TABLE notification_unread_counters (
+                    user_id VARCHAR(255) PRIMARY KEY,
+                    unread_count INT NOT NULL DEFAULT 0,
+                    updated_at TIMESTAMP NOT NULL)""");
+        transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        rows = new JdbcNotificationRepository();
+        repository = new CountingNotificationRepository(rows,
+                new UnreadCounterStore(jdbcTemplate, new ConcurrentMapCacheManager(UnreadCounterStore.CACHE_NAME)));
+        assertEquals(0, repository.countUnreadByUserId(USER));
+    }
+
+    @Test
+    void countsNewUnreadAndReadTransitions() {
+        inTransaction(() -> repository.save(notification("n1")));
+        inTransaction(() -> repository.saveAll(List.of(notification("n2"), notification("n3"))));
+        assertEquals(3, repository.countUnreadByUserId(USER));
+
+        Notification n1 = repository.findById("n1").orElseThrow();
+        n1.markAsRead();
+        inTransaction(() -> repository.save(n1));
+        inTransaction(() -> repository.save(n1));
+        assertEquals(2, repository.countUnreadByUserId(USER));
+
+        n1.markAsUnread();
+        inTransaction(() -> repository.save(n1));
+        assertEquals(3, repository.countUnreadByUserId(USER));
+
+        Notification n2 = repository.findById("n2").orElseThrow();
+        n2.updateContent("Edited", null);
+        inTransaction(() -> repository.save(n2));
+        assertEquals(3, repository.countUnreadByUserId(USER));
+        assertEquals(3, rows.unread());
+    }
+
+    @Test
+    void savesDoNotReadRowsBack() {
+        List<Notification> batch = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            batch.add(notification("n" + i));
+        }
+        inTransaction(() -> repository.saveAll(batch));
+        batch.forEach(Notification::markAsRead);
+        inTransaction(() -> repository.saveAll(batch));
+
+        assertEquals(0, rows.lookups.get());
+        assertEquals(0, repository.countUnreadByUserId(USER));
+    }
+
+    @Test
+    void concurrentReadsOfTheSameNotificationCountOnce() throws Exception {
+        inTransaction(() -> repository.saveAll(List.of(notification("n1"), notification("n2"))));
+        int threads = 8;
+        CyclicBarrier loaded = new CyclicBarrier(threads);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Callable<Void>> tasks = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                tasks.add(() -> {
+                    inTransaction(() -> {
+                        Notification stale = repository.findById("n1").orElseThrow();
+                        await(loaded);
+                        stale.markAsRead();
+                        repository.save(stale);
+                    });
+                    return null;
+                });
+            }
+            for (Future<Void> future : executor.invokeAll(tasks)) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertEquals(1, repository.countUnreadByUserId(USER));
+    }
+
+    @Test
+    void deletingTwiceCountsOnce() {
+        inTransaction(() -> repository.saveAll(List.of(notification("n1"), notification("n2"))));
+
+        inTransaction(() -> repository.deleteById("n1"));
+        inTransaction(() -> repository.deleteById("n1"));
+
+        assertEquals(1, repository.countUnreadByUserId(USER));
+    }
+
+    private void inTransaction(Runnable work) {
+        transactionTemplate.executeWithoutResult(status -> work.run());
+    }
+
+    private static void await(CyclicBarrier barrier) {
+        try {
+            barrier.await(10, TimeUnit.SECONDS);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static Notification notification(String id) {
+        return Notification.builder().id(id).userId(USER).title("Title " + id).build();
+    }
+
+    /**
+     * Minimal JDBC repository counting how often rows are looked up.
+     */
+    private class JdbcNotificationRepository implements NotificationRepository {
+
+        private final AtomicInteger lookups = new AtomicInteger();
+
+        int unread() {
+            return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM notifications WHERE is_read = FALSE",
+                    Integer.class);
+        }
+
+        @Override
+        public Notification save(Notification notification) {
+            jdbcTemplate.update("MERGE INTO notifications (id, user_id, title, is_read) KEY (id) VALUES (?, ?, ?, ?)",
+                    notification.getId(), notification.getUserId(), notification.getTitle(), notification.isRead());
+            return notification;
+        }
+
+        @Override
+        public List<Notification> saveAll(List<Notification> notifications) {
+            notifications.forEach(this::save);
+            return notifications;
+        }
+
+        @Override
+        public Optional<Notification> findById(String id) {
+            lookups.incrementAndGet();
+            return jdbcTemplate.query("SELECT * FROM notifications WHERE id = ?", (rs, rowNum) -> {
+                Notification notification = Notification.builder().id(rs.getString("id"))
+                        .userId(rs.getString("user_id")).title(rs.getString("title")).build();
+                if (rs.getBoolean("is_read")) {
+                    notification.markAsRead();
+                }
+                return notification;
+            }, id).stream().findFirst();
+        }
+
+        @Override
+        public List<Notification> findByUserId(String userId, int page, int size) {
+            return List.of();
+        }
+
+        @Override
+        public List<Notification> findByUserIdAfter(String userId, PageCursor cursor, int limit) {
+            return List.of();
+        }
+
+        @Override
+        public List<Notification> findUnreadByUserId(String userId) {
+            return List.of();
+        }
+
+        @Override
+        public List<Notification> findByUserIdAndType(String userId, KTypeNotification type) {
+            return List.of();
+        }
+
+        @Override
+        public long countUnreadByUserId(String userId) {
+            return jdbcTemplate.queryForObject(
+                    "SELECT COUNT(*) FROM notifications WHERE user_id = ? AND is_read = FALSE", Long.class, userId);
+        }
+
+        @Override
+        public void markAllAsRead(String userId) {
+            jdbcTemplate.update("UPDATE notifications SET is_read = TRUE WHERE user_id = ?", userId);
+        }
+
+        @Override
+        public void deleteById(String id) {
+            jdbcTemplate.update("DELETE FROM notifications WHERE id = ?", id);
+        }
+
+        @Override
+        public void deleteAllByUserId(String userId) {
+            jdbcTemplate.update("DELETE FROM notifications WHERE user_id = ?", userId);
+        }
+    }
+}
@@ -0,0 +1,177 @@
+package com.en.katmall.co.notification.infrastructure.push;
+
+import com.en.katmall.co.notification.domain.model.Notification;
+import com.en.katmall.co.shared.infrastructure.config.properties.NotificationProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class NotificationPushRegistryTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final List<RecordingEmitter> emitters = new CopyOnWriteArrayList<>();
+    private NotificationPushRegistry registry;
+
+    @AfterEach
+    void tearDown() {
+        emitters.forEach(emitter -> emitter.release.countDown());
+        registry.shutdown();
+    }
+
+    @Test
+    void drainsEventsInOrder() {
+        registry = registry(8, 5);
+        RecordingEmitter emitter = subscribe("user-1", 3);
+
+        registry.publish(List.of(notification("n1", "user-1"), notification("n2", "user-1"),
+                notification("n3", "user-2")));
+
+        assertTrue(emitter.sentAtLeast(3));
+        assertEquals(List.of(NotificationPushRegistry.EVENT_UNREAD_COUNT, NotificationPushRegistry.EVENT_NOTIFICATION,
+                NotificationPushRegistry.EVENT_NOTIFICATION), emitter.names());
+        assertFalse(emitter.completed);
+        assertEquals(1, registry.getConnectionCount());
+    }
+
+    @Test
+    void evictsTheOldestStreamOfAUser() {
+        registry = registry(8, 2);
+        RecordingEmitter first = subscribe("user-1", 0);
+        RecordingEmitter second = subscribe("user-1", 0);
+        RecordingEmitter other = subscribe("user-2", 0);
+        RecordingEmitter third = subscribe("user-1", 0);
+
+        assertTrue(first.completed);
+        assertFalse(second.completed);
+        assertFalse(third.completed);
+        assertFalse(other.completed);
+        assertEquals(3, registry.getConnectionCount());
+    }
+
+    @Test
+    void dropsAStreamWhoseBufferOverflows() throws Exception {
+        registry = registry(2, 5);
+        RecordingEmitter slow = subscribe("user-1", 0);
+        RecordingEmitter fast = subscribe("user-2", 0);
+        slow.release = new CountDownLatch(1);
+        // The sender blocks on the first notification, the next two fill the buffer
+        registry.publish(List.of(notification("n1", "user-1")));
+        assertTrue(slow.blocked.await(5, TimeUnit.SECONDS));
+
+        registry.publish(List.of(notification("n2", "user-1"), notification("n3", "user-1"),
+                notification("n4", "user-2")));
+        assertFalse(slow.completed);
+        registry.publish(List.of(notification("n5", "user-1")));
+
+        assertTrue(slow.completed);
+        assertEquals(1, registry.getConnectionCount());
+        assertEquals(1.0, meterRegistry.counter("notification.push.dropped").count());
+        assertTrue(fast.sentAtLeast(2));
+        assertFalse(fast.completed);
+    }
+
+    @Test
+    void timeoutCompletesTheStream() {
+        registry = registry(8, 5);
+        RecordingEmitter emitter = subscribe("user-1", 0);
+
+        emitter.timeoutCallback.run();
+
+        assertTrue(emitter.completed);
+        assertEquals(0, registry.getConnectionCount());
+    }
+
+    private NotificationPushRegistry registry(int bufferSize, int maxConnectionsPerUser) {
+        NotificationProperties properties = new NotificationProperties();
+        properties.getPush().setBufferSize(bufferSize);
+        properties.getPush().setMaxConnectionsPerUser(maxConnectionsPerUser);
+        properties.getPush().setSenderThreads(2);
+        return new NotificationPushRegistry(properties, meterRegistry) {
+            @Override
+            SseEmitter createEmitter(long timeoutMillis) {
+                RecordingEmitter emitter = new RecordingEmitter();
+                emitters.add(emitter);
+                return emitter;
+            }
+        };
+    }
+
+    private RecordingEmitter subscribe(String userId, long unreadCount) {
+        registry.subscribe(userId, unreadCount);
+        RecordingEmitter emitter = emitters.get(emitters.size() - 1);
+        assertTrue(emitter.sentAtLeast(1));
+        return emitter;
+    }
+
+    private static Notification notification(String id, String userId) {
+        return Notification.builder().id(id).userId(userId).title("Title " + id).build();
+    }
+
+    /**
+     * Emitter recording sent event names, optionally blocking its sender
+     * after the first event until released.
+     */
+    private static class RecordingEmitter extends SseEmitter {
+
+        private final List<Set<DataWithMediaType>> sent = new CopyOnWriteArrayList<>();
+        private final CountDownLatch blocked = new CountDownLatch(1);
+        private volatile CountDownLatch release = new CountDownLatch(0);
+        private volatile boolean completed;
+        private Runnable timeoutCallback;
+
+        @Override
+        public void send(SseEventBuilder builder) {
+            sent.add(builder.build());
+            if (sent.size() > 1) {
+                blocked.countDown();
+                try {
+                    release.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+
+        @Override
+        public void complete() {
+            completed = true;
+            super.complete();
+        }
+
+        @Override
+        public void onTimeout(Runnable callback) {
+            timeoutCallback = callback;
+            super.onTimeout(callback);
+        }
+
+        boolean sentAtLeast(int events) {
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (sent.size() < events && System.nanoTime() < deadline) {
+                Thread.onSpinWait();
+            }
+            return sent.size() >= events;
+        }
+
+        List<String> names() {
+            List<String> names = new ArrayList<>();
+            for (Set<DataWithMediaType> event : sent) {
+                String text = event.iterator().next().getData().toString();
+                int start = text.indexOf("event:") + "event:".length();
+                names.add(text.substring(start, text.indexOf('\n', start)));
+            }
+            return names;
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.en.katmall.co.ordering;
+
+import com.en.katmall.co.ordering.domain.model.valueobject.OrderNumber;
+import com.en.katmall.co.ordering.infrastructure.sequence.BlockOrderNumberAllocator;
+import com.en.katmall.co.shared.infrastructure.config.properties.OrderingProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class OrderNumberAllocatorConcurrencyTest {
+
+    private static final int BLOCK_SIZE = 100;
+    private static final int REQUESTS = 20000;
+    private static final int THREADS = 32;
+
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:ordernumber;MODE=PostgreSQL;DB_CLOSE_DELAY=-1", "sa", "");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("DROP SEQUENCE IF EXISTS order_number_seq");
+        jdbcTemplate.execute("CREATE SEQUENCE order_number_seq START WITH 1 INCREMENT BY " + BLOCK_SIZE);
+    }
+
+    @Test
+    void nodesSharingTheSequenceNeverCollide() throws Exception {
+        BlockOrderNumberAllocator nodeA = allocator();
+        BlockOrderNumberAllocator nodeB = allocator();
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Callable<String>> tasks = new ArrayList<>();
+            for (int i = 0; i < REQUESTS; i++) {
+                BlockOrderNumberAllocator node = i % 2 == 0 ? nodeA : nodeB;
+                tasks.add(() -> node.next().getValue());
+            }
+            Set<String> numbers = new HashSet<>();
+            for (Future<String> result : executor.invokeAll(tasks)) {
+                numbers.add(result.get());
+            }
+            assertEquals(REQUESTS, numbers.size());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void numbersAreShortAndReadable() {
+        String value = allocator().next().getValue();
+
+        assertEquals(13, value.length());
+        assertTrue(value.matches("ORD-[0-9A-HJKMNP-TV-Z]{4}-[0-9A-HJKMNP-TV-Z]{4}"), value);
+    }
+
+    @Test
+    void encodingIsInjective() {
+        Set<String> numbers = new HashSet<>();
+        for (long sequence = 0; sequence < 200000; sequence++) {
+            numbers.add(OrderNumber.fromSequence(sequence).getValue());
+        }
+        numbers.add(OrderNumber.fromSequence((1L << 40) - 1).getValue());
+
+        assertEquals(200001, numbers.size());
+    }
+
+    @Test
+    void blockSizeFollowsTheSequenceIncrement() {
+        jdbcTemplate.execute("ALTER SEQUENCE order_number_seq INCREMENT BY 10");
+        BlockOrderNumberAllocator nodeA = allocator();
+        BlockOrderNumberAllocator nodeB = allocator();
+
+        Set<String> numbers = new HashSet<>();
+        for (int i = 0; i < 50; i++) {
+            numbers.add(nodeA.next().getValue());
+            numbers.add(nodeB.next().getValue());
+        }
+
+        assertEquals(100, numbers.size());
+    }
+
+    @Test
+    void missingSequenceFailsOnFirstUse() {
+        jdbcTemplate.execute("DROP SEQUENCE order_number_seq");
+        BlockOrderNumberAllocator allocator = allocator();
+
+        assertThrows(IllegalStateException.class, allocator::next);
+    }
+
+    private BlockOrderNumberAllocator allocator() {
+        OrderingProperties properties = new OrderingProperties();
+        properties.getOrderNumber().setBlockSize(BLOCK_SIZE);
+        BlockOrderNumberAllocator allocator = new BlockOrderNumberAllocator(jdbcTemplate, properties);
+        allocator.readBlockSize();
+        return allocator;
+    }
+}
@@ -0,0 +1,152 @@
+package com.en.katmall.co.promotion;
+
+import com.en.katmall.co.promotion.domain.model.Coupon;
+import com.en.katmall.co.promotion.domain.model.CouponRule;
+import com.en.katmall.co.promotion.domain.repository.CouponRepository;
+import com.en.katmall.co.promotion.infrastructure.index.CouponIndex;
+import com.en.katmall.co.shared.enums.KTypeDiscountType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CouponIndexTest {
+
+    private final FakeCouponRepository repository = new FakeCouponRepository();
+    private CouponIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new CouponIndex(new StaticListableBeanFactory(Map.of("couponRepository", repository))
+                .getBeanProvider(CouponRepository.class));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void changesMadeDuringAReloadAreKept() {
+        repository.active.add(coupon("KEPT", 10));
+        repository.active.add(coupon("CHANGED", 20));
+        repository.active.add(coupon("DELETED", 30));
+        repository.duringLoad = () -> {
+            index.put(coupon("CREATED", 40));
+            index.put(coupon("CHANGED", 50));
+            index.remove("deleted");
+        };
+
+        index.reload();
+
+        assertEquals(List.of("CHANGED", "CREATED", "KEPT"), codesByMaxDiscount());
+        assertEquals(new BigDecimal("50"), index.find("changed").orElseThrow().getDiscountValue());
+
+        // The journal is dropped after the reload, so the next one shows the database again
+        repository.duringLoad = null;
+        index.reload();
+        assertEquals(List.of("DELETED", "CHANGED", "KEPT"), codesByMaxDiscount());
+    }
+
+    @Test
+    void failedReloadKeepsTheIndex() {
+        repository.active.add(coupon("KEPT", 10));
+        index.reload();
+        repository.duringLoad = () -> {
+            throw new IllegalStateException("Database unavailable");
+        };
+
+        try {
+            index.reload();
+        } catch (IllegalStateException expected) {
+            // Reported by the scheduler
+        }
+        repository.duringLoad = null;
+        index.put(coupon("CREATED", 40));
+
+        assertEquals(List.of("CREATED", "KEPT"), codesByMaxDiscount());
+    }
+
+    @Test
+    void appliesChangesAfterCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+        index.put(coupon("PENDING", 10));
+        assertTrue(index.find("PENDING").isEmpty());
+
+        TransactionSynchronizationUtils.invokeAfterCommit(TransactionSynchronizationManager.getSynchronizations());
+
+        assertTrue(index.find("pending").isPresent());
+    }
+
+    private List<String> codesByMaxDiscount() {
+        return Arrays.stream(index.findAllByMaxDiscount()).map(CouponRule::getCode).toList();
+    }
+
+    private static Coupon coupon(String code, long discount) {
+        return Coupon.builder().code(code).discountType(KTypeDiscountType.FIXED_AMOUNT)
+                .discountValue(BigDecimal.valueOf(discount)).maxDiscountAmount(BigDecimal.valueOf(discount)).build();
+    }
+
+    /**
+     * Coupon repository serving a list of active coupons, optionally running
+     * an action while a load is in progress.
+     */
+    private static class FakeCouponRepository implements CouponRepository {
+
+        private final List<Coupon> active = new ArrayList<>();
+        private Runnable duringLoad;
+
+        @Override
+        public Coupon save(Coupon coupon) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Optional<Coupon> findByCode(String code) {
+            return active.stream().filter(coupon -> coupon.getCode().equals(code)).findFirst();
+        }
+
+        @Override
+        public List<Coupon> findAllActive() {
+            List<Coupon> loaded = List.copyOf(active);
+            if (duringLoad != null) {
+                duringLoad.run();
+            }
+            return loaded;
+        }
+
+        @Override
+        public List<Coupon> findAllValid() {
+            return active;
+        }
+
+        @Override
+        public List<Coupon> findAll(int page, int size) {
+            return active;
+        }
+
+        @Override
+        public void deleteByCode(String code) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public boolean existsByCode(String code) {
+            return findByCode(code).isPresent();
+        }
+    }
+}
@@ -0,0 +1,247 @@
+package com.en.katmall.co.promotion;
+
+import com.en.katmall.co.promotion.infrastructure.persistence.repository.CouponRedemptionJdbcRepository;
+import com.en.katmall.co.promotion.infrastructure.redemption.StripedRedemptionCounter;
+import com.en.katmall.co.shared.infrastructure.config.properties.AppProperties;
+import com.en.katmall.co.shared.infrastructure.config.properties.PromotionProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TimeZone;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CouponRedemptionConcurrencyTest {
+
+    private static final int REQUESTS = 1000;
+    private static final int THREADS = 64;
+
+    /** Zone JPA writes TIMESTAMP columns in */
+    private static final ZoneId DATABASE_ZONE = ZoneId.of("Asia/Ho_Chi_Minh");
+
+    private JdbcTemplate jdbcTemplate;
+    private CouponRedemptionJdbcRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:redemption;DB_CLOSE_DELAY=-1;LOCK_TIMEOUT=10000", "sa", "");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("DROP TABLE IF EXISTS coupons");
+        jdbcTemplate.execute("""
+                CREATE TABLE coupons (
+                    code VARCHAR(50) PRIMARY KEY,
+                    max_usage_limit INT,
+                    usage_count INT DEFAULT 0,
+                    start_date TIMESTAMP,
+                    end_date TIMESTAMP,
+                    is_active BOOLEAN DEFAULT TRUE)""");
+        insert("LIMITED", 100, null);
+        insert("HIGH", 700, null);
+        insert("UNLIMITED", null, null);
+        insert("EXPIRED", null, Instant.now().minus(1, ChronoUnit.DAYS));
+        repository = new CouponRedemptionJdbcRepository(jdbcTemplate, appProperties());
+    }
+
+    @Test
+    void limitedCouponNeverExceedsLimit() throws Exception {
+        StripedRedemptionCounter counter = counter(10000);
+
+        int successes = hammer(() -> counter.redeem("LIMITED", 100));
+
+        assertEquals(100, successes);
+        assertEquals(100, usage("LIMITED"));
+    }
+
+    @Test
+    void leasedSlotsNeverExceedLimitAndFlushReturnsLeftovers() throws Exception {
+        StripedRedemptionCounter counter = counter(500);
+
+        int successes = hammer(() -> counter.redeem("HIGH", 700));
+        counter.flush();
+
+        assertEquals(700, successes);
+        assertEquals(700, usage("HIGH"));
+    }
+
+    @Test
+    void unusedLeasedSlotsAreReturnedOnFlush() {
+        StripedRedemptionCounter counter = counter(500);
+
+        counter.redeem("HIGH", 700);
+        counter.redeem("HIGH", 700);
+        counter.release("HIGH", 700);
+        counter.flush();
+
+        assertEquals(1, usage("HIGH"));
+    }
+
+    @Test
+    void releasesBeyondTheServedUsagesCannotOvershootTheLimit() throws Exception {
+        jdbcTemplate.update("UPDATE coupons SET usage_count = 690 WHERE code = 'HIGH'");
+        StripedRedemptionCounter counter = counter(500);
+
+        counter.redeem("HIGH", 700);
+        counter.release("HIGH", 700);
+        counter.release("HIGH", 700);
+        int successes = hammer(() -> counter.redeem("HIGH", 700));
+        counter.flush();
+
+        // The second release was applied in the database, freeing one real usage
+        assertEquals(11, successes);
+        assertEquals(700, usage("HIGH"));
+    }
+
+    @Test
+    void releaseWithoutALeaseGoesToTheDatabase() {
+        StripedRedemptionCounter counter = counter(500);
+        StripedRedemptionCounter other = counter(500);
+
+        counter.redeem("HIGH", 700);
+        other.release("HIGH", 700);
+        assertEquals(8, usage("HIGH"));
+
+        counter.flush();
+        assertEquals(0, usage("HIGH"));
+    }
+
+    @Test
+    void failedFlushesAreRetried() {
+        FailingRepository failing = new FailingRepository(jdbcTemplate);
+        PromotionProperties properties = new PromotionProperties();
+        properties.getRedemption().setHighLimitThreshold(500);
+        properties.getRedemption().setLeaseSize(9);
+        StripedRedemptionCounter counter = new StripedRedemptionCounter(failing, properties);
+        counter.redeem("UNLIMITED", null);
+        counter.redeem("UNLIMITED", null);
+        counter.redeem("HIGH", 700);
+
+        failing.failing = true;
+        counter.flush();
+        assertEquals(0, usage("UNLIMITED"));
+        assertEquals(9, usage("HIGH"));
+
+        failing.failing = false;
+        counter.flush();
+        assertEquals(2, usage("UNLIMITED"));
+        assertEquals(1, usage("HIGH"));
+    }
+
+    @Test
+    void unlimitedUsagesAreFoldedOnFlush() throws Exception {
+        StripedRedemptionCounter counter = counter(10000);
+
+        int successes = hammer(() -> counter.redeem("UNLIMITED", null));
+        counter.release("UNLIMITED", null);
+        counter.flush();
+
+        assertEquals(REQUESTS, successes);
+        assertEquals(REQUESTS - 1, usage("UNLIMITED"));
+    }
+
+    @Test
+    void expiredCouponCannotBeClaimed() {
+        assertFalse(repository.claim("EXPIRED", 1));
+        assertEquals(0, usage("EXPIRED"));
+    }
+
+    @Test
+    void validityWindowIsComparedInTheDatabaseZone() {
+        insert("ENDED", null, Instant.now().minus(1, ChronoUnit.HOURS));
+        TimeZone jvmZone = TimeZone.getDefault();
+        TimeZone.setDefault(TimeZone.getTimeZone("UTC"));
+        try {
+            assertFalse(repository.claim("ENDED", 1));
+            assertTrue(repository.claim("UNLIMITED", 1));
+        } finally {
+            TimeZone.setDefault(jvmZone);
+        }
+    }
+
+    private StripedRedemptionCounter counter(int highLimitThreshold) {
+        PromotionProperties properties = new PromotionProperties();
+        properties.getRedemption().setHighLimitThreshold(highLimitThreshold);
+        properties.getRedemption().setLeaseSize(9);
+        return new StripedRedemptionCounter(repository, properties);
+    }
+
+    private void insert(String code, Integer limit, Instant endDate) {
+        jdbcTemplate.update("INSERT INTO coupons (code, max_usage_limit, end_date) VALUES (?, ?, ?)",
+                code, limit, endDate != null ? LocalDateTime.ofInstant(endDate, DATABASE_ZONE) : null);
+    }
+
+    private static AppProperties appProperties() {
+        AppProperties appProperties = new AppProperties();
+        appProperties.setDatabaseTimeZone(DATABASE_ZONE);
+        return appProperties;
+    }
+
+    private int usage(String code) {
+        return jdbcTemplate.queryForObject("SELECT usage_count FROM coupons WHERE code = ?", Integer.class, code);
+    }
+
+    private int hammer(BooleanSupplier redemption) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Callable<Boolean>> tasks = new ArrayList<>();
+            for (int i = 0; i < REQUESTS; i++) {
+                tasks.add(redemption::getAsBoolean);
+            }
+            int successes = 0;
+            for (Future<Boolean> result : executor.invokeAll(tasks)) {
+                if (result.get()) {
+                    successes++;
+                }
+            }
+            return successes;
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * Redemption repository failing every write while switched on.
+     */
+    private static class FailingRepository extends CouponRedemptionJdbcRepository {
+
+        private volatile boolean failing;
+
+        FailingRepository(JdbcTemplate jdbcTemplate) {
+            super(jdbcTemplate, appProperties());
+        }
+
+        @Override
+        public boolean release(String code, int slots, int retained) {
+            fail();
+            return super.release(code, slots, retained);
+        }
+
+        @Override
+        public boolean addUsage(String code, long count) {
+            fail();
+            return super.addUsage(code, count);
+        }
+
+        private void fail() {
+            if (failing) {
+                throw new DataAccessResourceFailureException("Database unavailable");
+            }
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package com.en.katmall.co.promotion;
+
+import com.en.katmall.co.promotion.application.usecase.FindBestCouponsUseCase;
+import com.en.katmall.co.promotion.domain.model.Coupon;
+import com.en.katmall.co.promotion.domain.model.CouponOffer;
+import com.en.katmall.co.promotion.domain.model.CouponRule;
+import com.en.katmall.co.promotion.domain.repository.CouponRepository;
+import com.en.katmall.co.promotion.infrastructure.index.CouponIndex;
+import com.en.katmall.co.shared.enums.KTypeDiscountType;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Best coupon ranking latency over a synthetic coupon set, compared with and
+ * checked against a scan of every coupon. Skipped by default; run with
+ * {@code mvn test -Dtest=FindBestCouponsBenchmark -Dbenchmark=true}
+ * (optionally {@code -Dbenchmark.coupons=50000}).
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class FindBestCouponsBenchmark {
+
+    private static final int LIMIT = 10;
+    private static final int WARMUP_CARTS = 2_000;
+    private static final int MEASURED_CARTS = 10_000;
+
+    /** The full scan baseline is slow, so it is only timed on every n-th cart */
+    private static final int SCAN_EVERY = 20;
+
+    /** Minimum order values are multiples of this, up to 1000 steps */
+    private static final int STEP = 10_000;
+
+    @Test
+    void rankCoupons() {
+        int coupons = Integer.getInteger("benchmark.coupons", 50_000);
+        Random random = new Random(42);
+
+        List<Coupon> active = new ArrayList<>(coupons);
+        for (int i = 0; i < coupons; i++) {
+            boolean percentage = random.nextBoolean();
+            active.add(Coupon.builder()
+                    .code("C" + i)
+                    .discountType(percentage ? KTypeDiscountType.PERCENTAGE : KTypeDiscountType.FIXED_AMOUNT)
+                    .discountValue(BigDecimal.valueOf(percentage ? 1 + random.nextInt(50) : 1 + random.nextInt(200) * 1_000L))
+                    .maxDiscountAmount(percentage && random.nextBoolean() ? BigDecimal.valueOf(random.nextInt(500) * 1_000L + 1_000) : null)
+                    .minOrderValue(BigDecimal.valueOf((long) random.nextInt(1_000) * STEP))
+                    .build());
+        }
+        CouponIndex index = new CouponIndex(new StaticListableBeanFactory(
+                Map.of("couponRepository", new FixedCouponRepository(active)))
+                .getBeanProvider(CouponRepository.class));
+        index.reload();
+        FindBestCouponsUseCase useCase = new FindBestCouponsUseCase(index);
+
+        // Carts that qualify for about 5% and about 90% of the coupons
+        measure("few-qualify", useCase, index, random, 50);
+        measure("most-qualify", useCase, index, random, 900);
+    }
+
+    private static void measure(String scenario, FindBestCouponsUseCase useCase, CouponIndex index,
+            Random random, int steps) {
+        List<BigDecimal> carts = new ArrayList<>();
+        for (int i = 0; i < 1_000; i++) {
+            carts.add(BigDecimal.valueOf((long) steps * STEP + random.nextInt(STEP)));
+        }
+
+        long sink = 0;
+        for (int i = 0; i < WARMUP_CARTS; i++) {
+            BigDecimal cart = carts.get(i % carts.size());
+            sink += useCase.execute(cart, LIMIT).size();
+            if (i % SCAN_EVERY == 0) {
+                sink += scan(index, cart).size();
+            }
+        }
+        long[] ranked = new long[MEASURED_CARTS];
+        long[] scanned = new long[MEASURED_CARTS / SCAN_EVERY];
+        for (int i = 0; i < MEASURED_CARTS; i++) {
+            BigDecimal cart = carts.get(random.nextInt(carts.size()));
+            long start = System.nanoTime();
+            List<CouponOffer> offers = useCase.execute(cart, LIMIT);
+            ranked[i] = System.nanoTime() - start;
+            sink += offers.size();
+            if (i % SCAN_EVERY == 0) {
+                start = System.nanoTime();
+                List<BigDecimal> expected = scan(index, cart);
+                scanned[i / SCAN_EVERY] = System.nanoTime() - start;
+                assertEquals(expected, offers.stream().map(CouponOffer::getDiscount).toList());
+            }
+        }
+        System.out.printf("%s coupons=%d limit=%d ranked: %s scan: %s sink=%d%n", scenario,
+                index.findAll().size(), LIMIT, percentiles(ranked), percentiles(scanned), sink);
+    }
+
+    /**
+     * Evaluates every coupon, as the use case did before the sorted views.
+     */
+    private static List<BigDecimal> scan(CouponIndex index, BigDecimal cart) {
+        long now = System.currentTimeMillis();
+        List<BigDecimal> discounts = new ArrayList<>();
+        for (CouponRule rule : index.findAll()) {
+            if (rule.isValidAt(now) && rule.getMinOrderValue().compareTo(cart) <= 0) {
+                discounts.add(rule.discountFor(cart));
+            }
+        }
+        discounts.sort(Comparator.reverseOrder());
+        return discounts.subList(0, Math.min(LIMIT, discounts.size()));
+    }
+
+    private static String percentiles(long[] nanos) {
+        Arrays.sort(nanos);
+        return String.format("mean=%.1fus p50=%.1fus p99=%.1fus", Arrays.stream(nanos).average().orElse(0) / 1e3,
+                nanos[nanos.length / 2] / 1e3, nanos[(int) (nanos.length * 0.99)] / 1e3);
+    }
+
+    private record FixedCouponRepository(List<Coupon> active) implements CouponRepository {
+
+        @Override
+        public Coupon save(Coupon coupon) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Optional<Coupon> findByCode(String code) {
+            return active.stream().filter(coupon -> coupon.getCode().equals(code)).findFirst();
+        }
+
+        @Override
+        public List<Coupon> findAllActive() {
+            return active;
+        }
+
+        @Override
+        public List<Coupon> findAllValid() {
+            return active;
+        }
+
+        @Override
+        public List<Coupon> findAll(int page, int size) {
+            return active.subList(Math.min(page * size, active.size()), Math.min((page + 1) * size, active.size()));
+        }
+
+        @Override
+        public void deleteByCode(String code) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public boolean existsByCode(String code) {
+            return findByCode(code).isPresent();
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.en.katmall.co.shared.security;
+
+import com.en.katmall.co.shared.infrastructure.security.JwtAuthenticationFilter;
+import com.en.katmall.co.shared.infrastructure.security.JwtTokenProvider;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Per-request latency of {@link JwtAuthenticationFilter} for a pool of
+ * active users, against verifying and parsing the token four times per
+ * request as the filter did before tokens were cached. Skipped by default;
+ * run with {@code mvn test -Dtest=JwtAuthenticationFilterBenchmark -Dbenchmark=true}.
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class JwtAuthenticationFilterBenchmark {
+
+    private static final int USERS = 1_000;
+    private static final int WARMUP_REQUESTS = 100_000;
+    private static final int MEASURED_REQUESTS = 200_000;
+
+    @Test
+    void authenticateRequests() throws Exception {
+        JwtTokenProvider provider = JwtTokenProviderTest.provider(
+                "benchmark-secret-key-for-jwt-token-generation-must-be-at-least-256-bits-long", 3_600_000);
+        JwtAuthenticationFilter filter = new JwtAuthenticationFilter(provider);
+        MockHttpServletRequest[] requests = new MockHttpServletRequest[USERS];
+        String[] tokens = new String[USERS];
+        for (int i = 0; i < USERS; i++) {
+            tokens[i] = provider.generateAccessToken("user-" + i, "user" + i + "@katmall.vn", "CUSTOMER");
+            requests[i] = new MockHttpServletRequest("GET", "/api/v1/orders");
+            requests[i].addHeader("Authorization", "Bearer " + tokens[i]);
+        }
+        filter(filter, requests[0]);
+        assertEquals("user0@katmall.vn", SecurityContextHolder.getContext().getAuthentication().getName());
+
+        Random random = new Random(42);
+        long sink = 0;
+        for (int i = 0; i < WARMUP_REQUESTS; i++) {
+            filter(filter, requests[i % USERS]);
+            sink += parseEveryClaim(provider, tokens[i % USERS]);
+        }
+        long[] cachedNanos = new long[MEASURED_REQUESTS];
+        long[] uncachedNanos = new long[MEASURED_REQUESTS];
+        for (int i = 0; i < MEASURED_REQUESTS; i++) {
+            int user = random.nextInt(USERS);
+            long start = System.nanoTime();
+            filter(filter, requests[user]);
+            cachedNanos[i] = System.nanoTime() - start;
+            start = System.nanoTime();
+            sink += parseEveryClaim(provider, tokens[user]);
+            uncachedNanos[i] = System.nanoTime() - start;
+        }
+        System.out.printf("users=%d cached-filter: %s verify-per-claim: %s sink=%d%n",
+                USERS, percentiles(cachedNanos), percentiles(uncachedNanos), sink);
+    }
+
+    private static void filter(JwtAuthenticationFilter filter, MockHttpServletRequest request) throws Exception {
+        SecurityContextHolder.clearContext();
+        request.removeAttribute(JwtAuthenticationFilter.class.getName() + ".FILTERED");
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+    }
+
+    /**
+     * Authenticates a token the way the filter did before it was cached.
+     */
+    private static long parseEveryClaim(JwtTokenProvider provider, String token) {
+        if (!provider.validateToken(token)) {
+            return 0;
+        }
+        return provider.getUserIdFromToken(token).length() + provider.getEmailFromToken(token).length()
+                + provider.getRoleFromToken(token).length();
+    }
+
+    private static String percentiles(long[] nanos) {
+        Arrays.sort(nanos);
+        return String.format("mean=%.2fus p50=%.2fus p99=%.2fus", Arrays.stream(nanos).average().orElse(0) / 1e3,
+                nanos[nanos.length / 2] / 1e3, nanos[(int) (nanos.length * 0.99)] / 1e3);
+    }
+}
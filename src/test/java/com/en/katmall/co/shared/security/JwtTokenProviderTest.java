@@ -0,0 +1,90 @@
+package com.en.katmall.co.shared.security;
+
+import com.en.katmall.co.shared.infrastructure.config.properties.JwtProperties;
+import com.en.katmall.co.shared.infrastructure.security.JwtTokenProvider;
+import com.en.katmall.co.shared.infrastructure.security.VerifiedToken;
+import io.jsonwebtoken.Jwts;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Date;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class JwtTokenProviderTest {
+
+    private static final String SECRET = "test-secret-key-for-jwt-token-generation-must-be-at-least-256-bits-long";
+
+    @Test
+    void repeatedTokensAreServedFromTheCache() {
+        JwtTokenProvider provider = provider(SECRET, 60_000);
+        String token = provider.generateAccessToken("user-1", "user@katmall.vn", "CUSTOMER");
+
+        VerifiedToken first = provider.parseVerifiedToken(token).orElseThrow();
+        VerifiedToken second = provider.parseVerifiedToken(token).orElseThrow();
+
+        assertSame(first, second);
+        assertEquals("user-1", first.getUserId());
+        assertEquals("user@katmall.vn", first.getEmail());
+        assertEquals("CUSTOMER", first.getRole());
+        assertEquals("access", first.getType());
+
+        String other = provider.generateAccessToken("user-2", "other@katmall.vn", "CUSTOMER");
+        assertNotSame(first, provider.parseVerifiedToken(other).orElseThrow());
+    }
+
+    @Test
+    void cachedTokensExpireAtTheirExpClaim() throws Exception {
+        JwtTokenProvider provider = provider(SECRET, 1_500);
+        String token = provider.generateAccessToken("user-1", "user@katmall.vn", "CUSTOMER");
+        Instant expiresAt = provider.parseVerifiedToken(token).orElseThrow().getExpiresAt();
+        assertEquals(provider.getExpirationFromToken(token).toInstant(), expiresAt);
+
+        Thread.sleep(Math.max(0, Duration.between(Instant.now(), expiresAt).toMillis() - 200));
+        assertTrue(provider.parseVerifiedToken(token).isPresent());
+
+        Thread.sleep(Math.max(0, Duration.between(Instant.now(), expiresAt).toMillis() + 50));
+        assertFalse(provider.parseVerifiedToken(token).isPresent());
+    }
+
+    @Test
+    void rejectsInvalidAndTamperedTokens() {
+        JwtTokenProvider provider = provider(SECRET, 60_000);
+        String token = provider.generateAccessToken("user-1", "user@katmall.vn", "CUSTOMER");
+        provider.parseVerifiedToken(token).orElseThrow();
+
+        String[] parts = token.split("\\.");
+        String payload = new String(Base64.getUrlDecoder().decode(parts[1]), StandardCharsets.UTF_8);
+        String elevated = Base64.getUrlEncoder().withoutPadding().encodeToString(
+                payload.replace("CUSTOMER", "ADMIN").getBytes(StandardCharsets.UTF_8));
+        String tamperedPayload = parts[0] + "." + elevated + "." + parts[2];
+        String tamperedSignature = parts[0] + "." + parts[1] + "." + new StringBuilder(parts[2]).reverse();
+        String otherKey = provider(SECRET.replace('t', 'x'), 60_000)
+                .generateAccessToken("user-1", "user@katmall.vn", "ADMIN");
+        String expired = Jwts.builder().subject("user-1").expiration(Date.from(Instant.now().minusSeconds(5)))
+                .signWith(provider.getSigningKey()).compact();
+
+        assertFalse(provider.parseVerifiedToken(tamperedPayload).isPresent());
+        assertFalse(provider.parseVerifiedToken(tamperedSignature).isPresent());
+        assertFalse(provider.parseVerifiedToken(otherKey).isPresent());
+        assertFalse(provider.parseVerifiedToken(expired).isPresent());
+        assertFalse(provider.parseVerifiedToken("not-a-jwt").isPresent());
+        assertFalse(provider.parseVerifiedToken("").isPresent());
+        assertFalse(provider.parseVerifiedToken(null).isPresent());
+        assertEquals("CUSTOMER", provider.parseVerifiedToken(token).orElseThrow().getRole());
+    }
+
+    static JwtTokenProvider provider(String secret, long accessTokenExpiration) {
+        JwtProperties properties = new JwtProperties();
+        properties.setSecret(secret);
+        properties.setAccessTokenExpiration(accessTokenExpiration);
+        return new JwtTokenProvider(properties);
+    }
+}
@@ -0,0 +1,94 @@
+package com.en.katmall.co.shared.utils;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+
+/**
+ * UUIDv7 generation throughput and primary key insert rate, compared with
+ * random UUIDs. Skipped by default; run with
+ * {@code mvn test -Dtest=IdGeneratorBenchmark -Dbenchmark=true}
+ * (optionally {@code -Dbenchmark.rows=300000}).
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class IdGeneratorBenchmark {
+
+    private static final int IDS = 5_000_000;
+    private static final int THREADS = 8;
+    private static final int BATCH = 1_000;
+
+    @Test
+    void generation() throws Exception {
+        for (int round = 0; round < 3; round++) {
+            System.out.printf("round=%d v7=%.1fM/s random=%.1fM/s v7x%d=%.1fM/s randomx%d=%.1fM/s%n", round,
+                    rate(IdGenerator::generate, 1), rate(() -> UUID.randomUUID().toString(), 1),
+                    THREADS, rate(IdGenerator::generate, THREADS),
+                    THREADS, rate(() -> UUID.randomUUID().toString(), THREADS));
+        }
+    }
+
+    @Test
+    void primaryKeyInserts() {
+        int rows = Integer.getInteger("benchmark.rows", 300_000);
+        System.out.printf("rows=%d v7=%.0f rows/s random=%.0f rows/s%n", rows,
+                insertRate("idgen_v7", IdGenerator::generate, rows),
+                insertRate("idgen_random", () -> UUID.randomUUID().toString(), rows));
+    }
+
+    private static double rate(Supplier<String> ids, int threads) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Callable<Integer>> tasks = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                tasks.add(() -> {
+                    int length = 0;
+                    for (int i = 0; i < IDS / threads; i++) {
+                        length += ids.get().length();
+                    }
+                    return length;
+                });
+            }
+            long start = System.nanoTime();
+            executor.invokeAll(tasks);
+            return IDS / ((System.nanoTime() - start) / 1e9) / 1e6;
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * Inserts rows keyed like audit_logs into a file database, so page splits reach the disk.
+     */
+    private static double insertRate(String name, Supplier<String> ids, int rows) {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:file:./target/benchmark/" + name, "sa", "");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("DROP TABLE IF EXISTS audit_logs");
+        jdbcTemplate.execute("""
+                CREATE TABLE audit_logs (
+                    id VARCHAR(36) PRIMARY KEY,
+                    action VARCHAR(50) NOT NULL,
+                    entity_id VARCHAR(36) NOT NULL,
+                    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP)""");
+        long start = System.nanoTime();
+        for (int done = 0; done < rows; done += BATCH) {
+            List<Object[]> batch = new ArrayList<>(BATCH);
+            for (int i = 0; i < BATCH; i++) {
+                batch.add(new Object[] { ids.get(), "UPDATE", "entity-" + (done + i) });
+            }
+            jdbcTemplate.batchUpdate("INSERT INTO audit_logs (id, action, entity_id) VALUES (?, ?, ?)", batch);
+        }
+        double rate = rows / ((System.nanoTime() - start) / 1e9);
+        jdbcTemplate.execute("SHUTDOWN");
+        return rate;
+    }
+}
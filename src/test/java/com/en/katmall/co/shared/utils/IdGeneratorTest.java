@@ -0,0 +1,87 @@
+package com.en.katmall.co.shared.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class IdGeneratorTest {
+
+    @Test
+    void setsVersionAndVariantBits() {
+        long before = System.currentTimeMillis();
+        UUID id = IdGenerator.generateUuid();
+        String text = id.toString();
+
+        assertEquals(7, id.version());
+        assertEquals(2, id.variant());
+        assertEquals(36, text.length());
+        assertEquals('7', text.charAt(14));
+        assertTrue("89ab".indexOf(text.charAt(19)) >= 0);
+        long millis = id.getMostSignificantBits() >>> 16;
+        assertTrue(millis >= before && millis <= System.currentTimeMillis() + 1_000, "timestamp " + millis);
+    }
+
+    @Test
+    void idsSortInGenerationOrder() {
+        String previous = IdGenerator.generate();
+        // More than 4096 per millisecond, so the sequence carries into the timestamp
+        for (int i = 0; i < 100_000; i++) {
+            String next = IdGenerator.generate();
+            assertTrue(next.compareTo(previous) > 0, next + " <= " + previous);
+            previous = next;
+        }
+    }
+
+    @Test
+    void idsAreUniqueAndIncreasingPerThreadUnderContention() throws Exception {
+        int threads = 8;
+        int perThread = 20_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        Set<String> all = new HashSet<>();
+        try {
+            List<Callable<List<String>>> tasks = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                tasks.add(() -> {
+                    List<String> ids = new ArrayList<>(perThread);
+                    for (int i = 0; i < perThread; i++) {
+                        ids.add(IdGenerator.generate());
+                    }
+                    return ids;
+                });
+            }
+            for (Future<List<String>> future : executor.invokeAll(tasks)) {
+                List<String> ids = future.get();
+                for (int i = 1; i < ids.size(); i++) {
+                    assertTrue(ids.get(i).compareTo(ids.get(i - 1)) > 0);
+                }
+                all.addAll(ids);
+            }
+        } finally {
+            executor.shutdown();
+        }
+        assertEquals(threads * perThread, all.size());
+    }
+
+    @Test
+    void clockRegressionDoesNotMoveIdsBackwards() {
+        UUID before = IdGenerator.generateUuid();
+        long millis = before.getMostSignificantBits() >>> 16;
+
+        long regressed = IdGenerator.nextTimestamp(millis - 60_000);
+        UUID after = IdGenerator.generateUuid();
+
+        assertTrue(regressed >>> 12 >= millis);
+        assertTrue(after.toString().compareTo(before.toString()) > 0);
+    }
+}